@@ -0,0 +1,56 @@
+package com.game.rpgbackend.benchmark;
+
+import com.game.rpgbackend.domain.Achievement;
+import com.game.rpgbackend.enums.AchievementType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Incremento de progresso de conquistas por {@link Achievement#addProgress}.
+ * <p>
+ * A conquista é reiniciada ao ser completada, então a medição inclui o
+ * desbloqueio uma vez a cada {@code targetValue} chamadas, na mesma
+ * proporção em que acontece no jogo.
+ * </p>
+ *
+ * @author MURILO FURTADO
+ * @version 1.0
+ * @since 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AchievementProgressBenchmark {
+
+    private Achievement achievement;
+
+    @Setup
+    public void setup() {
+        achievement = new Achievement();
+        achievement.setType(AchievementType.WIN_100_BATTLES);
+    }
+
+    @Benchmark
+    public boolean addProgress() {
+        boolean completed = achievement.addProgress(1);
+        if (completed) {
+            achievement.setProgress(0);
+            achievement.setCompleted(false);
+            achievement.setUnlockedAt(null);
+        }
+        return completed;
+    }
+}
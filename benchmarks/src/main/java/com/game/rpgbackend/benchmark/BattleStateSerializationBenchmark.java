@@ -0,0 +1,59 @@
+package com.game.rpgbackend.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.game.rpgbackend.dto.response.battle.BattleStateResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialização JSON do {@link BattleStateResponse}, devolvido em toda ação de batalha.
+ * <p>
+ * Usa um {@link ObjectMapper} criado pelo {@link Jackson2ObjectMapperBuilder},
+ * com os mesmos padrões do mapper configurado pelo Spring Boot.
+ * </p>
+ *
+ * @author MURILO FURTADO
+ * @version 1.0
+ * @since 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BattleStateSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private BattleStateResponse battle;
+    private byte[] json;
+
+    @Setup
+    public void setup() throws IOException {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        battle = BenchmarkFixtures.battle();
+        json = objectMapper.writeValueAsBytes(battle);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return objectMapper.writeValueAsBytes(battle);
+    }
+
+    @Benchmark
+    public BattleStateResponse deserialize() throws IOException {
+        return objectMapper.readValue(json, BattleStateResponse.class);
+    }
+}
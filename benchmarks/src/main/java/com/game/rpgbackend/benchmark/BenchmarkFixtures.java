@@ -0,0 +1,159 @@
+package com.game.rpgbackend.benchmark;
+
+import com.game.rpgbackend.domain.Question;
+import com.game.rpgbackend.dto.response.battle.BattleStateResponse;
+import com.game.rpgbackend.enums.BattleEffectType;
+import com.game.rpgbackend.enums.CharacterSkillType;
+import com.game.rpgbackend.enums.MonsterSkillType;
+import com.game.rpgbackend.repository.PlayerSeenQuestionsRepository;
+import com.game.rpgbackend.repository.QuestionRepository;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Dados de entrada compartilhados pelos benchmarks.
+ * <p>
+ * Os valores seguem os atributos do {@code DatabaseSeeder} para que os
+ * benchmarks meçam o mesmo formato de dados que a aplicação usa em produção.
+ * </p>
+ *
+ * @author MURILO FURTADO
+ * @version 1.0
+ * @since 1.0
+ */
+final class BenchmarkFixtures {
+
+    private static final String[] DIFFICULTIES = {"Easy", "Medium", "Hard"};
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * Batalha em andamento de um Lutador contra o Esqueleto da Sintaxe, com um
+     * efeito ativo em cada lado, uma pergunta e um mapa de efeitos de classe.
+     */
+    static BattleStateResponse battle() {
+        BattleStateResponse battle = new BattleStateResponse();
+        battle.setBattleId(1_700_000_000_000L);
+        battle.setVersion(7);
+        battle.setDifficulty("medium");
+        battle.setRngState(42L);
+
+        BattleStateResponse.CharacterBattleInfo character = new BattleStateResponse.CharacterBattleInfo();
+        character.setId(10);
+        character.setHp(96);
+        character.setMaxHp(120);
+        character.setEnergy(8);
+        character.setMaxEnergy(12);
+        character.setClassName("Lutador");
+        character.setStrength(20);
+        character.setIntelligence(2);
+        character.setDefense(15);
+        character.setLevel(3);
+        character.setXp(140);
+        character.setMaxXpForLevel(519);
+        character.setGold(75);
+        character.setSkill(CharacterSkillType.FIGHTER_CHARGE);
+        battle.setCharacter(character);
+
+        BattleStateResponse.MonsterBattleInfo monster = new BattleStateResponse.MonsterBattleInfo();
+        monster.setId(5);
+        monster.setHp(430);
+        monster.setMaxHp(500);
+        monster.setDano(20);
+        monster.setDefense(15);
+        monster.setNome("Esqueleto da Sintaxe");
+        monster.setSkillMask(MonsterSkillType.skillMaskByMonsterName(monster.getNome()));
+        battle.setMonster(monster);
+
+        BattleStateResponse.QuestionInfo question = new BattleStateResponse.QuestionInfo();
+        question.setId(123);
+        question.setTexto("Which sentence uses the present perfect correctly?");
+        question.setOpcoes(List.of("I have seen that movie.", "I have saw that movie.", "I seen that movie."));
+        question.setNivelMinimo(2);
+        question.setDifficulty("Medium");
+        battle.setCurrentQuestion(question);
+
+        battle.setTurnResult("Seu ataque causou 18 de dano! O monstro atacou! Você sofreu 12 de dano.");
+        battle.setCharacterDamageDealt(18);
+        battle.setMonsterDamageDealt(12);
+        battle.setMonsterAction("attack");
+        resetEffects(battle);
+        return battle;
+    }
+
+    /**
+     * Restaura os efeitos ativos da batalha criada por {@link #battle()}.
+     */
+    static void resetEffects(BattleStateResponse battle) {
+        battle.getCharacterEffects().copyFrom(null);
+        battle.getCharacterEffects().apply(BattleEffectType.CORRUPTION, 10, 2);
+        battle.getMonsterEffects().copyFrom(null);
+        battle.getMonsterEffects().apply(BattleEffectType.DAMAGE_REDUCTION, 50, 1);
+    }
+
+    /**
+     * Banco de perguntas com dificuldades e níveis mínimos distribuídos de forma uniforme.
+     *
+     * @param size quantidade de perguntas
+     */
+    static List<Question> questions(int size) {
+        List<Question> questions = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Question question = new Question();
+            question.setId(i + 1);
+            question.setQuestionText("Question " + (i + 1) + ": choose the correct form.");
+            question.setOptionA("Option A" + i);
+            question.setOptionB("Option B" + i);
+            question.setOptionC("Option C" + i);
+            question.setCorrectAnswer("Option A" + i);
+            question.setDifficulty(DIFFICULTIES[i % DIFFICULTIES.length]);
+            question.setMinLevel(1 + (i / DIFFICULTIES.length) % 10);
+            question.setHint("Hint " + i);
+            questions.add(question);
+        }
+        return questions;
+    }
+
+    /**
+     * Repositório de perguntas em memória que responde às consultas derivadas
+     * usadas pelo {@code QuestionService}, filtrando a lista informada como o
+     * banco faria. Outros métodos lançam {@link UnsupportedOperationException}.
+     */
+    static QuestionRepository questionRepository(List<Question> questions) {
+        return (QuestionRepository) Proxy.newProxyInstance(
+            QuestionRepository.class.getClassLoader(),
+            new Class<?>[]{QuestionRepository.class},
+            (proxy, method, args) -> switch (method.getName()) {
+                case "findByDifficultyAndMinLevelLessThanEqual" -> questions.stream()
+                    .filter(q -> q.getDifficulty().equals(args[0]) && q.getMinLevel() <= (Integer) args[1])
+                    .toList();
+                case "findAll", "findAllWithContent" -> questions;
+                case "count" -> (long) questions.size();
+                case "toString" -> "InMemoryQuestionRepository";
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                default -> throw new UnsupportedOperationException(method.getName());
+            });
+    }
+
+    /**
+     * Repositório de questões vistas sem registros gravados: toda sessão
+     * começa vazia. Outros métodos lançam {@link UnsupportedOperationException}.
+     */
+    static PlayerSeenQuestionsRepository emptySeenQuestionsRepository() {
+        return (PlayerSeenQuestionsRepository) Proxy.newProxyInstance(
+            PlayerSeenQuestionsRepository.class.getClassLoader(),
+            new Class<?>[]{PlayerSeenQuestionsRepository.class},
+            (proxy, method, args) -> switch (method.getName()) {
+                case "findById" -> Optional.empty();
+                case "toString" -> "EmptySeenQuestionsRepository";
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                default -> throw new UnsupportedOperationException(method.getName());
+            });
+    }
+}
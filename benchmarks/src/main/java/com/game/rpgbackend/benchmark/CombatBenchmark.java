@@ -0,0 +1,92 @@
+package com.game.rpgbackend.benchmark;
+
+import com.game.rpgbackend.config.GameConfig;
+import com.game.rpgbackend.dto.response.battle.BattleStateResponse;
+import com.game.rpgbackend.enums.BattleEffectType;
+import com.game.rpgbackend.service.battle.CombatService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cálculos de dano e efeitos do {@link CombatService}.
+ * <p>
+ * Os benchmarks que alteram a batalha restauram vida, posturas e efeitos no
+ * início de cada chamada; esse custo faz parte da medição e é o mesmo em todas
+ * as execuções, então não afeta a comparação com a linha de base.
+ * </p>
+ *
+ * @author MURILO FURTADO
+ * @version 1.0
+ * @since 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CombatBenchmark {
+
+    private CombatService combatService;
+    private BattleStateResponse battle;
+
+    @Setup
+    public void setup() {
+        combatService = new CombatService(new GameConfig());
+        battle = BenchmarkFixtures.battle();
+    }
+
+    @Benchmark
+    public int characterDamage() {
+        return combatService.calculateCharacterDamage(battle.getCharacter());
+    }
+
+    @Benchmark
+    public int characterDamageWithEffects() {
+        return combatService.calculateCharacterDamageWithDefenseAndEffects(
+            battle, 20, battle.getMonster().getDefense(), true);
+    }
+
+    @Benchmark
+    public int monsterDamage() {
+        return combatService.calculateMonsterDamage(20, battle.getCharacter().getDefense(), false);
+    }
+
+    @Benchmark
+    public boolean hasCharacterEffect() {
+        return combatService.hasCharacterEffect(battle, BattleEffectType.STUN);
+    }
+
+    @Benchmark
+    public BattleStateResponse updateActiveEffects() {
+        BenchmarkFixtures.resetEffects(battle);
+        combatService.updateActiveEffects(battle);
+        return battle;
+    }
+
+    @Benchmark
+    public CombatService.MonsterTurnResolution resolveMonsterTurn() {
+        reset();
+        battle.setPendingDamageToMonster(20);
+        return combatService.resolveMonsterTurn(battle);
+    }
+
+    private void reset() {
+        battle.getCharacter().setHp(96);
+        battle.getCharacter().setIsDefending(false);
+        battle.getMonster().setHp(430);
+        battle.getMonster().setIsDefending(false);
+        battle.setMonsterGuaranteedAttacks(0);
+        BenchmarkFixtures.resetEffects(battle);
+    }
+}
@@ -0,0 +1,70 @@
+package com.game.rpgbackend.benchmark;
+
+import com.game.rpgbackend.config.GameConfig;
+import com.game.rpgbackend.domain.Question;
+import com.game.rpgbackend.repository.QuestionRepository;
+import com.game.rpgbackend.service.question.QuestionBank;
+import com.game.rpgbackend.service.question.QuestionScheduler;
+import com.game.rpgbackend.service.question.QuestionService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Seleção de perguntas por {@link QuestionService#getRandomQuestion} e
+ * {@link QuestionService#getNextQuestion}.
+ * <p>
+ * O repositório é substituído por uma lista em memória, usada uma única vez
+ * para montar o {@link QuestionBank}; a medição cobre o sorteio no índice;
+ * {@code getNextQuestion} mede o sorteio sem repetição de um mesmo jogador,
+ * que atravessa várias rodadas do conjunto.
+ * </p>
+ *
+ * @author MURILO FURTADO
+ * @version 1.0
+ * @since 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QuestionSelectionBenchmark {
+
+    @Param({"100", "5000"})
+    public int questionCount;
+
+    private QuestionService questionService;
+
+    @Setup
+    public void setup() {
+        QuestionRepository repository =
+            BenchmarkFixtures.questionRepository(BenchmarkFixtures.questions(questionCount));
+        QuestionBank questionBank = new QuestionBank(repository);
+        questionBank.reload();
+        QuestionScheduler scheduler = new QuestionScheduler(
+            questionBank, BenchmarkFixtures.emptySeenQuestionsRepository(), null, new GameConfig());
+        questionService = new QuestionService(repository, questionBank, scheduler);
+    }
+
+    @Benchmark
+    public Question getRandomQuestion() {
+        return questionService.getRandomQuestion("medium", 5, null);
+    }
+
+    @Benchmark
+    public Question getNextQuestion() {
+        return questionService.getNextQuestion(1, "medium", 5, null);
+    }
+}
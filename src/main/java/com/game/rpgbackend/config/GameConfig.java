@@ -40,6 +40,24 @@ public class GameConfig {
     /** Parâmetros das habilidades especiais de cada classe */
     private Skills skills = new Skills();
 
+    /** Configurações do journal durável das batalhas ativas */
+    private Journal journal = new Journal();
+
+    /** Configurações do canal de eventos enviados ao cliente (SSE) */
+    private Stream stream = new Stream();
+
+    /** Configurações do processamento assíncrono das recompensas de batalha */
+    private Rewards rewards = new Rewards();
+
+    /** Configurações dos contadores de estatísticas e conquistas gravados em segundo plano */
+    private Counters counters = new Counters();
+
+    /** Sorteio de questões sem repetição e conferência de respostas */
+    private Questions questions = new Questions();
+
+    /** Importação em lote de questões, diálogos e livros a partir de arquivos */
+    private Imports imports = new Imports();
+
     /**
      * Custos de energia para diferentes ações durante o combate.
      * <p>
@@ -75,6 +93,33 @@ public class GameConfig {
 
         /** Quantidade máxima de energia que um personagem pode ter */
         private int maxEnergy = 12;
+
+        /** Tempo sem ações após o qual uma batalha é encerrada como abandono, em segundos */
+        private long idleTtlSeconds = 900;
+
+        /** Quantidade máxima de batalhas ativas simultâneas no servidor */
+        private int maxActive = 100_000;
+
+        /** Intervalo entre as verificações de batalhas inativas, em milissegundos */
+        private long evictionTickMillis = 1000;
+
+        /** Threads do pool que executa as ações de batalha (0 = tamanho do pool de conexões do Hikari) */
+        private int actionThreads = 0;
+
+        /** Tempo máximo de espera na fila por uma ação de batalha, em milissegundos (0 = sem limite); ações que não começaram a tempo são canceladas */
+        private long actionTimeoutMillis = 30_000;
+
+        /** Registra o log de eventos de cada batalha para reconstrução posterior */
+        private boolean eventLogEnabled = true;
+
+        /** Intervalo entre as gravações em lote dos logs de batalhas encerradas, em milissegundos */
+        private long eventFlushMillis = 1000;
+
+        /** Intervalo entre as gravações em lote do histórico de batalhas, em milissegundos */
+        private long historyFlushMillis = 1000;
+
+        /** A cada quantas gravações de estado o HP e a energia do personagem são gravados no banco (0 = só ao encerrar) */
+        private int checkpointTurns = 5;
     }
 
     /**
@@ -93,6 +138,140 @@ public class GameConfig {
         private double xpMultiplier = 1.5;
     }
 
+    /**
+     * Configurações do journal de batalhas ativas.
+     * <p>
+     * Quando habilitado, cada alteração de estado de batalha é anexada a um log
+     * local segmentado e periodicamente compactado em snapshots, permitindo
+     * recuperar as batalhas em andamento após um reinício do servidor.
+     * </p>
+     */
+    @Data
+    public static class Journal {
+        /** Habilita o store journaled (false mantém as batalhas apenas em memória) */
+        private boolean enabled = false;
+
+        /** Diretório onde os segmentos e snapshots são gravados */
+        private String directory = "data/battle-journal";
+
+        /** Tamanho máximo de um segmento antes da rotação, em bytes */
+        private long segmentBytes = 8 * 1024 * 1024;
+
+        /** Quantidade de registros gravados entre duas compactações em snapshot */
+        private int snapshotEveryRecords = 10_000;
+
+        /** Força fsync ao final de cada lote gravado (mais durável, mais lento) */
+        private boolean fsync = false;
+
+        /** Registros aguardando gravação; com a fila cheia, o journal é desativado */
+        private int maxQueuedRecords = 100_000;
+    }
+
+    /**
+     * Configurações do canal de eventos por usuário.
+     * <p>
+     * Cada usuário conectado recebe por Server-Sent Events os deltas da sua
+     * batalha, o progresso de quests e as conquistas desbloqueadas. Os eventos
+     * ficam em uma fila limitada por conexão e são enviados por um pool pequeno
+     * de threads, sem bloquear quem os publica.
+     * </p>
+     */
+    @Data
+    public static class Stream {
+        /** Eventos pendentes por conexão; ao exceder, a fila é descartada e o cliente recebe "resync" */
+        private int maxQueuedEvents = 64;
+
+        /** Threads que enviam os eventos às conexões */
+        private int sendThreads = 4;
+
+        /** Intervalo entre heartbeats, usados também para detectar conexões mortas */
+        private int heartbeatSeconds = 25;
+
+        /** Duração máxima de uma conexão antes de o cliente precisar reconectar, em milissegundos */
+        private long timeoutMillis = 30 * 60 * 1000L;
+    }
+
+    /**
+     * Configurações do pipeline de recompensas de batalha.
+     * <p>
+     * O resultado de cada batalha é gravado em uma tabela outbox na mesma
+     * transação que a encerra. Uma tarefa agendada lê os resultados pendentes
+     * e aplica estatísticas, XP, quests, conquistas e level up em lote por
+     * personagem, fora da requisição.
+     * </p>
+     */
+    @Data
+    public static class Rewards {
+        /** Intervalo entre leituras da outbox, em milissegundos */
+        private long flushMillis = 250;
+
+        /** Quantidade máxima de resultados lidos por vez */
+        private int batchSize = 500;
+
+        /** Tentativas antes de um resultado com falha deixar de ser processado */
+        private int maxAttempts = 5;
+    }
+
+    /**
+     * Configurações dos contadores gravados em segundo plano (write-behind).
+     * <p>
+     * Questões respondidas, vitórias, derrotas, XP e progresso de conquistas
+     * são acumulados em memória e gravados como incrementos agrupados ao fim
+     * de cada batalha, periodicamente e no desligamento.
+     * </p>
+     */
+    @Data
+    public static class Counters {
+        /** Intervalo máximo entre gravações dos contadores pendentes, em milissegundos */
+        private long flushMillis = 5000;
+    }
+
+    /**
+     * Configurações do sorteio de questões sem repetição e das chaves de resposta.
+     * <p>
+     * As questões já vistas por cada jogador ficam em memória durante a
+     * sessão e são gravadas periodicamente e no desligamento. A chave da
+     * resposta correta vai no estado da batalha para conferir respostas sem
+     * consultar o banco.
+     * </p>
+     */
+    @Data
+    public static class Questions {
+        /** Intervalo entre gravações das questões vistas, em milissegundos */
+        private long seenFlushMillis = 30_000;
+
+        /** Tempo sem sorteios após o qual a sessão do jogador sai da memória, em segundos */
+        private long seenIdleSeconds = 1800;
+
+        /** Segredo das chaves de resposta gravadas no estado da batalha (vazio = derivado de jwt.secret) */
+        private String answerSecret = "";
+
+        /** Questões reservadas por batalha para as próximas respostas */
+        private int prefetchSize = 3;
+
+        /** Quantidade restante na fila de uma batalha que dispara a reposição */
+        private int prefetchLowWater = 1;
+    }
+
+    /**
+     * Configurações da importação de conteúdo.
+     * <p>
+     * Arquivos CSV ou JSON do diretório configurado são lidos em streaming e
+     * gravados em lotes, ignorando registros que já existem no banco.
+     * </p>
+     */
+    @Data
+    public static class Imports {
+        /** Diretório com os arquivos a importar (questions*, dialogs*, books*) */
+        private String directory = "data/imports";
+
+        /** Importa o diretório na subida da aplicação */
+        private boolean onStartup = false;
+
+        /** Registros gravados por lote */
+        private int batchSize = 1000;
+    }
+
     /**
      * Parâmetros das habilidades especiais de todas as classes jogáveis.
      * <p>
@@ -3,16 +3,24 @@ package com.game.rpgbackend.controller.battle;
 import com.game.rpgbackend.dto.request.battle.BattleActionRequest;
 import com.game.rpgbackend.dto.request.battle.StartBattleRequest;
 import com.game.rpgbackend.dto.request.battle.SubmitAnswerRequest;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.game.rpgbackend.dto.response.battle.BattleRoundResponse;
 import com.game.rpgbackend.dto.response.battle.BattleStateResponse;
+import com.game.rpgbackend.service.battle.BattleActionExecutor;
+import com.game.rpgbackend.service.battle.BattleDeltaEncoder;
 import com.game.rpgbackend.service.battle.BattleService;
+import com.game.rpgbackend.service.battle.state.ActiveBattle;
 import com.game.rpgbackend.util.AuthenticationUtil;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.Callable;
 
 /**
  * Controller REST responsável pelas operações de batalha.
@@ -21,6 +29,17 @@ import org.springframework.web.bind.annotation.*;
  * respostas a questões, ações de combate e consulta de estado.
  * Todas as batalhas incluem questões educacionais que devem ser respondidas.
  * </p>
+ * <p>
+ * Ações que alteram a batalha passam pelo {@link BattleActionExecutor}, que
+ * as aplica uma de cada vez e na ordem de chegada para cada usuário.
+ * </p>
+ * <p>
+ * Todas as respostas trazem a versão do estado no cabeçalho
+ * {@value BattleDeltaEncoder#VERSION_HEADER}. O cliente que envia nesse
+ * cabeçalho a versão que já possui recebe, nas ações, apenas os campos
+ * alterados (JSON Merge Patch) e, na consulta, 304 se nada mudou. Sem o
+ * cabeçalho, ou com uma versão desatualizada, o estado completo é enviado.
+ * </p>
  *
  * @author MURILO FURTADO
  * @version 1.0
@@ -32,6 +51,8 @@ import org.springframework.web.bind.annotation.*;
 public class BattleController {
 
     private final BattleService battleService;
+    private final BattleActionExecutor battleActionExecutor;
+    private final BattleDeltaEncoder battleDeltaEncoder;
     private final AuthenticationUtil authenticationUtil;
 
     /**
@@ -53,14 +74,16 @@ public class BattleController {
 
         Integer userId = authenticationUtil.getUserIdFromUsername(userDetails.getUsername());
 
-        BattleStateResponse battleState = battleService.startBattle(
+        BattleStateResponse battleState = battleActionExecutor.call(userId, () -> battleService.startBattle(
             userId,
             request.getMonsterId(),
             request.getDifficulty(),
             request.getCharacterId()
-        );
+        ));
 
-        return ResponseEntity.ok(battleState);
+        return ResponseEntity.ok()
+            .header(BattleDeltaEncoder.VERSION_HEADER, String.valueOf(battleState.getVersion()))
+            .body(battleState);
     }
 
     /**
@@ -72,24 +95,24 @@ public class BattleController {
      * </p>
      *
      * @param userDetails detalhes do usuário autenticado
+     * @param knownVersion versão do estado que o cliente já possui (opcional)
      * @param request dados da resposta (ID da batalha, questão e resposta)
      * @return novo estado da batalha após processar a resposta
      */
     @PostMapping("/answer")
-    public ResponseEntity<BattleStateResponse> submitAnswer(
+    public ResponseEntity<?> submitAnswer(
             @AuthenticationPrincipal UserDetails userDetails,
+            @RequestHeader(value = BattleDeltaEncoder.VERSION_HEADER, required = false) Integer knownVersion,
             @Valid @RequestBody SubmitAnswerRequest request) {
 
         Integer userId = authenticationUtil.getUserIdFromUsername(userDetails.getUsername());
 
-        BattleStateResponse newBattleState = battleService.processAnswer(
+        return execute(userId, knownVersion, () -> battleService.processAnswer(
             userId,
             request.getBattleId(),
             request.getQuestionId(),
             request.getAnswer()
-        );
-
-        return ResponseEntity.ok(newBattleState);
+        ));
     }
 
     /**
@@ -102,35 +125,75 @@ public class BattleController {
      * </p>
      *
      * @param userDetails detalhes do usuário autenticado
+     * @param knownVersion versão do estado que o cliente já possui (opcional)
      * @param request tipo de ação a ser executada
      * @return estado atualizado da batalha após a ação
      * @throws IllegalArgumentException se a ação for inválida
      */
     @PostMapping("/action")
-    public ResponseEntity<BattleStateResponse> performAction(
+    public ResponseEntity<?> performAction(
             @AuthenticationPrincipal UserDetails userDetails,
+            @RequestHeader(value = BattleDeltaEncoder.VERSION_HEADER, required = false) Integer knownVersion,
             @Valid @RequestBody BattleActionRequest request) {
 
         Integer userId = authenticationUtil.getUserIdFromUsername(userDetails.getUsername());
 
-        BattleStateResponse battleState;
+        Callable<BattleStateResponse> action;
 
         switch (request.getAction().toLowerCase()) {
             case "attack":
-                battleState = battleService.attack(userId);
+                action = () -> battleService.attack(userId);
                 break;
             case "defend":
-                battleState = battleService.defend(userId);
+                action = () -> battleService.defend(userId);
                 break;
             case "useskill":
             case "skill":
-                battleState = battleService.useSkill(userId);
+                action = () -> battleService.useSkill(userId);
                 break;
             default:
                 throw new IllegalArgumentException("Ação inválida: " + request.getAction());
         }
 
-        return ResponseEntity.ok(battleState);
+        return execute(userId, knownVersion, action);
+    }
+
+    /**
+     * Executa uma rodada completa: ação do jogador e turno do monstro em uma única requisição.
+     * <p>
+     * Substitui a sequência {@code /action} seguida de {@code /monster-turn}.
+     * A resposta traz os sub-eventos da rodada em ordem (ação do jogador, ação
+     * do monstro, dano aplicado, efeitos e fim da batalha) e o estado final,
+     * em delta quando o cliente informa a versão atual.
+     * </p>
+     *
+     * @param userDetails detalhes do usuário autenticado
+     * @param knownVersion versão do estado que o cliente já possui (opcional)
+     * @param request ação do jogador ("attack", "defend", "useSkill" ou "skip")
+     * @return sub-eventos da rodada e estado final da batalha
+     */
+    @PostMapping("/round")
+    public ResponseEntity<BattleRoundResponse> playRound(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestHeader(value = BattleDeltaEncoder.VERSION_HEADER, required = false) Integer knownVersion,
+            @Valid @RequestBody BattleActionRequest request) {
+
+        Integer userId = authenticationUtil.getUserIdFromUsername(userDetails.getUsername());
+
+        BattleRoundResponse round = battleActionExecutor.call(userId, () -> {
+            ActiveBattle base = battleDeltaEncoder.baseFor(userId, knownVersion);
+            BattleRoundResponse result = battleService.playRound(userId, request.getAction());
+            ObjectNode patch = battleDeltaEncoder.encode(userId, base, result.getState());
+            if (patch != null) {
+                result.setStatePatch(patch);
+                result.setState(null);
+            }
+            return result;
+        });
+
+        return ResponseEntity.ok()
+            .header(BattleDeltaEncoder.VERSION_HEADER, String.valueOf(round.getVersion()))
+            .body(round);
     }
 
     /**
@@ -141,11 +204,14 @@ public class BattleController {
      * </p>
      *
      * @param userDetails detalhes do usuário autenticado
-     * @return estado atual da batalha ou 204 No Content se não houver batalha ativa
+     * @param knownVersion versão do estado que o cliente já possui (opcional)
+     * @return estado atual da batalha, 304 Not Modified se o cliente já possui a versão atual
+     *         ou 204 No Content se não houver batalha ativa
      */
     @GetMapping("/current")
-    public ResponseEntity<BattleStateResponse> getCurrentBattle(
-            @AuthenticationPrincipal UserDetails userDetails) {
+    public ResponseEntity<?> getCurrentBattle(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestHeader(value = BattleDeltaEncoder.VERSION_HEADER, required = false) Integer knownVersion) {
 
         Integer userId = authenticationUtil.getUserIdFromUsername(userDetails.getUsername());
         BattleStateResponse battleState = battleService.getActiveBattle(userId);
@@ -154,7 +220,16 @@ public class BattleController {
             return ResponseEntity.noContent().build();
         }
 
-        return ResponseEntity.ok(battleState);
+        String version = String.valueOf(battleState.getVersion());
+        if (battleState.getVersion() != null && battleState.getVersion().equals(knownVersion)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .header(BattleDeltaEncoder.VERSION_HEADER, version)
+                .build();
+        }
+
+        return ResponseEntity.ok()
+            .header(BattleDeltaEncoder.VERSION_HEADER, version)
+            .body(battleState);
     }
 
     /**
@@ -165,16 +240,16 @@ public class BattleController {
      * </p>
      *
      * @param userDetails detalhes do usuário autenticado
+     * @param knownVersion versão do estado que o cliente já possui (opcional)
      * @return estado atualizado da batalha após o turno do monstro
      */
     @PostMapping("/monster-turn")
-    public ResponseEntity<BattleStateResponse> executeMonsterTurn(
-            @AuthenticationPrincipal UserDetails userDetails) {
+    public ResponseEntity<?> executeMonsterTurn(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestHeader(value = BattleDeltaEncoder.VERSION_HEADER, required = false) Integer knownVersion) {
 
         Integer userId = authenticationUtil.getUserIdFromUsername(userDetails.getUsername());
-        BattleStateResponse battleState = battleService.executeMonsterTurn(userId);
-
-        return ResponseEntity.ok(battleState);
+        return execute(userId, knownVersion, () -> battleService.executeMonsterTurn(userId));
     }
 
     /**
@@ -186,15 +261,39 @@ public class BattleController {
      * </p>
      *
      * @param userDetails detalhes do usuário autenticado
+     * @param knownVersion versão do estado que o cliente já possui (opcional)
      * @return estado atualizado da batalha após passar o turno
      */
     @PostMapping("/skip-turn")
-    public ResponseEntity<BattleStateResponse> skipTurn(
-            @AuthenticationPrincipal UserDetails userDetails) {
+    public ResponseEntity<?> skipTurn(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestHeader(value = BattleDeltaEncoder.VERSION_HEADER, required = false) Integer knownVersion) {
 
         Integer userId = authenticationUtil.getUserIdFromUsername(userDetails.getUsername());
-        BattleStateResponse battleState = battleService.skipTurn(userId);
+        return execute(userId, knownVersion, () -> battleService.skipTurn(userId));
+    }
+
+    /**
+     * Executa uma ação na fila do usuário e monta a resposta completa ou em delta.
+     * <p>
+     * A base do delta é lida dentro da fila, imediatamente antes da ação, para
+     * corresponder exatamente ao estado sobre o qual a ação foi aplicada.
+     * </p>
+     */
+    private ResponseEntity<?> execute(Integer userId, Integer knownVersion, Callable<BattleStateResponse> action) {
+        return battleActionExecutor.call(userId, () -> {
+            ActiveBattle base = battleDeltaEncoder.baseFor(userId, knownVersion);
+            BattleStateResponse battleState = action.call();
+            ObjectNode patch = battleDeltaEncoder.encode(userId, base, battleState);
 
-        return ResponseEntity.ok(battleState);
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .header(BattleDeltaEncoder.VERSION_HEADER, String.valueOf(battleState.getVersion()));
+            if (patch == null) {
+                return response.body(battleState);
+            }
+            return response
+                .contentType(MediaType.parseMediaType(BattleDeltaEncoder.MERGE_PATCH_JSON))
+                .body(patch);
+        });
     }
 }
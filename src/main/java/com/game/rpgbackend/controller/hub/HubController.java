@@ -10,12 +10,14 @@ import com.game.rpgbackend.dto.response.hub.SkillDto;
 import com.game.rpgbackend.service.hub.*;
 import com.game.rpgbackend.util.AuthenticationUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -252,21 +254,29 @@ public class HubController {
     }
 
     /**
-     * Retorna o histórico completo de batalhas do jogador.
+     * Retorna uma página do histórico de batalhas do jogador.
      * <p>
-     * Inclui detalhes de cada batalha: monstro enfrentado, resultado,
-     * dano causado/recebido, perguntas respondidas e recompensas.
+     * Inclui o resultado, o monstro enfrentado, a experiência ganha e a data
+     * de cada batalha, das mais recentes para as mais antigas. Para buscar a
+     * próxima página, envie em {@code beforeDate} e {@code beforeId} a data e o
+     * ID do último registro recebido.
      * </p>
      *
      * @param userDetails detalhes do usuário autenticado
+     * @param beforeDate data do último registro da página anterior (opcional)
+     * @param beforeId ID do último registro da página anterior (opcional)
+     * @param limit quantidade de registros da página
      * @return lista de batalhas realizadas pelo jogador
      */
     @GetMapping("/player/battle-history")
     public ResponseEntity<List<PlayerService.BattleHistoryResponse>> getBattleHistory(
-            @AuthenticationPrincipal UserDetails userDetails) {
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime beforeDate,
+            @RequestParam(required = false) Integer beforeId,
+            @RequestParam(defaultValue = "" + PlayerService.DEFAULT_HISTORY_PAGE_SIZE) int limit) {
 
         Integer userId = authenticationUtil.getUserIdFromUsername(userDetails.getUsername());
-        return ResponseEntity.ok(playerService.getBattleHistory(userId));
+        return ResponseEntity.ok(playerService.getBattleHistory(userId, beforeDate, beforeId, limit));
     }
 
     /**
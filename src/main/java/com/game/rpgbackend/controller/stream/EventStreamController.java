@@ -0,0 +1,55 @@
+package com.game.rpgbackend.controller.stream;
+
+import com.game.rpgbackend.service.stream.PlayerEventStream;
+import com.game.rpgbackend.util.AuthenticationUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Controller REST responsável pelo canal de eventos do jogador.
+ * <p>
+ * Substitui a consulta periódica de {@code /api/battle/current} e dos
+ * endpoints do hub: o cliente mantém uma conexão Server-Sent Events aberta e
+ * recebe os deltas da batalha, o progresso de quests e as conquistas
+ * desbloqueadas assim que acontecem.
+ * </p>
+ * <p>
+ * A autenticação usa o mesmo cabeçalho {@code Authorization} das demais
+ * rotas, então o cliente deve abrir o canal com {@code fetch} (o
+ * {@code EventSource} do navegador não envia cabeçalhos).
+ * </p>
+ *
+ * @author MURILO FURTADO
+ * @version 1.0
+ * @since 1.0
+ */
+@RestController
+@RequestMapping("/api/events")
+@RequiredArgsConstructor
+public class EventStreamController {
+
+    private final PlayerEventStream playerEventStream;
+    private final AuthenticationUtil authenticationUtil;
+
+    /**
+     * Abre o canal de eventos do usuário autenticado.
+     * <p>
+     * Uma nova conexão do mesmo usuário encerra a anterior. Ao receber o evento
+     * {@code resync}, o cliente deve recarregar o estado completo.
+     * </p>
+     *
+     * @param userDetails detalhes do usuário autenticado
+     * @return fluxo de eventos do usuário
+     */
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter connect(@AuthenticationPrincipal UserDetails userDetails) {
+        Integer userId = authenticationUtil.getUserIdFromUsername(userDetails.getUsername());
+        return playerEventStream.connect(userId);
+    }
+}
@@ -0,0 +1,68 @@
+package com.game.rpgbackend.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+/**
+ * Entidade que armazena o log de eventos completo de uma batalha encerrada.
+ * <p>
+ * Os eventos ficam codificados em formato binário compacto na coluna
+ * {@code events} e podem ser reaplicados pelo {@code BattleReplayEngine}
+ * para reconstruir qualquer momento da batalha. Os registros são apenas
+ * inseridos, nunca alterados.
+ * </p>
+ *
+ * @author MURILO FURTADO
+ * @version 1.0
+ * @since 1.0
+ */
+@Entity
+@Table(name = "battle_event_log", indexes = {
+    @Index(name = "idx_battle_event_log_battle", columnList = "battle_id"),
+    @Index(name = "idx_battle_event_log_user", columnList = "user_id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BattleEventLog {
+
+    /** Identificador único do registro */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** ID da batalha (o mesmo exposto em BattleStateResponse.battleId) */
+    @Column(name = "battle_id", nullable = false)
+    private Long battleId;
+
+    /** Usuário que participou da batalha */
+    @Column(name = "user_id", nullable = false)
+    private Integer userId;
+
+    /** Personagem usado na batalha */
+    @Column(name = "character_id", nullable = false)
+    private Integer characterId;
+
+    /** Monstro enfrentado */
+    @Column(name = "monster_id", nullable = false)
+    private Integer monsterId;
+
+    /** Resultado da batalha (vitoria, derrota, abandono, substituida) */
+    @Column(nullable = false, length = 16)
+    private String result;
+
+    /** Quantidade de eventos no log */
+    @Column(name = "event_count", nullable = false)
+    private Integer eventCount;
+
+    /** Eventos codificados */
+    @Column(nullable = false)
+    private byte[] events;
+
+    /** Data e hora do encerramento da batalha */
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt = LocalDateTime.now();
+}
@@ -12,13 +12,20 @@ import java.time.LocalDateTime;
  * Registra cada batalha realizada pelo jogador, incluindo resultado,
  * inimigo enfrentado, experiência ganha e data da batalha.
  * </p>
+ * <p>
+ * O índice em (usuário, data decrescente, id decrescente) atende a leitura
+ * paginada por cursor do histórico: cada página é uma varredura curta do
+ * índice, qualquer que seja o tamanho do histórico do jogador.
+ * </p>
  *
  * @author GABRIEL XAVIER
  * @version 1.0
  * @since 1.0
  */
 @Entity
-@Table(name = "battle_history")
+@Table(name = "battle_history", indexes = {
+    @Index(name = "idx_battle_history_user_date", columnList = "user_id, date DESC, id DESC")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -33,7 +40,7 @@ public class BattleHistory {
      * Usuário que participou da batalha.
      * Relacionamento ManyToOne - um usuário pode ter várias batalhas registradas.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
@@ -0,0 +1,73 @@
+package com.game.rpgbackend.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+/**
+ * Resultado de uma batalha aguardando a aplicação das recompensas (outbox).
+ * <p>
+ * É inserido na mesma transação que encerra a batalha, então nenhum resultado
+ * decidido se perde. O {@code BattleRewardPipeline} aplica estatísticas, XP,
+ * quests, conquistas e level up fora da requisição e remove o registro na
+ * mesma transação em que aplica as recompensas.
+ * </p>
+ *
+ * @author MURILO FURTADO
+ * @version 1.0
+ * @since 1.0
+ */
+@Entity
+@Table(name = "battle_outcome_outbox")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BattleOutcome {
+
+    /** Identificador único do registro, também a ordem de processamento */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** ID da batalha (o mesmo exposto em BattleStateResponse.battleId) */
+    @Column(name = "battle_id", nullable = false)
+    private Long battleId;
+
+    /** Usuário que participou da batalha */
+    @Column(name = "user_id", nullable = false)
+    private Integer userId;
+
+    /** Personagem usado na batalha */
+    @Column(name = "character_id", nullable = false)
+    private Integer characterId;
+
+    /** Monstro enfrentado */
+    @Column(name = "monster_id", nullable = false)
+    private Integer monsterId;
+
+    /** Resultado da batalha (vitoria ou derrota) */
+    @Column(nullable = false, length = 16)
+    private String result;
+
+    /** XP concedido ao personagem */
+    @Column(name = "xp_reward", nullable = false)
+    private Integer xpReward = 0;
+
+    /** Indica se a vitória conta para quests de vencer batalhas e derrotar monstros */
+    @Column(name = "counts_for_quests", nullable = false)
+    private Boolean countsForQuests = true;
+
+    /** Indica se a vitória conta para as conquistas de vitórias */
+    @Column(name = "counts_for_achievements", nullable = false)
+    private Boolean countsForAchievements = true;
+
+    /** Tentativas de processamento que falharam */
+    @Column(nullable = false)
+    private Integer attempts = 0;
+
+    /** Data e hora do encerramento da batalha */
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt = LocalDateTime.now();
+}
@@ -0,0 +1,180 @@
+package com.game.rpgbackend.domain;
+
+import com.game.rpgbackend.enums.AchievementType;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+
+/**
+ * Progresso de todas as conquistas de um personagem em um único registro.
+ * <p>
+ * Substitui uma linha por (personagem, {@link AchievementType}) da tabela
+ * {@code achievements}: o progresso e o instante de desbloqueio ficam em
+ * arrays indexados pelo ordinal do tipo e as conclusões em uma máscara de
+ * bits ({@link AchievementType#bit()}). Ler todas as conquistas de um
+ * personagem é a busca de uma linha pela chave primária.
+ * </p>
+ * <p>
+ * Novos tipos de conquista devem ser adicionados ao final do enum; arrays
+ * gravados antes disso são estendidos na leitura.
+ * </p>
+ *
+ * @author MURILO FURTADO
+ * @version 1.0
+ * @since 1.0
+ */
+@Entity
+@Table(name = "character_achievements")
+@Data
+@NoArgsConstructor
+public class CharacterAchievements {
+
+    /** Personagem dono das conquistas */
+    @Id
+    @Column(name = "character_id")
+    private Integer characterId;
+
+    /** Progresso de cada conquista, indexado pelo ordinal do tipo */
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "progress", nullable = false)
+    private int[] progress = new int[AchievementType.COUNT];
+
+    /** Conquistas completadas, um bit por tipo */
+    @Column(name = "completed_mask", nullable = false)
+    private long completedMask = 0L;
+
+    /** Instante do desbloqueio de cada conquista em epoch millis, 0 se bloqueada */
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "unlocked_at", nullable = false)
+    private long[] unlockedAt = new long[AchievementType.COUNT];
+
+    /**
+     * Cria o registro vazio de um personagem.
+     *
+     * @param characterId ID do personagem
+     */
+    public CharacterAchievements(Integer characterId) {
+        this.characterId = characterId;
+    }
+
+    /**
+     * Progresso atual de uma conquista.
+     *
+     * @param type tipo da conquista
+     * @return progresso acumulado
+     */
+    public int progressOf(AchievementType type) {
+        return type.ordinal() < progress.length ? progress[type.ordinal()] : 0;
+    }
+
+    /**
+     * Verifica se uma conquista foi completada.
+     *
+     * @param type tipo da conquista
+     * @return true se completada
+     */
+    public boolean isCompleted(AchievementType type) {
+        return (completedMask & type.bit()) != 0;
+    }
+
+    /**
+     * Quantidade de conquistas completadas.
+     *
+     * @return total de bits na máscara
+     */
+    public int completedCount() {
+        return Long.bitCount(completedMask);
+    }
+
+    /**
+     * Aplica progresso a uma conquista ainda não completada.
+     *
+     * @param type tipo da conquista
+     * @param amount valor do evento
+     * @param cumulative true para somar ao progresso, false para substituir quando maior
+     * @return true se a conquista foi completada por esta chamada
+     */
+    public boolean apply(AchievementType type, int amount, boolean cumulative) {
+        if (isCompleted(type)) {
+            return false;
+        }
+        ensureCapacity();
+        int index = type.ordinal();
+        int[] nextProgress = progress.clone();
+        nextProgress[index] = cumulative ? nextProgress[index] + amount : Math.max(nextProgress[index], amount);
+        progress = nextProgress;
+
+        if (nextProgress[index] >= type.getTargetValue()) {
+            long[] nextUnlocked = unlockedAt.clone();
+            nextUnlocked[index] = System.currentTimeMillis();
+            unlockedAt = nextUnlocked;
+            completedMask |= type.bit();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Restaura o estado de uma conquista a partir de uma linha da tabela antiga.
+     *
+     * @param type tipo da conquista
+     * @param value progresso gravado
+     * @param completed se estava completada
+     * @param unlocked data de desbloqueio, ou null
+     */
+    public void restore(AchievementType type, int value, boolean completed, LocalDateTime unlocked) {
+        ensureCapacity();
+        int index = type.ordinal();
+        progress[index] = value;
+        if (completed) {
+            completedMask |= type.bit();
+            unlockedAt[index] = unlocked != null
+                ? unlocked.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                : System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * Monta a visão de uma conquista no formato da entidade {@link Achievement}.
+     * <p>
+     * O objeto retornado não é gerenciado pelo JPA e não possui ID.
+     * </p>
+     *
+     * @param type tipo da conquista
+     * @return conquista com progresso, conclusão e data de desbloqueio
+     */
+    public Achievement toAchievement(AchievementType type) {
+        Character character = new Character();
+        character.setId(characterId);
+
+        Achievement achievement = new Achievement();
+        achievement.setCharacter(character);
+        achievement.setType(type);
+        achievement.setProgress(progressOf(type));
+        achievement.setCompleted(isCompleted(type));
+        if (achievement.isCompleted() && type.ordinal() < unlockedAt.length && unlockedAt[type.ordinal()] > 0) {
+            achievement.setUnlockedAt(LocalDateTime.ofInstant(
+                Instant.ofEpochMilli(unlockedAt[type.ordinal()]), ZoneId.systemDefault()));
+        }
+        return achievement;
+    }
+
+    /**
+     * Estende os arrays gravados antes de novos tipos serem adicionados ao enum.
+     */
+    private void ensureCapacity() {
+        if (progress.length < AchievementType.COUNT) {
+            progress = Arrays.copyOf(progress, AchievementType.COUNT);
+        }
+        if (unlockedAt.length < AchievementType.COUNT) {
+            unlockedAt = Arrays.copyOf(unlockedAt, AchievementType.COUNT);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.game.rpgbackend.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+/**
+ * Questões já apresentadas a um jogador.
+ * <p>
+ * Guarda um bitset dos IDs das questões vistas ({@link java.util.BitSet#toByteArray()}),
+ * usado para não repetir questões até o jogador esgotar o conjunto elegível.
+ * O registro é mantido em memória durante a sessão e gravado em segundo plano
+ * pelo {@code QuestionScheduler}.
+ * </p>
+ *
+ * @author MURILO FURTADO
+ * @version 1.0
+ * @since 1.0
+ */
+@Entity
+@Table(name = "player_seen_questions")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlayerSeenQuestions {
+
+    /** Usuário dono do registro */
+    @Id
+    @Column(name = "user_id")
+    private Integer userId;
+
+    /** Bitset dos IDs das questões vistas */
+    @Column(nullable = false)
+    private byte[] seen;
+
+    /** Data e hora da última gravação */
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt = LocalDateTime.now();
+}
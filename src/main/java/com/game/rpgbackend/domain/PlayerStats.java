@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 import java.util.List;
 
 /**
@@ -13,6 +14,12 @@ import java.util.List;
  * nível, experiência total, batalhas, questões respondidas e habilidades desbloqueadas.
  * Cada usuário possui um único registro de estatísticas.
  * </p>
+ * <p>
+ * Os contadores de batalhas, questões e XP são incrementados diretamente no
+ * banco pelo {@code ProgressCounterFlusher}; por isso os updates gravam
+ * apenas as colunas alteradas ({@link DynamicUpdate}), sem sobrescrever esses
+ * incrementos com valores lidos antes deles.
+ * </p>
  *
  * @author GABRIEL XAVIER
  * @version 1.0
@@ -20,6 +27,7 @@ import java.util.List;
  */
 @Entity
 @Table(name = "player_stats")
+@DynamicUpdate
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
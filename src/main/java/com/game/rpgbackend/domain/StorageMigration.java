@@ -0,0 +1,40 @@
+package com.game.rpgbackend.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+/**
+ * Versão aplicada de uma migração de dados feita pela aplicação.
+ * <p>
+ * O esquema é mantido pelo Hibernate ({@code ddl-auto=update}); migrações
+ * que convertem dados entre formatos registram aqui a última versão
+ * aplicada, para rodarem uma única vez.
+ * </p>
+ *
+ * @author MURILO FURTADO
+ * @version 1.0
+ * @since 1.0
+ */
+@Entity
+@Table(name = "storage_migrations")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StorageMigration {
+
+    /** Nome da migração */
+    @Id
+    @Column(length = 64)
+    private String name;
+
+    /** Última versão aplicada */
+    @Column(nullable = false)
+    private Integer version;
+
+    /** Data e hora da aplicação */
+    @Column(name = "applied_at", nullable = false)
+    private LocalDateTime appliedAt;
+}
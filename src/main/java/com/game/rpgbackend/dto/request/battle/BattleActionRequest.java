@@ -20,6 +20,7 @@ public class BattleActionRequest {
     /**
      * Tipo de ação a ser executada na batalha.
      * Valores possíveis: "attack", "defend", "useSkill"
+     * ("skip" também é aceito no endpoint de rodada)
      */
     @NotBlank(message = "A ação é obrigatória")
     private String action; // "attack", "defend", "useSkill"
@@ -0,0 +1,70 @@
+package com.game.rpgbackend.dto.response.battle;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO de resposta de uma rodada completa de batalha.
+ * <p>
+ * Uma rodada executa a ação do jogador, o turno do monstro, o dano pendente e
+ * a atualização dos efeitos em uma única requisição. Os sub-eventos são
+ * devolvidos na ordem em que aconteceram para que o cliente possa animá-los,
+ * seguidos do estado final da batalha (completo ou em delta).
+ * </p>
+ *
+ * @author MURILO FURTADO
+ * @version 1.0
+ * @since 1.0
+ */
+@Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BattleRoundResponse {
+
+    /** Versão do estado da batalha ao final da rodada */
+    private Integer version;
+
+    /** Sub-eventos da rodada, em ordem */
+    private List<RoundEvent> events = new ArrayList<>();
+
+    /** Estado completo ao final da rodada (quando o cliente não informou uma versão válida) */
+    private BattleStateResponse state;
+
+    /** Alterações do estado em relação à versão informada pelo cliente (JSON Merge Patch) */
+    private JsonNode statePatch;
+
+    /**
+     * Sub-evento de uma rodada.
+     * <p>
+     * Tipos: "player_action", "monster_action", "damage", "effects" e "end".
+     * Há um "effects" para cada efeito que mudou no turno, com o tipo do
+     * efeito em {@code action} e a duração restante em {@code amount}.
+     * </p>
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class RoundEvent {
+
+        /** Tipo do sub-evento */
+        private String type;
+
+        /** Quem causou o evento: "character" ou "monster" */
+        private String actor;
+
+        /** Ação executada (ex: "attack", "defend", "skill") ou resultado final ("victory", "defeat") */
+        private String action;
+
+        /** Valor associado ao evento (ex: dano causado) */
+        private Integer amount;
+
+        /** Mensagem para exibição */
+        private String message;
+    }
+}
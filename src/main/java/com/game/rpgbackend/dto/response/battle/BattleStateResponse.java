@@ -1,5 +1,8 @@
 package com.game.rpgbackend.dto.response.battle;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.game.rpgbackend.enums.CharacterSkillType;
 import lombok.Data;
 import java.util.List;
 import java.util.Map;
@@ -21,6 +24,9 @@ public class BattleStateResponse {
     /** ID único da batalha */
     private Long battleId;
 
+    /** Versão do estado, incrementada a cada turno salvo; usada no protocolo de deltas */
+    private Integer version;
+
     /** Nível de dificuldade da batalha */
     private String difficulty;
 
@@ -33,6 +39,9 @@ public class BattleStateResponse {
     /** Questão atual que deve ser respondida */
     private QuestionInfo currentQuestion;
 
+    /** Próxima questão já reservada para a batalha, para o cliente carregar antes (null se não houver) */
+    private QuestionInfo nextQuestion;
+
     /** Indica se a batalha foi finalizada */
     private Boolean isFinished = false;
 
@@ -60,20 +69,51 @@ public class BattleStateResponse {
     /** Indica se é o turno do jogador (true) ou do monstro (false) */
     private Boolean isPlayerTurn = true;
 
-    /** Efeitos ativos no personagem durante a batalha */
-    private List<BattleEffect> characterActiveEffects;
+    /** Efeitos ativos no personagem durante a batalha; exposto como {@code characterActiveEffects} */
+    @JsonIgnore
+    private EffectSet characterEffects = new EffectSet();
 
-    /** Efeitos ativos no monstro durante a batalha */
-    private List<BattleEffect> monsterActiveEffects;
+    /** Efeitos ativos no monstro durante a batalha; exposto como {@code monsterActiveEffects} */
+    @JsonIgnore
+    private EffectSet monsterEffects = new EffectSet();
 
     /** Número de ataques garantidos que o monstro deve realizar (usado por skills como Singular Strike do Diabrete) */
     private Integer monsterGuaranteedAttacks = 0;
 
+    /** Estado do gerador aleatório da batalha; interno ao servidor, nunca enviado ao cliente */
+    @JsonIgnore
+    private long rngState;
+
     /** Lista de todas as quests ativas do jogador com progresso atualizado */
     private java.util.List<com.game.rpgbackend.dto.response.hub.QuestDto> activeQuests;
 
     /** Lista de todas as quests completadas pelo jogador */
     private java.util.List<com.game.rpgbackend.dto.response.hub.QuestDto> completedQuests;
+
+    /** Efeitos ativos no personagem, no formato da API (null se não houver) */
+    @JsonProperty("characterActiveEffects")
+    public List<BattleEffect> getCharacterActiveEffects() {
+        return characterEffects.isEmpty() ? null : characterEffects.toList();
+    }
+
+    @JsonProperty("characterActiveEffects")
+    public void setCharacterActiveEffects(List<BattleEffect> effects) {
+        characterEffects.copyFrom(null);
+        characterEffects.addAll(effects);
+    }
+
+    /** Efeitos ativos no monstro, no formato da API (null se não houver) */
+    @JsonProperty("monsterActiveEffects")
+    public List<BattleEffect> getMonsterActiveEffects() {
+        return monsterEffects.isEmpty() ? null : monsterEffects.toList();
+    }
+
+    @JsonProperty("monsterActiveEffects")
+    public void setMonsterActiveEffects(List<BattleEffect> effects) {
+        monsterEffects.copyFrom(null);
+        monsterEffects.addAll(effects);
+    }
+
     /**
      * Classe interna com informações do personagem durante a batalha.
      * Inclui atributos, status e efeitos ativos.
@@ -122,8 +162,37 @@ public class BattleStateResponse {
         /** Indica se o personagem está defendendo */
         private Boolean isDefending = false;
 
-        /** Efeitos ativos no personagem */
-        private Map<String, Object> effects;
+        /** Habilidade da classe, resolvida no início da batalha (null se a classe não tiver habilidade ou não foi resolvida) */
+        @JsonIgnore
+        private CharacterSkillType skill;
+
+        /** Dano base da Investida preparada pelo Lutador, aplicado após o turno do monstro (null se não houver) */
+        @JsonIgnore
+        private Integer chargeBaseDamage;
+
+        /**
+         * Efeitos de classe do personagem no formato da API.
+         * <p>
+         * Derivado de {@link #chargeBaseDamage}; mantido para compatibilidade com o cliente.
+         * </p>
+         *
+         * @return mapa com a Investida preparada, ou null se não houver
+         */
+        @JsonProperty("effects")
+        public Map<String, Object> getEffects() {
+            if (chargeBaseDamage == null) {
+                return null;
+            }
+            return Map.of("isChargeActive", true, "chargeBaseDamage", chargeBaseDamage);
+        }
+
+        @JsonProperty("effects")
+        public void setEffects(Map<String, Object> effects) {
+            Object baseDamage = effects != null && Boolean.TRUE.equals(effects.get("isChargeActive"))
+                ? effects.get("chargeBaseDamage")
+                : null;
+            chargeBaseDamage = baseDamage instanceof Number n ? n.intValue() : null;
+        }
     }
 
     /**
@@ -151,6 +220,10 @@ public class BattleStateResponse {
 
         /** Nome do monstro */
         private String nome;
+
+        /** Habilidades possíveis do monstro, resolvidas no início da batalha (ver {@code MonsterSkillType.pick}; null se não resolvidas) */
+        @JsonIgnore
+        private Integer skillMask;
     }
 
     /**
@@ -172,5 +245,9 @@ public class BattleStateResponse {
 
         /** Dificuldade da questão */
         private String difficulty;
+
+        /** Chave da resposta correta, usada para conferir a resposta sem consultar o banco (não enviada ao cliente) */
+        @JsonIgnore
+        private Long answerKey;
     }
 }
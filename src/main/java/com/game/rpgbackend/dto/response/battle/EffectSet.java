@@ -0,0 +1,228 @@
+package com.game.rpgbackend.dto.response.battle;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.game.rpgbackend.enums.BattleEffectType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Efeitos ativos de um combatente, indexados por {@link BattleEffectType}.
+ * <p>
+ * A presença de cada efeito é um bit de uma máscara e a magnitude e a duração
+ * ficam em arrays de tamanho fixo indexados pelo ordinal do tipo. Aplicar,
+ * verificar, remover e avançar um turno não percorrem listas nem criam
+ * objetos. Cada tipo tem no máximo uma instância ativa: aplicar um efeito já
+ * ativo substitui sua magnitude e duração.
+ * </p>
+ * <p>
+ * A lista de {@link BattleEffect} exposta na API é gerada apenas na
+ * serialização, por {@link #toList()}.
+ * </p>
+ *
+ * @author MURILO FURTADO
+ * @version 1.0
+ * @since 1.0
+ */
+@JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY,
+    getterVisibility = JsonAutoDetect.Visibility.NONE,
+    isGetterVisibility = JsonAutoDetect.Visibility.NONE)
+public final class EffectSet {
+
+    private int mask;
+    private final int[] magnitudes = new int[BattleEffectType.COUNT];
+    private final int[] durations = new int[BattleEffectType.COUNT];
+
+    /**
+     * Aplica um efeito, substituindo o anterior do mesmo tipo.
+     *
+     * @param type tipo do efeito
+     * @param magnitude magnitude do efeito
+     * @param duration duração em turnos (0 ou menos remove o efeito)
+     */
+    public void apply(BattleEffectType type, int magnitude, int duration) {
+        if (duration <= 0) {
+            remove(type);
+            return;
+        }
+        int index = type.ordinal();
+        magnitudes[index] = magnitude;
+        durations[index] = duration;
+        mask |= type.bit();
+    }
+
+    /**
+     * Verifica se um efeito está ativo.
+     *
+     * @param type tipo do efeito
+     * @return true se ativo
+     */
+    public boolean has(BattleEffectType type) {
+        return (mask & type.bit()) != 0;
+    }
+
+    /**
+     * Magnitude de um efeito ativo.
+     *
+     * @param type tipo do efeito
+     * @return magnitude, ou 0 se o efeito não estiver ativo
+     */
+    public int magnitude(BattleEffectType type) {
+        return has(type) ? magnitudes[type.ordinal()] : 0;
+    }
+
+    /**
+     * Duração restante de um efeito ativo.
+     *
+     * @param type tipo do efeito
+     * @return turnos restantes, ou 0 se o efeito não estiver ativo
+     */
+    public int duration(BattleEffectType type) {
+        return has(type) ? durations[type.ordinal()] : 0;
+    }
+
+    /**
+     * Remove um efeito.
+     *
+     * @param type tipo do efeito
+     */
+    public void remove(BattleEffectType type) {
+        mask &= ~type.bit();
+        magnitudes[type.ordinal()] = 0;
+        durations[type.ordinal()] = 0;
+    }
+
+    /**
+     * Avança um turno: decrementa a duração dos efeitos ativos e remove os expirados.
+     *
+     * @param frozen máscara dos efeitos que não devem ser decrementados neste turno
+     */
+    public void tick(int frozen) {
+        for (int bits = mask & ~frozen; bits != 0; bits &= bits - 1) {
+            int index = Integer.numberOfTrailingZeros(bits);
+            if (--durations[index] <= 0) {
+                durations[index] = 0;
+                magnitudes[index] = 0;
+                mask &= ~(1 << index);
+            }
+        }
+    }
+
+    /**
+     * Máscara dos efeitos ativos, um bit por {@link BattleEffectType#bit()}.
+     *
+     * @return máscara
+     */
+    public int mask() {
+        return mask;
+    }
+
+    /**
+     * Quantidade de efeitos ativos.
+     *
+     * @return número de efeitos
+     */
+    public int size() {
+        return Integer.bitCount(mask);
+    }
+
+    /**
+     * Indica se não há efeitos ativos.
+     *
+     * @return true se vazio
+     */
+    public boolean isEmpty() {
+        return mask == 0;
+    }
+
+    /**
+     * Substitui o conteúdo deste conjunto pelo de outro.
+     *
+     * @param other conjunto de origem (null limpa este conjunto)
+     */
+    public void copyFrom(EffectSet other) {
+        if (other == null) {
+            mask = 0;
+            Arrays.fill(magnitudes, 0);
+            Arrays.fill(durations, 0);
+            return;
+        }
+        mask = other.mask;
+        System.arraycopy(other.magnitudes, 0, magnitudes, 0, magnitudes.length);
+        System.arraycopy(other.durations, 0, durations, 0, durations.length);
+    }
+
+    /**
+     * Cópia independente de um conjunto, ou null se ele estiver vazio.
+     * <p>
+     * Usado no estado compacto das batalhas, onde a ausência de efeitos não ocupa memória.
+     * </p>
+     *
+     * @param effects conjunto de origem (pode ser null)
+     * @return nova cópia, ou null se não houver efeitos
+     */
+    public static EffectSet copyOrNull(EffectSet effects) {
+        if (effects == null || effects.isEmpty()) {
+            return null;
+        }
+        EffectSet copy = new EffectSet();
+        copy.copyFrom(effects);
+        return copy;
+    }
+
+    /**
+     * Compara o conteúdo de dois conjuntos (null equivale a vazio).
+     *
+     * @param a primeiro conjunto
+     * @param b segundo conjunto
+     * @return true se ambos possuem os mesmos efeitos, magnitudes e durações
+     */
+    public static boolean same(EffectSet a, EffectSet b) {
+        int maskA = a != null ? a.mask : 0;
+        int maskB = b != null ? b.mask : 0;
+        if (maskA != maskB) {
+            return false;
+        }
+        for (int bits = maskA; bits != 0; bits &= bits - 1) {
+            int index = Integer.numberOfTrailingZeros(bits);
+            if (a.magnitudes[index] != b.magnitudes[index] || a.durations[index] != b.durations[index]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Converte os efeitos ativos para a lista exposta na API, na ordem dos tipos.
+     *
+     * @return nova lista mutável com os efeitos
+     */
+    public List<BattleEffect> toList() {
+        List<BattleEffect> effects = new ArrayList<>(size());
+        for (int bits = mask; bits != 0; bits &= bits - 1) {
+            int index = Integer.numberOfTrailingZeros(bits);
+            BattleEffectType type = BattleEffectType.fromOrdinal(index);
+            effects.add(new BattleEffect(type.name(), magnitudes[index], durations[index],
+                type.describe(magnitudes[index])));
+        }
+        return effects;
+    }
+
+    /**
+     * Aplica uma lista de efeitos no formato da API; tipos desconhecidos são ignorados.
+     *
+     * @param effects lista de efeitos (pode ser null)
+     */
+    public void addAll(List<BattleEffect> effects) {
+        if (effects == null) {
+            return;
+        }
+        for (BattleEffect effect : effects) {
+            BattleEffectType type = BattleEffectType.fromName(effect.getType());
+            if (type != null) {
+                apply(type, effect.getMagnitude(), effect.getDuration());
+            }
+        }
+    }
+}
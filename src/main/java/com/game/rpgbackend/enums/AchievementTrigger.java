@@ -0,0 +1,53 @@
+package com.game.rpgbackend.enums;
+
+import lombok.Getter;
+
+/**
+ * Eventos de jogo que fazem as conquistas progredirem.
+ * <p>
+ * Cada {@link AchievementType} escuta exatamente um gatilho. Um evento
+ * atualiza de uma vez todas as conquistas do seu gatilho
+ * (ver {@link AchievementType#byTrigger(AchievementTrigger)}).
+ * </p>
+ *
+ * @author MURILO FURTADO
+ * @version 1.0
+ * @since 1.0
+ */
+@Getter
+public enum AchievementTrigger {
+
+    /** Vitória em batalha; o valor é a quantidade de vitórias */
+    BATTLE_WON(true),
+
+    /** Dano causado; o valor é o dano do golpe */
+    DAMAGE_DEALT(true),
+
+    /** Questão respondida corretamente */
+    QUESTION_ANSWERED(true),
+
+    /** Quest concluída */
+    QUEST_COMPLETED(true),
+
+    /** Nível alcançado; o valor é o nível atual, não um incremento */
+    LEVEL_REACHED(false),
+
+    /** Monstro derrotado */
+    MONSTER_DEFEATED(true),
+
+    /** Goblin derrotado */
+    GOBLIN_DEFEATED(true),
+
+    /** Dragão derrotado */
+    DRAGON_DEFEATED(true);
+
+    /**
+     * Indica se o valor do evento é somado ao progresso (true) ou se
+     * substitui o progresso quando for maior (false).
+     */
+    private final boolean cumulative;
+
+    AchievementTrigger(boolean cumulative) {
+        this.cumulative = cumulative;
+    }
+}
@@ -2,6 +2,12 @@ package com.game.rpgbackend.enums;
 
 import lombok.Getter;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Enumeração que define os tipos de conquistas (achievements) disponíveis no jogo.
  * <p>
@@ -10,6 +16,7 @@ import lombok.Getter;
  *   <li>Nome descritivo da conquista</li>
  *   <li>Descrição detalhada do objetivo</li>
  *   <li>Valor alvo necessário para completar</li>
+ *   <li>Gatilho ({@link AchievementTrigger}) que faz o progresso avançar</li>
  * </ul>
  * </p>
  * <p>
@@ -35,102 +42,102 @@ public enum AchievementType {
     /**
      * Conquista desbloqueada ao vencer a primeira batalha.
      */
-    WIN_FIRST_BATTLE("Primeira Vitória", "Vença sua primeira batalha", 1),
+    WIN_FIRST_BATTLE("Primeira Vitória", "Vença sua primeira batalha", 1, AchievementTrigger.BATTLE_WON),
 
     /**
      * Conquista desbloqueada ao vencer 10 batalhas.
      */
-    WIN_10_BATTLES("Guerreiro Iniciante", "Vença 10 batalhas", 10),
+    WIN_10_BATTLES("Guerreiro Iniciante", "Vença 10 batalhas", 10, AchievementTrigger.BATTLE_WON),
 
     /**
      * Conquista desbloqueada ao vencer 50 batalhas.
      */
-    WIN_50_BATTLES("Veterano de Guerra", "Vença 50 batalhas", 50),
+    WIN_50_BATTLES("Veterano de Guerra", "Vença 50 batalhas", 50, AchievementTrigger.BATTLE_WON),
 
     /**
      * Conquista desbloqueada ao vencer 100 batalhas.
      */
-    WIN_100_BATTLES("Lenda Viva", "Vença 100 batalhas", 100),
+    WIN_100_BATTLES("Lenda Viva", "Vença 100 batalhas", 100, AchievementTrigger.BATTLE_WON),
 
     // Conquistas de Dano
     /**
      * Conquista desbloqueada ao causar 1000 de dano total.
      */
-    DEAL_1000_DAMAGE("Destruidor", "Cause 1000 de dano total", 1000),
+    DEAL_1000_DAMAGE("Destruidor", "Cause 1000 de dano total", 1000, AchievementTrigger.DAMAGE_DEALT),
 
     /**
      * Conquista desbloqueada ao causar 5000 de dano total.
      */
-    DEAL_5000_DAMAGE("Aniquilador", "Cause 5000 de dano total", 5000),
+    DEAL_5000_DAMAGE("Aniquilador", "Cause 5000 de dano total", 5000, AchievementTrigger.DAMAGE_DEALT),
 
     /**
      * Conquista desbloqueada ao causar 10000 de dano total.
      */
-    DEAL_10000_DAMAGE("Devastador", "Cause 10000 de dano total", 10000),
+    DEAL_10000_DAMAGE("Devastador", "Cause 10000 de dano total", 10000, AchievementTrigger.DAMAGE_DEALT),
 
     // Conquistas de Questões
     /**
      * Conquista desbloqueada ao acertar 10 questões.
      */
-    ANSWER_10_QUESTIONS("Estudioso", "Acerte 10 questões", 10),
+    ANSWER_10_QUESTIONS("Estudioso", "Acerte 10 questões", 10, AchievementTrigger.QUESTION_ANSWERED),
 
     /**
      * Conquista desbloqueada ao acertar 50 questões.
      */
-    ANSWER_50_QUESTIONS("Sábio", "Acerte 50 questões", 50),
+    ANSWER_50_QUESTIONS("Sábio", "Acerte 50 questões", 50, AchievementTrigger.QUESTION_ANSWERED),
 
     /**
      * Conquista desbloqueada ao acertar 100 questões.
      */
-    ANSWER_100_QUESTIONS("Mestre do Conhecimento", "Acerte 100 questões", 100),
+    ANSWER_100_QUESTIONS("Mestre do Conhecimento", "Acerte 100 questões", 100, AchievementTrigger.QUESTION_ANSWERED),
 
     // Conquistas de Quests
     /**
      * Conquista desbloqueada ao completar a primeira quest.
      */
-    COMPLETE_FIRST_QUEST("Aventureiro", "Complete sua primeira quest", 1),
+    COMPLETE_FIRST_QUEST("Aventureiro", "Complete sua primeira quest", 1, AchievementTrigger.QUEST_COMPLETED),
 
     /**
      * Conquista desbloqueada ao completar 10 quests.
      */
-    COMPLETE_10_QUESTS("Caçador de Recompensas", "Complete 10 quests", 10),
+    COMPLETE_10_QUESTS("Caçador de Recompensas", "Complete 10 quests", 10, AchievementTrigger.QUEST_COMPLETED),
 
     /**
      * Conquista desbloqueada ao completar 25 quests.
      */
-    COMPLETE_25_QUESTS("Herói Renomado", "Complete 25 quests", 25),
+    COMPLETE_25_QUESTS("Herói Renomado", "Complete 25 quests", 25, AchievementTrigger.QUEST_COMPLETED),
 
     // Conquistas de Level
     /**
      * Conquista desbloqueada ao alcançar o nível 5.
      */
-    REACH_LEVEL_5("Aprendiz Avançado", "Alcance o nível 5", 5),
+    REACH_LEVEL_5("Aprendiz Avançado", "Alcance o nível 5", 5, AchievementTrigger.LEVEL_REACHED),
 
     /**
      * Conquista desbloqueada ao alcançar o nível 10.
      */
-    REACH_LEVEL_10("Aventureiro Experiente", "Alcance o nível 10", 10),
+    REACH_LEVEL_10("Aventureiro Experiente", "Alcance o nível 10", 10, AchievementTrigger.LEVEL_REACHED),
 
     /**
      * Conquista desbloqueada ao alcançar o nível 20.
      */
-    REACH_LEVEL_20("Campeão", "Alcance o nível 20", 20),
+    REACH_LEVEL_20("Campeão", "Alcance o nível 20", 20, AchievementTrigger.LEVEL_REACHED),
 
     // Conquistas de Monstros
     /**
      * Conquista desbloqueada ao derrotar um Goblin.
      */
-    DEFEAT_GOBLIN("Caçador de Goblins", "Derrote um Goblin", 1),
+    DEFEAT_GOBLIN("Caçador de Goblins", "Derrote um Goblin", 1, AchievementTrigger.GOBLIN_DEFEATED),
 
     /**
      * Conquista desbloqueada ao derrotar um Dragão.
      */
-    DEFEAT_DRAGON("Matador de Dragões", "Derrote um Dragão", 1),
+    DEFEAT_DRAGON("Matador de Dragões", "Derrote um Dragão", 1, AchievementTrigger.DRAGON_DEFEATED),
 
     /**
      * Conquista desbloqueada ao derrotar 10 monstros.
      */
-    DEFEAT_10_MONSTERS("Exterminador", "Derrote 10 monstros", 10);
+    DEFEAT_10_MONSTERS("Exterminador", "Derrote 10 monstros", 10, AchievementTrigger.MONSTER_DEFEATED);
 
     /**
      * Nome da conquista exibido ao jogador.
@@ -147,16 +154,58 @@ public enum AchievementType {
      */
     private final int targetValue;
 
+    /**
+     * Evento de jogo que faz o progresso desta conquista avançar.
+     */
+    private final AchievementTrigger trigger;
+
+    /** Quantidade de tipos de conquista (tamanho dos arrays do armazenamento compactado) */
+    public static final int COUNT = values().length;
+
+    /** Conquistas de cada gatilho, montado uma única vez */
+    private static final Map<AchievementTrigger, List<AchievementType>> BY_TRIGGER = new EnumMap<>(AchievementTrigger.class);
+
+    static {
+        for (AchievementTrigger trigger : AchievementTrigger.values()) {
+            BY_TRIGGER.put(trigger, new ArrayList<>());
+        }
+        for (AchievementType type : values()) {
+            BY_TRIGGER.get(type.trigger).add(type);
+        }
+        BY_TRIGGER.replaceAll((trigger, types) -> Collections.unmodifiableList(types));
+    }
+
     /**
      * Construtor do enum.
      *
      * @param name nome da conquista
      * @param description descrição do objetivo
      * @param targetValue valor alvo para completar
+     * @param trigger evento que faz o progresso avançar
      */
-    AchievementType(String name, String description, int targetValue) {
+    AchievementType(String name, String description, int targetValue, AchievementTrigger trigger) {
         this.name = name;
         this.description = description;
         this.targetValue = targetValue;
+        this.trigger = trigger;
+    }
+
+    /**
+     * Bit desta conquista na máscara de conquistas completadas.
+     *
+     * @return máscara com apenas o bit deste tipo
+     */
+    public long bit() {
+        return 1L << ordinal();
+    }
+
+    /**
+     * Conquistas que escutam um gatilho.
+     *
+     * @param trigger evento de jogo
+     * @return lista imutável, vazia se nenhuma conquista escutar o gatilho
+     */
+    public static List<AchievementType> byTrigger(AchievementTrigger trigger) {
+        return BY_TRIGGER.get(trigger);
     }
 }
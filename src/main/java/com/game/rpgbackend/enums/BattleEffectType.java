@@ -0,0 +1,138 @@
+package com.game.rpgbackend.enums;
+
+/**
+ * Enum que representa os tipos de efeito de batalha.
+ * <p>
+ * Efeitos com duração (buffs, debuffs e condições) são aplicados pelas
+ * habilidades dos monstros e ficam ativos por alguns turnos. Efeitos
+ * instantâneos descrevem o que as habilidades de classe fazem no turno em que
+ * são usadas e nunca ficam ativos.
+ * </p>
+ * <p>
+ * Cada tipo ocupa um bit ({@link #bit()}), o que permite verificar a presença
+ * de um efeito com uma única operação sobre uma máscara.
+ * </p>
+ *
+ * @author MURILO FURTADO
+ * @version 1.0
+ * @since 1.0
+ */
+public enum BattleEffectType {
+
+    /** Aumenta o dano do monstro em uma porcentagem */
+    DAMAGE_BUFF("Dano aumentado em %d%%"),
+
+    /** Embaralha as palavras da próxima pergunta */
+    SCRAMBLE_QUESTION("As palavras da próxima pergunta estão em desordem!"),
+
+    /** Reduz o dano recebido pelo monstro em uma porcentagem */
+    DAMAGE_REDUCTION("Dano recebido reduzido em %d%%"),
+
+    /** Impede o jogador de agir */
+    STUN("Você está atordoado!"),
+
+    /** Lança uma pergunta extra em tempo limitado */
+    EXTRA_QUESTION("Pergunta extra em tempo limitado!"),
+
+    /** Respostas erradas drenam vida do jogador */
+    CORRUPTION("Erros nas respostas drenarão sua vida!"),
+
+    /** Impede o uso da habilidade de classe */
+    DISABLE_SKILL("Habilidades de classe desabilitadas!"),
+
+    /** Impede a recuperação de energia ao acertar perguntas */
+    BLOCK_ENERGY_RECOVERY("Recuperação de energia bloqueada!"),
+
+    /** Esconde a próxima pergunta */
+    HIDE_QUESTION("A próxima pergunta será ocultada!"),
+
+    /** Recupera vida do jogador (Paladino) */
+    HEAL(null),
+
+    /** Prepara o bloqueio do próximo dano (Tank) */
+    BLOCK(null),
+
+    /** Prepara a Investida, aplicada após o turno do monstro (Lutador) */
+    CHARGE(null),
+
+    /** Elimina uma opção incorreta da pergunta (Mago) */
+    REMOVE_WRONG_ANSWER(null),
+
+    /** Mostra a dica da pergunta (Ladino) */
+    PROVIDE_HINT(null),
+
+    /** Troca a batalha por uma pergunta de tudo ou nada (Bardo) */
+    BARD_CHALLENGE(null);
+
+    private static final BattleEffectType[] VALUES = values();
+
+    /** Quantidade de tipos de efeito */
+    public static final int COUNT = VALUES.length;
+
+    private final String description;
+    private final int bit;
+
+    BattleEffectType(String description) {
+        this.description = description;
+        this.bit = 1 << ordinal();
+    }
+
+    /**
+     * Indica se o efeito permanece ativo por turnos (false para efeitos instantâneos).
+     *
+     * @return true se o efeito tem duração
+     */
+    public boolean isTimed() {
+        return description != null;
+    }
+
+    /**
+     * Bit do tipo na máscara de efeitos ativos.
+     *
+     * @return máscara com apenas o bit deste tipo
+     */
+    public int bit() {
+        return bit;
+    }
+
+    /**
+     * Descrição do efeito para exibição.
+     *
+     * @param magnitude magnitude do efeito, usada pelas descrições com porcentagem
+     * @return descrição do efeito, ou null para efeitos instantâneos
+     */
+    public String describe(int magnitude) {
+        if (description == null || description.indexOf('%') < 0) {
+            return description;
+        }
+        return String.format(description, magnitude);
+    }
+
+    /**
+     * Tipo correspondente a um ordinal.
+     *
+     * @param ordinal posição do tipo no enum
+     * @return tipo de efeito
+     */
+    public static BattleEffectType fromOrdinal(int ordinal) {
+        return VALUES[ordinal];
+    }
+
+    /**
+     * Busca um tipo pelo nome.
+     *
+     * @param name nome do tipo (ex: "STUN")
+     * @return tipo correspondente, ou null se o nome for null ou desconhecido
+     */
+    public static BattleEffectType fromName(String name) {
+        if (name == null) {
+            return null;
+        }
+        for (BattleEffectType type : VALUES) {
+            if (type.name().equals(name)) {
+                return type;
+            }
+        }
+        return null;
+    }
+}
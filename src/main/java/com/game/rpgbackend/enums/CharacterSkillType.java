@@ -15,38 +15,40 @@ public enum CharacterSkillType {
     /**
      * Paladino - Cura: Recupera pontos de vida.
      */
-    PALADIN_HEAL("Cura", "Você usa Cura e recupera %d de vida!", "HEAL"),
+    PALADIN_HEAL("Cura", "Você usa Cura e recupera %d de vida!", BattleEffectType.HEAL),
 
     /**
      * Tank - Eu Aguento!: Prepara-se para bloquear o próximo dano.
      */
-    TANK_BLOCK("Eu Aguento!", "Você usa 'Eu Aguento!' e se prepara para bloquear o próximo dano.", "BLOCK"),
+    TANK_BLOCK("Eu Aguento!", "Você usa 'Eu Aguento!' e se prepara para bloquear o próximo dano.", BattleEffectType.BLOCK),
 
     /**
      * Lutador - Investida: Causa 125% de dano se monstro não defender, 115% se defender.
      */
-    FIGHTER_CHARGE("Investida", "Você ativa Investida e se prepara para avançar contra o monstro!", "CHARGE"),
+    FIGHTER_CHARGE("Investida", "Você ativa Investida e se prepara para avançar contra o monstro!", BattleEffectType.CHARGE),
 
     /**
      * Mago - Clarividência: Remove uma opção incorreta da pergunta.
      */
-    MAGE_CLAIRVOYANCE("Clarividência", "Você usa Clarividência para prever o futuro...", "REMOVE_WRONG_ANSWER"),
+    MAGE_CLAIRVOYANCE("Clarividência", "Você usa Clarividência para prever o futuro...", BattleEffectType.REMOVE_WRONG_ANSWER),
 
     /**
      * Ladino - Fraqueza: Fornece uma dica sobre a resposta correta.
      */
-    ROGUE_WEAKNESS("Fraqueza", "Você tenta encontrar uma fraqueza na pergunta do monstro...", "PROVIDE_HINT"),
+    ROGUE_WEAKNESS("Fraqueza", "Você tenta encontrar uma fraqueza na pergunta do monstro...", BattleEffectType.PROVIDE_HINT),
 
     /**
      * Bardo - Lábia: Prepara uma pergunta de tudo ou nada para terminar o combate.
      */
-    BARD_CHALLENGE("Lábia", "Você usa Lábia, preparando uma pergunta de tudo ou nada para terminar o combate!", "BARD_CHALLENGE");
+    BARD_CHALLENGE("Lábia", "Você usa Lábia, preparando uma pergunta de tudo ou nada para terminar o combate!", BattleEffectType.BARD_CHALLENGE);
+
+    private static final CharacterSkillType[] VALUES = values();
 
     private final String skillName;
     private final String description;
-    private final String effectType;
+    private final BattleEffectType effectType;
 
-    CharacterSkillType(String skillName, String description, String effectType) {
+    CharacterSkillType(String skillName, String description, BattleEffectType effectType) {
         this.skillName = skillName;
         this.description = description;
         this.effectType = effectType;
@@ -60,10 +62,20 @@ public enum CharacterSkillType {
         return description;
     }
 
-    public String getEffectType() {
+    public BattleEffectType getEffectType() {
         return effectType;
     }
 
+    /**
+     * Habilidade correspondente a um ordinal.
+     *
+     * @param ordinal posição da habilidade no enum
+     * @return habilidade de classe
+     */
+    public static CharacterSkillType fromOrdinal(int ordinal) {
+        return VALUES[ordinal];
+    }
+
     /**
      * Obtém a habilidade especial correspondente ao nome da classe do personagem.
      * <p>
@@ -75,6 +87,10 @@ public enum CharacterSkillType {
      * - Ladino → Fraqueza
      * - Bardo → Lábia
      * </p>
+     * <p>
+     * Compara textos e por isso deve ser resolvido uma única vez por classe
+     * (ver {@code SkillDispatchTable}).
+     * </p>
      *
      * @param className nome da classe do personagem (case-insensitive)
      * @return habilidade especial da classe ou null se a classe não for reconhecida
@@ -1,5 +1,7 @@
 package com.game.rpgbackend.enums;
 
+import java.util.random.RandomGenerator;
+
 /**
  * Enum que representa as habilidades especiais dos monstros no sistema de batalha.
  * <p>
@@ -18,7 +20,7 @@ public enum MonsterSkillType {
     DIABRETE_SINGULAR_STRIKE(
         "Singular Strike",
         "O Diabrete Errôneo usa Singular Strike! Seu dano aumentará em 50% pelas próximas 2 rodadas!",
-        "DAMAGE_BUFF",
+        BattleEffectType.DAMAGE_BUFF,
         50,
         2
     ),
@@ -29,7 +31,7 @@ public enum MonsterSkillType {
     HARPIA_WHIRLWIND_QUESTION(
         "Whirlwind Question",
         "A Harpia solta um grito que desorienta! %s",
-        "SCRAMBLE_QUESTION",
+        BattleEffectType.SCRAMBLE_QUESTION,
         50,
         1
     ),
@@ -40,7 +42,7 @@ public enum MonsterSkillType {
     ZUMBI_IGNORANCE(
         "Ignorance",
         "O Zumbi Demente usa Ignorance! Sua cabeça dura reduzirá o dano do próximo ataque em 50%.",
-        "DAMAGE_REDUCTION",
+        BattleEffectType.DAMAGE_REDUCTION,
         50,
         1
     ),
@@ -51,7 +53,7 @@ public enum MonsterSkillType {
     ESQUELETO_SYNTAX_COLLAPSE(
         "Syntax Collapse",
         "O Esqueleto usa Syntax Collapse! Você está atordoado e não poderá agir no próximo turno!",
-        "STUN",
+        BattleEffectType.STUN,
         0,
         1
     ),
@@ -62,7 +64,7 @@ public enum MonsterSkillType {
     CENTAURO_WH_QUESTION_VOLLEY(
         "Wh-Question Volley",
         "O Centauro Questionador lança uma Wh-Question Volley! Uma segunda pergunta está chegando em tempo limitado!",
-        "EXTRA_QUESTION",
+        BattleEffectType.EXTRA_QUESTION,
         0,
         1
     ),
@@ -73,7 +75,7 @@ public enum MonsterSkillType {
     LEXICOGRAFO_SEMANTIC_DRAIN(
         "Semantic Drain",
         "O Lexicógrafo usa Semantic Drain! Os significados das palavras estão corrompidos. Erros drenarão sua vida!",
-        "CORRUPTION",
+        BattleEffectType.CORRUPTION,
         10,
         3
     ),
@@ -84,7 +86,7 @@ public enum MonsterSkillType {
     MALAK_AMNESIA_BLAST(
         "Amnesia Blast",
         "Malak usa Amnesia Blast! Você não poderá usar habilidades de classe no próximo turno!",
-        "DISABLE_SKILL",
+        BattleEffectType.DISABLE_SKILL,
         0,
         1
     ),
@@ -95,7 +97,7 @@ public enum MonsterSkillType {
     MALAK_SYLLABLE_SCRAMBLE(
         "Syllable Scramble",
         "Malak usa Syllable Scramble! Você não poderá responder perguntas para recuperar energia neste turno!",
-        "BLOCK_ENERGY_RECOVERY",
+        BattleEffectType.BLOCK_ENERGY_RECOVERY,
         0,
         1
     ),
@@ -106,18 +108,20 @@ public enum MonsterSkillType {
     MALAK_LEXICAL_BLINDNESS(
         "Lexical Blindness",
         "Malak usa Lexical Blindness! A próxima pergunta será ocultada. Você terá que adivinhar!",
-        "HIDE_QUESTION",
+        BattleEffectType.HIDE_QUESTION,
         0,
         1
     );
 
+    private static final MonsterSkillType[] VALUES = values();
+
     private final String skillName;
     private final String description;
-    private final String effectType;
+    private final BattleEffectType effectType;
     private final int magnitude; // Magnitude do efeito (porcentagem, quantidade, etc.)
     private final int duration; // Duração em turnos
 
-    MonsterSkillType(String skillName, String description, String effectType, int magnitude, int duration) {
+    MonsterSkillType(String skillName, String description, BattleEffectType effectType, int magnitude, int duration) {
         this.skillName = skillName;
         this.description = description;
         this.effectType = effectType;
@@ -133,10 +137,19 @@ public enum MonsterSkillType {
         return description;
     }
 
-    public String getEffectType() {
+    public BattleEffectType getEffectType() {
         return effectType;
     }
 
+    /**
+     * Indica se o efeito é aplicado no próprio monstro (buffs) em vez do personagem.
+     *
+     * @return true para efeitos que fortalecem o monstro
+     */
+    public boolean isSelfTarget() {
+        return effectType == BattleEffectType.DAMAGE_BUFF || effectType == BattleEffectType.DAMAGE_REDUCTION;
+    }
+
     public int getMagnitude() {
         return magnitude;
     }
@@ -146,7 +159,7 @@ public enum MonsterSkillType {
     }
 
     /**
-     * Obtém a habilidade especial correspondente ao nome do monstro.
+     * Obtém as habilidades especiais possíveis de um monstro, como máscara de bits.
      * <p>
      * Mapeamento de monstros para habilidades:
      * - Diabrete Errôneo → Singular Strike (buff de dano)
@@ -157,51 +170,91 @@ public enum MonsterSkillType {
      * - Lexicógrafo → Semantic Drain (corrompe significados)
      * - Malak → Habilidade aleatória entre 3 opções (Amnesia Blast, Syllable Scramble, Lexical Blindness)
      * </p>
+     * <p>
+     * Compara textos e por isso deve ser resolvido uma única vez por monstro
+     * (ver {@code SkillDispatchTable}); o turno usa {@link #pick(int, RandomGenerator)}.
+     * </p>
      *
      * @param monsterName nome do monstro (case-insensitive)
-     * @return habilidade especial do monstro ou null se o monstro não tiver habilidade definida
+     * @return máscara com o bit {@code 1 << ordinal()} de cada habilidade possível, ou 0 se não houver
      */
-    public static MonsterSkillType getSkillByMonsterName(String monsterName) {
-        if (monsterName == null) return null;
+    public static int skillMaskByMonsterName(String monsterName) {
+        if (monsterName == null) return 0;
 
         String lowerName = monsterName.toLowerCase();
 
         // Diabrete Errôneo
         if (lowerName.contains("diabrete")) {
-            return DIABRETE_SINGULAR_STRIKE;
+            return maskOf(DIABRETE_SINGULAR_STRIKE);
         }
         // Harpia Indagada
         else if (lowerName.contains("harpia")) {
-            return HARPIA_WHIRLWIND_QUESTION;
+            return maskOf(HARPIA_WHIRLWIND_QUESTION);
         }
         // Zumbi Demente
         else if (lowerName.contains("zumbi")) {
-            return ZUMBI_IGNORANCE;
+            return maskOf(ZUMBI_IGNORANCE);
         }
         // Esqueleto da Sintaxe
         else if (lowerName.contains("esqueleto")) {
-            return ESQUELETO_SYNTAX_COLLAPSE;
+            return maskOf(ESQUELETO_SYNTAX_COLLAPSE);
         }
         // Centauro Questionador
         else if (lowerName.contains("centauro")) {
-            return CENTAURO_WH_QUESTION_VOLLEY;
+            return maskOf(CENTAURO_WH_QUESTION_VOLLEY);
         }
         // Lexicógrafo
         else if (lowerName.contains("lexicografo") || lowerName.contains("lexicógrafo")) {
-            return LEXICOGRAFO_SEMANTIC_DRAIN;
+            return maskOf(LEXICOGRAFO_SEMANTIC_DRAIN);
         }
-        // Malak - tem múltiplas skills, retorna uma aleatória
+        // Malak - tem múltiplas skills, sorteadas a cada uso
         else if (lowerName.contains("malak")) {
-            int random = (int) (Math.random() * 3);
-            switch (random) {
-                case 0: return MALAK_AMNESIA_BLAST;
-                case 1: return MALAK_SYLLABLE_SCRAMBLE;
-                case 2: return MALAK_LEXICAL_BLINDNESS;
-                default: return MALAK_AMNESIA_BLAST;
+            return maskOf(MALAK_AMNESIA_BLAST, MALAK_SYLLABLE_SCRAMBLE, MALAK_LEXICAL_BLINDNESS);
+        }
+
+        return 0; // Monstro sem skill definida
+    }
+
+    /**
+     * Escolhe a habilidade usada neste turno entre as possíveis.
+     * <p>
+     * Com mais de uma habilidade, sorteia uma em ordem de declaração; com uma
+     * só, não consome o gerador.
+     * </p>
+     *
+     * @param skillMask máscara retornada por {@link #skillMaskByMonsterName(String)}
+     * @param random gerador usado para sortear a habilidade de monstros com mais de uma
+     * @return habilidade escolhida ou null se a máscara estiver vazia
+     */
+    public static MonsterSkillType pick(int skillMask, RandomGenerator random) {
+        int count = Integer.bitCount(skillMask);
+        if (count == 0) {
+            return null;
+        }
+        if (count > 1) {
+            for (int skip = random.nextInt(count); skip > 0; skip--) {
+                skillMask &= skillMask - 1;
             }
         }
+        return VALUES[Integer.numberOfTrailingZeros(skillMask)];
+    }
+
+    /**
+     * Obtém a habilidade especial correspondente ao nome do monstro.
+     *
+     * @param monsterName nome do monstro (case-insensitive)
+     * @param random gerador usado para sortear a habilidade de monstros com mais de uma
+     * @return habilidade especial do monstro ou null se o monstro não tiver habilidade definida
+     */
+    public static MonsterSkillType getSkillByMonsterName(String monsterName, RandomGenerator random) {
+        return pick(skillMaskByMonsterName(monsterName), random);
+    }
 
-        return null; // Monstro sem skill definida
+    private static int maskOf(MonsterSkillType... skills) {
+        int mask = 0;
+        for (MonsterSkillType skill : skills) {
+            mask |= 1 << skill.ordinal();
+        }
+        return mask;
     }
 }
-
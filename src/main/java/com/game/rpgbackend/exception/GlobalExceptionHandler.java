@@ -57,6 +57,17 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(ex.getMessage(), HttpStatus.UNAUTHORIZED);
     }
 
+    /**
+     * Trata exceções de serviço indisponível (HTTP 503).
+     *
+     * @param ex exceção de capacidade esgotada
+     * @return resposta de erro formatada com status 503
+     */
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<Map<String, Object>> handleServiceUnavailableException(ServiceUnavailableException ex) {
+        return buildErrorResponse(ex.getMessage(), HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
     /**
      * Trata exceções genéricas não capturadas pelos outros handlers (HTTP 500).
      * <p>
@@ -0,0 +1,24 @@
+package com.game.rpgbackend.exception;
+
+/**
+ * Exceção lançada quando o servidor não pode atender a requisição no momento.
+ * <p>
+ * Utilizada quando um limite de capacidade é atingido (ex: número máximo de
+ * batalhas ativas). Resulta em resposta HTTP 503 Service Unavailable.
+ * </p>
+ *
+ * @author MURILO FURTADO
+ * @version 1.0
+ * @since 1.0
+ */
+public class ServiceUnavailableException extends AppException {
+
+    /**
+     * Construtor da exceção de serviço indisponível.
+     *
+     * @param message descrição do motivo da indisponibilidade
+     */
+    public ServiceUnavailableException(String message) {
+        super(message, 503);
+    }
+}
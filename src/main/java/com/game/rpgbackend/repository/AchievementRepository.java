@@ -16,6 +16,11 @@ import java.util.Optional;
  * Fornece métodos para consultar conquistas por personagem, tipo, status de conclusão,
  * e verificar existência de conquistas específicas.
  * </p>
+ * <p>
+ * A tabela {@code achievements} é o formato antigo, uma linha por conquista.
+ * O progresso atual fica em {@link CharacterAchievementsRepository}; esta
+ * tabela só é lida pela migração {@code AchievementStorageMigration}.
+ * </p>
  *
  * @author GABRIEL XAVIER
  * @version 2.0
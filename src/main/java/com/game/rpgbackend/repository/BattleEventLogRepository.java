@@ -0,0 +1,37 @@
+package com.game.rpgbackend.repository;
+
+import com.game.rpgbackend.domain.BattleEventLog;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import java.util.List;
+
+/**
+ * Repositório para consulta dos logs de eventos de batalhas encerradas.
+ * <p>
+ * As inserções são feitas em lote pelo {@code BattleEventStore}; este
+ * repositório é usado para leitura e reconstrução de batalhas.
+ * </p>
+ *
+ * @author MURILO FURTADO
+ * @version 1.0
+ * @since 1.0
+ */
+@Repository
+public interface BattleEventLogRepository extends JpaRepository<BattleEventLog, Long> {
+
+    /**
+     * Busca os logs de uma batalha.
+     *
+     * @param battleId ID da batalha
+     * @return logs encontrados (normalmente um)
+     */
+    List<BattleEventLog> findByBattleId(Long battleId);
+
+    /**
+     * Busca os logs de um usuário, do mais recente para o mais antigo.
+     *
+     * @param userId ID do usuário
+     * @return logs do usuário
+     */
+    List<BattleEventLog> findByUserIdOrderByIdDesc(Integer userId);
+}
@@ -1,8 +1,12 @@
 package com.game.rpgbackend.repository;
 
 import com.game.rpgbackend.domain.BattleHistory;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -27,6 +31,44 @@ public interface BattleHistoryRepository extends JpaRepository<BattleHistory, In
      */
     List<BattleHistory> findByUserId(Integer userId);
 
+    /**
+     * Busca as batalhas mais recentes de um usuário (primeira página do histórico).
+     * <p>
+     * A ordenação segue o índice {@code idx_battle_history_user_date}, então a
+     * consulta lê apenas as linhas da página.
+     * </p>
+     *
+     * @param userId identificador do usuário
+     * @param pageable tamanho da página (o número da página deve ser 0)
+     * @return batalhas da mais recente para a mais antiga
+     */
+    @Query("SELECT h FROM BattleHistory h WHERE h.user.id = :userId ORDER BY h.date DESC, h.id DESC")
+    List<BattleHistory> findLatestByUserId(@Param("userId") Integer userId, Pageable pageable);
+
+    /**
+     * Busca as batalhas de um usuário anteriores a um cursor (páginas seguintes do histórico).
+     * <p>
+     * O cursor é a data e o ID do último registro da página anterior; o ID
+     * desempata batalhas com a mesma data. A comparação de linha
+     * {@code (date, id) < (...)} vira um limite no índice
+     * {@code idx_battle_history_user_date}, então o custo não depende de
+     * quantas páginas já foram lidas.
+     * </p>
+     *
+     * @param userId identificador do usuário
+     * @param beforeDate data do último registro já lido
+     * @param beforeId ID do último registro já lido
+     * @param pageable tamanho da página (o número da página deve ser 0)
+     * @return batalhas da mais recente para a mais antiga
+     */
+    @Query("SELECT h FROM BattleHistory h WHERE h.user.id = :userId "
+        + "AND (h.date, h.id) < (:beforeDate, :beforeId) "
+        + "ORDER BY h.date DESC, h.id DESC")
+    List<BattleHistory> findByUserIdBefore(@Param("userId") Integer userId,
+                                           @Param("beforeDate") LocalDateTime beforeDate,
+                                           @Param("beforeId") Integer beforeId,
+                                           Pageable pageable);
+
     /**
      * Busca batalhas por resultado específico.
      *
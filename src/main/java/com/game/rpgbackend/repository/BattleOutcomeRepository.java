@@ -0,0 +1,43 @@
+package com.game.rpgbackend.repository;
+
+import com.game.rpgbackend.domain.BattleOutcome;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repositório da outbox de resultados de batalha.
+ *
+ * @author MURILO FURTADO
+ * @version 1.0
+ * @since 1.0
+ */
+@Repository
+public interface BattleOutcomeRepository extends JpaRepository<BattleOutcome, Long> {
+
+    /**
+     * Busca os resultados pendentes mais antigos.
+     *
+     * @param maxAttempts resultados com esta quantidade de falhas ou mais são ignorados
+     * @param pageable limite de registros
+     * @return resultados em ordem de inserção
+     */
+    List<BattleOutcome> findByAttemptsLessThanOrderByIdAsc(int maxAttempts, Pageable pageable);
+
+    /**
+     * Registra uma tentativa de processamento com falha.
+     *
+     * @param ids IDs dos resultados
+     * @return quantidade de registros atualizados
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE BattleOutcome o SET o.attempts = o.attempts + 1 WHERE o.id IN :ids")
+    int incrementAttempts(@Param("ids") Collection<Long> ids);
+}
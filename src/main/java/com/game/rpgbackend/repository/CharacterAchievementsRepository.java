@@ -0,0 +1,49 @@
+package com.game.rpgbackend.repository;
+
+import com.game.rpgbackend.domain.CharacterAchievements;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Repositório do progresso compactado de conquistas ({@link CharacterAchievements}).
+ *
+ * @author MURILO FURTADO
+ * @version 1.0
+ * @since 1.0
+ */
+@Repository
+public interface CharacterAchievementsRepository extends JpaRepository<CharacterAchievements, Integer> {
+
+    /**
+     * Busca o progresso de um personagem bloqueando a linha até o fim da transação.
+     *
+     * @param characterId ID do personagem
+     * @return Optional contendo o progresso se existir
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM CharacterAchievements c WHERE c.characterId = :characterId")
+    Optional<CharacterAchievements> findForUpdate(@Param("characterId") Integer characterId);
+
+    /**
+     * Cria o registro vazio de um personagem, se ainda não existir.
+     * <p>
+     * Com a linha sempre presente, {@link #findForUpdate(Integer)} bloqueia
+     * também o primeiro evento do personagem, e dois eventos concorrentes não
+     * tentam inserir o mesmo registro.
+     * </p>
+     *
+     * @param characterId ID do personagem
+     * @return 1 se o registro foi criado, 0 se já existia
+     */
+    @Modifying
+    @Query(value = "INSERT INTO character_achievements (character_id, progress, completed_mask, unlocked_at) "
+        + "VALUES (:characterId, '{}', 0, '{}') ON CONFLICT (character_id) DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("characterId") Integer characterId);
+}
@@ -2,8 +2,13 @@ package com.game.rpgbackend.repository;
 
 import com.game.rpgbackend.domain.Character;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository para operações de persistência de personagens.
@@ -37,4 +42,32 @@ public interface CharacterRepository extends JpaRepository<Character, Integer> {
      * @return lista ordenada de personagens do usuário
      */
     List<Character> findByUserIdOrderByIdDesc(Integer userId);
+
+    /**
+     * Busca apenas o ID do usuário dono de um personagem, sem carregar a entidade.
+     *
+     * @param characterId identificador do personagem
+     * @return ID do usuário, se o personagem existir
+     */
+    @Query("SELECT c.user.id FROM Character c WHERE c.id = :characterId")
+    Optional<Integer> findUserIdById(@Param("characterId") Integer characterId);
+
+    /**
+     * Grava o HP e a energia do personagem sem carregar a entidade.
+     * <p>
+     * Usado nos checkpoints de batalha: durante o combate esses valores
+     * ficam no estado da batalha em memória e só são gravados periodicamente.
+     * </p>
+     *
+     * @param characterId identificador do personagem
+     * @param hp HP atual
+     * @param energy energia atual
+     * @return quantidade de registros atualizados
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Character c SET c.hp = :hp, c.energy = :energy WHERE c.id = :characterId")
+    int updateBattleState(@Param("characterId") Integer characterId,
+                          @Param("hp") int hp,
+                          @Param("energy") int energy);
 }
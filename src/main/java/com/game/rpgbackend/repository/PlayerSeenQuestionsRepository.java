@@ -0,0 +1,20 @@
+package com.game.rpgbackend.repository;
+
+import com.game.rpgbackend.domain.PlayerSeenQuestions;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repositório das questões já vistas por jogador.
+ * <p>
+ * Apenas a leitura passa pelo JPA; a gravação é feita em lote pelo
+ * {@code QuestionScheduler}.
+ * </p>
+ *
+ * @author MURILO FURTADO
+ * @version 1.0
+ * @since 1.0
+ */
+@Repository
+public interface PlayerSeenQuestionsRepository extends JpaRepository<PlayerSeenQuestions, Integer> {
+}
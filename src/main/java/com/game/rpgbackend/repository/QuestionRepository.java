@@ -1,7 +1,9 @@
 package com.game.rpgbackend.repository;
 
 import com.game.rpgbackend.domain.Question;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 
@@ -78,6 +80,19 @@ public interface QuestionRepository extends JpaRepository<Question, Integer> {
      */
     List<Question> findByDifficultyAndMinLevelLessThanEqual(String difficulty, Integer level);
 
+    /**
+     * Busca uma página de questões de uma dificuldade acessíveis para um nível, em ordem de ID.
+     * <p>
+     * Usado para sortear uma questão pela posição sem carregar as demais.
+     * </p>
+     *
+     * @param difficulty nível de dificuldade
+     * @param level nível do jogador
+     * @param pageable página desejada
+     * @return questões da página
+     */
+    List<Question> findByDifficultyAndMinLevelLessThanEqualOrderByIdAsc(String difficulty, Integer level, Pageable pageable);
+
     /**
      * Busca questões de uma dificuldade, nível e conteúdo específicos.
      *
@@ -105,4 +120,15 @@ public interface QuestionRepository extends JpaRepository<Question, Integer> {
      * @return lista de questões que atendem os critérios
      */
     List<Question> findByDifficultyInAndMinLevelLessThanEqual(List<String> difficulties, Integer level);
+
+    /**
+     * Busca todas as questões junto com o conteúdo, em uma única consulta.
+     * <p>
+     * Usado para montar o índice de questões em memória.
+     * </p>
+     *
+     * @return todas as questões com o conteúdo carregado
+     */
+    @Query("SELECT q FROM Question q JOIN FETCH q.content")
+    List<Question> findAllWithContent();
 }
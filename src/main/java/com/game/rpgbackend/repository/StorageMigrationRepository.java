@@ -0,0 +1,16 @@
+package com.game.rpgbackend.repository;
+
+import com.game.rpgbackend.domain.StorageMigration;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repositório das versões de migrações de dados aplicadas.
+ *
+ * @author MURILO FURTADO
+ * @version 1.0
+ * @since 1.0
+ */
+@Repository
+public interface StorageMigrationRepository extends JpaRepository<StorageMigration, String> {
+}
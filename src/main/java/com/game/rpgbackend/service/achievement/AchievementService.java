@@ -2,16 +2,22 @@ package com.game.rpgbackend.service.achievement;
 
 import com.game.rpgbackend.domain.Achievement;
 import com.game.rpgbackend.domain.Character;
+import com.game.rpgbackend.domain.CharacterAchievements;
+import com.game.rpgbackend.enums.AchievementTrigger;
 import com.game.rpgbackend.enums.AchievementType;
-import com.game.rpgbackend.repository.AchievementRepository;
+import com.game.rpgbackend.repository.CharacterAchievementsRepository;
+import com.game.rpgbackend.service.progress.ProgressCounters;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Predicate;
 
 /**
  * Serviço responsável por gerenciar as conquistas (achievements) dos personagens.
@@ -20,11 +26,19 @@ import java.util.Optional;
  * <ul>
  *   <li>Inicializar conquistas para novos personagens</li>
  *   <li>Atualizar progresso de conquistas específicas</li>
+ *   <li>Aplicar eventos de jogo a todas as conquistas do gatilho</li>
  *   <li>Verificar e completar conquistas automaticamente</li>
  *   <li>Consultar conquistas por personagem</li>
  *   <li>Calcular estatísticas de conquistas</li>
  * </ul>
  * </p>
+ * <p>
+ * O progresso de todas as conquistas de um personagem fica em um único
+ * registro {@link CharacterAchievements}. Atualizações bloqueiam essa linha
+ * durante a transação; consultas leem a linha uma vez e montam as
+ * conquistas a partir dela, somando os eventos ainda acumulados em
+ * {@link ProgressCounters}.
+ * </p>
  *
  * @author MURILO FURTADO
  * @version 1.0
@@ -35,43 +49,31 @@ import java.util.Optional;
 @Slf4j
 public class AchievementService {
 
-    private final AchievementRepository achievementRepository;
+    private final CharacterAchievementsRepository characterAchievementsRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ProgressCounters progressCounters;
 
     /**
-     * Inicializa todas as conquistas para um novo personagem.
+     * Inicializa as conquistas de um novo personagem.
      * <p>
-     * Cria um registro de Achievement para cada tipo de conquista definido
-     * no enum {@link AchievementType}, com progresso inicial zerado.
+     * Cria o registro compactado com todas as conquistas zeradas; nenhuma
+     * linha por tipo é gravada.
      * </p>
      *
      * @param character personagem para inicializar as conquistas
      */
     @Transactional
     public void initializeAchievementsForCharacter(Character character) {
-        log.info("Inicializando conquistas para o personagem ID: {}", character.getId());
-
-        List<Achievement> achievements = new ArrayList<>();
-
-        for (AchievementType type : AchievementType.values()) {
-            if (!achievementRepository.existsByCharacterIdAndType(character.getId().longValue(), type)) {
-                Achievement achievement = new Achievement();
-                achievement.setCharacter(character);
-                achievement.setType(type);
-                achievement.setProgress(0);
-                achievement.setCompleted(false);
-                achievements.add(achievement);
-            }
+        if (!characterAchievementsRepository.existsById(character.getId())) {
+            characterAchievementsRepository.save(new CharacterAchievements(character.getId()));
+            log.info("Inicializadas conquistas para o personagem ID: {}", character.getId());
         }
-
-        achievementRepository.saveAll(achievements);
-        log.info("Inicializadas {} conquistas para o personagem ID: {}",
-                achievements.size(), character.getId());
     }
 
     /**
      * Atualiza o progresso de uma conquista específica.
      * <p>
-     * Se a conquista não existir para o personagem, ela será criada.
+     * Se o personagem ainda não possuir registro de conquistas, ele será criado.
      * Verifica automaticamente se a conquista foi completada após o incremento.
      * </p>
      *
@@ -87,21 +89,74 @@ public class AchievementService {
         log.debug("Atualizando progresso da conquista {} para personagem ID: {}",
                 achievementType, characterId);
 
-        Achievement achievement = achievementRepository
-                .findByCharacterIdAndType(characterId, achievementType)
-                .orElseGet(() -> createAchievement(characterId, achievementType));
-
-        boolean wasCompleted = achievement.addProgress(increment);
-        achievementRepository.save(achievement);
+        CharacterAchievements achievements = lockAchievements(characterId);
+        boolean wasCompleted = achievements.apply(achievementType, increment, true);
+        characterAchievementsRepository.save(achievements);
 
         if (wasCompleted) {
-            log.info("Conquista {} desbloqueada pelo personagem ID: {}",
-                    achievementType.getName(), characterId);
+            publishUnlocked(characterId, achievementType);
         }
 
         return wasCompleted;
     }
 
+    /**
+     * Aplica um evento de jogo a todas as conquistas que escutam o gatilho.
+     * <p>
+     * Todas as conquistas do gatilho são atualizadas no mesmo registro, com
+     * uma leitura e uma escrita. Um evento {@link AchievementUnlockedEvent} é
+     * publicado para cada conquista desbloqueada.
+     * </p>
+     *
+     * @param characterId ID do personagem
+     * @param trigger evento de jogo
+     * @param amount valor do evento (incremento, ou nível atual para {@link AchievementTrigger#LEVEL_REACHED})
+     * @return conquistas desbloqueadas por este evento
+     */
+    @Transactional
+    public List<AchievementType> recordEvent(Long characterId, AchievementTrigger trigger, int amount) {
+        List<AchievementType> types = AchievementType.byTrigger(trigger);
+        if (amount <= 0 || types.isEmpty()) {
+            return List.of();
+        }
+
+        CharacterAchievements achievements = lockAchievements(characterId);
+        List<AchievementType> unlocked = new ArrayList<>();
+        for (AchievementType type : types) {
+            if (achievements.apply(type, amount, trigger.isCumulative())) {
+                unlocked.add(type);
+            }
+        }
+        characterAchievementsRepository.save(achievements);
+
+        unlocked.forEach(type -> publishUnlocked(characterId, type));
+        return unlocked;
+    }
+
+    /**
+     * Aplica os eventos acumulados de um personagem em uma única escrita.
+     *
+     * @param characterId ID do personagem
+     * @param pendingByTrigger valores indexados pelo ordinal de {@link AchievementTrigger}
+     * @return conquistas desbloqueadas
+     */
+    @Transactional
+    public List<AchievementType> applyPending(Long characterId, int[] pendingByTrigger) {
+        CharacterAchievements achievements = lockAchievements(characterId);
+        List<AchievementType> unlocked = new ArrayList<>();
+        for (AchievementType type : AchievementType.values()) {
+            AchievementTrigger trigger = type.getTrigger();
+            int amount = pendingByTrigger[trigger.ordinal()];
+            if (amount > 0 && achievements.apply(type, amount, trigger.isCumulative())) {
+                unlocked.add(type);
+            }
+        }
+        characterAchievementsRepository.save(achievements);
+
+        unlocked.forEach(type -> publishUnlocked(characterId, type));
+        return unlocked;
+    }
+
     /**
      * Atualiza o progresso de múltiplas conquistas de uma vez.
      * <p>
@@ -116,21 +171,17 @@ public class AchievementService {
     @Transactional
     public List<Achievement> updateMultipleAchievements(Long characterId,
                                                         ProgressUpdate... progressUpdates) {
+        CharacterAchievements achievements = lockAchievements(characterId);
         List<Achievement> completedAchievements = new ArrayList<>();
 
         for (ProgressUpdate update : progressUpdates) {
-            boolean wasCompleted = updateAchievementProgress(
-                    characterId,
-                    update.getType(),
-                    update.getIncrement()
-            );
-
-            if (wasCompleted) {
-                achievementRepository.findByCharacterIdAndType(characterId, update.getType())
-                        .ifPresent(completedAchievements::add);
+            if (achievements.apply(update.getType(), update.getIncrement(), true)) {
+                completedAchievements.add(achievements.toAchievement(update.getType()));
             }
         }
+        characterAchievementsRepository.save(achievements);
 
+        completedAchievements.forEach(achievement -> publishUnlocked(characterId, achievement.getType()));
         return completedAchievements;
     }
 
@@ -142,7 +193,7 @@ public class AchievementService {
      */
     @Transactional(readOnly = true)
     public List<Achievement> getCharacterAchievements(Long characterId) {
-        return achievementRepository.findByCharacterId(characterId);
+        return listAchievements(characterId, achievement -> true);
     }
 
     /**
@@ -153,7 +204,7 @@ public class AchievementService {
      */
     @Transactional(readOnly = true)
     public List<Achievement> getCompletedAchievements(Long characterId) {
-        return achievementRepository.findByCharacterIdAndIsCompletedTrue(characterId);
+        return listAchievements(characterId, Achievement::isCompleted);
     }
 
     /**
@@ -164,7 +215,7 @@ public class AchievementService {
      */
     @Transactional(readOnly = true)
     public List<Achievement> getInProgressAchievements(Long characterId) {
-        return achievementRepository.findByCharacterIdAndIsCompletedFalse(characterId);
+        return listAchievements(characterId, achievement -> !achievement.isCompleted());
     }
 
     /**
@@ -175,7 +226,10 @@ public class AchievementService {
      */
     @Transactional(readOnly = true)
     public List<Achievement> getRecentlyUnlockedAchievements(Long characterId) {
-        return achievementRepository.findRecentlyUnlockedAchievements(characterId);
+        List<Achievement> completed = getCompletedAchievements(characterId);
+        completed.sort(Comparator.comparing(Achievement::getUnlockedAt,
+                Comparator.nullsLast(Comparator.reverseOrder())));
+        return completed;
     }
 
     /**
@@ -186,14 +240,27 @@ public class AchievementService {
      */
     @Transactional(readOnly = true)
     public double getCompletionPercentage(Long characterId) {
-        long totalAchievements = AchievementType.values().length;
-        long completedAchievements = achievementRepository.countCompletedAchievements(characterId);
-
-        if (totalAchievements == 0) {
+        if (AchievementType.COUNT == 0) {
             return 0.0;
         }
 
-        return (completedAchievements * 100.0) / totalAchievements;
+        return (countCompletedAchievements(characterId) * 100.0) / AchievementType.COUNT;
+    }
+
+    /**
+     * Conta quantas conquistas completadas um personagem possui.
+     *
+     * @param characterId ID do personagem
+     * @return número de conquistas completadas
+     */
+    @Transactional(readOnly = true)
+    public long countCompletedAchievements(Long characterId) {
+        if (progressCounters.pendingAchievements(characterId) != null) {
+            return getCompletedAchievements(characterId).size();
+        }
+        return characterAchievementsRepository.findById(characterId.intValue())
+                .map(CharacterAchievements::completedCount)
+                .orElse(0);
     }
 
     /**
@@ -201,30 +268,88 @@ public class AchievementService {
      *
      * @param characterId ID do personagem
      * @param achievementType tipo da conquista
-     * @return Optional contendo a conquista se existir
+     * @return Optional contendo a conquista se o personagem possuir registro de conquistas
      */
     @Transactional(readOnly = true)
     public Optional<Achievement> getAchievement(Long characterId, AchievementType achievementType) {
-        return achievementRepository.findByCharacterIdAndType(characterId, achievementType);
+        int[] pending = progressCounters.pendingAchievements(characterId);
+        return characterAchievementsRepository.findById(characterId.intValue())
+                .map(achievements -> mergePending(achievements.toAchievement(achievementType), pending));
     }
 
     /**
-     * Cria uma nova conquista para um personagem.
+     * Remove o registro de conquistas de um personagem excluído.
      *
      * @param characterId ID do personagem
-     * @param achievementType tipo da conquista
-     * @return conquista criada
-     */
-    private Achievement createAchievement(Long characterId, AchievementType achievementType) {
-        Achievement achievement = new Achievement();
-        Character character = new Character();
-        character.setId(characterId.intValue());
-        achievement.setCharacter(character);
-        achievement.setType(achievementType);
-        achievement.setProgress(0);
-        achievement.setCompleted(false);
-
-        return achievementRepository.save(achievement);
+     */
+    @Transactional
+    public void deleteAchievements(Long characterId) {
+        if (characterAchievementsRepository.existsById(characterId.intValue())) {
+            characterAchievementsRepository.deleteById(characterId.intValue());
+        }
+    }
+
+    /**
+     * Busca o registro de conquistas bloqueando-o, criando-o se não existir.
+     *
+     * @param characterId ID do personagem
+     * @return registro de conquistas do personagem
+     */
+    private CharacterAchievements lockAchievements(Long characterId) {
+        characterAchievementsRepository.insertIfAbsent(characterId.intValue());
+        return characterAchievementsRepository.findForUpdate(characterId.intValue())
+                .orElseThrow(() -> new IllegalStateException(
+                        "Registro de conquistas do personagem " + characterId + " não encontrado"));
+    }
+
+    /**
+     * Monta as conquistas de um personagem a partir do registro compactado.
+     *
+     * @param characterId ID do personagem
+     * @param filter filtro aplicado às conquistas
+     * @return conquistas na ordem do enum, vazia se o personagem não possuir registro
+     */
+    private List<Achievement> listAchievements(Long characterId, Predicate<Achievement> filter) {
+        List<Achievement> result = new ArrayList<>();
+        int[] pending = progressCounters.pendingAchievements(characterId);
+        characterAchievementsRepository.findById(characterId.intValue()).ifPresent(achievements -> {
+            for (AchievementType type : AchievementType.values()) {
+                Achievement achievement = mergePending(achievements.toAchievement(type), pending);
+                if (filter.test(achievement)) {
+                    result.add(achievement);
+                }
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Soma à visão de uma conquista os eventos ainda não gravados.
+     *
+     * @param achievement visão montada a partir do registro gravado
+     * @param pending valores pendentes por gatilho, ou null
+     * @return a própria visão
+     */
+    private Achievement mergePending(Achievement achievement, int[] pending) {
+        if (pending == null || achievement.isCompleted()) {
+            return achievement;
+        }
+        AchievementTrigger trigger = achievement.getType().getTrigger();
+        int amount = pending[trigger.ordinal()];
+        if (amount > 0) {
+            if (trigger.isCumulative()) {
+                achievement.addProgress(amount);
+            } else if (amount > achievement.getProgress()) {
+                achievement.setProgress(amount);
+                achievement.checkCompletion();
+            }
+        }
+        return achievement;
+    }
+
+    private void publishUnlocked(Long characterId, AchievementType type) {
+        log.info("Conquista {} desbloqueada pelo personagem ID: {}", type.getName(), characterId);
+        eventPublisher.publishEvent(new AchievementUnlockedEvent(characterId, type));
     }
 
     /**
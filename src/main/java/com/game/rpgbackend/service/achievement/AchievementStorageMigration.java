@@ -0,0 +1,118 @@
+package com.game.rpgbackend.service.achievement;
+
+import com.game.rpgbackend.domain.CharacterAchievements;
+import com.game.rpgbackend.domain.StorageMigration;
+import com.game.rpgbackend.enums.AchievementType;
+import com.game.rpgbackend.repository.CharacterAchievementsRepository;
+import com.game.rpgbackend.repository.StorageMigrationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Migração versionada das conquistas para o formato compactado.
+ * <p>
+ * Versão 1: converte as linhas da tabela {@code achievements} (uma por
+ * personagem e tipo) em um registro {@link CharacterAchievements} por
+ * personagem. Personagens que já possuem o registro compactado são
+ * ignorados, então a migração pode ser interrompida e reexecutada. A tabela
+ * antiga não é apagada e continua disponível para conferência.
+ * </p>
+ * <p>
+ * A migração roda depois de todos os beans serem criados e antes de as tarefas
+ * {@code @Scheduled} (que só começam no fim do refresh do contexto) e o
+ * servidor web começarem. Assim nenhuma recompensa ou contador cria um
+ * registro compactado vazio para um personagem ainda não migrado, o que faria
+ * a migração ignorá-lo e perder o progresso antigo.
+ * </p>
+ *
+ * @author MURILO FURTADO
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AchievementStorageMigration implements SmartInitializingSingleton {
+
+    /** Nome da migração em {@code storage_migrations} */
+    static final String NAME = "achievements";
+
+    /** Versão mais recente do armazenamento de conquistas */
+    static final int CURRENT_VERSION = 1;
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String LEGACY_ROWS_SQL =
+        "SELECT a.character_id, a.type, a.progress, a.is_completed, a.unlocked_at FROM achievements a "
+            + "WHERE NOT EXISTS (SELECT 1 FROM character_achievements c WHERE c.character_id = a.character_id) "
+            + "ORDER BY a.character_id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CharacterAchievementsRepository characterAchievementsRepository;
+    private final StorageMigrationRepository migrationRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Aplica as versões pendentes antes de as tarefas agendadas começarem.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        int applied = migrationRepository.findById(NAME).map(StorageMigration::getVersion).orElse(0);
+        if (applied >= CURRENT_VERSION) {
+            return;
+        }
+
+        int migrated = transactionTemplate.execute(status -> migrateToPacked());
+        migrationRepository.save(new StorageMigration(NAME, CURRENT_VERSION, LocalDateTime.now()));
+        log.info("Conquistas migradas para o formato compactado (v{}): {} personagens", CURRENT_VERSION, migrated);
+    }
+
+    /**
+     * Versão 1: uma linha por conquista para um registro por personagem.
+     *
+     * @return quantidade de personagens migrados
+     */
+    private int migrateToPacked() {
+        List<CharacterAchievements> batch = new ArrayList<>(BATCH_SIZE);
+        CharacterAchievements[] current = new CharacterAchievements[1];
+        int[] migrated = new int[1];
+
+        jdbcTemplate.query(LEGACY_ROWS_SQL, rs -> {
+            int characterId = rs.getInt("character_id");
+            if (current[0] == null || !current[0].getCharacterId().equals(characterId)) {
+                // As linhas vêm ordenadas por personagem: os registros do lote já estão completos
+                if (batch.size() == BATCH_SIZE) {
+                    characterAchievementsRepository.saveAll(batch);
+                    batch.clear();
+                }
+                current[0] = new CharacterAchievements(characterId);
+                batch.add(current[0]);
+                migrated[0]++;
+            }
+
+            String typeName = rs.getString("type");
+            AchievementType type;
+            try {
+                type = AchievementType.valueOf(typeName);
+            } catch (IllegalArgumentException e) {
+                log.warn("Conquista desconhecida ignorada na migração: {}", typeName);
+                return;
+            }
+            Timestamp unlockedAt = rs.getTimestamp("unlocked_at");
+            current[0].restore(type, rs.getInt("progress"), rs.getBoolean("is_completed"),
+                unlockedAt != null ? unlockedAt.toLocalDateTime() : null);
+        });
+
+        characterAchievementsRepository.saveAll(batch);
+        return migrated[0];
+    }
+}
@@ -0,0 +1,27 @@
+package com.game.rpgbackend.service.achievement;
+
+import com.game.rpgbackend.enums.AchievementType;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Evento publicado quando um personagem desbloqueia uma conquista.
+ * <p>
+ * É repassado ao canal de eventos do usuário dono do personagem após o
+ * commit da transação que completou a conquista.
+ * </p>
+ *
+ * @author MURILO FURTADO
+ * @version 1.0
+ * @since 1.0
+ */
+@Getter
+@RequiredArgsConstructor
+public class AchievementUnlockedEvent {
+
+    /** Personagem que desbloqueou a conquista */
+    private final Long characterId;
+
+    /** Conquista desbloqueada */
+    private final AchievementType type;
+}
@@ -0,0 +1,254 @@
+package com.game.rpgbackend.service.battle;
+
+import com.game.rpgbackend.config.GameConfig;
+import com.game.rpgbackend.exception.ServiceUnavailableException;
+import com.game.rpgbackend.service.battle.event.BattleEventStore;
+import com.game.rpgbackend.service.battle.event.BattleResult;
+import com.game.rpgbackend.service.battle.state.ActiveBattle;
+import com.game.rpgbackend.service.battle.store.BattleStateStore;
+import com.game.rpgbackend.util.TimingWheel;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Registro das batalhas ativas com limite de capacidade e expiração por inatividade.
+ * <p>
+ * Acompanha o último acesso e o tamanho estimado de cada batalha mantida no
+ * {@link BattleStateStore}. Batalhas sem nenhuma ação durante
+ * {@code game.battle.idle-ttl-seconds} são removidas e publicadas como
+ * {@link BattleAbandonedEvent} para serem finalizadas como abandono.
+ * </p>
+ * <p>
+ * A expiração usa uma {@link TimingWheel}: cada batalha ocupa um único slot,
+ * e um acesso apenas atualiza o instante do último uso. Quando o slot vence,
+ * a batalha é reagendada para o prazo real ou removida, sem timers por entrada.
+ * </p>
+ * <p>
+ * Expõe as métricas {@code rpg.battles.active}, {@code rpg.battles.estimated.bytes}
+ * e {@code rpg.battles.evictions}.
+ * </p>
+ *
+ * @author MURILO FURTADO
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ActiveBattleRegistry {
+
+    private static final int WHEEL_SLOTS = 1024;
+
+    private final BattleStateStore store;
+    private final GameConfig gameConfig;
+    private final MeterRegistry meterRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BattleActionExecutor actionExecutor;
+    private final BattleEventStore eventStore;
+
+    /** Atividade das batalhas indexada por ID do usuário */
+    private final Map<Integer, Activity> activities = new ConcurrentHashMap<>();
+
+    /** Soma dos tamanhos estimados de todas as batalhas registradas */
+    private final AtomicLong estimatedBytes = new AtomicLong();
+
+    private TimingWheel<Activity> wheel;
+    private Counter evictions;
+
+    /**
+     * Cria a roda de expiração, registra as métricas e passa a acompanhar
+     * as batalhas já presentes no store (ex: recuperadas do journal).
+     */
+    @PostConstruct
+    public void init() {
+        long tickNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, gameConfig.getBattle().getEvictionTickMillis()));
+        wheel = new TimingWheel<>(tickNanos, WHEEL_SLOTS, System.nanoTime());
+
+        Gauge.builder("rpg.battles.active", activities, Map::size)
+            .description("Batalhas ativas em memória")
+            .register(meterRegistry);
+        Gauge.builder("rpg.battles.estimated.bytes", estimatedBytes, AtomicLong::get)
+            .description("Tamanho estimado das batalhas ativas em memória")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+        evictions = Counter.builder("rpg.battles.evictions")
+            .description("Batalhas removidas por inatividade")
+            .register(meterRegistry);
+
+        for (Integer userId : store.userIds()) {
+            track(userId, store.get(userId), false);
+        }
+    }
+
+    /**
+     * Registra o estado atual da batalha de um usuário.
+     * <p>
+     * Atualiza o último acesso e o tamanho estimado. Uma nova batalha é
+     * recusada quando o limite {@code game.battle.max-active} foi atingido.
+     * </p>
+     *
+     * @param userId identificador do usuário
+     * @param battleState estado atual da batalha
+     * @throws ServiceUnavailableException se o limite de batalhas ativas foi atingido
+     */
+    public void track(Integer userId, ActiveBattle battleState) {
+        track(userId, battleState, true);
+    }
+
+    /**
+     * Marca a batalha de um usuário como acessada, adiando sua expiração.
+     *
+     * @param userId identificador do usuário
+     */
+    public void touch(Integer userId) {
+        Activity activity = activities.get(userId);
+        if (activity != null) {
+            activity.lastAccessNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * Deixa de acompanhar a batalha de um usuário (batalha finalizada).
+     *
+     * @param userId identificador do usuário
+     */
+    public void forget(Integer userId) {
+        Activity activity = activities.remove(userId);
+        if (activity != null) {
+            estimatedBytes.addAndGet(-activity.bytes);
+        }
+    }
+
+    /**
+     * Deixa de acompanhar todas as batalhas.
+     */
+    public void forgetAll() {
+        for (Integer userId : activities.keySet()) {
+            forget(userId);
+        }
+    }
+
+    /**
+     * Quantidade de batalhas acompanhadas.
+     *
+     * @return número de batalhas ativas
+     */
+    public int size() {
+        return activities.size();
+    }
+
+    /**
+     * Tamanho estimado, em bytes, de todas as batalhas acompanhadas.
+     *
+     * @return bytes estimados
+     */
+    public long estimatedBytes() {
+        return estimatedBytes.get();
+    }
+
+    /**
+     * Avança a roda de expiração e remove as batalhas inativas.
+     */
+    @Scheduled(fixedDelayString = "${game.battle.eviction-tick-millis:1000}")
+    public void evictIdle() {
+        long ttlNanos = TimeUnit.SECONDS.toNanos(gameConfig.getBattle().getIdleTtlSeconds());
+        long now = System.nanoTime();
+        wheel.advance(now, activity -> {
+            if (activities.get(activity.userId) != activity) {
+                // Batalha finalizada ou substituída desde o agendamento
+                return 0;
+            }
+            long deadline = activity.lastAccessNanos + ttlNanos;
+            if (deadline - now > 0) {
+                return deadline;
+            }
+            // Remove pela fila do usuário para não competir com uma ação em andamento
+            actionExecutor.submit(activity.userId, () -> {
+                evict(activity, ttlNanos);
+                return null;
+            });
+            return 0;
+        });
+    }
+
+    private void track(Integer userId, ActiveBattle battleState, boolean enforceLimit) {
+        long bytes = BattleStateSizeEstimator.estimate(battleState);
+        long now = System.nanoTime();
+
+        Activity existing = activities.get(userId);
+        if (existing != null) {
+            existing.lastAccessNanos = now;
+            estimatedBytes.addAndGet(bytes - existing.bytes);
+            existing.bytes = bytes;
+            return;
+        }
+
+        if (enforceLimit && activities.size() >= gameConfig.getBattle().getMaxActive()) {
+            throw new ServiceUnavailableException("Servidor lotado: limite de batalhas ativas atingido. Tente novamente em instantes.");
+        }
+
+        Activity activity = new Activity(userId, now, bytes);
+        Activity previous = activities.putIfAbsent(userId, activity);
+        if (previous != null) {
+            // Outra requisição do mesmo usuário registrou a batalha primeiro
+            previous.lastAccessNanos = now;
+            return;
+        }
+        estimatedBytes.addAndGet(bytes);
+        wheel.schedule(activity, now + TimeUnit.SECONDS.toNanos(gameConfig.getBattle().getIdleTtlSeconds()));
+    }
+
+    private void evict(Activity activity, long ttlNanos) {
+        if (System.nanoTime() - activity.lastAccessNanos < ttlNanos) {
+            // Acessada enquanto aguardava na fila: volta a ser acompanhada
+            wheel.schedule(activity, activity.lastAccessNanos + ttlNanos);
+            return;
+        }
+        if (!activities.remove(activity.userId, activity)) {
+            return;
+        }
+        estimatedBytes.addAndGet(-activity.bytes);
+        ActiveBattle battleState = store.get(activity.userId);
+        store.remove(activity.userId);
+        evictions.increment();
+
+        if (battleState != null && !battleState.isFinished()) {
+            if (battleState.getEvents() != null) {
+                battleState.getEvents().end(BattleResult.ABANDONED);
+                eventStore.append(activity.userId, battleState, BattleResult.ABANDONED);
+            }
+            try {
+                eventPublisher.publishEvent(new BattleAbandonedEvent(activity.userId, battleState));
+            } catch (RuntimeException e) {
+                log.warn("Falha ao finalizar a batalha abandonada do usuário {}: {}", activity.userId, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Último acesso e tamanho estimado de uma batalha.
+     */
+    private static final class Activity {
+        private final Integer userId;
+        private volatile long lastAccessNanos;
+        private volatile long bytes;
+
+        private Activity(Integer userId, long lastAccessNanos, long bytes) {
+            this.userId = userId;
+            this.lastAccessNanos = lastAccessNanos;
+            this.bytes = bytes;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.game.rpgbackend.service.battle;
+
+import com.game.rpgbackend.service.battle.state.ActiveBattle;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Evento publicado quando uma batalha é removida por inatividade.
+ * <p>
+ * Carrega o último estado conhecido da batalha para que ela possa ser
+ * finalizada e persistida como abandono.
+ * </p>
+ *
+ * @author MURILO FURTADO
+ * @version 1.0
+ * @since 1.0
+ */
+@Getter
+@RequiredArgsConstructor
+public class BattleAbandonedEvent {
+
+    /** Usuário dono da batalha abandonada */
+    private final Integer userId;
+
+    /** Último estado conhecido da batalha */
+    private final ActiveBattle battleState;
+}
@@ -0,0 +1,55 @@
+package com.game.rpgbackend.service.battle;
+
+import com.game.rpgbackend.service.battle.history.BattleHistoryWriter;
+import com.game.rpgbackend.service.battle.state.ActiveBattle;
+import com.game.rpgbackend.service.progress.ProgressCounters;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Serviço que finaliza batalhas abandonadas.
+ * <p>
+ * Uma batalha abandonada conta como derrota nas estatísticas do jogador,
+ * preserva o HP e a energia do personagem no momento do abandono e gera
+ * um registro no histórico com resultado "abandono" e nenhuma experiência.
+ * </p>
+ *
+ * @author MURILO FURTADO
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BattleAbandonmentService {
+
+    /** Resultado registrado no histórico para batalhas abandonadas */
+    public static final String RESULT_ABANDONED = "abandono";
+
+    private final ProgressCounters progressCounters;
+    private final BattleCheckpointer checkpointer;
+    private final BattleHistoryWriter battleHistoryWriter;
+
+    /**
+     * Persiste o resultado de uma batalha removida por inatividade.
+     *
+     * @param event evento com o usuário e o último estado da batalha
+     */
+    @EventListener
+    @Transactional
+    public void onBattleAbandoned(BattleAbandonedEvent event) {
+        Integer userId = event.getUserId();
+        ActiveBattle battle = event.getBattleState();
+
+        progressCounters.addStat(userId, ProgressCounters.Stat.BATTLES_LOST, 1);
+
+        checkpointer.checkpoint(battle);
+
+        battleHistoryWriter.append(userId, RESULT_ABANDONED, battle.getMonsterName(), 0);
+
+        log.info("Batalha do usuário {} finalizada por inatividade", userId);
+    }
+}
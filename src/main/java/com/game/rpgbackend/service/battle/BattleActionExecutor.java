@@ -0,0 +1,313 @@
+package com.game.rpgbackend.service.battle;
+
+import com.game.rpgbackend.config.GameConfig;
+import com.game.rpgbackend.exception.ServiceUnavailableException;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executor de ações de batalha com uma caixa de mensagens por usuário.
+ * <p>
+ * Cada usuário com ações pendentes possui uma fila própria (mailbox). As ações
+ * de uma mesma fila são executadas uma de cada vez, na ordem de chegada, por
+ * um pool compartilhado de threads; filas de usuários diferentes rodam em
+ * paralelo sem nenhum lock global. Assim, cliques duplos e reenvios da mesma
+ * batalha são aplicados em sequência sobre o estado já atualizado, em vez de
+ * competirem pelo mesmo estado.
+ * </p>
+ * <p>
+ * A fila é criada na primeira ação e descartada assim que esvazia. Criação,
+ * enfileiramento e descarte usam {@link ConcurrentHashMap#compute}, que
+ * bloqueia apenas a entrada do próprio usuário.
+ * </p>
+ * <p>
+ * As ações de batalha usam uma conexão do banco enquanto executam, então, por
+ * padrão ({@code game.battle.action-threads=0}), o pool tem o mesmo tamanho do
+ * pool de conexões do Hikari: threads além disso só ficariam bloqueadas
+ * esperando por uma conexão.
+ * </p>
+ *
+ * @author MURILO FURTADO
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Component
+public class BattleActionExecutor {
+
+    /** Quantidade máxima de ações executadas antes de devolver a thread ao pool */
+    private static final int DRAIN_BATCH = 16;
+
+    /** Usuário cuja fila está sendo processada pela thread atual */
+    private static final ThreadLocal<Integer> CURRENT_USER = new ThreadLocal<>();
+
+    private final Map<Integer, Mailbox> mailboxes = new ConcurrentHashMap<>();
+    private final ExecutorService pool;
+    private final long timeoutMillis;
+
+    /**
+     * Cria o pool de execução conforme {@code game.battle.action-threads}.
+     *
+     * @param gameConfig configurações do jogo
+     * @param dataSource pool de conexões, usado para dimensionar o pool automático
+     */
+    public BattleActionExecutor(GameConfig gameConfig, ObjectProvider<DataSource> dataSource) {
+        int threads = gameConfig.getBattle().getActionThreads();
+        if (threads <= 0) {
+            threads = connectionPoolSize(dataSource.getIfAvailable());
+        }
+        log.info("Pool de ações de batalha com {} threads", threads);
+        this.pool = Executors.newFixedThreadPool(threads, new ActionThreadFactory());
+        this.timeoutMillis = gameConfig.getBattle().getActionTimeoutMillis();
+    }
+
+    /**
+     * Executa uma ação na fila do usuário e aguarda o resultado.
+     * <p>
+     * Exceções lançadas pela ação são repassadas ao chamador sem embrulho,
+     * preservando o tratamento do {@code GlobalExceptionHandler}. Se chamado
+     * de dentro de uma ação do mesmo usuário, executa imediatamente.
+     * </p>
+     * <p>
+     * O tempo limite vale para a espera na fila: uma ação que não começou a
+     * tempo é cancelada e nunca executa. Uma ação que já começou é aguardada
+     * até o fim, para que a resposta sempre reflita o que foi aplicado.
+     * </p>
+     *
+     * @param userId identificador do usuário dono da batalha
+     * @param action ação a ser executada
+     * @param <T> tipo do resultado
+     * @return resultado da ação
+     * @throws ServiceUnavailableException se a ação não terminar dentro do tempo limite
+     */
+    public <T> T call(Integer userId, Callable<T> action) {
+        if (userId.equals(CURRENT_USER.get())) {
+            return callInline(action);
+        }
+
+        Action<T> task = enqueue(userId, action);
+        try {
+            if (timeoutMillis <= 0) {
+                return task.future.get();
+            }
+            try {
+                return task.future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                if (task.cancel()) {
+                    throw new ServiceUnavailableException("A batalha está ocupada processando outra ação. Tente novamente.");
+                }
+                return task.future.get();
+            }
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        } catch (InterruptedException e) {
+            task.cancel();
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Ação de batalha interrompida.");
+        }
+    }
+
+    /**
+     * Enfileira uma ação na fila do usuário sem aguardar o resultado.
+     * <p>
+     * Cancelar o future antes de a ação começar a remove da fila.
+     * </p>
+     *
+     * @param userId identificador do usuário dono da batalha
+     * @param action ação a ser executada
+     * @param <T> tipo do resultado
+     * @return future concluído quando a ação terminar
+     */
+    public <T> CompletableFuture<T> submit(Integer userId, Callable<T> action) {
+        return enqueue(userId, action).future;
+    }
+
+    private <T> Action<T> enqueue(Integer userId, Callable<T> action) {
+        Action<T> task = new Action<>(action);
+        Mailbox mailbox = mailboxes.compute(userId, (key, existing) -> {
+            Mailbox target = existing != null ? existing : new Mailbox(key);
+            target.queue.add(task);
+            return target;
+        });
+        mailbox.schedule();
+        return task;
+    }
+
+    /**
+     * Quantidade de usuários com ações pendentes ou em execução.
+     *
+     * @return número de filas ativas
+     */
+    public int activeMailboxes() {
+        return mailboxes.size();
+    }
+
+    /**
+     * Conclui as ações já enfileiradas e encerra o pool.
+     */
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+        try {
+            if (!pool.awaitTermination(10, TimeUnit.SECONDS)) {
+                log.warn("Ações de batalha pendentes descartadas no desligamento");
+                pool.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            pool.shutdownNow();
+        }
+    }
+
+    private static int connectionPoolSize(DataSource dataSource) {
+        try {
+            if (dataSource != null && dataSource.isWrapperFor(HikariDataSource.class)) {
+                return dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+            }
+        } catch (SQLException e) {
+            log.debug("Não foi possível obter o tamanho do pool de conexões: {}", e.getMessage());
+        }
+        return Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+    }
+
+    private static <T> T callInline(Callable<T> action) {
+        try {
+            return action.call();
+        } catch (Exception e) {
+            throw unwrap(e);
+        }
+    }
+
+    private static RuntimeException unwrap(Throwable cause) {
+        if (cause instanceof RuntimeException runtime) {
+            return runtime;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(cause);
+    }
+
+    /**
+     * Ação enfileirada, executada no máximo uma vez.
+     * <p>
+     * Quem começa primeiro vence: a fila, ao executar, ou o chamador, ao
+     * cancelar. Ações canceladas continuam na fila e são apenas puladas.
+     * </p>
+     */
+    private static final class Action<T> implements Runnable {
+        private final Callable<T> callable;
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+        private final AtomicBoolean claimed = new AtomicBoolean();
+
+        private Action(Callable<T> callable) {
+            this.callable = callable;
+        }
+
+        @Override
+        public void run() {
+            if (future.isDone() || !claimed.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                future.complete(callable.call());
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            }
+        }
+
+        /**
+         * Cancela a ação se ela ainda não começou.
+         *
+         * @return true se a ação foi cancelada e não será executada
+         */
+        private boolean cancel() {
+            if (claimed.compareAndSet(false, true)) {
+                future.cancel(false);
+                return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Fila de ações de um usuário.
+     */
+    private final class Mailbox implements Runnable {
+        private final Integer userId;
+        private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        private Mailbox(Integer userId) {
+            this.userId = userId;
+        }
+
+        private void schedule() {
+            if (!queue.isEmpty() && scheduled.compareAndSet(false, true)) {
+                try {
+                    pool.execute(this);
+                } catch (RuntimeException e) {
+                    scheduled.set(false);
+                    throw new ServiceUnavailableException("Servidor em desligamento. Tente novamente.");
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            CURRENT_USER.set(userId);
+            try {
+                Runnable task;
+                int executed = 0;
+                while (executed < DRAIN_BATCH && (task = queue.poll()) != null) {
+                    task.run();
+                    executed++;
+                }
+            } finally {
+                CURRENT_USER.remove();
+            }
+
+            // Descarta a fila vazia; o compute impede que uma ação entre entre a verificação e a remoção
+            Mailbox current = mailboxes.compute(userId, (key, existing) ->
+                existing == this && queue.isEmpty() ? null : existing);
+            if (current == this) {
+                scheduled.set(false);
+                schedule();
+            }
+        }
+    }
+
+    /**
+     * Fábrica de threads nomeadas para o pool de ações.
+     */
+    private static final class ActionThreadFactory implements ThreadFactory {
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "battle-action-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.game.rpgbackend.service.battle;
+
+import com.game.rpgbackend.config.GameConfig;
+import com.game.rpgbackend.repository.CharacterRepository;
+import com.game.rpgbackend.service.battle.state.ActiveBattle;
+import com.game.rpgbackend.service.battle.store.BattleStateStore;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Grava no banco o HP e a energia dos personagens em batalha.
+ * <p>
+ * Durante o combate o estado da batalha em memória é a fonte da verdade para
+ * o HP e a energia do personagem, então as ações não gravam mais o
+ * personagem a cada turno. Os valores são gravados com um único
+ * {@code UPDATE} direcionado ao fim da batalha, a cada
+ * {@code game.battle.checkpoint-turns} gravações de estado, no abandono por
+ * inatividade e no desligamento do servidor.
+ * </p>
+ *
+ * @author MURILO FURTADO
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BattleCheckpointer {
+
+    private final CharacterRepository characterRepository;
+    private final BattleStateStore activeBattles;
+    private final GameConfig gameConfig;
+
+    /**
+     * Grava o checkpoint se o estado recém-salvo completar o intervalo configurado.
+     *
+     * @param state estado da batalha, já com a versão atualizada
+     */
+    public void onStateSaved(ActiveBattle state) {
+        int every = gameConfig.getBattle().getCheckpointTurns();
+        if (every > 0 && state.getVersion() % every == 0) {
+            checkpoint(state);
+        }
+    }
+
+    /**
+     * Grava o HP e a energia atuais do personagem da batalha.
+     *
+     * @param state estado da batalha
+     */
+    public void checkpoint(ActiveBattle state) {
+        characterRepository.updateBattleState(
+            state.getCharacterId(), Math.max(0, state.getCharacterHp()), state.getCharacterEnergy());
+    }
+
+    /**
+     * Grava o checkpoint de todas as batalhas ativas no desligamento.
+     */
+    @PreDestroy
+    public void shutdown() {
+        int saved = 0;
+        for (Integer userId : activeBattles.userIds()) {
+            ActiveBattle state = activeBattles.get(userId);
+            if (state == null) {
+                continue;
+            }
+            try {
+                checkpoint(state);
+                saved++;
+            } catch (DataAccessException e) {
+                log.warn("Falha ao gravar checkpoint da batalha do usuário {}: {}", userId, e.getMessage());
+            }
+        }
+        if (saved > 0) {
+            log.info("Checkpoint de {} batalha(s) ativa(s) gravado no desligamento", saved);
+        }
+    }
+}
@@ -0,0 +1,302 @@
+package com.game.rpgbackend.service.battle;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.game.rpgbackend.dto.response.battle.BattleStateResponse;
+import com.game.rpgbackend.dto.response.battle.EffectSet;
+import com.game.rpgbackend.service.battle.event.BattleField;
+import com.game.rpgbackend.service.battle.state.ActiveBattle;
+import com.game.rpgbackend.service.battle.state.BattleQuestion;
+import com.game.rpgbackend.service.battle.state.BattleStateMapper;
+import com.game.rpgbackend.service.battle.store.BattleStateStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Codifica respostas de batalha como deltas em relação à versão conhecida pelo cliente.
+ * <p>
+ * O cliente informa no cabeçalho {@value #VERSION_HEADER} a última versão de
+ * estado que recebeu. Se ela for a versão atual da batalha no servidor, a
+ * resposta da ação é um JSON Merge Patch (RFC 7386) contendo apenas os campos
+ * alterados; caso contrário (outra batalha, versão atrasada ou cabeçalho
+ * ausente) o estado completo é enviado e o cliente se ressincroniza.
+ * </p>
+ * <p>
+ * O patch é montado comparando campo a campo os dois {@link ActiveBattle}
+ * (os mesmos {@link BattleField} do log de eventos), sem montar nem serializar
+ * os DTOs completos; só os objetos aninhados que mudaram são criados. Os nomes
+ * dos campos são os da API ({@link BattleStateResponse}).
+ * </p>
+ * <p>
+ * O resultado do turno é sempre incluído no delta, pois não faz parte do
+ * estado salvo. A próxima questão só aparece quando a resposta a traz, como já
+ * acontece na resposta completa. As listas de quests só aparecem quando a
+ * resposta as traz e elas diferem das que o cliente recebeu na versão base
+ * ({@link ActiveBattle#getQuestsHash()}); o progresso de quests no meio da
+ * batalha chega pelos eventos {@code quest} do canal de eventos.
+ * </p>
+ *
+ * @author MURILO FURTADO
+ * @version 1.0
+ * @since 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class BattleDeltaEncoder {
+
+    /** Cabeçalho com a versão do estado, enviado pelo cliente e devolvido pelo servidor */
+    public static final String VERSION_HEADER = "X-Battle-Version";
+
+    /** Tipo de conteúdo das respostas em delta */
+    public static final String MERGE_PATCH_JSON = "application/merge-patch+json";
+
+    private static final String TURN_RESULT = "turnResult";
+    private static final String CHARACTER = "character";
+    private static final String MONSTER = "monster";
+
+    private final BattleStateStore activeBattles;
+    private final BattleStateMapper mapper;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Estado base para o delta: a batalha atual do usuário, se estiver na versão informada.
+     * <p>
+     * Deve ser chamado na fila de ações do usuário, antes da ação, para que a
+     * base não mude até o cálculo do delta.
+     * </p>
+     *
+     * @param userId identificador do usuário
+     * @param knownVersion versão conhecida pelo cliente, ou null
+     * @return estado base, ou null se for necessário enviar o estado completo
+     */
+    public ActiveBattle baseFor(Integer userId, Integer knownVersion) {
+        if (knownVersion == null) {
+            return null;
+        }
+        ActiveBattle base = activeBattles.get(userId);
+        return base != null && base.getVersion() == knownVersion ? base : null;
+    }
+
+    /**
+     * Calcula o delta entre o estado base e o novo estado.
+     * <p>
+     * O novo estado é o salvo na memória; se a batalha já foi encerrada e
+     * removida, ele é montado a partir da resposta. Se o salvamento já calculou
+     * o patch a partir desta base ({@link #prepare}), ele é reaproveitado.
+     * </p>
+     *
+     * @param userId identificador do usuário
+     * @param base estado base obtido por {@link #baseFor}
+     * @param current novo estado da batalha
+     * @return merge patch, ou null se a base não servir para o novo estado (enviar completo)
+     */
+    public ObjectNode encode(Integer userId, ActiveBattle base, BattleStateResponse current) {
+        if (base == null || current == null || current.getBattleId() == null
+            || base.getBattleId() != current.getBattleId()) {
+            return null;
+        }
+        ActiveBattle saved = activeBattles.get(userId);
+        if (saved == null || saved.getBattleId() != base.getBattleId()
+            || current.getVersion() == null || saved.getVersion() != current.getVersion()) {
+            saved = mapper.toState(current);
+        }
+
+        // Reaproveita o patch calculado no salvamento se ele partiu da mesma base
+        ObjectNode patch = saved.getPatch();
+        saved.setPatch(null);
+        if (patch == null || base.getVersion() != saved.getVersion() - 1) {
+            patch = statePatch(base, saved);
+        }
+        return withResponseFields(patch, current, base.getQuestsHash() != saved.getQuestsHash());
+    }
+
+    /**
+     * Calcula, uma única vez por salvamento, o patch da versão anterior para a
+     * nova e o guarda no novo estado para a resposta HTTP reaproveitar.
+     *
+     * @param previous estado salvo anteriormente, ou null
+     * @param state novo estado compacto da batalha
+     * @return patch dos campos de estado, ou null se o estado anterior for de outra batalha
+     */
+    public ObjectNode prepare(ActiveBattle previous, ActiveBattle state) {
+        if (previous == null || previous.getBattleId() != state.getBattleId()) {
+            return null;
+        }
+        ObjectNode patch = statePatch(previous, state);
+        state.setPatch(patch);
+        return patch;
+    }
+
+    /**
+     * Monta o evento de batalha enviado pelo canal de eventos do usuário.
+     * <p>
+     * Contém a nova versão e, se o estado anterior for da mesma batalha, a
+     * versão base e o merge patch calculado por {@link #prepare}; caso
+     * contrário, o estado completo.
+     * </p>
+     *
+     * @param previous estado salvo anteriormente, ou null
+     * @param state novo estado compacto da batalha
+     * @param current novo estado da batalha, no formato da API
+     * @return conteúdo do evento
+     */
+    public ObjectNode streamPayload(ActiveBattle previous, ActiveBattle state, BattleStateResponse current) {
+        ObjectNode payload = objectMapper.createObjectNode();
+        payload.put("version", current.getVersion());
+        ObjectNode patch = state.getPatch() != null ? state.getPatch() : prepare(previous, state);
+        if (patch != null) {
+            payload.put("baseVersion", previous.getVersion());
+            // Cópia: o patch guardado ainda será usado pela resposta HTTP
+            payload.set("patch", withResponseFields(patch.deepCopy(), current,
+                previous.getQuestsHash() != state.getQuestsHash()));
+        } else {
+            payload.set("state", objectMapper.valueToTree(current));
+        }
+        return payload;
+    }
+
+    /**
+     * Merge patch dos campos de estado que mudaram entre duas versões da mesma batalha.
+     *
+     * @param previous estado anterior
+     * @param current novo estado
+     * @return patch com a versão e os campos alterados
+     */
+    ObjectNode statePatch(ActiveBattle previous, ActiveBattle current) {
+        ObjectNode patch = objectMapper.createObjectNode();
+        patch.put("version", current.getVersion());
+
+        for (BattleField field : BattleField.all()) {
+            int value = field.get(current);
+            if (field.get(previous) != value) {
+                putField(patch, field, value, current);
+            }
+        }
+
+        for (BattleField.Text field : BattleField.Text.all()) {
+            String value = field.get(current);
+            String old = field.get(previous);
+            if (value != old && (value == null || !value.equals(old))) {
+                switch (field) {
+                    case DIFFICULTY -> patch.put("difficulty", value);
+                    case CLASS_NAME -> child(patch, CHARACTER).put("className", value);
+                    case MONSTER_NAME -> child(patch, MONSTER).put("nome", value);
+                    case MONSTER_ACTION -> patch.put("monsterAction", value);
+                }
+            }
+        }
+
+        BattleQuestion question = current.getQuestion();
+        if (question != previous.getQuestion()) {
+            if (question == null) {
+                patch.putNull("currentQuestion");
+            } else {
+                ObjectNode node = patch.putObject("currentQuestion");
+                node.put("id", question.getId());
+                node.put("texto", question.getText());
+                question.getOptions().forEach(node.putArray("opcoes")::add);
+                node.put("nivelMinimo", question.getMinLevel());
+                node.put("difficulty", question.getDifficulty());
+            }
+        }
+
+        if (!EffectSet.same(previous.getCharacterEffects(), current.getCharacterEffects())) {
+            putEffects(patch, "characterActiveEffects", current.getCharacterEffects());
+        }
+        if (!EffectSet.same(previous.getMonsterEffects(), current.getMonsterEffects())) {
+            putEffects(patch, "monsterActiveEffects", current.getMonsterEffects());
+        }
+        return patch;
+    }
+
+    /**
+     * Acrescenta ao patch os campos que pertencem só à resposta (não ao estado salvo).
+     * As listas de quests entram apenas se mudaram desde a versão base.
+     */
+    private ObjectNode withResponseFields(ObjectNode patch, BattleStateResponse current, boolean questsChanged) {
+        patch.put(TURN_RESULT, current.getTurnResult());
+        if (questsChanged && current.getActiveQuests() != null) {
+            patch.set("activeQuests", objectMapper.valueToTree(current.getActiveQuests()));
+        }
+        if (questsChanged && current.getCompletedQuests() != null) {
+            patch.set("completedQuests", objectMapper.valueToTree(current.getCompletedQuests()));
+        }
+        if (current.getNextQuestion() != null) {
+            patch.set("nextQuestion", objectMapper.valueToTree(current.getNextQuestion()));
+        }
+        return patch;
+    }
+
+    /**
+     * Grava um campo numérico alterado com o nome e o formato da API.
+     */
+    private static void putField(ObjectNode patch, BattleField field, int value, ActiveBattle current) {
+        switch (field) {
+            case CHARACTER_ID -> child(patch, CHARACTER).put("id", value);
+            case CHARACTER_HP -> child(patch, CHARACTER).put("hp", value);
+            case CHARACTER_MAX_HP -> child(patch, CHARACTER).put("maxHp", value);
+            case CHARACTER_ENERGY -> child(patch, CHARACTER).put("energy", value);
+            case CHARACTER_MAX_ENERGY -> child(patch, CHARACTER).put("maxEnergy", value);
+            case STRENGTH -> child(patch, CHARACTER).put("strength", value);
+            case INTELLIGENCE -> child(patch, CHARACTER).put("intelligence", value);
+            case CHARACTER_DEFENSE -> child(patch, CHARACTER).put("defense", value);
+            case LEVEL -> child(patch, CHARACTER).put("level", value);
+            case XP -> child(patch, CHARACTER).put("xp", value);
+            case MAX_XP_FOR_LEVEL -> child(patch, CHARACTER).put("maxXpForLevel", value);
+            case GOLD -> child(patch, CHARACTER).put("gold", value);
+            case CHARACTER_DEFENDING -> child(patch, CHARACTER).put("isDefending", value != 0);
+            case CHARGE_ACTIVE, CHARGE_BASE_DAMAGE -> putCharge(child(patch, CHARACTER), current);
+            case MONSTER_ID -> child(patch, MONSTER).put("id", value);
+            case MONSTER_HP -> child(patch, MONSTER).put("hp", value);
+            case MONSTER_MAX_HP -> child(patch, MONSTER).put("maxHp", value);
+            case MONSTER_DAMAGE -> child(patch, MONSTER).put("dano", value);
+            case MONSTER_DEFENSE -> child(patch, MONSTER).put("defense", value);
+            case MONSTER_DEFENDING -> child(patch, MONSTER).put("isDefending", value != 0);
+            case FINISHED -> patch.put("isFinished", value != 0);
+            case BARD_CHALLENGE_ACTIVE -> patch.put("bardChallengeActive", value != 0);
+            case WAITING_FOR_MONSTER_TURN -> patch.put("waitingForMonsterTurn", value != 0);
+            case PLAYER_TURN -> patch.put("isPlayerTurn", value != 0);
+            case CHARACTER_DAMAGE_DEALT -> putOptional(patch, "characterDamageDealt", value);
+            case MONSTER_DAMAGE_DEALT -> putOptional(patch, "monsterDamageDealt", value);
+            case PENDING_DAMAGE_TO_MONSTER -> patch.put("pendingDamageToMonster", value);
+            case MONSTER_GUARANTEED_ATTACKS -> patch.put("monsterGuaranteedAttacks", value);
+        }
+    }
+
+    /**
+     * Investida do Lutador, no formato de {@code CharacterBattleInfo.getEffects()}.
+     */
+    private static void putCharge(ObjectNode character, ActiveBattle current) {
+        if (!current.isChargeActive()) {
+            character.putNull("effects");
+            return;
+        }
+        ObjectNode effects = character.putObject("effects");
+        effects.put("isChargeActive", true);
+        effects.put("chargeBaseDamage", current.getChargeBaseDamage());
+    }
+
+    private void putEffects(ObjectNode patch, String name, EffectSet effects) {
+        if (effects == null || effects.isEmpty()) {
+            patch.putNull(name);
+        } else {
+            patch.set(name, objectMapper.valueToTree(effects.toList()));
+        }
+    }
+
+    private static void putOptional(ObjectNode patch, String name, int value) {
+        if (value == ActiveBattle.NONE) {
+            patch.putNull(name);
+        } else {
+            patch.put(name, value);
+        }
+    }
+
+    /**
+     * Objeto aninhado do patch, criado na primeira alteração de um de seus campos.
+     */
+    private static ObjectNode child(ObjectNode patch, String name) {
+        ObjectNode node = (ObjectNode) patch.get(name);
+        return node != null ? node : patch.putObject(name);
+    }
+}
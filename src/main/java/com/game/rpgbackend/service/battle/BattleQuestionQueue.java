@@ -0,0 +1,221 @@
+package com.game.rpgbackend.service.battle;
+
+import com.game.rpgbackend.config.GameConfig;
+import com.game.rpgbackend.domain.Question;
+import com.game.rpgbackend.service.question.QuestionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Fila das próximas questões de cada batalha ativa.
+ * <p>
+ * Ao iniciar a batalha, algumas questões da dificuldade e do nível do jogador
+ * são reservadas ({@code game.questions.prefetch-size}). Cada resposta apenas
+ * retira a próxima da fila; quando restarem {@code game.questions.prefetch-low-water}
+ * ou menos, a reposição é enfileirada na fila de ações do usuário
+ * ({@link BattleActionExecutor}) e roda depois da resposta ser enviada. A
+ * primeira questão da fila também vai na resposta ({@code nextQuestion}), para
+ * o cliente já carregá-la.
+ * </p>
+ * <p>
+ * A fila fica só em memória. Se ela não existir (ex: batalha recuperada do
+ * journal) ou o nível do jogador mudar, a questão é sorteada na hora e uma
+ * nova fila é montada.
+ * </p>
+ * <p>
+ * O sorteio marca as questões como vistas. As que sobram na fila quando ela
+ * é descartada (batalha encerrada, substituída ou com outro nível) nunca
+ * foram apresentadas e são devolvidas ao {@link QuestionService}, para não
+ * saírem da rodada sem que o jogador as tenha visto.
+ * </p>
+ *
+ * @author MURILO FURTADO
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BattleQuestionQueue {
+
+    private final QuestionService questionService;
+    private final BattleActionExecutor actionExecutor;
+    private final GameConfig gameConfig;
+
+    private final Map<Integer, Upcoming> queues = new ConcurrentHashMap<>();
+
+    /**
+     * Reserva as questões de uma nova batalha e devolve a primeira.
+     *
+     * @param userId usuário dono da batalha
+     * @param difficulty dificuldade da batalha
+     * @param playerLevel nível do jogador
+     * @return primeira questão da batalha
+     * @throws com.game.rpgbackend.exception.NotFoundException se nenhuma questão for elegível
+     */
+    public Question start(Integer userId, String difficulty, int playerLevel) {
+        Upcoming upcoming = new Upcoming(difficulty, playerLevel);
+        Question first = questionService.getNextQuestion(userId, difficulty, playerLevel, null);
+        try {
+            fill(userId, upcoming);
+        } catch (RuntimeException e) {
+            giveBack(userId, difficulty, first, upcoming);
+            throw e;
+        }
+        giveBack(userId, queues.put(userId, upcoming));
+        return first;
+    }
+
+    /**
+     * Desfaz um {@link #start} cuja batalha não chegou a ser salva, devolvendo
+     * a primeira questão e a fila, nessa ordem.
+     *
+     * @param userId usuário dono da batalha
+     * @param difficulty dificuldade usada em {@link #start}
+     * @param first questão devolvida por {@link #start}
+     */
+    public void cancel(Integer userId, String difficulty, Question first) {
+        giveBack(userId, difficulty, first, queues.remove(userId));
+    }
+
+    /**
+     * Retira a próxima questão da batalha.
+     *
+     * @param userId usuário dono da batalha
+     * @param difficulty dificuldade da batalha
+     * @param playerLevel nível atual do jogador
+     * @return próxima questão
+     * @throws com.game.rpgbackend.exception.NotFoundException se nenhuma questão for elegível
+     */
+    public Question next(Integer userId, String difficulty, int playerLevel) {
+        Upcoming upcoming = queues.get(userId);
+        if (upcoming == null || !upcoming.matches(difficulty, playerLevel)) {
+            upcoming = new Upcoming(difficulty, playerLevel);
+            giveBack(userId, queues.put(userId, upcoming));
+        }
+
+        Question question = upcoming.questions.poll();
+        if (question == null) {
+            question = questionService.getNextQuestion(userId, difficulty, playerLevel, null);
+        }
+        if (upcoming.questions.size() <= gameConfig.getQuestions().getPrefetchLowWater()) {
+            scheduleRefill(userId, upcoming);
+        }
+        return question;
+    }
+
+    /**
+     * Questão que será apresentada depois da atual, se já estiver reservada.
+     *
+     * @param userId usuário dono da batalha
+     * @return próxima questão da fila, ou null
+     */
+    public Question peek(Integer userId) {
+        Upcoming upcoming = queues.get(userId);
+        return upcoming != null ? upcoming.questions.peek() : null;
+    }
+
+    /**
+     * Descarta a fila de uma batalha encerrada, devolvendo as questões não apresentadas.
+     *
+     * @param userId usuário dono da batalha
+     */
+    public void release(Integer userId) {
+        giveBack(userId, queues.remove(userId));
+    }
+
+    /**
+     * Descarta todas as filas, devolvendo as questões não apresentadas.
+     */
+    public void releaseAll() {
+        for (Integer userId : new ArrayList<>(queues.keySet())) {
+            release(userId);
+        }
+    }
+
+    /**
+     * Descarta a fila de uma batalha removida por inatividade.
+     *
+     * @param event evento com o usuário da batalha
+     */
+    @EventListener
+    public void onBattleAbandoned(BattleAbandonedEvent event) {
+        release(event.getUserId());
+    }
+
+    private void scheduleRefill(Integer userId, Upcoming upcoming) {
+        if (!upcoming.refilling.compareAndSet(false, true)) {
+            return;
+        }
+        actionExecutor.submit(userId, () -> {
+            try {
+                if (queues.get(userId) == upcoming) {
+                    fill(userId, upcoming);
+                    if (queues.get(userId) != upcoming) {
+                        // A fila foi descartada durante a reposição
+                        giveBack(userId, upcoming);
+                    }
+                }
+            } catch (RuntimeException e) {
+                log.warn("Falha ao repor as questões da batalha do usuário {}: {}", userId, e.getMessage());
+            } finally {
+                upcoming.refilling.set(false);
+            }
+            return null;
+        });
+    }
+
+    private void fill(Integer userId, Upcoming upcoming) {
+        int size = gameConfig.getQuestions().getPrefetchSize();
+        while (upcoming.questions.size() < size) {
+            upcoming.questions.add(
+                questionService.getNextQuestion(userId, upcoming.difficulty, upcoming.playerLevel, null));
+        }
+    }
+
+    private void giveBack(Integer userId, Upcoming upcoming) {
+        if (upcoming != null) {
+            giveBack(userId, upcoming.difficulty, null, upcoming);
+        }
+    }
+
+    private void giveBack(Integer userId, String difficulty, Question first, Upcoming upcoming) {
+        List<Question> unused = new ArrayList<>();
+        if (first != null) {
+            unused.add(first);
+        }
+        if (upcoming != null) {
+            Question question;
+            while ((question = upcoming.questions.poll()) != null) {
+                unused.add(question);
+            }
+        }
+        questionService.returnUnseenQuestions(userId, difficulty, null, unused);
+    }
+
+    /** Questões reservadas para uma batalha */
+    private static final class Upcoming {
+        private final String difficulty;
+        private final int playerLevel;
+        private final ConcurrentLinkedDeque<Question> questions = new ConcurrentLinkedDeque<>();
+        private final AtomicBoolean refilling = new AtomicBoolean();
+
+        private Upcoming(String difficulty, int playerLevel) {
+            this.difficulty = difficulty;
+            this.playerLevel = playerLevel;
+        }
+
+        private boolean matches(String otherDifficulty, int otherLevel) {
+            return playerLevel == otherLevel && difficulty.equalsIgnoreCase(otherDifficulty);
+        }
+    }
+}
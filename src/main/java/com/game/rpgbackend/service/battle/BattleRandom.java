@@ -0,0 +1,81 @@
+package com.game.rpgbackend.service.battle;
+
+import com.game.rpgbackend.dto.response.battle.BattleStateResponse;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Gerador pseudoaleatório de uma batalha (SplitMix64).
+ * <p>
+ * O estado do gerador é um único {@code long} guardado no próprio estado da
+ * batalha ({@link BattleStateResponse#getRngState()}), semeado em
+ * {@code BattleService.startBattle} e persistido junto com a batalha. Cada
+ * sorteio avança esse estado, então a mesma semente e a mesma sequência de
+ * ações produzem exatamente os mesmos resultados, o que permite reproduzir
+ * batalhas e simulá-las de forma determinística.
+ * </p>
+ * <p>
+ * Não há estado global compartilhado entre batalhas nem contenção entre
+ * threads. Como o estado é alterado no DTO de trabalho, só deve ser usado pela
+ * fila de ações do usuário ({@link BattleActionExecutor}).
+ * </p>
+ *
+ * @author MURILO FURTADO
+ * @version 1.0
+ * @since 1.0
+ */
+public final class BattleRandom implements RandomGenerator {
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private final BattleStateResponse battle;
+
+    private BattleRandom(BattleStateResponse battle) {
+        this.battle = battle;
+    }
+
+    /**
+     * Gerador que lê e avança o estado da batalha informada.
+     *
+     * @param battle estado da batalha
+     * @return gerador ligado à batalha
+     */
+    public static BattleRandom of(BattleStateResponse battle) {
+        return new BattleRandom(battle);
+    }
+
+    /**
+     * Gera uma semente para uma nova batalha.
+     *
+     * @return semente aleatória
+     */
+    public static long newSeed() {
+        return ThreadLocalRandom.current().nextLong();
+    }
+
+    /**
+     * Deriva de uma semente uma semente independente, para criar um gerador
+     * filho sem alterar a sequência do original.
+     *
+     * @param seed semente de origem
+     * @param index índice do filho
+     * @return nova semente
+     */
+    public static long split(long seed, long index) {
+        return mix(seed + (index + 1) * GOLDEN_GAMMA) ^ GOLDEN_GAMMA;
+    }
+
+    @Override
+    public long nextLong() {
+        long state = battle.getRngState() + GOLDEN_GAMMA;
+        battle.setRngState(state);
+        return mix(state);
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
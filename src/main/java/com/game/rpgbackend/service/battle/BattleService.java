@@ -3,22 +3,30 @@ package com.game.rpgbackend.service.battle;
 import com.game.rpgbackend.config.GameConfig;
 import com.game.rpgbackend.domain.Character;
 import com.game.rpgbackend.domain.Monster;
-import com.game.rpgbackend.domain.PlayerStats;
 import com.game.rpgbackend.domain.Question;
+import com.game.rpgbackend.dto.response.battle.BattleRoundResponse;
 import com.game.rpgbackend.dto.response.battle.BattleStateResponse;
-import com.game.rpgbackend.enums.AchievementType;
+import com.game.rpgbackend.dto.response.battle.EffectSet;
+import com.game.rpgbackend.enums.AchievementTrigger;
+import com.game.rpgbackend.enums.BattleEffectType;
 import com.game.rpgbackend.exception.BadRequestException;
 import com.game.rpgbackend.exception.NotFoundException;
 import com.game.rpgbackend.repository.CharacterRepository;
 import com.game.rpgbackend.repository.MonsterRepository;
-import com.game.rpgbackend.repository.PlayerStatsRepository;
 import com.game.rpgbackend.repository.QuestionRepository;
-import com.game.rpgbackend.service.achievement.AchievementService;
-import com.game.rpgbackend.service.character.CharacterService;
+import com.game.rpgbackend.service.battle.event.BattleAction;
+import com.game.rpgbackend.service.battle.event.BattleResult;
+import com.game.rpgbackend.service.battle.reward.BattleOutcomeEvent;
+import com.game.rpgbackend.service.progress.ProgressCounters;
+import com.game.rpgbackend.service.question.AnswerKeys;
+import com.game.rpgbackend.service.question.QuestionSampler;
 import com.game.rpgbackend.service.question.QuestionService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -32,7 +40,7 @@ import java.util.List;
  * - Sistema de turnos (jogador e monstro)
  * - Recuperação de energia através de questões
  * - Finalização de batalhas (vitória/derrota)
- * - Salvamento de resultados e atualização de estatísticas
+ * - Registro do resultado para o pipeline de recompensas
  * </p>
  * <p>
  * O sistema de batalha funciona com turnos alternados onde o jogador
@@ -51,14 +59,17 @@ public class BattleService {
     private final BattleStateService battleStateService;
     private final CombatService combatService;
     private final QuestionService questionService;
-    private final CharacterService characterService;
     private final CharacterRepository characterRepository;
     private final MonsterRepository monsterRepository;
     private final QuestionRepository questionRepository;
     private final GameConfig gameConfig;
-    private final PlayerStatsRepository playerStatsRepository;
     private final com.game.rpgbackend.service.hub.QuestService questService;
-    private final AchievementService achievementService;
+    private final ProgressCounters progressCounters;
+    private final SkillDispatchTable skillDispatchTable;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AnswerKeys answerKeys;
+    private final BattleQuestionQueue questionQueue;
+    private final QuestionSampler questionSampler;
 
     /**
      * Executa a ação de ataque do personagem contra o monstro.
@@ -81,7 +92,7 @@ public class BattleService {
         }
 
         // Verifica se o jogador está atordoado
-        if (combatService.hasCharacterEffect(battle, "STUN")) {
+        if (combatService.hasCharacterEffect(battle, BattleEffectType.STUN)) {
             throw new BadRequestException("Você está atordoado e não pode agir neste turno!");
         }
 
@@ -94,6 +105,8 @@ public class BattleService {
         if (battle.getCharacter().getEnergy() < gameConfig.getCosts().getAttack()) {
             throw new BadRequestException("Energia insuficiente para atacar!");
         }
+
+        battleStateService.beginAction(userId, BattleAction.ATTACK, 0);
         battle.getCharacter().setEnergy(battle.getCharacter().getEnergy() - gameConfig.getCosts().getAttack());
 
         // 2. Delega o cálculo para o combatService (mas NÃO aplica o dano ainda)
@@ -112,13 +125,7 @@ public class BattleService {
         battle.setWaitingForMonsterTurn(true);
         battle.setIsPlayerTurn(false); // Turno consumido
 
-        // Persiste a nova energia no banco de dados
-        characterRepository.findById(battle.getCharacter().getId()).ifPresent(character -> {
-            character.setEnergy(battle.getCharacter().getEnergy());
-            characterRepository.save(character);
-        });
-
-        // Atualiza o estado da batalha na memória
+        // Atualiza o estado da batalha na memória (a energia vai para o banco no checkpoint)
         battleStateService.setActiveBattle(userId, battle);
 
         // 4. Retorna o estado atualizado com a mensagem do turno
@@ -153,7 +160,7 @@ public class BattleService {
         }
 
         // Verifica se o jogador está atordoado
-        if (combatService.hasCharacterEffect(battle, "STUN")) {
+        if (combatService.hasCharacterEffect(battle, BattleEffectType.STUN)) {
             throw new BadRequestException("Você está atordoado e não pode agir neste turno!");
         }
 
@@ -161,6 +168,8 @@ public class BattleService {
         if (battle.getCharacter().getEnergy() < gameConfig.getCosts().getDefend()) {
             throw new BadRequestException("Energia insuficiente para defender!");
         }
+
+        battleStateService.beginAction(userId, BattleAction.DEFEND, 0);
         battle.getCharacter().setEnergy(battle.getCharacter().getEnergy() - gameConfig.getCosts().getDefend());
 
         // 2. Delega a lógica para o combatService
@@ -178,16 +187,10 @@ public class BattleService {
         battle.setWaitingForMonsterTurn(true);
         battle.setIsPlayerTurn(false); // Turno consumido
 
-        // 4. Persiste a nova energia no banco de dados
-        characterRepository.findById(battle.getCharacter().getId()).ifPresent(character -> {
-            character.setEnergy(battle.getCharacter().getEnergy());
-            characterRepository.save(character);
-        });
-
-        // 5. Atualiza o estado da batalha na memória
+        // 4. Atualiza o estado da batalha na memória (a energia vai para o banco no checkpoint)
         battleStateService.setActiveBattle(userId, battle);
 
-        // 6. Retorna o estado atualizado
+        // 5. Retorna o estado atualizado
         battle.setTurnResult(turnResult);
         return battle;
     }
@@ -227,18 +230,20 @@ public class BattleService {
         }
 
         // Verifica se o jogador está atordoado
-        if (combatService.hasCharacterEffect(battle, "STUN")) {
+        if (combatService.hasCharacterEffect(battle, BattleEffectType.STUN)) {
             throw new BadRequestException("Você está atordoado e não pode agir neste turno!");
         }
 
         // Verifica se as habilidades estão desabilitadas (Amnesia Blast do Malak)
-        if (combatService.hasCharacterEffect(battle, "DISABLE_SKILL")) {
+        if (combatService.hasCharacterEffect(battle, BattleEffectType.DISABLE_SKILL)) {
             throw new BadRequestException("Suas habilidades de classe estão bloqueadas! Você não pode usá-las neste turno.");
         }
 
         if (battle.getCharacter().getEnergy() < gameConfig.getCosts().getAbility()) {
             throw new BadRequestException("Energia insuficiente para usar a habilidade!");
         }
+
+        battleStateService.beginAction(userId, BattleAction.SKILL, 0);
         battle.getCharacter().setEnergy(battle.getCharacter().getEnergy() - gameConfig.getCosts().getAbility());
 
         CombatService.SkillResult result = combatService.performSkill(battle.getCharacter());
@@ -251,12 +256,10 @@ public class BattleService {
         String turnResult = result.getTurnResult();
 
         // Verifica se é a Investida do Lutador (dano pendente)
-        if (battle.getCharacter().getEffects() != null &&
-            battle.getCharacter().getEffects().containsKey("isChargeActive")) {
-
-            Integer baseDamage = (Integer) battle.getCharacter().getEffects().get("chargeBaseDamage");
+        Integer chargeBaseDamage = battle.getCharacter().getChargeBaseDamage();
+        if (chargeBaseDamage != null) {
             // Define dano pendente como se fosse um ataque normal
-            battle.setPendingDamageToMonster(baseDamage);
+            battle.setPendingDamageToMonster(chargeBaseDamage);
         } else {
             battle.setPendingDamageToMonster(0);
         }
@@ -264,30 +267,24 @@ public class BattleService {
         // Orquestração dos Efeitos Especiais
         if (result.getEffect() != null) {
             switch (result.getEffect().getType()) {
-                case "REMOVE_WRONG_ANSWER": // Efeito do Mago
-                    Question question = questionRepository.findById(battle.getCurrentQuestion().getId())
-                        .orElse(null);
-                    if (question != null) {
-                        String correctAnswer = question.getCorrectAnswer();
-                        List<String> opcoes = new ArrayList<>(battle.getCurrentQuestion().getOpcoes());
-
-                        // Remove apenas a primeira opção incorreta encontrada
-                        boolean removed = false;
-                        for (int i = 0; i < opcoes.size() && !removed; i++) {
-                            if (!opcoes.get(i).equalsIgnoreCase(correctAnswer)) {
+                case REMOVE_WRONG_ANSWER: // Efeito do Mago
+                    BattleStateResponse.QuestionInfo current = battle.getCurrentQuestion();
+                    if (current != null && current.getId() != null) {
+                        List<String> opcoes = new ArrayList<>(current.getOpcoes());
+
+                        // Remove apenas a primeira opção incorreta, conferida pela chave gravada na questão
+                        for (int i = 0; i < opcoes.size(); i++) {
+                            if (!isCorrectAnswer(battle, current.getId(), opcoes.get(i))) {
                                 opcoes.remove(i);
-                                removed = true;
+                                current.setOpcoes(opcoes);
+                                turnResult += " Uma opção incorreta foi eliminada!";
+                                break;
                             }
                         }
-
-                        if (removed) {
-                            battle.getCurrentQuestion().setOpcoes(opcoes);
-                            turnResult += " Uma opção incorreta foi eliminada!";
-                        }
                     }
                     break;
 
-                case "PROVIDE_HINT": // Efeito do Ladino
+                case PROVIDE_HINT: // Efeito do Ladino
                     // First, get the ID of the current question.
                     // Ensure battle.getCurrentQuestion() is not null and has an ID.
                     if (battle.getCurrentQuestion() != null && battle.getCurrentQuestion().getId() != null) {
@@ -325,25 +322,14 @@ public class BattleService {
                     }
                     break;
 
-                case "BARD_CHALLENGE": // Efeito do Bardo
-                    long questionCount = questionRepository.count();
-                    int skip = (int) (Math.random() * questionCount);
-                    Question challengeQuestion = questionRepository.findAll().stream()
-                        .skip(skip)
-                        .findFirst()
-                        .orElse(null);
+                case BARD_CHALLENGE: // Efeito do Bardo
+                    // Sorteio O(1) no índice, na dificuldade da batalha e no nível do personagem
+                    int challengeLevel = battle.getCharacter().getLevel() != null ? battle.getCharacter().getLevel() : 1;
+                    Question challengeQuestion = questionSampler.sample(
+                        battle.getDifficulty(), challengeLevel, BattleRandom.of(battle));
 
                     if (challengeQuestion != null) {
-                        BattleStateResponse.QuestionInfo questionInfo = new BattleStateResponse.QuestionInfo();
-                        questionInfo.setId(challengeQuestion.getId());
-                        questionInfo.setTexto(challengeQuestion.getQuestionText());
-                        List<String> options = List.of(
-                            challengeQuestion.getOptionA(),
-                            challengeQuestion.getOptionB(),
-                            challengeQuestion.getOptionC()
-                        );
-                        questionInfo.setOpcoes(options);
-                        battle.setCurrentQuestion(questionInfo);
+                        battle.setCurrentQuestion(toQuestionInfo(challengeQuestion));
                         battle.setBardChallengeActive(true);
                     }
                     break;
@@ -351,7 +337,7 @@ public class BattleService {
         }
 
         // Marca que está aguardando turno do monstro (exceto para BARD_CHALLENGE que é especial)
-        if (result.getEffect() != null && "BARD_CHALLENGE".equals(result.getEffect().getType())) {
+        if (result.getEffect() != null && result.getEffect().getType() == BattleEffectType.BARD_CHALLENGE) {
             // Bardo: não executa turno do monstro, aguarda resposta do desafio (não consome turno)
             battle.setWaitingForMonsterTurn(false);
             battle.setIsPlayerTurn(true); // Mantém o turno do jogador
@@ -366,58 +352,13 @@ public class BattleService {
             battle.setIsFinished(true);
             turnResult += " Você venceu a batalha!";
 
-            // Busca as estatísticas do jogador
-            PlayerStats stats = playerStatsRepository.findByUserId(userId)
-                .orElseThrow(() -> new NotFoundException("Estatísticas não encontradas"));
-            stats.setBattlesWon(stats.getBattlesWon() + 1);
-            stats.setTotalXpEarned(stats.getTotalXpEarned() + gameConfig.getBattle().getXpWinReward());
-            playerStatsRepository.save(stats);
+            // Estatísticas, XP, conquistas e level up são aplicados pelo pipeline de recompensas
+            recordOutcome(userId, battle, BattleResult.WIN, gameConfig.getBattle().getXpWinReward(), false, true);
+            turnResult += " Você ganhou XP!";
 
-            // Adiciona XP ao personagem
-            characterRepository.findById(battle.getCharacter().getId()).ifPresent(ch -> {
-                ch.setXp(ch.getXp() + gameConfig.getBattle().getXpWinReward());
-                characterRepository.save(ch);
-            });
-
-            // Registra vitória nas conquistas
-            try {
-                achievementService.updateAchievementProgress(
-                    battle.getCharacter().getId().longValue(),
-                    AchievementType.WIN_FIRST_BATTLE,
-                    1
-                );
-                achievementService.updateAchievementProgress(
-                    battle.getCharacter().getId().longValue(),
-                    AchievementType.WIN_10_BATTLES,
-                    1
-                );
-                achievementService.updateAchievementProgress(
-                    battle.getCharacter().getId().longValue(),
-                    AchievementType.WIN_50_BATTLES,
-                    1
-                );
-                achievementService.updateAchievementProgress(
-                    battle.getCharacter().getId().longValue(),
-                    AchievementType.WIN_100_BATTLES,
-                    1
-                );
-            } catch (Exception e) {
-                System.err.println("Erro ao atualizar conquistas de vitória: " + e.getMessage());
-            }
-
-            // Verifica level up
-            CharacterService.LevelUpResult levelUpResult = characterService.checkForLevelUp(battle.getCharacter().getId());
-            turnResult += " " + levelUpResult.getMessage();
-
-            battleStateService.removeActiveBattle(userId);
+            battleStateService.finishBattle(userId, battle, BattleResult.WIN);
         } else {
-            // Batalha continua - persiste as mudanças
-            characterRepository.findById(battle.getCharacter().getId()).ifPresent(character -> {
-                character.setHp(battle.getCharacter().getHp());
-                character.setEnergy(battle.getCharacter().getEnergy());
-                characterRepository.save(character);
-            });
-
+            // Batalha continua - HP e energia vão para o banco no checkpoint
             battleStateService.setActiveBattle(userId, battle);
         }
 
@@ -425,9 +366,6 @@ public class BattleService {
         return battle;
     }
 
-    /**
-     * Inicia uma nova batalha.
-     */
     /**
      * Inicia uma nova batalha entre um personagem e um monstro.
      * <p>
@@ -464,8 +402,6 @@ public class BattleService {
             ? character.getUser().getStats().getLevel()
             : 1;
 
-        Question firstQuestion = questionService.getRandomQuestion(difficulty, playerLevel, null);
-
         if (character.getGameClass() == null) {
             throw new BadRequestException("Dados insuficientes para iniciar a batalha.");
         }
@@ -474,6 +410,7 @@ public class BattleService {
         BattleStateResponse battleState = new BattleStateResponse();
         battleState.setDifficulty(difficulty);
         battleState.setBattleId(System.currentTimeMillis());
+        battleState.setRngState(BattleRandom.newSeed());
 
         BattleStateResponse.CharacterBattleInfo charInfo = new BattleStateResponse.CharacterBattleInfo();
         charInfo.setId(character.getId());
@@ -490,6 +427,7 @@ public class BattleService {
         int maxXpForLevel = (int) (gameConfig.getLeveling().getBaseXp() * Math.pow(gameConfig.getLeveling().getXpMultiplier(), playerLevel));
         charInfo.setMaxXpForLevel(maxXpForLevel);
         charInfo.setGold(character.getGold());
+        charInfo.setSkill(skillDispatchTable.classSkill(character.getGameClass()));
         battleState.setCharacter(charInfo);
 
         BattleStateResponse.MonsterBattleInfo monsterInfo = new BattleStateResponse.MonsterBattleInfo();
@@ -499,21 +437,9 @@ public class BattleService {
         monsterInfo.setDano(monster.getMonsterDamage());
         monsterInfo.setDefense(monster.getDefense());
         monsterInfo.setNome(monster.getMonsterName());
+        monsterInfo.setSkillMask(skillDispatchTable.monsterSkills(monster));
         battleState.setMonster(monsterInfo);
 
-        BattleStateResponse.QuestionInfo questionInfo = new BattleStateResponse.QuestionInfo();
-        questionInfo.setId(firstQuestion.getId());
-        questionInfo.setTexto(firstQuestion.getQuestionText());
-        questionInfo.setNivelMinimo(firstQuestion.getMinLevel());
-        questionInfo.setDifficulty(firstQuestion.getDifficulty());
-        List<String> options = List.of(
-            firstQuestion.getOptionA(),
-            firstQuestion.getOptionB(),
-            firstQuestion.getOptionC()
-        );
-        questionInfo.setOpcoes(options);
-        battleState.setCurrentQuestion(questionInfo);
-
         battleState.setIsFinished(false);
 
         // Busca quests ativas do personagem
@@ -528,8 +454,16 @@ public class BattleService {
             questService.getCompletedQuests(character.getId());
         battleState.setCompletedQuests(completedQuests);
 
-        // 3. Salva o estado
-        battleStateService.setActiveBattle(userId, battleState);
+        // 3. Reserva as questões por último, para um início recusado não consumir nenhuma, e salva o estado
+        Question firstQuestion = questionQueue.start(userId, difficulty, playerLevel);
+        try {
+            battleState.setCurrentQuestion(toQuestionInfo(firstQuestion));
+            battleState.setNextQuestion(upcomingQuestion(userId));
+            battleStateService.setActiveBattle(userId, battleState);
+        } catch (RuntimeException e) {
+            questionQueue.cancel(userId, difficulty, firstQuestion);
+            throw e;
+        }
 
         return battleState;
     }
@@ -550,84 +484,43 @@ public class BattleService {
             throw new BadRequestException("Não é o seu turno! Aguarde o turno do monstro.");
         }
 
-        // 2. Busca a resposta correta
-        Question question = questionRepository.findById(questionId)
-            .orElseThrow(() -> new NotFoundException("Pergunta não encontrada."));
+        battleStateService.beginAction(userId, BattleAction.ANSWER, questionId != null ? questionId : 0);
 
-        boolean isCorrect = answer.trim().equalsIgnoreCase(question.getCorrectAnswer().trim());
+        // 2. Confere a resposta com a chave gravada ao apresentar a questão
+        boolean isCorrect = isCorrectAnswer(battle, questionId, answer);
 
-        // 2.1. Busca as estatísticas do jogador
+        // 2.1. Busca o personagem
         Character character = characterRepository.findById(battle.getCharacter().getId())
             .orElseThrow(() -> new NotFoundException("Personagem não encontrado"));
 
-        PlayerStats stats = playerStatsRepository.findByUserId(userId)
-            .orElseThrow(() -> new NotFoundException("Estatísticas não encontradas"));
-
         // LÓGICA DO DESAFIO DO BARDO
         if (Boolean.TRUE.equals(battle.getBardChallengeActive())) {
             if (isCorrect) {
                 int xpReward = gameConfig.getBattle().getXpWinReward() * 2;
 
-                // Atualiza estatísticas do Bardo (vitória + questão correta)
-                stats.setQuestionsRight(stats.getQuestionsRight() + 1);
-                stats.setBattlesWon(stats.getBattlesWon() + 1);
-                stats.setTotalXpEarned(stats.getTotalXpEarned() + xpReward);
-                playerStatsRepository.save(stats);
-
-                // Registra conquistas de questões respondidas
-                try {
-                    achievementService.updateAchievementProgress(
-                        character.getId().longValue(),
-                        AchievementType.ANSWER_10_QUESTIONS,
-                        1
-                    );
-                    achievementService.updateAchievementProgress(
-                        character.getId().longValue(),
-                        AchievementType.ANSWER_50_QUESTIONS,
-                        1
-                    );
-                    achievementService.updateAchievementProgress(
-                        character.getId().longValue(),
-                        AchievementType.ANSWER_100_QUESTIONS,
-                        1
-                    );
-                } catch (Exception e) {
-                    System.err.println("Erro ao atualizar conquistas de questões: " + e.getMessage());
-                }
-
-                characterRepository.findById(battle.getCharacter().getId()).ifPresent(ch -> {
-                    ch.setXp(ch.getXp() + xpReward);
-                    characterRepository.save(ch);
-                });
+                // Atualiza estatísticas e conquistas do Bardo (questão correta; a vitória vai para o pipeline de recompensas)
+                addStatAfterCommit(userId, ProgressCounters.Stat.QUESTIONS_RIGHT);
+                addAchievementAfterCommit(character.getId().longValue(), AchievementTrigger.QUESTION_ANSWERED, 1);
 
-                // Verifica level up após vitória do Bardo
-                CharacterService.LevelUpResult levelUpResult = characterService.checkForLevelUp(battle.getCharacter().getId());
+                // Vitória do Bardo não conta para quests nem conquistas de vitória
+                recordOutcome(userId, battle, BattleResult.WIN, xpReward, false, false);
                 String turnResult = "Incrível! Sua Lábia funcionou e você encerrou o combate com maestria, ganhando o dobro de XP!";
-                if (levelUpResult.isLeveledUp()) {
-                    turnResult += " " + levelUpResult.getMessage();
-                }
 
-                battleStateService.removeActiveBattle(userId);
                 battle.setIsFinished(true);
+                battleStateService.finishBattle(userId, battle, BattleResult.WIN);
                 battle.setTurnResult(turnResult);
                 return battle;
             } else {
-                // Atualiza estatísticas do Bardo (derrota + questão errada)
-                stats.setQuestionsWrong(stats.getQuestionsWrong() + 1);
-                stats.setBattlesLost(stats.getBattlesLost() + 1);
-                playerStatsRepository.save(stats);
+                // Atualiza estatísticas do Bardo (questão errada; a derrota vai para o pipeline de recompensas)
+                addStatAfterCommit(userId, ProgressCounters.Stat.QUESTIONS_WRONG);
 
                 battle.getCharacter().setHp(battle.getCharacter().getHp() - 30);
 
-                // Verifica level up mesmo após derrota (jogador pode ter completado quests durante a batalha)
-                CharacterService.LevelUpResult levelUpResult = characterService.checkForLevelUp(battle.getCharacter().getId());
+                recordOutcome(userId, battle, BattleResult.LOSS, 0, false, false);
                 String turnResult = "Sua Lábia falhou! Você irritou o monstro e foi derrotado.";
-                if (levelUpResult.isLeveledUp()) {
-                    turnResult += " " + levelUpResult.getMessage();
-                }
 
-                battleStateService.removeActiveBattle(userId);
                 battle.setIsFinished(true);
+                battleStateService.finishBattle(userId, battle, BattleResult.LOSS);
                 battle.setTurnResult(turnResult);
                 return battle;
             }
@@ -635,7 +528,7 @@ public class BattleService {
 
         // 2.2. Atualiza estatísticas da questão
         if (isCorrect) {
-            stats.setQuestionsRight(stats.getQuestionsRight() + 1);
+            addStatAfterCommit(userId, ProgressCounters.Stat.QUESTIONS_RIGHT);
 
             // Atualiza progresso de quests de ANSWER_QUESTIONS e obtém lista atualizada
             try {
@@ -648,39 +541,18 @@ public class BattleService {
                     questService.getCompletedQuests(character.getId());
                 battle.setCompletedQuests(completedQuests);
 
-                // Recarrega o personagem do banco para pegar XP e Gold atualizados pelas recompensas de quest
-                Character updatedCharacter = characterRepository.findById(character.getId())
-                    .orElse(character);
-                battle.getCharacter().setXp(updatedCharacter.getXp());
-                battle.getCharacter().setGold(updatedCharacter.getGold());
+                // O personagem carregado nesta transação já reflete o XP e o Gold das recompensas de quest
+                battle.getCharacter().setXp(character.getXp());
+                battle.getCharacter().setGold(character.getGold());
             } catch (Exception e) {
                 System.err.println("Erro ao atualizar progresso de quest: " + e.getMessage());
             }
 
             // Registra conquistas de questões respondidas
-            try {
-                achievementService.updateAchievementProgress(
-                    character.getId().longValue(),
-                    AchievementType.ANSWER_10_QUESTIONS,
-                    1
-                );
-                achievementService.updateAchievementProgress(
-                    character.getId().longValue(),
-                    AchievementType.ANSWER_50_QUESTIONS,
-                    1
-                );
-                achievementService.updateAchievementProgress(
-                    character.getId().longValue(),
-                    AchievementType.ANSWER_100_QUESTIONS,
-                    1
-                );
-            } catch (Exception e) {
-                System.err.println("Erro ao atualizar conquistas de questões: " + e.getMessage());
-            }
+            addAchievementAfterCommit(character.getId().longValue(), AchievementTrigger.QUESTION_ANSWERED, 1);
         } else {
-            stats.setQuestionsWrong(stats.getQuestionsWrong() + 1);
+            addStatAfterCommit(userId, ProgressCounters.Stat.QUESTIONS_WRONG);
         }
-        playerStatsRepository.save(stats);
 
         // 3. Processa o turno
         CombatService.TurnResult turn = combatService.processAnswerTurn(battle, isCorrect);
@@ -708,120 +580,37 @@ public class BattleService {
             updatedBattle.setIsFinished(true);
             turnResult += " Você venceu a batalha!";
 
-            // Incrementar batalhas vencidas e XP total
-            stats.setBattlesWon(stats.getBattlesWon() + 1);
-            stats.setTotalXpEarned(stats.getTotalXpEarned() + gameConfig.getBattle().getXpWinReward());
-            playerStatsRepository.save(stats);
-
-            characterRepository.findById(updatedBattle.getCharacter().getId()).ifPresent(ch -> {
-                ch.setXp(ch.getXp() + gameConfig.getBattle().getXpWinReward());
-                characterRepository.save(ch);
-            });
-
-            // Atualiza progresso de quests WIN_BATTLES e DEFEAT_MONSTER
-            try {
-                // Primeiro atualiza quest de monstro específico
-                questService.updateMonsterDefeatProgress(character.getId(), updatedBattle.getMonster().getId());
-                // Depois atualiza quest de vitórias e obtém lista completa atualizada
-                List<com.game.rpgbackend.dto.response.hub.QuestDto> updatedQuests =
-                    questService.updateBattleWinProgress(character.getId());
-                updatedBattle.setActiveQuests(updatedQuests);
-
-                // Atualiza lista de quests completadas
-                List<com.game.rpgbackend.dto.response.hub.QuestDto> completedQuests =
-                    questService.getCompletedQuests(character.getId());
-                updatedBattle.setCompletedQuests(completedQuests);
-
-                // Recarrega o personagem do banco para pegar XP e Gold atualizados pelas recompensas de quest
-                Character updatedCharacter = characterRepository.findById(character.getId())
-                    .orElse(character);
-                updatedBattle.getCharacter().setXp(updatedCharacter.getXp());
-                updatedBattle.getCharacter().setGold(updatedCharacter.getGold());
-            } catch (Exception e) {
-                System.err.println("Erro ao atualizar progresso de quest: " + e.getMessage());
-            }
+            // Estatísticas, XP, quests, conquistas e level up são aplicados pelo pipeline de recompensas
+            recordOutcome(userId, updatedBattle, BattleResult.WIN, gameConfig.getBattle().getXpWinReward(), true, true);
+            turnResult += " Você ganhou XP!";
 
-            // Registra vitória nas conquistas
-            try {
-                achievementService.updateAchievementProgress(
-                    character.getId().longValue(),
-                    AchievementType.WIN_FIRST_BATTLE,
-                    1
-                );
-                achievementService.updateAchievementProgress(
-                    character.getId().longValue(),
-                    AchievementType.WIN_10_BATTLES,
-                    1
-                );
-                achievementService.updateAchievementProgress(
-                    character.getId().longValue(),
-                    AchievementType.WIN_50_BATTLES,
-                    1
-                );
-                achievementService.updateAchievementProgress(
-                    character.getId().longValue(),
-                    AchievementType.WIN_100_BATTLES,
-                    1
-                );
-            } catch (Exception e) {
-                System.err.println("Erro ao atualizar conquistas de vitória: " + e.getMessage());
-            }
-
-            CharacterService.LevelUpResult levelUpResult = characterService.checkForLevelUp(
-                updatedBattle.getCharacter().getId()
-            );
-            turnResult += " " + levelUpResult.getMessage();
-
-            battleStateService.removeActiveBattle(userId);
+            battleStateService.finishBattle(userId, updatedBattle, BattleResult.WIN);
         } else if (updatedBattle.getCharacter().getHp() <= 0) {
             updatedBattle.setIsFinished(true);
             turnResult += " Você foi derrotado.";
 
-            // Incrementar batalhas perdidas
-            stats.setBattlesLost(stats.getBattlesLost() + 1);
-            playerStatsRepository.save(stats);
-
-            // Verifica level up mesmo após derrota (jogador pode ter completado quests durante a batalha)
-            CharacterService.LevelUpResult levelUpResult = characterService.checkForLevelUp(
-                updatedBattle.getCharacter().getId()
-            );
-            if (levelUpResult.isLeveledUp()) {
-                turnResult += " " + levelUpResult.getMessage();
-            }
+            // Estatísticas e level up são aplicados pelo pipeline de recompensas
+            recordOutcome(userId, updatedBattle, BattleResult.LOSS, 0, false, false);
 
-            battleStateService.removeActiveBattle(userId);
+            battleStateService.finishBattle(userId, updatedBattle, BattleResult.LOSS);
         }
 
-        // 5. Se continuar, busca nova pergunta
+        // 5. Se continuar, retira a próxima pergunta da fila da batalha
         if (!updatedBattle.getIsFinished()) {
             Integer playerLevel = character.getUser().getStats() != null
                 ? character.getUser().getStats().getLevel()
                 : 1;
 
-            Question nextQuestion = questionService.getRandomQuestion(
-                updatedBattle.getDifficulty(),
-                playerLevel,
-                null
-            );
+            Question nextQuestion = questionQueue.next(userId, updatedBattle.getDifficulty(), playerLevel);
 
             if (nextQuestion == null) {
                 throw new BadRequestException("Não foi possível carregar a próxima pergunta.");
             }
 
-            BattleStateResponse.QuestionInfo questionInfo = new BattleStateResponse.QuestionInfo();
-            questionInfo.setId(nextQuestion.getId());
-            questionInfo.setTexto(nextQuestion.getQuestionText());
-            questionInfo.setNivelMinimo(nextQuestion.getMinLevel());
-            questionInfo.setDifficulty(nextQuestion.getDifficulty());
-            List<String> options = List.of(
-                nextQuestion.getOptionA(),
-                nextQuestion.getOptionB(),
-                nextQuestion.getOptionC()
-            );
-            questionInfo.setOpcoes(options);
-            updatedBattle.setCurrentQuestion(questionInfo);
+            updatedBattle.setCurrentQuestion(toQuestionInfo(nextQuestion));
 
             battleStateService.setActiveBattle(userId, updatedBattle);
+            updatedBattle.setNextQuestion(upcomingQuestion(userId));
         }
 
         updatedBattle.setTurnResult(turnResult);
@@ -830,9 +619,21 @@ public class BattleService {
 
     /**
      * Retorna a batalha ativa de um usuário.
+     * <p>
+     * As quests e a próxima questão da fila não fazem parte do estado mantido
+     * em memória e são carregadas novamente para a resposta.
+     * </p>
      */
     public BattleStateResponse getActiveBattle(Integer userId) {
-        return battleStateService.getActiveBattle(userId);
+        BattleStateResponse battle = battleStateService.getActiveBattle(userId);
+        if (battle != null && battle.getCharacter() != null) {
+            battle.setActiveQuests(questService.getActiveQuestsByCharacterId(battle.getCharacter().getId()));
+            battle.setCompletedQuests(questService.getCompletedQuests(battle.getCharacter().getId()));
+            if (!battle.getIsFinished()) {
+                battle.setNextQuestion(upcomingQuestion(userId));
+            }
+        }
+        return battle;
     }
 
     /**
@@ -853,80 +654,15 @@ public class BattleService {
             throw new BadRequestException("Não está aguardando o turno do monstro.");
         }
 
-        // 1. Executa o turno do monstro (ataque, defesa ou skill)
-        CombatService.MonsterTurnResult monsterResult = combatService.performMonsterTurn(battle);
-        battle.setMonsterDamageDealt(monsterResult.getDamageDealt());
-        battle.setMonsterAction(monsterResult.getAction());
-        String turnResult = monsterResult.getTurnResult();
-
-        // 2. Aplica o dano pendente do jogador APÓS a ação do monstro
-        if (battle.getPendingDamageToMonster() != null && battle.getPendingDamageToMonster() > 0) {
-            int pendingDamage = battle.getPendingDamageToMonster();
-            int finalDamage;
-
-            // Verifica se é a Investida do Lutador
-            boolean isCharge = battle.getCharacter().getEffects() != null &&
-                             Boolean.TRUE.equals(battle.getCharacter().getEffects().get("isChargeActive"));
-
-            if (isCharge) {
-                // Investida: 125% se monstro NÃO defender, 115% se defender
-                int amplifiedDamage;
-
-                if (battle.getMonster().getIsDefending()) {
-                    // Monstro defendendo: 115% de dano
-                    amplifiedDamage = (pendingDamage * 115) / 100;
-
-                    // Aplica considerando APENAS defesa base (não aplica bônus de 50% da defesa ativa)
-                    finalDamage = combatService.calculateCharacterDamageWithDefenseAndEffects(
-                        battle,
-                        amplifiedDamage,
-                        battle.getMonster().getDefense(),
-                        false // NÃO aplica bônus de defesa ativa (Investida ignora)
-                    );
-
-                    turnResult = String.format("Sua Investida causou %d de dano mesmo através da defesa do monstro! ", finalDamage) + turnResult;
-                } else {
-                    // Monstro NÃO defendendo: 125% de dano
-                    amplifiedDamage = (pendingDamage * 125) / 100;
-
-                    // Aplica considerando apenas defesa base
-                    finalDamage = combatService.calculateCharacterDamageWithDefenseAndEffects(
-                        battle,
-                        amplifiedDamage,
-                        battle.getMonster().getDefense(),
-                        false // Monstro não está defendendo
-                    );
-
-                    turnResult = String.format("Sua Investida causou %d de dano devastador! ", finalDamage) + turnResult;
-                }
+        battleStateService.beginAction(userId, BattleAction.MONSTER_TURN, 0);
 
-                // Remove efeito da Investida
-                battle.getCharacter().getEffects().remove("isChargeActive");
-                battle.getCharacter().getEffects().remove("chargeBaseDamage");
+        // 1. Executa o turno do monstro, aplica o dano pendente e atualiza os efeitos
+        CombatService.MonsterTurnResolution resolution = combatService.resolveMonsterTurn(battle);
+        String turnResult = resolution.getTurnResult();
 
-            } else {
-                // Ataque normal
-                finalDamage = combatService.calculateCharacterDamageWithDefenseAndEffects(
-                    battle,
-                    pendingDamage,
-                    battle.getMonster().getDefense(),
-                    battle.getMonster().getIsDefending()
-                );
-
-                // Adiciona informação no resultado
-                if (finalDamage < pendingDamage) {
-                    String mitigationInfo = String.format("Seu ataque causou %d de dano (de %d) devido à defesa do monstro! ",
-                        finalDamage, pendingDamage);
-                    turnResult = mitigationInfo + turnResult;
-                } else {
-                    String damageInfo = String.format("Seu ataque causou %d de dano! ", finalDamage);
-                    turnResult = damageInfo + turnResult;
-                }
-            }
-
-            // Aplica o dano final ao monstro
-            battle.getMonster().setHp(battle.getMonster().getHp() - finalDamage);
-            battle.setCharacterDamageDealt(finalDamage);
+        // 2. Atualiza quests e conquistas com o dano causado ao monstro
+        if (resolution.isPendingDamageApplied()) {
+            int finalDamage = resolution.getCharacterDamageDealt();
 
             // Atualiza progresso de quests DEAL_DAMAGE
             try {
@@ -954,119 +690,32 @@ public class BattleService {
             }
 
             // Registra conquistas de dano causado
-            try {
-                achievementService.updateAchievementProgress(
-                    battle.getCharacter().getId().longValue(),
-                    AchievementType.DEAL_1000_DAMAGE,
-                    finalDamage
-                );
-                achievementService.updateAchievementProgress(
-                    battle.getCharacter().getId().longValue(),
-                    AchievementType.DEAL_5000_DAMAGE,
-                    finalDamage
-                );
-                achievementService.updateAchievementProgress(
-                    battle.getCharacter().getId().longValue(),
-                    AchievementType.DEAL_10000_DAMAGE,
-                    finalDamage
-                );
-            } catch (Exception e) {
-                System.err.println("Erro ao atualizar conquistas de dano: " + e.getMessage());
-            }
-
-            // Limpa o dano pendente
-            battle.setPendingDamageToMonster(0);
-        }
-
-        // 3. Reseta a defesa se nenhum dano foi causado
-        if (monsterResult.getDamageDealt() == 0) {
-            battle.getCharacter().setIsDefending(false);
+            addAchievementAfterCommit(
+                battle.getCharacter().getId().longValue(), AchievementTrigger.DAMAGE_DEALT, finalDamage);
         }
-        battle.getMonster().setIsDefending(false);
 
-        // 3.5. Atualiza os efeitos ativos (decrementa duração e remove expirados)
-        combatService.updateActiveEffects(battle);
-
-        // 4. Não está mais aguardando turno do monstro e devolve o turno ao jogador
-        battle.setWaitingForMonsterTurn(false);
-        battle.setIsPlayerTurn(true); // Devolve o turno ao jogador
-
-        // 5. Verifica se o monstro foi derrotado (após aplicar o dano pendente)
+        // 3. Verifica se o monstro foi derrotado (após aplicar o dano pendente)
         if (battle.getMonster().getHp() <= 0) {
             battle.setIsFinished(true);
             turnResult += " Você venceu a batalha!";
 
-            // Busca as estatísticas do jogador
-            PlayerStats stats = playerStatsRepository.findByUserId(userId)
-                .orElseThrow(() -> new NotFoundException("Estatísticas não encontradas"));
-            stats.setBattlesWon(stats.getBattlesWon() + 1);
-            stats.setTotalXpEarned(stats.getTotalXpEarned() + gameConfig.getBattle().getXpWinReward());
-            playerStatsRepository.save(stats);
-
-            // Adiciona XP ao personagem
-            characterRepository.findById(battle.getCharacter().getId()).ifPresent(ch -> {
-                ch.setXp(ch.getXp() + gameConfig.getBattle().getXpWinReward());
-                characterRepository.save(ch);
-            });
-
-            // Registra vitória nas conquistas
-            try {
-                achievementService.updateAchievementProgress(
-                    battle.getCharacter().getId().longValue(),
-                    AchievementType.WIN_FIRST_BATTLE,
-                    1
-                );
-                achievementService.updateAchievementProgress(
-                    battle.getCharacter().getId().longValue(),
-                    AchievementType.WIN_10_BATTLES,
-                    1
-                );
-                achievementService.updateAchievementProgress(
-                    battle.getCharacter().getId().longValue(),
-                    AchievementType.WIN_50_BATTLES,
-                    1
-                );
-                achievementService.updateAchievementProgress(
-                    battle.getCharacter().getId().longValue(),
-                    AchievementType.WIN_100_BATTLES,
-                    1
-                );
-            } catch (Exception e) {
-                System.err.println("Erro ao atualizar conquistas de vitória: " + e.getMessage());
-            }
+            // Estatísticas, XP, conquistas e level up são aplicados pelo pipeline de recompensas
+            recordOutcome(userId, battle, BattleResult.WIN, gameConfig.getBattle().getXpWinReward(), false, true);
+            turnResult += " Você ganhou XP!";
 
-            // Verifica level up
-            CharacterService.LevelUpResult levelUpResult = characterService.checkForLevelUp(battle.getCharacter().getId());
-            turnResult += " " + levelUpResult.getMessage();
-
-            battleStateService.removeActiveBattle(userId);
+            battleStateService.finishBattle(userId, battle, BattleResult.WIN);
         }
-        // 6. Verifica se o personagem foi derrotado
+        // 4. Verifica se o personagem foi derrotado
         else if (battle.getCharacter().getHp() <= 0) {
             battle.setIsFinished(true);
             turnResult += " Você foi derrotado.";
 
-            // Atualiza estatísticas
-            PlayerStats stats = playerStatsRepository.findByUserId(userId)
-                .orElseThrow(() -> new NotFoundException("Estatísticas não encontradas"));
-            stats.setBattlesLost(stats.getBattlesLost() + 1);
-            playerStatsRepository.save(stats);
-
-            // Verifica level up mesmo após derrota (jogador pode ter completado quests durante a batalha)
-            CharacterService.LevelUpResult levelUpResult = characterService.checkForLevelUp(battle.getCharacter().getId());
-            if (levelUpResult.isLeveledUp()) {
-                turnResult += " " + levelUpResult.getMessage();
-            }
+            // Estatísticas e level up são aplicados pelo pipeline de recompensas
+            recordOutcome(userId, battle, BattleResult.LOSS, 0, false, false);
 
-            battleStateService.removeActiveBattle(userId);
+            battleStateService.finishBattle(userId, battle, BattleResult.LOSS);
         } else {
-            // Batalha continua - persiste HP do personagem se foi alterado
-            characterRepository.findById(battle.getCharacter().getId()).ifPresent(character -> {
-                character.setHp(battle.getCharacter().getHp());
-                characterRepository.save(character);
-            });
-
-            // Atualiza o estado da batalha na memória
+            // Batalha continua - atualiza o estado em memória (o HP vai para o banco no checkpoint)
             battleStateService.setActiveBattle(userId, battle);
         }
 
@@ -1094,12 +743,14 @@ public class BattleService {
         }
 
         // Verifica se o jogador realmente está atordoado
-        boolean isStunned = combatService.hasCharacterEffect(battle, "STUN");
+        boolean isStunned = combatService.hasCharacterEffect(battle, BattleEffectType.STUN);
 
         if (!isStunned) {
             throw new BadRequestException("Você só pode pular o turno quando estiver atordoado!");
         }
 
+        battleStateService.beginAction(userId, BattleAction.SKIP_TURN, 0);
+
         // Marca que está aguardando turno do monstro
         battle.setWaitingForMonsterTurn(true);
         battle.setIsPlayerTurn(false);
@@ -1114,5 +765,208 @@ public class BattleService {
 
         return battle;
     }
+
+    /**
+     * Executa uma rodada completa: a ação do jogador seguida do turno do monstro.
+     * <p>
+     * Equivale a chamar a ação e depois {@link #executeMonsterTurn} em uma única
+     * transação, de modo que o personagem e as estatísticas carregados pela ação
+     * são reaproveitados pelo turno do monstro. Se a ação não passar o turno ao
+     * monstro (ex: desafio do Bardo) ou encerrar a batalha, a rodada termina
+     * após a ação.
+     * </p>
+     *
+     * @param userId identificador do usuário realizando a ação
+     * @param action ação do jogador: "attack", "defend", "skill"/"useSkill" ou "skip"
+     * @return sub-eventos da rodada em ordem e o estado final da batalha
+     * @throws NotFoundException se não houver batalha ativa
+     * @throws BadRequestException se a ação for inválida ou não puder ser executada
+     */
+    @Transactional
+    public BattleRoundResponse playRound(Integer userId, String action) {
+        String actionName = action.toLowerCase();
+        BattleStateResponse afterAction;
+        switch (actionName) {
+            case "attack" -> afterAction = attack(userId);
+            case "defend" -> afterAction = defend(userId);
+            case "useskill", "skill" -> {
+                actionName = "skill";
+                afterAction = useSkill(userId);
+            }
+            case "skip", "skip-turn" -> {
+                actionName = "skip";
+                afterAction = skipTurn(userId);
+            }
+            default -> throw new BadRequestException("Ação inválida: " + action);
+        }
+
+        BattleRoundResponse round = new BattleRoundResponse();
+        List<BattleRoundResponse.RoundEvent> events = round.getEvents();
+        events.add(new BattleRoundResponse.RoundEvent(
+            "player_action", "character", actionName, null, afterAction.getTurnResult()));
+
+        BattleStateResponse battle = afterAction;
+        if (!Boolean.TRUE.equals(afterAction.getIsFinished())
+            && Boolean.TRUE.equals(afterAction.getWaitingForMonsterTurn())) {
+            EffectSet characterEffects = EffectSet.copyOrNull(afterAction.getCharacterEffects());
+            EffectSet monsterEffects = EffectSet.copyOrNull(afterAction.getMonsterEffects());
+
+            battle = executeMonsterTurn(userId);
+            events.add(new BattleRoundResponse.RoundEvent(
+                "monster_action", "monster", battle.getMonsterAction(),
+                battle.getMonsterDamageDealt(), battle.getTurnResult()));
+            if (battle.getCharacterDamageDealt() != null && battle.getCharacterDamageDealt() > 0) {
+                events.add(new BattleRoundResponse.RoundEvent(
+                    "damage", "character", actionName, battle.getCharacterDamageDealt(), null));
+            }
+            addEffectEvents(events, "character", characterEffects, battle.getCharacterEffects());
+            addEffectEvents(events, "monster", monsterEffects, battle.getMonsterEffects());
+
+            // Quests atualizadas pela ação continuam válidas se o turno do monstro não as alterou
+            if (battle.getActiveQuests() == null) {
+                battle.setActiveQuests(afterAction.getActiveQuests());
+                battle.setCompletedQuests(afterAction.getCompletedQuests());
+            }
+        }
+
+        if (Boolean.TRUE.equals(battle.getIsFinished())) {
+            boolean victory = battle.getMonster().getHp() <= 0;
+            events.add(new BattleRoundResponse.RoundEvent(
+                "end", victory ? "character" : "monster", victory ? "victory" : "defeat", null, null));
+        }
+
+        round.setVersion(battle.getVersion());
+        round.setState(battle);
+        return round;
+    }
+
+    /**
+     * Adiciona um evento "effects" para cada efeito de um combatente que mudou no turno do monstro.
+     * <p>
+     * A ação é o tipo do efeito e o valor é a duração restante em turnos
+     * (0 quando o efeito expirou ou foi removido).
+     * </p>
+     */
+    private static void addEffectEvents(List<BattleRoundResponse.RoundEvent> events, String actor,
+                                        EffectSet before, EffectSet after) {
+        if (EffectSet.same(before, after)) {
+            return;
+        }
+        int beforeMask = before != null ? before.mask() : 0;
+        int afterMask = after != null ? after.mask() : 0;
+        for (int bits = beforeMask | afterMask; bits != 0; bits &= bits - 1) {
+            BattleEffectType type = BattleEffectType.fromOrdinal(Integer.numberOfTrailingZeros(bits));
+            int duration = after != null ? after.duration(type) : 0;
+            int magnitude = after != null ? after.magnitude(type) : 0;
+            if (before != null && before.duration(type) == duration && before.magnitude(type) == magnitude) {
+                continue;
+            }
+            String message = duration > 0
+                ? type.describe(magnitude)
+                : "Efeito encerrado: " + type.describe(before != null ? before.magnitude(type) : magnitude);
+            events.add(new BattleRoundResponse.RoundEvent("effects", actor, type.name(), duration, message));
+        }
+    }
+
+    /**
+     * Soma uma unidade a um contador de estatísticas depois do commit da transação,
+     * para que uma ação que falhe e seja repetida pelo cliente não conte duas vezes.
+     */
+    private void addStatAfterCommit(Integer userId, ProgressCounters.Stat stat) {
+        afterCommit(() -> progressCounters.addStat(userId, stat, 1));
+    }
+
+    /**
+     * Acumula um evento de conquistas depois do commit da transação.
+     */
+    private void addAchievementAfterCommit(Long characterId, AchievementTrigger trigger, int amount) {
+        afterCommit(() -> progressCounters.addAchievement(characterId, trigger, amount));
+    }
+
+    private static void afterCommit(Runnable increment) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            increment.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                increment.run();
+            }
+        });
+    }
+
+    /**
+     * Monta a questão apresentada na batalha, com a chave da resposta correta
+     * para conferir a resposta sem consultar o banco.
+     */
+    private BattleStateResponse.QuestionInfo toQuestionInfo(Question question) {
+        BattleStateResponse.QuestionInfo questionInfo = new BattleStateResponse.QuestionInfo();
+        questionInfo.setId(question.getId());
+        questionInfo.setTexto(question.getQuestionText());
+        questionInfo.setNivelMinimo(question.getMinLevel());
+        questionInfo.setDifficulty(question.getDifficulty());
+        questionInfo.setOpcoes(List.of(
+            question.getOptionA(),
+            question.getOptionB(),
+            question.getOptionC()
+        ));
+        questionInfo.setAnswerKey(answerKeys.keyOf(question.getId(), question.getCorrectAnswer()));
+        return questionInfo;
+    }
+
+    /**
+     * Próxima questão já reservada na fila da batalha, para o cliente carregar
+     * junto com a resposta atual.
+     */
+    private BattleStateResponse.QuestionInfo upcomingQuestion(Integer userId) {
+        Question upcoming = questionQueue.peek(userId);
+        return upcoming != null ? toQuestionInfo(upcoming) : null;
+    }
+
+    /**
+     * Confere a resposta do jogador.
+     * <p>
+     * Para a questão atual da batalha, compara com a chave gravada quando ela
+     * foi apresentada, sem acessar o banco. Estados sem chave (ex: batalha
+     * restaurada de um save) ou respostas a outra questão são conferidos pela
+     * questão no banco.
+     * </p>
+     */
+    private boolean isCorrectAnswer(BattleStateResponse battle, Integer questionId, String answer) {
+        BattleStateResponse.QuestionInfo current = battle.getCurrentQuestion();
+        if (current != null && current.getAnswerKey() != null && questionId.equals(current.getId())) {
+            return answerKeys.matches(current.getAnswerKey(), questionId, answer);
+        }
+        Question question = questionRepository.findById(questionId)
+            .orElseThrow(() -> new NotFoundException("Pergunta não encontrada."));
+        return AnswerKeys.normalize(answer).equals(AnswerKeys.normalize(question.getCorrectAnswer()));
+    }
+
+    /**
+     * Registra o resultado de uma batalha encerrada para o pipeline de recompensas.
+     * <p>
+     * O resultado é gravado na outbox dentro da transação atual; estatísticas,
+     * XP, quests, conquistas e level up são aplicados depois, fora da
+     * requisição, e chegam ao cliente pelo canal de eventos. O XP é somado de
+     * forma otimista no estado devolvido para a tela de vitória.
+     * </p>
+     *
+     * @param userId usuário dono da batalha
+     * @param battle estado final da batalha
+     * @param result vitória ou derrota
+     * @param xpReward XP concedido
+     * @param countsForQuests se a vitória conta para quests de vencer batalhas e derrotar monstros
+     * @param countsForAchievements se a vitória conta para as conquistas de vitórias
+     */
+    private void recordOutcome(Integer userId, BattleStateResponse battle, BattleResult result, int xpReward,
+                               boolean countsForQuests, boolean countsForAchievements) {
+        eventPublisher.publishEvent(new BattleOutcomeEvent(
+            userId, battle.getBattleId(), battle.getCharacter().getId(), battle.getMonster().getId(),
+            battle.getMonster().getNome(), result, xpReward, countsForQuests, countsForAchievements));
+        if (xpReward > 0) {
+            battle.getCharacter().setXp(battle.getCharacter().getXp() + xpReward);
+        }
+    }
 }
 
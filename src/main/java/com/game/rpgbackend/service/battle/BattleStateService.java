@@ -1,20 +1,48 @@
 package com.game.rpgbackend.service.battle;
 
+import com.game.rpgbackend.config.GameConfig;
 import com.game.rpgbackend.dto.response.battle.BattleStateResponse;
+import com.game.rpgbackend.service.battle.event.BattleAction;
+import com.game.rpgbackend.service.battle.event.BattleEventBuffer;
+import com.game.rpgbackend.service.battle.event.BattleEventStore;
+import com.game.rpgbackend.service.battle.event.BattleResult;
+import com.game.rpgbackend.service.battle.state.ActiveBattle;
+import com.game.rpgbackend.service.battle.state.BattleStateMapper;
+import com.game.rpgbackend.service.battle.store.BattleStateStore;
+import com.game.rpgbackend.service.stream.PlayerEventStream;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Serviço responsável por gerenciar o estado das batalhas ativas em memória.
  * <p>
- * Mantém uma cache em memória (ConcurrentHashMap) com o estado completo
- * de todas as batalhas em andamento, indexadas por ID do usuário.
- * Isso permite acesso rápido ao estado da batalha sem necessidade de
- * persistência em banco de dados a cada ação.
+ * Mantém o estado completo de todas as batalhas em andamento, indexadas
+ * por ID do usuário, em um {@link BattleStateStore}. As leituras são sempre
+ * atendidas em memória, sem necessidade de persistência em banco de dados
+ * a cada ação; o store journaled adicionalmente grava cada turno em disco
+ * para sobreviver a reinícios.
  * </p>
  * <p>
- * Thread-safe: Utiliza ConcurrentHashMap para suportar acesso concorrente
+ * O estado é guardado no formato compacto {@link ActiveBattle}. Cada leitura
+ * devolve um {@link BattleStateResponse} novo, usado como cópia de trabalho
+ * pela requisição, e cada gravação o converte de volta para o formato compacto.
+ * </p>
+ * <p>
+ * Cada gravação também anexa ao {@link BattleEventBuffer} da batalha as
+ * diferenças em relação ao estado anterior; ao encerrar, o log completo é
+ * entregue ao {@link BattleEventStore}.
+ * </p>
+ * <p>
+ * Se o usuário estiver conectado ao {@link PlayerEventStream}, cada gravação
+ * também envia a ele o delta do estado.
+ * </p>
+ * <p>
+ * O HP e a energia do personagem só chegam ao banco pelos checkpoints do
+ * {@link BattleCheckpointer}: a cada N gravações e no encerramento da batalha
+ * (sem nunca gravar o HP zerado de uma derrota).
+ * </p>
+ * <p>
+ * Thread-safe: as implementações de store suportam acesso concorrente
  * de múltiplos usuários simultaneamente.
  * </p>
  *
@@ -23,13 +51,37 @@ import java.util.concurrent.ConcurrentHashMap;
  * @since 1.0
  */
 @Service
+@RequiredArgsConstructor
 public class BattleStateService {
 
     /**
-     * Mapa thread-safe que armazena as batalhas ativas indexadas por ID do usuário.
+     * Store que armazena as batalhas ativas indexadas por ID do usuário.
      * Cada usuário pode ter no máximo uma batalha ativa por vez.
      */
-    private final Map<Integer, BattleStateResponse> activeBattles = new ConcurrentHashMap<>();
+    private final BattleStateStore activeBattles;
+
+    /** Acompanha inatividade, limite e tamanho estimado das batalhas ativas */
+    private final ActiveBattleRegistry registry;
+
+    /** Conversão entre o estado compacto e o DTO da API */
+    private final BattleStateMapper mapper;
+
+    /** Gravação em lote dos logs de eventos das batalhas encerradas */
+    private final BattleEventStore eventStore;
+
+    private final GameConfig gameConfig;
+
+    /** Canal de eventos dos usuários conectados */
+    private final PlayerEventStream eventStream;
+
+    /** Monta os deltas enviados pelo canal de eventos */
+    private final BattleDeltaEncoder deltaEncoder;
+
+    /** Grava periodicamente o HP e a energia do personagem no banco */
+    private final BattleCheckpointer checkpointer;
+
+    /** Próximas questões reservadas para cada batalha */
+    private final BattleQuestionQueue questionQueue;
 
     /**
      * Busca a batalha ativa de um usuário específico.
@@ -42,6 +94,17 @@ public class BattleStateService {
      * @return estado completo da batalha ou null se não houver batalha ativa
      */
     public BattleStateResponse getActiveBattle(Integer userId) {
+        registry.touch(userId);
+        return mapper.toResponse(activeBattles.get(userId));
+    }
+
+    /**
+     * Busca o estado compacto da batalha ativa de um usuário, sem conversão.
+     *
+     * @param userId identificador único do usuário
+     * @return estado compacto da batalha ou null se não houver batalha ativa
+     */
+    public ActiveBattle getBattleState(Integer userId) {
         return activeBattles.get(userId);
     }
 
@@ -54,9 +117,71 @@ public class BattleStateService {
      *
      * @param userId identificador único do usuário
      * @param battleState objeto completo com o estado atual da batalha
+     * @throws com.game.rpgbackend.exception.ServiceUnavailableException se o limite de batalhas ativas foi atingido
      */
     public void setActiveBattle(Integer userId, BattleStateResponse battleState) {
-        activeBattles.put(userId, battleState);
+        ActiveBattle previous = activeBattles.get(userId);
+        ActiveBattle state = mapper.toState(battleState);
+        nextVersion(previous, state, battleState);
+        keepQuestsHash(previous, state);
+        recordEvents(userId, previous, state);
+        registry.track(userId, state);
+        activeBattles.put(userId, state);
+        checkpointer.onStateSaved(state);
+        publish(userId, previous, state, battleState);
+    }
+
+    /**
+     * Registra no log de eventos a ação que o usuário está executando.
+     * <p>
+     * A ação é anexada ao log na próxima gravação de estado, junto com as
+     * alterações que ela provocou.
+     * </p>
+     *
+     * @param userId identificador único do usuário
+     * @param action ação executada
+     * @param argument argumento da ação (ex: ID da questão respondida), 0 se não houver
+     */
+    public void beginAction(Integer userId, BattleAction action, int argument) {
+        ActiveBattle battle = activeBattles.get(userId);
+        if (battle != null && battle.getEvents() != null) {
+            battle.getEvents().beginAction(action, argument);
+        }
+    }
+
+    /**
+     * Encerra a batalha de um usuário registrando o estado final e o resultado.
+     * <p>
+     * Anexa as últimas alterações e o resultado ao log de eventos, enfileira o
+     * log para gravação, grava o HP e a energia finais do personagem e remove
+     * a batalha da memória.
+     * </p>
+     * <p>
+     * Um HP final zerado (derrota) nunca é gravado: nesse caso o checkpoint usa
+     * o último estado salvo com a batalha em andamento, como antes da derrota.
+     * </p>
+     *
+     * @param userId identificador único do usuário
+     * @param finalState estado final da batalha
+     * @param result resultado da batalha
+     */
+    public void finishBattle(Integer userId, BattleStateResponse finalState, BattleResult result) {
+        ActiveBattle previous = activeBattles.get(userId);
+        ActiveBattle last = mapper.toState(finalState);
+        nextVersion(previous, last, finalState);
+        keepQuestsHash(previous, last);
+        if (previous != null && previous.getEvents() != null) {
+            last.setEvents(previous.getEvents());
+            last.getEvents().record(previous, last);
+            last.getEvents().end(result);
+            eventStore.append(userId, last, result);
+        }
+        ActiveBattle alive = last.getCharacterHp() > 0 ? last : previous;
+        if (alive != null && alive.getCharacterHp() > 0) {
+            checkpointer.checkpoint(alive);
+        }
+        removeActiveBattle(userId);
+        publish(userId, previous, last, finalState);
     }
 
     /**
@@ -70,6 +195,8 @@ public class BattleStateService {
      */
     public void removeActiveBattle(Integer userId) {
         activeBattles.remove(userId);
+        registry.forget(userId);
+        questionQueue.release(userId);
     }
 
     /**
@@ -83,7 +210,7 @@ public class BattleStateService {
      * @return true se houver batalha ativa, false caso contrário
      */
     public boolean hasActiveBattle(Integer userId) {
-        return activeBattles.containsKey(userId);
+        return activeBattles.contains(userId);
     }
 
     /**
@@ -101,6 +228,52 @@ public class BattleStateService {
      */
     public void clearAllBattles() {
         activeBattles.clear();
+        registry.forgetAll();
+        questionQueue.releaseAll();
+    }
+
+    /**
+     * Define a versão do novo estado: a anterior mais um na mesma batalha, ou 1
+     * em uma batalha nova. A versão também é copiada para o DTO devolvido ao cliente.
+     */
+    private void nextVersion(ActiveBattle previous, ActiveBattle state, BattleStateResponse battleState) {
+        int version = previous != null && previous.getBattleId() == state.getBattleId()
+            ? previous.getVersion() + 1
+            : 1;
+        state.setVersion(version);
+        battleState.setVersion(version);
+    }
+
+    /**
+     * Mantém o hash das listas de quests já enviadas quando a resposta não traz novas listas.
+     */
+    private static void keepQuestsHash(ActiveBattle previous, ActiveBattle state) {
+        if (state.getQuestsHash() == 0 && previous != null && previous.getBattleId() == state.getBattleId()) {
+            state.setQuestsHash(previous.getQuestsHash());
+        }
+    }
+
+    private void publish(Integer userId, ActiveBattle previous, ActiveBattle state, BattleStateResponse battleState) {
+        if (eventStream.isConnected(userId)) {
+            eventStream.publish(userId, "battle", deltaEncoder.streamPayload(previous, state, battleState));
+        }
+    }
+
+    private void recordEvents(Integer userId, ActiveBattle previous, ActiveBattle state) {
+        if (!gameConfig.getBattle().isEventLogEnabled()) {
+            return;
+        }
+        if (previous != null && previous.getBattleId() == state.getBattleId() && previous.getEvents() != null) {
+            state.setEvents(previous.getEvents());
+            state.getEvents().record(previous, state);
+            return;
+        }
+        if (previous != null && previous.getEvents() != null) {
+            // Nova batalha iniciada sem encerrar a anterior
+            previous.getEvents().end(BattleResult.REPLACED);
+            eventStore.append(userId, previous, BattleResult.REPLACED);
+        }
+        state.setEvents(BattleEventBuffer.start(state));
     }
 }
 
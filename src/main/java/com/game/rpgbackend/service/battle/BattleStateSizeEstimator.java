@@ -0,0 +1,67 @@
+package com.game.rpgbackend.service.battle;
+
+import com.game.rpgbackend.enums.BattleEffectType;
+import com.game.rpgbackend.service.battle.event.BattleEventBuffer;
+import com.game.rpgbackend.service.battle.state.ActiveBattle;
+
+/**
+ * Estimativa do consumo de heap de uma batalha ativa.
+ * <p>
+ * Soma tamanhos aproximados de objetos em uma JVM 64 bits com compressed oops
+ * (cabeçalho de 12 bytes, referências de 4 bytes e alinhamento de 8 bytes).
+ * Nomes e questões são instâncias compartilhadas entre as batalhas e por isso
+ * contam apenas como referências. O valor não é exato, mas é barato de
+ * calcular e suficiente para acompanhar a tendência de uso de memória.
+ * </p>
+ *
+ * @author MURILO FURTADO
+ * @version 1.0
+ * @since 1.0
+ */
+public final class BattleStateSizeEstimator {
+
+    private static final int HEADER = 12;
+    private static final int REF = 4;
+    private static final int ARRAY_HEADER = 16;
+
+    /** ActiveBattle: 2 longs, 8 referências, 25 ints e 7 booleans */
+    private static final long ACTIVE_BATTLE = align(HEADER + 2 * 8 + 8 * REF + 25 * 4 + 7);
+
+    /** BattleEventBuffer sem o array de dados */
+    private static final long EVENT_BUFFER = align(HEADER + REF + 3 * 4 + 1);
+
+    /** EffectSet: máscara, 2 arrays e seus elementos */
+    private static final long EFFECT_SET = align(HEADER + 4 + 2 * REF)
+        + 2 * align(ARRAY_HEADER + (long) BattleEffectType.COUNT * 4);
+
+    private BattleStateSizeEstimator() {
+    }
+
+    /**
+     * Estima o tamanho em bytes de uma batalha ativa e do que ela possui exclusivamente.
+     *
+     * @param battle estado da batalha
+     * @return tamanho estimado em bytes
+     */
+    public static long estimate(ActiveBattle battle) {
+        if (battle == null) {
+            return 0;
+        }
+        long size = ACTIVE_BATTLE;
+        if (battle.getCharacterEffects() != null) {
+            size += EFFECT_SET;
+        }
+        if (battle.getMonsterEffects() != null) {
+            size += EFFECT_SET;
+        }
+        BattleEventBuffer events = battle.getEvents();
+        if (events != null) {
+            size += EVENT_BUFFER + align(ARRAY_HEADER + events.capacity());
+        }
+        return size;
+    }
+
+    private static long align(long size) {
+        return (size + 7) & ~7L;
+    }
+}
@@ -1,8 +1,9 @@
 package com.game.rpgbackend.service.battle;
 
 import com.game.rpgbackend.dto.response.battle.BattleStateResponse;
-import com.game.rpgbackend.dto.response.battle.BattleEffect;
+import com.game.rpgbackend.dto.response.battle.EffectSet;
 import com.game.rpgbackend.config.GameConfig;
+import com.game.rpgbackend.enums.BattleEffectType;
 import com.game.rpgbackend.enums.CharacterSkillType;
 import com.game.rpgbackend.enums.MonsterSkillType;
 import lombok.RequiredArgsConstructor;
@@ -127,13 +128,9 @@ public class CombatService {
         int reducedDamage = calculateCharacterDamageWithDefense(characterDamage, monsterDefense, isMonsterDefending);
 
         // Verifica se o monstro tem redução de dano ativa (ex: Ignorance do Zumbi)
-        if (hasMonsterEffect(battleState, "DAMAGE_REDUCTION")) {
-            for (BattleEffect effect : battleState.getMonsterActiveEffects()) {
-                if ("DAMAGE_REDUCTION".equals(effect.getType()) && effect.isActive()) {
-                    reducedDamage = reducedDamage * (100 - effect.getMagnitude()) / 100;
-                    break;
-                }
-            }
+        EffectSet monsterEffects = battleState.getMonsterEffects();
+        if (monsterEffects.has(BattleEffectType.DAMAGE_REDUCTION)) {
+            reducedDamage = reducedDamage * (100 - monsterEffects.magnitude(BattleEffectType.DAMAGE_REDUCTION)) / 100;
         }
 
         return Math.max(reducedDamage, 0); // Dano mínimo 0
@@ -156,7 +153,7 @@ public class CombatService {
             BattleStateResponse.CharacterBattleInfo character = battleState.getCharacter();
 
             // Verifica se a recuperação de energia está bloqueada (Syllable Scramble do Malak)
-            if (hasCharacterEffect(battleState, "BLOCK_ENERGY_RECOVERY")) {
+            if (hasCharacterEffect(battleState, BattleEffectType.BLOCK_ENERGY_RECOVERY)) {
                 turnResult = "Você acertou, mas a habilidade do monstro impede a recuperação de energia!";
             } else {
                 character.setEnergy(Math.min(character.getEnergy() + energyRecovered, character.getMaxEnergy()));
@@ -165,17 +162,9 @@ public class CombatService {
 
         } else {
             // Verifica se há efeito de drenagem de vida (Semantic Drain do Lexicógrafo)
-            if (hasCharacterEffect(battleState, "CORRUPTION")) {
+            if (hasCharacterEffect(battleState, BattleEffectType.CORRUPTION)) {
                 // Pega a magnitude do efeito
-                int lifeDrain = 0;
-                if (battleState.getCharacterActiveEffects() != null) {
-                    for (BattleEffect effect : battleState.getCharacterActiveEffects()) {
-                        if ("CORRUPTION".equals(effect.getType()) && effect.isActive()) {
-                            lifeDrain = effect.getMagnitude();
-                            break;
-                        }
-                    }
-                }
+                int lifeDrain = battleState.getCharacterEffects().magnitude(BattleEffectType.CORRUPTION);
 
                 BattleStateResponse.CharacterBattleInfo character = battleState.getCharacter();
                 character.setHp(character.getHp() - lifeDrain);
@@ -220,7 +209,10 @@ public class CombatService {
         String turnResult = "";
         SkillEffect effect = null;
 
-        CharacterSkillType skillType = CharacterSkillType.getByClassName(character.getClassName());
+        // Habilidade resolvida no início da batalha; batalhas sem ela (ex: journal antigo) resolvem pelo nome
+        CharacterSkillType skillType = character.getSkill() != null
+            ? character.getSkill()
+            : CharacterSkillType.getByClassName(character.getClassName());
 
         if (skillType == null) {
             turnResult = String.format("Sua classe (%s) não possui uma habilidade especial implementada.",
@@ -250,11 +242,7 @@ public class CombatService {
                 int baseDamage = calculateCharacterDamage(character);
 
                 // Marca que há dano pendente (será aplicado após turno do monstro)
-                if (character.getEffects() == null) {
-                    character.setEffects(new java.util.HashMap<>());
-                }
-                character.getEffects().put("chargeBaseDamage", baseDamage);
-                character.getEffects().put("isChargeActive", true);
+                character.setChargeBaseDamage(baseDamage);
 
                 turnResult = "Você ativa Investida e se prepara para avançar contra o monstro!";
                 break;
@@ -299,7 +287,7 @@ public class CombatService {
             battleState.setMonsterGuaranteedAttacks(battleState.getMonsterGuaranteedAttacks() - 1);
         } else {
             // Escolhe uma ação aleatória: 0 = atacar, 1 = defender, 2 = usar skill
-            action = (int) (Math.random() * 3);
+            action = BattleRandom.of(battleState).nextInt(3);
         }
 
         switch (action) {
@@ -308,14 +296,10 @@ public class CombatService {
                 int baseDamage = monster.getDano();
 
                 // Verifica se o monstro tem buff de dano ativo (ex: Singular Strike do Diabrete)
-                if (battleState.getMonsterActiveEffects() != null) {
-                    for (BattleEffect effect : battleState.getMonsterActiveEffects()) {
-                        if ("DAMAGE_BUFF".equals(effect.getType()) && effect.isActive()) {
-                            baseDamage = baseDamage + (baseDamage * effect.getMagnitude() / 100);
-                            turnResult = "O monstro ataca com força aumentada! ";
-                            break;
-                        }
-                    }
+                if (hasMonsterEffect(battleState, BattleEffectType.DAMAGE_BUFF)) {
+                    int buff = battleState.getMonsterEffects().magnitude(BattleEffectType.DAMAGE_BUFF);
+                    baseDamage = baseDamage + (baseDamage * buff / 100);
+                    turnResult = "O monstro ataca com força aumentada! ";
                 }
 
                 damageDealt = calculateMonsterDamage(baseDamage, character.getDefense(), character.getIsDefending());
@@ -353,6 +337,115 @@ public class CombatService {
         return new MonsterTurnResult(battleState, turnResult, damageDealt, actionStr);
     }
 
+    /**
+     * Resolve o turno do monstro após uma ação do jogador.
+     * <p>
+     * Executa a ação do monstro, aplica o dano pendente do jogador (incluindo a
+     * Investida do Lutador), reseta as posturas defensivas, atualiza a duração
+     * dos efeitos e devolve o turno ao jogador. Contém apenas as regras de
+     * combate; persistência, quests e conquistas ficam a cargo de quem chama,
+     * o que permite usar este método também em simulações sem banco de dados.
+     * </p>
+     * @param battle O estado atual da batalha, alterado no lugar.
+     * @return A mensagem do turno, a ação do monstro e os danos causados.
+     */
+    public MonsterTurnResolution resolveMonsterTurn(BattleStateResponse battle) {
+        // 1. Executa o turno do monstro (ataque, defesa ou skill)
+        MonsterTurnResult monsterResult = performMonsterTurn(battle);
+        battle.setMonsterDamageDealt(monsterResult.getDamageDealt());
+        battle.setMonsterAction(monsterResult.getAction());
+        String turnResult = monsterResult.getTurnResult();
+
+        // 2. Aplica o dano pendente do jogador APÓS a ação do monstro
+        boolean pendingDamageApplied = false;
+        int finalDamage = 0;
+        if (battle.getPendingDamageToMonster() != null && battle.getPendingDamageToMonster() > 0) {
+            int pendingDamage = battle.getPendingDamageToMonster();
+            pendingDamageApplied = true;
+
+            // Verifica se é a Investida do Lutador
+            boolean isCharge = battle.getCharacter().getChargeBaseDamage() != null;
+
+            if (isCharge) {
+                // Investida: 125% se monstro NÃO defender, 115% se defender
+                int amplifiedDamage;
+
+                if (battle.getMonster().getIsDefending()) {
+                    // Monstro defendendo: 115% de dano
+                    amplifiedDamage = (pendingDamage * 115) / 100;
+
+                    // Aplica considerando APENAS defesa base (não aplica bônus de 50% da defesa ativa)
+                    finalDamage = calculateCharacterDamageWithDefenseAndEffects(
+                        battle,
+                        amplifiedDamage,
+                        battle.getMonster().getDefense(),
+                        false // NÃO aplica bônus de defesa ativa (Investida ignora)
+                    );
+
+                    turnResult = String.format("Sua Investida causou %d de dano mesmo através da defesa do monstro! ", finalDamage) + turnResult;
+                } else {
+                    // Monstro NÃO defendendo: 125% de dano
+                    amplifiedDamage = (pendingDamage * 125) / 100;
+
+                    // Aplica considerando apenas defesa base
+                    finalDamage = calculateCharacterDamageWithDefenseAndEffects(
+                        battle,
+                        amplifiedDamage,
+                        battle.getMonster().getDefense(),
+                        false // Monstro não está defendendo
+                    );
+
+                    turnResult = String.format("Sua Investida causou %d de dano devastador! ", finalDamage) + turnResult;
+                }
+
+                // Remove efeito da Investida
+                battle.getCharacter().setChargeBaseDamage(null);
+
+            } else {
+                // Ataque normal
+                finalDamage = calculateCharacterDamageWithDefenseAndEffects(
+                    battle,
+                    pendingDamage,
+                    battle.getMonster().getDefense(),
+                    battle.getMonster().getIsDefending()
+                );
+
+                // Adiciona informação no resultado
+                if (finalDamage < pendingDamage) {
+                    String mitigationInfo = String.format("Seu ataque causou %d de dano (de %d) devido à defesa do monstro! ",
+                        finalDamage, pendingDamage);
+                    turnResult = mitigationInfo + turnResult;
+                } else {
+                    String damageInfo = String.format("Seu ataque causou %d de dano! ", finalDamage);
+                    turnResult = damageInfo + turnResult;
+                }
+            }
+
+            // Aplica o dano final ao monstro
+            battle.getMonster().setHp(battle.getMonster().getHp() - finalDamage);
+            battle.setCharacterDamageDealt(finalDamage);
+
+            // Limpa o dano pendente
+            battle.setPendingDamageToMonster(0);
+        }
+
+        // 3. Reseta a defesa se nenhum dano foi causado
+        if (monsterResult.getDamageDealt() == 0) {
+            battle.getCharacter().setIsDefending(false);
+        }
+        battle.getMonster().setIsDefending(false);
+
+        // 3.5. Atualiza os efeitos ativos (decrementa duração e remove expirados)
+        updateActiveEffects(battle);
+
+        // 4. Não está mais aguardando turno do monstro e devolve o turno ao jogador
+        battle.setWaitingForMonsterTurn(false);
+        battle.setIsPlayerTurn(true); // Devolve o turno ao jogador
+
+        return new MonsterTurnResolution(turnResult, monsterResult.getAction(), monsterResult.getDamageDealt(),
+            finalDamage, pendingDamageApplied);
+    }
+
     /**
      * Executa a habilidade especial de um monstro baseado no seu nome.
      * @param battleState O estado atual da batalha.
@@ -361,145 +454,48 @@ public class CombatService {
     public MonsterSkillResult performMonsterSkill(BattleStateResponse battleState) {
         BattleStateResponse.MonsterBattleInfo monster = battleState.getMonster();
 
-        MonsterSkillType skillType = MonsterSkillType.getSkillByMonsterName(monster.getNome());
+        BattleRandom random = BattleRandom.of(battleState);
+        MonsterSkillType skillType = monster.getSkillMask() != null
+            ? MonsterSkillType.pick(monster.getSkillMask(), random)
+            : MonsterSkillType.getSkillByMonsterName(monster.getNome(), random);
 
         if (skillType == null) {
             return new MonsterSkillResult("O monstro não possui habilidade especial!", null);
         }
 
         String turnResult = skillType.getDescription();
-        BattleEffect effect = null;
+        BattleEffectType effect = skillType.getEffectType();
 
         switch (skillType) {
             case DIABRETE_SINGULAR_STRIKE:
-                // Adiciona buff de dano por 2 turnos
-                effect = new BattleEffect(
-                    skillType.getEffectType(),
-                    skillType.getMagnitude(),
-                    skillType.getDuration(),
-                    "Dano aumentado em " + skillType.getMagnitude() + "%"
-                );
-                addEffectToMonster(battleState, effect);
                 // Garante que as próximas 2 ações sejam ataques para maximizar o uso do buff
                 battleState.setMonsterGuaranteedAttacks(2);
                 break;
 
             case HARPIA_WHIRLWIND_QUESTION:
                 // 50% de chance de embaralhar a próxima pergunta
-                boolean scrambled = Math.random() < 0.5;
+                boolean scrambled = random.nextBoolean();
                 if (scrambled) {
-                    effect = new BattleEffect(
-                        skillType.getEffectType(),
-                        skillType.getMagnitude(),
-                        skillType.getDuration(),
-                        "As palavras da próxima pergunta estão em desordem!"
-                    );
-                    addEffectToCharacter(battleState, effect);
                     turnResult = String.format(skillType.getDescription(), "As palavras da próxima pergunta estão em desordem! Reordene-as para encontrar a resposta correta.");
                 } else {
+                    effect = null;
                     turnResult = String.format(skillType.getDescription(), "Você conseguiu resistir ao efeito!");
                 }
                 break;
 
-            case ZUMBI_IGNORANCE:
-                // Reduz dano recebido do próximo ataque em 50%
-                effect = new BattleEffect(
-                    skillType.getEffectType(),
-                    skillType.getMagnitude(),
-                    skillType.getDuration(),
-                    "Dano recebido reduzido em " + skillType.getMagnitude() + "%"
-                );
-                addEffectToMonster(battleState, effect);
-                break;
-
-            case ESQUELETO_SYNTAX_COLLAPSE:
-                // Atordoa o jogador por 1 turno
-                effect = new BattleEffect(
-                    skillType.getEffectType(),
-                    skillType.getMagnitude(),
-                    skillType.getDuration(),
-                    "Você está atordoado!"
-                );
-                addEffectToCharacter(battleState, effect);
-                break;
-
-            case CENTAURO_WH_QUESTION_VOLLEY:
-                // Marca para lançar uma pergunta extra em tempo limitado
-                effect = new BattleEffect(
-                    skillType.getEffectType(),
-                    skillType.getMagnitude(),
-                    skillType.getDuration(),
-                    "Pergunta extra em tempo limitado!"
-                );
-                addEffectToCharacter(battleState, effect);
-                break;
-
-            case LEXICOGRAFO_SEMANTIC_DRAIN:
-                // Corrompe significados - erros drenam vida
-                effect = new BattleEffect(
-                    skillType.getEffectType(),
-                    skillType.getMagnitude(),
-                    skillType.getDuration(),
-                    "Erros nas respostas drenarão sua vida!"
-                );
-                addEffectToCharacter(battleState, effect);
-                break;
-
-            case MALAK_AMNESIA_BLAST:
-                // Impede uso de habilidades de classe
-                effect = new BattleEffect(
-                    skillType.getEffectType(),
-                    skillType.getMagnitude(),
-                    skillType.getDuration(),
-                    "Habilidades de classe desabilitadas!"
-                );
-                addEffectToCharacter(battleState, effect);
-                break;
-
-            case MALAK_SYLLABLE_SCRAMBLE:
-                // Impede recuperação de energia via perguntas
-                effect = new BattleEffect(
-                    skillType.getEffectType(),
-                    skillType.getMagnitude(),
-                    skillType.getDuration(),
-                    "Recuperação de energia bloqueada!"
-                );
-                addEffectToCharacter(battleState, effect);
-                break;
-
-            case MALAK_LEXICAL_BLINDNESS:
-                // Esconde a próxima pergunta
-                effect = new BattleEffect(
-                    skillType.getEffectType(),
-                    skillType.getMagnitude(),
-                    skillType.getDuration(),
-                    "A próxima pergunta será ocultada!"
-                );
-                addEffectToCharacter(battleState, effect);
+            default:
                 break;
         }
 
-        return new MonsterSkillResult(turnResult, effect);
-    }
-
-    /**
-     * Adiciona um efeito à lista de efeitos ativos do personagem.
-     */
-    private void addEffectToCharacter(BattleStateResponse battleState, BattleEffect effect) {
-        if (battleState.getCharacterActiveEffects() == null) {
-            battleState.setCharacterActiveEffects(new java.util.ArrayList<>());
+        if (effect != null) {
+            // Buffs ficam no próprio monstro; os demais efeitos atingem o personagem
+            EffectSet target = skillType.isSelfTarget()
+                ? battleState.getMonsterEffects()
+                : battleState.getCharacterEffects();
+            target.apply(effect, skillType.getMagnitude(), skillType.getDuration());
         }
-        battleState.getCharacterActiveEffects().add(effect);
-    }
 
-    /**
-     * Adiciona um efeito à lista de efeitos ativos do monstro.
-     */
-    private void addEffectToMonster(BattleStateResponse battleState, BattleEffect effect) {
-        if (battleState.getMonsterActiveEffects() == null) {
-            battleState.setMonsterActiveEffects(new java.util.ArrayList<>());
-        }
-        battleState.getMonsterActiveEffects().add(effect);
+        return new MonsterSkillResult(turnResult, effect);
     }
 
     /**
@@ -507,43 +503,29 @@ public class CombatService {
      */
     public void updateActiveEffects(BattleStateResponse battleState) {
         // Atualiza efeitos do personagem
-        if (battleState.getCharacterActiveEffects() != null) {
-            battleState.getCharacterActiveEffects().removeIf(effect -> !effect.decrementDuration());
-        }
+        battleState.getCharacterEffects().tick(0);
 
         // Atualiza efeitos do monstro
-        if (battleState.getMonsterActiveEffects() != null) {
-            // Para o buff de dano do Diabrete (DAMAGE_BUFF), só decrementa se não houver mais ataques garantidos
-            // Isso garante que o buff dure exatamente 2 ataques
-            battleState.getMonsterActiveEffects().removeIf(effect -> {
-                // Se for buff de dano e ainda houver ataques garantidos, não decrementa
-                if ("DAMAGE_BUFF".equals(effect.getType()) &&
-                    battleState.getMonsterGuaranteedAttacks() != null &&
-                    battleState.getMonsterGuaranteedAttacks() > 0) {
-                    return false; // Mantém o efeito sem decrementar
-                }
-                // Para outros efeitos, decrementa normalmente
-                return !effect.decrementDuration();
-            });
-        }
+        // Para o buff de dano do Diabrete (DAMAGE_BUFF), só decrementa se não houver mais ataques garantidos
+        // Isso garante que o buff dure exatamente 2 ataques
+        int frozen = battleState.getMonsterGuaranteedAttacks() != null && battleState.getMonsterGuaranteedAttacks() > 0
+            ? BattleEffectType.DAMAGE_BUFF.bit()
+            : 0;
+        battleState.getMonsterEffects().tick(frozen);
     }
 
     /**
      * Verifica se um efeito específico está ativo no personagem.
      */
-    public boolean hasCharacterEffect(BattleStateResponse battleState, String effectType) {
-        if (battleState.getCharacterActiveEffects() == null) return false;
-        return battleState.getCharacterActiveEffects().stream()
-            .anyMatch(effect -> effectType.equals(effect.getType()) && effect.isActive());
+    public boolean hasCharacterEffect(BattleStateResponse battleState, BattleEffectType effectType) {
+        return battleState.getCharacterEffects().has(effectType);
     }
 
     /**
      * Verifica se um efeito específico está ativo no monstro.
      */
-    public boolean hasMonsterEffect(BattleStateResponse battleState, String effectType) {
-        if (battleState.getMonsterActiveEffects() == null) return false;
-        return battleState.getMonsterActiveEffects().stream()
-            .anyMatch(effect -> effectType.equals(effect.getType()) && effect.isActive());
+    public boolean hasMonsterEffect(BattleStateResponse battleState, BattleEffectType effectType) {
+        return battleState.getMonsterEffects().has(effectType);
     }
 
     // Classes internas para resultados
@@ -609,13 +591,13 @@ public class CombatService {
     }
 
     public static class SkillEffect {
-        private final String type;
+        private final BattleEffectType type;
 
-        public SkillEffect(String type) {
+        public SkillEffect(BattleEffectType type) {
             this.type = type;
         }
 
-        public String getType() { return type; }
+        public BattleEffectType getType() { return type; }
     }
 
     public static class MonsterTurnResult {
@@ -637,16 +619,39 @@ public class CombatService {
         public String getAction() { return action; }
     }
 
+    public static class MonsterTurnResolution {
+        private final String turnResult;
+        private final String action;
+        private final int monsterDamageDealt;
+        private final int characterDamageDealt;
+        private final boolean pendingDamageApplied;
+
+        public MonsterTurnResolution(String turnResult, String action, int monsterDamageDealt,
+                                     int characterDamageDealt, boolean pendingDamageApplied) {
+            this.turnResult = turnResult;
+            this.action = action;
+            this.monsterDamageDealt = monsterDamageDealt;
+            this.characterDamageDealt = characterDamageDealt;
+            this.pendingDamageApplied = pendingDamageApplied;
+        }
+
+        public String getTurnResult() { return turnResult; }
+        public String getAction() { return action; }
+        public int getMonsterDamageDealt() { return monsterDamageDealt; }
+        public int getCharacterDamageDealt() { return characterDamageDealt; }
+        public boolean isPendingDamageApplied() { return pendingDamageApplied; }
+    }
+
     public static class MonsterSkillResult {
         private final String turnResult;
-        private final BattleEffect effect;
+        private final BattleEffectType effect;
 
-        public MonsterSkillResult(String turnResult, BattleEffect effect) {
+        public MonsterSkillResult(String turnResult, BattleEffectType effect) {
             this.turnResult = turnResult;
             this.effect = effect;
         }
 
         public String getTurnResult() { return turnResult; }
-        public BattleEffect getEffect() { return effect; }
+        public BattleEffectType getEffect() { return effect; }
     }
 }
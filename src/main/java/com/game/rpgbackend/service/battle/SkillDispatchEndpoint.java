@@ -0,0 +1,37 @@
+package com.game.rpgbackend.service.battle;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Endpoint administrativo das tabelas de habilidades ({@code /actuator/skills}).
+ * <p>
+ * {@code GET} mostra o que está carregado e {@code POST} recarrega as tabelas
+ * depois de alterações no catálogo de monstros ou classes. Fica disponível
+ * apenas se incluído em {@code management.endpoints.web.exposure.include}.
+ * </p>
+ *
+ * @author MURILO FURTADO
+ * @version 1.0
+ * @since 1.0
+ */
+@Component
+@Endpoint(id = "skills")
+@RequiredArgsConstructor
+public class SkillDispatchEndpoint {
+
+    private final SkillDispatchTable skillDispatchTable;
+
+    @ReadOperation
+    public SkillDispatchTable.Summary summary() {
+        return skillDispatchTable.summary();
+    }
+
+    @WriteOperation
+    public SkillDispatchTable.Summary reload() {
+        return skillDispatchTable.reload();
+    }
+}
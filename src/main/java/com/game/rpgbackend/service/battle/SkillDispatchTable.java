@@ -0,0 +1,189 @@
+package com.game.rpgbackend.service.battle;
+
+import com.game.rpgbackend.domain.GameClass;
+import com.game.rpgbackend.domain.Monster;
+import com.game.rpgbackend.enums.CharacterSkillType;
+import com.game.rpgbackend.enums.MonsterSkillType;
+import com.game.rpgbackend.repository.ClassRepository;
+import com.game.rpgbackend.repository.MonsterRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Tabelas de habilidades de monstros e classes indexadas por ID.
+ * <p>
+ * As habilidades são definidas pelo nome do monstro ou da classe, e resolvê-las
+ * exige comparar textos. Esta tabela faz essa resolução uma única vez para
+ * cada monstro e classe cadastrados, quando a aplicação termina de subir
+ * (depois do {@code DatabaseSeeder}). O {@code startBattle} consulta a tabela
+ * pelo ID e grava a habilidade resolvida na batalha, então os turnos não fazem
+ * nenhuma comparação de texto.
+ * </p>
+ * <p>
+ * As tabelas são imutáveis e trocadas atomicamente por {@link #reload()}
+ * quando o catálogo muda. Um monstro ou classe cadastrado depois da última
+ * carga é resolvido na hora, sem entrar na tabela, até o próximo reload.
+ * </p>
+ *
+ * @author MURILO FURTADO
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SkillDispatchTable {
+
+    /** Entrada da tabela sem monstro ou classe com aquele ID */
+    private static final int UNRESOLVED = -1;
+
+    /** Classe cadastrada sem habilidade */
+    private static final int NO_SKILL = -2;
+
+    private final MonsterRepository monsterRepository;
+    private final ClassRepository classRepository;
+
+    private final AtomicReference<Tables> tables = new AtomicReference<>(Tables.EMPTY);
+
+    /**
+     * Monta as tabelas assim que a aplicação estiver pronta.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reload();
+    }
+
+    /**
+     * Reconstrói as tabelas a partir do catálogo atual e as publica de uma vez.
+     * <p>
+     * Batalhas já iniciadas mantêm as habilidades resolvidas no início.
+     * </p>
+     *
+     * @return resumo das novas tabelas
+     */
+    public Summary reload() {
+        Tables built = Tables.build(monsterRepository.findAll(), classRepository.findAll());
+        tables.set(built);
+        log.info("Tabelas de habilidades carregadas: {} monstros, {} classes", built.monsterCount, built.classCount);
+        return built.summary();
+    }
+
+    /**
+     * Resumo das tabelas em uso.
+     *
+     * @return quantidade de monstros e classes resolvidos e instante da carga
+     */
+    public Summary summary() {
+        return tables.get().summary();
+    }
+
+    /**
+     * Habilidades possíveis de um monstro.
+     *
+     * @param monster monstro da batalha
+     * @return máscara para {@link MonsterSkillType#pick}, 0 se o monstro não tiver habilidade
+     */
+    public int monsterSkills(Monster monster) {
+        Tables current = tables.get();
+        Integer id = monster.getId();
+        if (id != null && id >= 0 && id < current.monsterSkills.length && current.monsterSkills[id] != UNRESOLVED) {
+            return current.monsterSkills[id];
+        }
+        return MonsterSkillType.skillMaskByMonsterName(monster.getMonsterName());
+    }
+
+    /**
+     * Habilidade de uma classe.
+     *
+     * @param gameClass classe do personagem
+     * @return habilidade da classe, ou null se a classe não tiver habilidade
+     */
+    public CharacterSkillType classSkill(GameClass gameClass) {
+        Tables current = tables.get();
+        Integer id = gameClass.getId();
+        if (id != null && id >= 0 && id < current.classSkills.length && current.classSkills[id] != UNRESOLVED) {
+            int ordinal = current.classSkills[id];
+            return ordinal != NO_SKILL ? CharacterSkillType.fromOrdinal(ordinal) : null;
+        }
+        return CharacterSkillType.getByClassName(gameClass.getName());
+    }
+
+    /**
+     * Conjunto imutável de tabelas; cada array é indexado pelo ID da entidade.
+     */
+    private static final class Tables {
+
+        static final Tables EMPTY = new Tables(new int[0], new int[0], 0, 0, null);
+
+        final int[] monsterSkills;
+        final int[] classSkills;
+        final int monsterCount;
+        final int classCount;
+        final Instant loadedAt;
+
+        Tables(int[] monsterSkills, int[] classSkills, int monsterCount, int classCount, Instant loadedAt) {
+            this.monsterSkills = monsterSkills;
+            this.classSkills = classSkills;
+            this.monsterCount = monsterCount;
+            this.classCount = classCount;
+            this.loadedAt = loadedAt;
+        }
+
+        static Tables build(List<Monster> monsters, List<GameClass> classes) {
+            int[] monsterSkills = newTable(monsters.stream().mapToInt(m -> idOf(m.getId())).max().orElse(-1));
+            for (Monster monster : monsters) {
+                if (monster.getId() != null && monster.getId() >= 0) {
+                    monsterSkills[monster.getId()] = MonsterSkillType.skillMaskByMonsterName(monster.getMonsterName());
+                }
+            }
+
+            int[] classSkills = newTable(classes.stream().mapToInt(c -> idOf(c.getId())).max().orElse(-1));
+            for (GameClass gameClass : classes) {
+                if (gameClass.getId() != null && gameClass.getId() >= 0) {
+                    CharacterSkillType skill = CharacterSkillType.getByClassName(gameClass.getName());
+                    classSkills[gameClass.getId()] = skill != null ? skill.ordinal() : NO_SKILL;
+                }
+            }
+            return new Tables(monsterSkills, classSkills, monsters.size(), classes.size(), Instant.now());
+        }
+
+        private static int idOf(Integer id) {
+            return id != null ? id : -1;
+        }
+
+        private static int[] newTable(int maxId) {
+            int[] table = new int[maxId + 1];
+            Arrays.fill(table, UNRESOLVED);
+            return table;
+        }
+
+        Summary summary() {
+            return new Summary(monsterCount, classCount, loadedAt);
+        }
+    }
+
+    /**
+     * Resumo das tabelas carregadas.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class Summary {
+        /** Monstros resolvidos */
+        private final int monsters;
+
+        /** Classes resolvidas */
+        private final int classes;
+
+        /** Instante da carga, ou null se as tabelas ainda não foram montadas */
+        private final Instant loadedAt;
+    }
+}
@@ -0,0 +1,65 @@
+package com.game.rpgbackend.service.battle.event;
+
+/**
+ * Ações do jogador registradas no log de eventos da batalha.
+ * <p>
+ * O código de cada ação é gravado em um único byte e não deve ser alterado,
+ * pois faz parte do formato dos logs já persistidos.
+ * </p>
+ *
+ * @author MURILO FURTADO
+ * @version 1.0
+ * @since 1.0
+ */
+public enum BattleAction {
+    /** Ataque básico */
+    ATTACK(1),
+
+    /** Postura defensiva */
+    DEFEND(2),
+
+    /** Habilidade especial da classe */
+    SKILL(3),
+
+    /** Resposta a uma questão (argumento: ID da questão) */
+    ANSWER(4),
+
+    /** Turno do monstro */
+    MONSTER_TURN(5),
+
+    /** Turno passado por atordoamento */
+    SKIP_TURN(6);
+
+    private static final BattleAction[] BY_CODE = new BattleAction[7];
+
+    static {
+        for (BattleAction action : values()) {
+            BY_CODE[action.code] = action;
+        }
+    }
+
+    private final byte code;
+
+    BattleAction(int code) {
+        this.code = (byte) code;
+    }
+
+    /**
+     * Código gravado no log.
+     *
+     * @return código da ação
+     */
+    public byte getCode() {
+        return code;
+    }
+
+    /**
+     * Busca a ação pelo código gravado no log.
+     *
+     * @param code código da ação
+     * @return ação correspondente ou null se o código for desconhecido
+     */
+    public static BattleAction fromCode(int code) {
+        return code > 0 && code < BY_CODE.length ? BY_CODE[code] : null;
+    }
+}
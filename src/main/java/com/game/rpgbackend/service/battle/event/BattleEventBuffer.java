@@ -0,0 +1,301 @@
+package com.game.rpgbackend.service.battle.event;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.game.rpgbackend.dto.response.battle.EffectSet;
+import com.game.rpgbackend.enums.BattleEffectType;
+import com.game.rpgbackend.service.battle.state.ActiveBattle;
+import com.game.rpgbackend.service.battle.state.BattleQuestion;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Log binário, somente de anexação, dos eventos de uma batalha.
+ * <p>
+ * Cada batalha ativa possui um buffer. A cada turno salvo, o estado anterior
+ * e o novo são comparados e apenas o que mudou é anexado: campos numéricos,
+ * textos, questão atual, efeitos e estado do gerador aleatório. A ação do jogador que causou a mudança é
+ * anexada antes das alterações. Os eventos são gravados diretamente em um
+ * array de bytes que cresce por duplicação; textos usam bytes UTF-8 em cache,
+ * então um turno típico não cria nenhum objeto.
+ * </p>
+ * <p>
+ * Formato de cada evento (inteiros em big-endian):
+ * <pre>
+ * START     [1][versão:1][battleId:8][timestamp:8]
+ * ACTION    [2][ação:1][argumento:4]
+ * FIELD     [3][campo:1][valor:4]
+ * TEXT      [4][campo:1][texto]
+ * QUESTION  [5][id:4][opções:1]
+ * EFFECTS   [6][lado:1][quantidade:1] + quantidade × ([tipo:1][magnitude:4][duração:4])
+ * END       [7][resultado:1]
+ * RNG       [8][estado:8]
+ * texto = [tamanho:2][bytes UTF-8], tamanho 0xFFFF indica null
+ * tipo  = ordinal de {@link BattleEffectType}
+ * </pre>
+ * </p>
+ * <p>
+ * Não é thread-safe: só é alterado pela fila de ações do usuário
+ * ({@code BattleActionExecutor}).
+ * </p>
+ *
+ * @author MURILO FURTADO
+ * @version 1.0
+ * @since 1.0
+ */
+@JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY,
+    getterVisibility = JsonAutoDetect.Visibility.NONE,
+    isGetterVisibility = JsonAutoDetect.Visibility.NONE)
+public final class BattleEventBuffer {
+
+    /** Versão do formato gravada no evento START */
+    public static final byte FORMAT_VERSION = 3;
+
+    public static final byte START = 1;
+    public static final byte ACTION = 2;
+    public static final byte FIELD = 3;
+    public static final byte TEXT = 4;
+    public static final byte QUESTION = 5;
+    public static final byte EFFECTS = 6;
+    public static final byte END = 7;
+    public static final byte RNG = 8;
+
+    /** Lado dos efeitos no evento EFFECTS */
+    public static final byte SIDE_CHARACTER = 0;
+    public static final byte SIDE_MONSTER = 1;
+
+    static final int NULL_TEXT = 0xFFFF;
+
+    private static final int INITIAL_CAPACITY = 256;
+    private static final int MAX_CACHED_TEXTS = 4096;
+    private static final Map<String, byte[]> UTF8 = new ConcurrentHashMap<>();
+    private static final ActiveBattle EMPTY = new ActiveBattle();
+
+    private byte[] data;
+    private int length;
+    private int eventCount;
+
+    /** Ação aguardando o próximo salvamento para ser anexada (0 = nenhuma) */
+    private byte pendingAction;
+    private int pendingArgument;
+
+    private BattleEventBuffer() {
+    }
+
+    /**
+     * Inicia o log de uma nova batalha com seu estado inicial.
+     *
+     * @param initial estado inicial da batalha
+     * @return novo buffer contendo START e o estado inicial
+     */
+    public static BattleEventBuffer start(ActiveBattle initial) {
+        BattleEventBuffer buffer = new BattleEventBuffer();
+        buffer.data = new byte[INITIAL_CAPACITY];
+        buffer.ensure(18);
+        buffer.putByte(START);
+        buffer.putByte(FORMAT_VERSION);
+        buffer.putLong(initial.getBattleId());
+        buffer.putLong(System.currentTimeMillis());
+        buffer.eventCount++;
+        buffer.diff(EMPTY, initial);
+        return buffer;
+    }
+
+    /**
+     * Registra a ação que está sendo processada.
+     * <p>
+     * Deve ser chamado só depois das validações da ação. Ainda assim, a ação
+     * só é anexada quando a requisição salva o novo estado; uma ação que falhe
+     * depois disso é substituída pela próxima ou descartada no encerramento.
+     * </p>
+     *
+     * @param action ação do jogador
+     * @param argument argumento da ação (ex: ID da questão respondida)
+     */
+    public void beginAction(BattleAction action, int argument) {
+        pendingAction = action.getCode();
+        pendingArgument = argument;
+    }
+
+    /**
+     * Anexa a ação pendente e todas as diferenças entre dois estados.
+     *
+     * @param previous estado antes do turno
+     * @param current estado após o turno
+     */
+    public void record(ActiveBattle previous, ActiveBattle current) {
+        commitPendingAction();
+        diff(previous, current);
+    }
+
+    /**
+     * Anexa o resultado final da batalha.
+     * <p>
+     * Uma ação pendente não seguida de salvamento (ex: batalha abandonada
+     * depois de uma ação que falhou) é descartada.
+     * </p>
+     *
+     * @param result resultado da batalha
+     */
+    public void end(BattleResult result) {
+        pendingAction = 0;
+        pendingArgument = 0;
+        ensure(2);
+        putByte(END);
+        putByte(result.getCode());
+        eventCount++;
+    }
+
+    /**
+     * Cópia exata dos bytes gravados.
+     *
+     * @return eventos codificados
+     */
+    public byte[] toByteArray() {
+        return Arrays.copyOf(data, length);
+    }
+
+    /** Quantidade de bytes gravados */
+    public int size() {
+        return length;
+    }
+
+    /** Quantidade de eventos gravados */
+    public int eventCount() {
+        return eventCount;
+    }
+
+    /** Capacidade atual do array interno, em bytes */
+    public int capacity() {
+        return data.length;
+    }
+
+    private void commitPendingAction() {
+        if (pendingAction == 0) {
+            return;
+        }
+        ensure(6);
+        putByte(ACTION);
+        putByte(pendingAction);
+        putInt(pendingArgument);
+        eventCount++;
+        pendingAction = 0;
+        pendingArgument = 0;
+    }
+
+    private void diff(ActiveBattle previous, ActiveBattle current) {
+        for (BattleField field : BattleField.all()) {
+            int value = field.get(current);
+            if (field.get(previous) != value) {
+                ensure(6);
+                putByte(FIELD);
+                putByte((byte) field.ordinal());
+                putInt(value);
+                eventCount++;
+            }
+        }
+
+        for (BattleField.Text field : BattleField.Text.all()) {
+            String value = field.get(current);
+            String old = field.get(previous);
+            // Textos são instâncias compartilhadas; a comparação por igualdade cobre os demais casos
+            if (value != old && (value == null || !value.equals(old))) {
+                byte[] bytes = utf8(value);
+                ensure(4 + (bytes != null ? bytes.length : 0));
+                putByte(TEXT);
+                putByte((byte) field.ordinal());
+                putText(bytes);
+                eventCount++;
+            }
+        }
+
+        BattleQuestion question = current.getQuestion();
+        if (question != previous.getQuestion()) {
+            ensure(6);
+            putByte(QUESTION);
+            putInt(question != null && question.getId() != null ? question.getId() : -1);
+            putByte((byte) (question != null ? question.getOptions().size() : 0));
+            eventCount++;
+        }
+
+        if (previous.getRngState() != current.getRngState()) {
+            ensure(9);
+            putByte(RNG);
+            putLong(current.getRngState());
+            eventCount++;
+        }
+
+        if (!EffectSet.same(previous.getCharacterEffects(), current.getCharacterEffects())) {
+            putEffects(SIDE_CHARACTER, current.getCharacterEffects());
+        }
+        if (!EffectSet.same(previous.getMonsterEffects(), current.getMonsterEffects())) {
+            putEffects(SIDE_MONSTER, current.getMonsterEffects());
+        }
+    }
+
+    private void putEffects(byte side, EffectSet effects) {
+        int mask = effects != null ? effects.mask() : 0;
+        ensure(3 + Integer.bitCount(mask) * 9);
+        putByte(EFFECTS);
+        putByte(side);
+        putByte((byte) Integer.bitCount(mask));
+        for (int bits = mask; bits != 0; bits &= bits - 1) {
+            BattleEffectType type = BattleEffectType.fromOrdinal(Integer.numberOfTrailingZeros(bits));
+            putByte((byte) type.ordinal());
+            putInt(effects.magnitude(type));
+            putInt(effects.duration(type));
+        }
+        eventCount++;
+    }
+
+    private static byte[] utf8(String value) {
+        if (value == null) {
+            return null;
+        }
+        byte[] bytes = UTF8.get(value);
+        if (bytes == null) {
+            bytes = value.getBytes(StandardCharsets.UTF_8);
+            if (bytes.length >= NULL_TEXT) {
+                bytes = Arrays.copyOf(bytes, NULL_TEXT - 1);
+            }
+            if (UTF8.size() < MAX_CACHED_TEXTS) {
+                UTF8.putIfAbsent(value, bytes);
+            }
+        }
+        return bytes;
+    }
+
+    private void ensure(int bytes) {
+        if (length + bytes > data.length) {
+            data = Arrays.copyOf(data, Math.max(data.length * 2, length + bytes));
+        }
+    }
+
+    private void putByte(byte value) {
+        data[length++] = value;
+    }
+
+    private void putInt(int value) {
+        data[length++] = (byte) (value >>> 24);
+        data[length++] = (byte) (value >>> 16);
+        data[length++] = (byte) (value >>> 8);
+        data[length++] = (byte) value;
+    }
+
+    private void putLong(long value) {
+        putInt((int) (value >>> 32));
+        putInt((int) value);
+    }
+
+    private void putText(byte[] bytes) {
+        int size = bytes != null ? bytes.length : NULL_TEXT;
+        data[length++] = (byte) (size >>> 8);
+        data[length++] = (byte) size;
+        if (bytes != null) {
+            System.arraycopy(bytes, 0, data, length, bytes.length);
+            length += bytes.length;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.game.rpgbackend.service.battle.event;
+
+import com.game.rpgbackend.domain.BattleEventLog;
+import com.game.rpgbackend.service.battle.state.ActiveBattle;
+import com.game.rpgbackend.util.BatchedJdbcWriter;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * Armazenamento, somente de inserção e em lote, dos logs de batalhas encerradas.
+ * <p>
+ * Encerrar uma batalha apenas enfileira o log em um {@link BatchedJdbcWriter};
+ * uma tarefa agendada grava os pendentes em lote, conforme
+ * {@code game.battle.event-flush-millis}. Se a fila estiver cheia, o log é
+ * descartado com aviso.
+ * </p>
+ *
+ * @author MURILO FURTADO
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Component
+public class BattleEventStore {
+
+    private static final String INSERT_SQL =
+        "INSERT INTO battle_event_log (battle_id, user_id, character_id, monster_id, result, event_count, events, created_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final BatchedJdbcWriter<BattleEventLog> writer;
+
+    public BattleEventStore(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+        this.writer = new BatchedJdbcWriter<>(jdbcTemplate, transactionTemplate, INSERT_SQL, (ps, row) -> {
+            ps.setLong(1, row.getBattleId());
+            ps.setInt(2, row.getUserId());
+            ps.setInt(3, row.getCharacterId());
+            ps.setInt(4, row.getMonsterId());
+            ps.setString(5, row.getResult());
+            ps.setInt(6, row.getEventCount());
+            ps.setBytes(7, row.getEvents());
+            ps.setTimestamp(8, Timestamp.valueOf(row.getCreatedAt()));
+        }, "logs de batalha");
+    }
+
+    /**
+     * Enfileira o log de uma batalha encerrada para gravação.
+     *
+     * @param userId usuário dono da batalha
+     * @param battle último estado da batalha, com o buffer de eventos
+     * @param result resultado final
+     */
+    public void append(Integer userId, ActiveBattle battle, BattleResult result) {
+        BattleEventBuffer events = battle.getEvents();
+        if (events == null) {
+            return;
+        }
+        BattleEventLog entry = new BattleEventLog();
+        entry.setBattleId(battle.getBattleId());
+        entry.setUserId(userId);
+        entry.setCharacterId(battle.getCharacterId());
+        entry.setMonsterId(battle.getMonsterId());
+        entry.setResult(result.getLabel());
+        entry.setEventCount(events.eventCount());
+        entry.setEvents(events.toByteArray());
+        entry.setCreatedAt(LocalDateTime.now());
+        if (!writer.offer(entry)) {
+            log.warn("Fila de logs de batalha cheia; log da batalha {} descartado", battle.getBattleId());
+        }
+    }
+
+    /**
+     * Quantidade de logs aguardando gravação.
+     *
+     * @return tamanho da fila
+     */
+    public int pending() {
+        return writer.pending();
+    }
+
+    /**
+     * Grava em lote todos os logs pendentes.
+     */
+    @Scheduled(fixedDelayString = "${game.battle.event-flush-millis:1000}")
+    public void flush() {
+        writer.flush();
+    }
+
+    /**
+     * Grava os logs pendentes no desligamento.
+     */
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+}
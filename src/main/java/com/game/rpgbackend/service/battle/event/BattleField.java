@@ -0,0 +1,144 @@
+package com.game.rpgbackend.service.battle.event;
+
+import com.game.rpgbackend.service.battle.state.ActiveBattle;
+
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ToIntFunction;
+
+/**
+ * Campos do {@link ActiveBattle} registrados individualmente no log de eventos.
+ * <p>
+ * Cada alteração de campo vira um evento com o ID do campo e o novo valor.
+ * Flags são gravadas como 0 ou 1. O ID (posição na enumeração) faz parte do
+ * formato do log: novos campos devem ser adicionados sempre ao final.
+ * </p>
+ *
+ * @author MURILO FURTADO
+ * @version 1.0
+ * @since 1.0
+ */
+public enum BattleField {
+    CHARACTER_ID(ActiveBattle::getCharacterId, ActiveBattle::setCharacterId),
+    CHARACTER_HP(ActiveBattle::getCharacterHp, ActiveBattle::setCharacterHp),
+    CHARACTER_MAX_HP(ActiveBattle::getCharacterMaxHp, ActiveBattle::setCharacterMaxHp),
+    CHARACTER_ENERGY(ActiveBattle::getCharacterEnergy, ActiveBattle::setCharacterEnergy),
+    CHARACTER_MAX_ENERGY(ActiveBattle::getCharacterMaxEnergy, ActiveBattle::setCharacterMaxEnergy),
+    STRENGTH(ActiveBattle::getStrength, ActiveBattle::setStrength),
+    INTELLIGENCE(ActiveBattle::getIntelligence, ActiveBattle::setIntelligence),
+    CHARACTER_DEFENSE(ActiveBattle::getCharacterDefense, ActiveBattle::setCharacterDefense),
+    LEVEL(ActiveBattle::getLevel, ActiveBattle::setLevel),
+    XP(ActiveBattle::getXp, ActiveBattle::setXp),
+    MAX_XP_FOR_LEVEL(ActiveBattle::getMaxXpForLevel, ActiveBattle::setMaxXpForLevel),
+    GOLD(ActiveBattle::getGold, ActiveBattle::setGold),
+    CHARACTER_DEFENDING(b -> flag(b.isCharacterDefending()), (b, v) -> b.setCharacterDefending(v != 0)),
+    CHARGE_ACTIVE(b -> flag(b.isChargeActive()), (b, v) -> b.setChargeActive(v != 0)),
+    CHARGE_BASE_DAMAGE(ActiveBattle::getChargeBaseDamage, ActiveBattle::setChargeBaseDamage),
+    MONSTER_ID(ActiveBattle::getMonsterId, ActiveBattle::setMonsterId),
+    MONSTER_HP(ActiveBattle::getMonsterHp, ActiveBattle::setMonsterHp),
+    MONSTER_MAX_HP(ActiveBattle::getMonsterMaxHp, ActiveBattle::setMonsterMaxHp),
+    MONSTER_DAMAGE(ActiveBattle::getMonsterDamage, ActiveBattle::setMonsterDamage),
+    MONSTER_DEFENSE(ActiveBattle::getMonsterDefense, ActiveBattle::setMonsterDefense),
+    MONSTER_DEFENDING(b -> flag(b.isMonsterDefending()), (b, v) -> b.setMonsterDefending(v != 0)),
+    FINISHED(b -> flag(b.isFinished()), (b, v) -> b.setFinished(v != 0)),
+    BARD_CHALLENGE_ACTIVE(b -> flag(b.isBardChallengeActive()), (b, v) -> b.setBardChallengeActive(v != 0)),
+    WAITING_FOR_MONSTER_TURN(b -> flag(b.isWaitingForMonsterTurn()), (b, v) -> b.setWaitingForMonsterTurn(v != 0)),
+    PLAYER_TURN(b -> flag(b.isPlayerTurn()), (b, v) -> b.setPlayerTurn(v != 0)),
+    CHARACTER_DAMAGE_DEALT(ActiveBattle::getCharacterDamageDealt, ActiveBattle::setCharacterDamageDealt),
+    MONSTER_DAMAGE_DEALT(ActiveBattle::getMonsterDamageDealt, ActiveBattle::setMonsterDamageDealt),
+    PENDING_DAMAGE_TO_MONSTER(ActiveBattle::getPendingDamageToMonster, ActiveBattle::setPendingDamageToMonster),
+    MONSTER_GUARANTEED_ATTACKS(ActiveBattle::getMonsterGuaranteedAttacks, ActiveBattle::setMonsterGuaranteedAttacks);
+
+    private static final BattleField[] VALUES = values();
+
+    private final ToIntFunction<ActiveBattle> getter;
+    private final ObjIntConsumer<ActiveBattle> setter;
+
+    BattleField(ToIntFunction<ActiveBattle> getter, ObjIntConsumer<ActiveBattle> setter) {
+        this.getter = getter;
+        this.setter = setter;
+    }
+
+    /**
+     * Lê o valor do campo.
+     *
+     * @param battle estado da batalha
+     * @return valor atual
+     */
+    public int get(ActiveBattle battle) {
+        return getter.applyAsInt(battle);
+    }
+
+    /**
+     * Altera o valor do campo.
+     *
+     * @param battle estado da batalha
+     * @param value novo valor
+     */
+    public void set(ActiveBattle battle, int value) {
+        setter.accept(battle, value);
+    }
+
+    /**
+     * Busca o campo pelo ID gravado no log.
+     *
+     * @param id ID do campo
+     * @return campo correspondente ou null se o ID for desconhecido
+     */
+    public static BattleField fromId(int id) {
+        return id >= 0 && id < VALUES.length ? VALUES[id] : null;
+    }
+
+    /**
+     * Todos os campos, sem criar um novo array a cada chamada.
+     *
+     * @return array compartilhado com os campos
+     */
+    public static BattleField[] all() {
+        return VALUES;
+    }
+
+    private static int flag(boolean value) {
+        return value ? 1 : 0;
+    }
+
+    /**
+     * Campos de texto do {@link ActiveBattle} registrados no log.
+     * <p>
+     * Mesma regra de ordem da enumeração de campos numéricos.
+     * </p>
+     */
+    public enum Text {
+        DIFFICULTY(ActiveBattle::getDifficulty, ActiveBattle::setDifficulty),
+        CLASS_NAME(ActiveBattle::getClassName, ActiveBattle::setClassName),
+        MONSTER_NAME(ActiveBattle::getMonsterName, ActiveBattle::setMonsterName),
+        MONSTER_ACTION(ActiveBattle::getMonsterAction, ActiveBattle::setMonsterAction);
+
+        private static final Text[] VALUES = values();
+
+        private final Function<ActiveBattle, String> getter;
+        private final BiConsumer<ActiveBattle, String> setter;
+
+        Text(Function<ActiveBattle, String> getter, BiConsumer<ActiveBattle, String> setter) {
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        public String get(ActiveBattle battle) {
+            return getter.apply(battle);
+        }
+
+        public void set(ActiveBattle battle, String value) {
+            setter.accept(battle, value);
+        }
+
+        public static Text fromId(int id) {
+            return id >= 0 && id < VALUES.length ? VALUES[id] : null;
+        }
+
+        public static Text[] all() {
+            return VALUES;
+        }
+    }
+}
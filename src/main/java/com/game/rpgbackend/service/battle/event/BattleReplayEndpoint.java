@@ -0,0 +1,47 @@
+package com.game.rpgbackend.service.battle.event;
+
+import com.game.rpgbackend.domain.BattleEventLog;
+import com.game.rpgbackend.repository.BattleEventLogRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Endpoint administrativo de reconstrução de batalhas ({@code /actuator/battles/{battleId}}).
+ * <p>
+ * {@code GET} carrega o log gravado pelo {@link BattleEventStore} e o reaplica
+ * com o {@link BattleReplayEngine}, devolvendo o estado final, as ações e o
+ * resultado. O parâmetro opcional {@code actions} devolve o estado logo antes
+ * da ação de número informado. Fica disponível apenas se incluído em
+ * {@code management.endpoints.web.exposure.include}.
+ * </p>
+ *
+ * @author MURILO FURTADO
+ * @version 1.0
+ * @since 1.0
+ */
+@Component
+@Endpoint(id = "battles")
+@RequiredArgsConstructor
+public class BattleReplayEndpoint {
+
+    private final BattleEventLogRepository eventLogRepository;
+    private final BattleReplayEngine replayEngine;
+
+    @ReadOperation
+    public List<BattleReplayEngine.Replay> replay(@Selector long battleId, @Nullable Integer actions) {
+        List<BattleEventLog> logs = eventLogRepository.findByBattleId(battleId);
+        if (logs.isEmpty()) {
+            return null;
+        }
+        int maxActions = actions != null ? actions : Integer.MAX_VALUE;
+        return logs.stream()
+            .map(entry -> replayEngine.replay(entry.getEvents(), maxActions))
+            .toList();
+    }
+}
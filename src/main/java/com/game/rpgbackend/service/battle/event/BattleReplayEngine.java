@@ -0,0 +1,214 @@
+package com.game.rpgbackend.service.battle.event;
+
+import com.game.rpgbackend.dto.response.battle.EffectSet;
+import com.game.rpgbackend.enums.BattleEffectType;
+import com.game.rpgbackend.service.battle.state.ActiveBattle;
+import com.game.rpgbackend.service.battle.state.BattleInterner;
+import com.game.rpgbackend.service.battle.state.BattleQuestion;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Reconstrói batalhas a partir do log de eventos gravado pelo {@link BattleEventBuffer}.
+ * <p>
+ * A reconstrução apenas reaplica os eventos sobre um {@link ActiveBattle}
+ * vazio, sem executar regras de combate nem acessar o banco de dados, por isso
+ * leva microssegundos e pode ser usada em análises em massa. O estado do
+ * gerador aleatório também é reconstruído, permitindo reexecutar as regras de
+ * combate a partir de qualquer ponto da batalha. Questões são
+ * reconstruídas apenas com o ID e a quantidade de opções exibidas.
+ * </p>
+ * <p>
+ * Não depende de nenhum outro bean e pode ser instanciada diretamente em
+ * ferramentas offline. No servidor, é exposta pelo {@link BattleReplayEndpoint}.
+ * </p>
+ *
+ * @author MURILO FURTADO
+ * @version 1.0
+ * @since 1.0
+ */
+@Component
+public class BattleReplayEngine {
+
+    /**
+     * Reconstrói o estado final de uma batalha.
+     *
+     * @param events log de eventos codificado
+     * @return estado final, ações executadas e resultado
+     * @throws IllegalArgumentException se o log estiver corrompido ou em formato desconhecido
+     */
+    public Replay replay(byte[] events) {
+        return replay(events, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Reconstrói o estado de uma batalha logo antes da ação de número informado.
+     * <p>
+     * Com {@code maxActions = 0} devolve o estado inicial; com {@code maxActions = n}
+     * devolve o estado após as alterações causadas pelas {@code n} primeiras ações.
+     * </p>
+     *
+     * @param events log de eventos codificado
+     * @param maxActions quantidade de ações a reaplicar
+     * @return estado reconstruído, ações executadas e resultado (se alcançado)
+     * @throws IllegalArgumentException se o log estiver corrompido ou em formato desconhecido
+     */
+    public Replay replay(byte[] events, int maxActions) {
+        Reader in = new Reader(events);
+        ActiveBattle battle = new ActiveBattle();
+        List<BattleAction> actions = new ArrayList<>();
+        BattleResult result = null;
+
+        if (in.remaining() == 0 || in.readByte() != BattleEventBuffer.START) {
+            throw new IllegalArgumentException("Log de batalha sem evento START");
+        }
+        byte version = in.readByte();
+        // A versão 1 apenas não possui eventos RNG; até a versão 2 os efeitos são gravados como texto
+        if (version < 1 || version > BattleEventBuffer.FORMAT_VERSION) {
+            throw new IllegalArgumentException("Versão de log de batalha não suportada: " + version);
+        }
+        battle.setBattleId(in.readLong());
+        long startedAt = in.readLong();
+
+        while (in.remaining() > 0) {
+            byte type = in.readByte();
+            switch (type) {
+                case BattleEventBuffer.ACTION -> {
+                    BattleAction action = BattleAction.fromCode(in.readByte());
+                    in.readInt();
+                    if (actions.size() >= maxActions) {
+                        return new Replay(battle, Collections.unmodifiableList(actions), null, startedAt);
+                    }
+                    actions.add(action);
+                }
+                case BattleEventBuffer.FIELD -> {
+                    BattleField field = BattleField.fromId(in.readByte());
+                    int value = in.readInt();
+                    if (field != null) {
+                        field.set(battle, value);
+                    }
+                }
+                case BattleEventBuffer.TEXT -> {
+                    BattleField.Text field = BattleField.Text.fromId(in.readByte());
+                    String value = in.readText();
+                    if (field != null) {
+                        field.set(battle, value);
+                    }
+                }
+                case BattleEventBuffer.QUESTION -> {
+                    int id = in.readInt();
+                    int optionCount = in.readByte();
+                    battle.setQuestion(id < 0 ? null : BattleQuestion.of(
+                        id, null, Collections.nCopies(optionCount, ""), null, null));
+                }
+                case BattleEventBuffer.EFFECTS -> {
+                    byte side = in.readByte();
+                    int count = in.readByte();
+                    EffectSet effects = count > 0 ? new EffectSet() : null;
+                    for (int i = 0; i < count; i++) {
+                        BattleEffectType effectType;
+                        if (version >= 3) {
+                            effectType = BattleEffectType.fromOrdinal(in.readByte());
+                        } else {
+                            effectType = BattleEffectType.fromName(in.readText());
+                            in.readText(); // descrição, hoje derivada do tipo
+                        }
+                        int magnitude = in.readInt();
+                        int duration = in.readInt();
+                        if (effectType != null) {
+                            effects.apply(effectType, magnitude, duration);
+                        }
+                    }
+                    if (side == BattleEventBuffer.SIDE_CHARACTER) {
+                        battle.setCharacterEffects(effects);
+                    } else {
+                        battle.setMonsterEffects(effects);
+                    }
+                }
+                case BattleEventBuffer.RNG -> battle.setRngState(in.readLong());
+                case BattleEventBuffer.END -> result = BattleResult.fromCode(in.readByte());
+                default -> throw new IllegalArgumentException("Evento de batalha desconhecido: " + type);
+            }
+        }
+        return new Replay(battle, Collections.unmodifiableList(actions), result, startedAt);
+    }
+
+    /**
+     * Resultado de uma reconstrução.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class Replay {
+        /** Estado reconstruído */
+        private final ActiveBattle battle;
+
+        /** Ações reaplicadas, em ordem */
+        private final List<BattleAction> actions;
+
+        /** Resultado final, ou null se a batalha não terminou no trecho reaplicado */
+        private final BattleResult result;
+
+        /** Instante de início da batalha (epoch em milissegundos) */
+        private final long startedAt;
+    }
+
+    /**
+     * Leitor sequencial sobre o array de eventos.
+     */
+    private static final class Reader {
+        private final byte[] data;
+        private int position;
+
+        private Reader(byte[] data) {
+            this.data = data;
+        }
+
+        private int remaining() {
+            return data.length - position;
+        }
+
+        private void require(int bytes) {
+            if (position + bytes > data.length) {
+                throw new IllegalArgumentException("Log de batalha truncado na posição " + position);
+            }
+        }
+
+        private byte readByte() {
+            require(1);
+            return data[position++];
+        }
+
+        private int readInt() {
+            require(4);
+            int value = ((data[position] & 0xFF) << 24)
+                | ((data[position + 1] & 0xFF) << 16)
+                | ((data[position + 2] & 0xFF) << 8)
+                | (data[position + 3] & 0xFF);
+            position += 4;
+            return value;
+        }
+
+        private long readLong() {
+            return ((long) readInt() << 32) | (readInt() & 0xFFFFFFFFL);
+        }
+
+        private String readText() {
+            require(2);
+            int size = ((data[position] & 0xFF) << 8) | (data[position + 1] & 0xFF);
+            position += 2;
+            if (size == BattleEventBuffer.NULL_TEXT) {
+                return null;
+            }
+            require(size);
+            String value = new String(data, position, size, StandardCharsets.UTF_8);
+            position += size;
+            return BattleInterner.name(value);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.game.rpgbackend.service.battle.event;
+
+/**
+ * Resultado final de uma batalha registrado no log de eventos.
+ *
+ * @author MURILO FURTADO
+ * @version 1.0
+ * @since 1.0
+ */
+public enum BattleResult {
+    /** O monstro foi derrotado */
+    WIN(1, "vitoria"),
+
+    /** O personagem foi derrotado */
+    LOSS(2, "derrota"),
+
+    /** A batalha foi encerrada por inatividade */
+    ABANDONED(3, "abandono"),
+
+    /** A batalha foi substituída por outra antes de terminar */
+    REPLACED(4, "substituida");
+
+    private static final BattleResult[] BY_CODE = new BattleResult[5];
+
+    static {
+        for (BattleResult result : values()) {
+            BY_CODE[result.code] = result;
+        }
+    }
+
+    private final byte code;
+    private final String label;
+
+    BattleResult(int code, String label) {
+        this.code = (byte) code;
+        this.label = label;
+    }
+
+    /**
+     * Código gravado no log.
+     *
+     * @return código do resultado
+     */
+    public byte getCode() {
+        return code;
+    }
+
+    /**
+     * Nome do resultado gravado na tabela de logs.
+     *
+     * @return rótulo do resultado
+     */
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * Busca o resultado pelo código gravado no log.
+     *
+     * @param code código do resultado
+     * @return resultado correspondente ou null se o código for desconhecido
+     */
+    public static BattleResult fromCode(int code) {
+        return code > 0 && code < BY_CODE.length ? BY_CODE[code] : null;
+    }
+}
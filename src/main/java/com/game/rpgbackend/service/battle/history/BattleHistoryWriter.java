@@ -0,0 +1,126 @@
+package com.game.rpgbackend.service.battle.history;
+
+import com.game.rpgbackend.service.battle.reward.BattleOutcomeEvent;
+import com.game.rpgbackend.util.BatchedJdbcWriter;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Gravação em lote do histórico de batalhas ({@code battle_history}).
+ * <p>
+ * Cada batalha encerrada (vitória, derrota ou abandono) apenas enfileira o
+ * registro em um {@link BatchedJdbcWriter}; uma tarefa agendada grava os
+ * pendentes em lote, conforme {@code game.battle.history-flush-millis}.
+ * A data do registro é a do encerramento da batalha, não a da gravação, e é
+ * estritamente crescente (com a precisão de microssegundos da coluna): o
+ * histórico é paginado por {@code (date, id)}, e o ID só é atribuído na
+ * inserção, que pode acontecer fora de ordem quando um lote é repetido.
+ * Assim a ordem das páginas é a de encerramento das batalhas e o ID apenas
+ * completa a chave.
+ * </p>
+ * <p>
+ * Resultados de batalha só entram na fila depois que a transação que os
+ * decidiu for confirmada. Se a fila estiver cheia, o registro é descartado
+ * com aviso.
+ * </p>
+ *
+ * @author MURILO FURTADO
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Component
+public class BattleHistoryWriter {
+
+    private static final String INSERT_SQL =
+        "INSERT INTO battle_history (user_id, result, enemy_name, xp_earned, date) VALUES (?, ?, ?, ?, ?)";
+
+    private static final String UNKNOWN_ENEMY = "Desconhecido";
+
+    private final BatchedJdbcWriter<Entry> writer;
+
+    /** Última data atribuída, para que nenhum registro repita a data de outro */
+    private final AtomicReference<LocalDateTime> lastDate = new AtomicReference<>(LocalDateTime.MIN);
+
+    private record Entry(Integer userId, String result, String enemyName, int xpEarned, LocalDateTime date) {
+    }
+
+    public BattleHistoryWriter(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+        this.writer = new BatchedJdbcWriter<>(jdbcTemplate, transactionTemplate, INSERT_SQL, (ps, row) -> {
+            ps.setInt(1, row.userId());
+            ps.setString(2, row.result());
+            ps.setString(3, row.enemyName());
+            ps.setInt(4, row.xpEarned());
+            ps.setTimestamp(5, Timestamp.valueOf(row.date()));
+        }, "registros do histórico de batalhas");
+    }
+
+    /**
+     * Enfileira o resultado de uma batalha decidida.
+     *
+     * @param event resultado da batalha
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBattleOutcome(BattleOutcomeEvent event) {
+        append(event.getUserId(), event.getResult().getLabel(), event.getMonsterName(), event.getXpReward());
+    }
+
+    /**
+     * Enfileira um registro de histórico para gravação.
+     *
+     * @param userId usuário dono da batalha
+     * @param result resultado registrado (ex: "vitoria", "derrota", "abandono")
+     * @param enemyName nome do inimigo enfrentado, ou null se desconhecido
+     * @param xpEarned experiência ganha
+     */
+    public void append(Integer userId, String result, String enemyName, int xpEarned) {
+        Entry entry = new Entry(userId, result, enemyName != null ? enemyName : UNKNOWN_ENEMY, xpEarned, nextDate());
+        if (!writer.offer(entry)) {
+            log.warn("Fila do histórico de batalhas cheia; registro do usuário {} descartado", userId);
+        }
+    }
+
+    /**
+     * Quantidade de registros aguardando gravação.
+     *
+     * @return tamanho da fila
+     */
+    public int pending() {
+        return writer.pending();
+    }
+
+    /**
+     * Grava em lote todos os registros pendentes.
+     */
+    @Scheduled(fixedDelayString = "${game.battle.history-flush-millis:1000}")
+    public void flush() {
+        writer.flush();
+    }
+
+    /**
+     * Grava os registros pendentes no desligamento.
+     */
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    /**
+     * Data do encerramento: o instante atual em microssegundos, ou 1 µs após a
+     * última data atribuída se o relógio não tiver avançado.
+     */
+    private LocalDateTime nextDate() {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        return lastDate.updateAndGet(last -> now.isAfter(last) ? now : last.plus(1, ChronoUnit.MICROS));
+    }
+}
@@ -0,0 +1,49 @@
+package com.game.rpgbackend.service.battle.reward;
+
+import com.game.rpgbackend.service.battle.event.BattleResult;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Evento publicado quando o resultado de uma batalha é decidido.
+ * <p>
+ * É publicado dentro da transação da requisição que encerrou a batalha e
+ * gravado na outbox pelo {@link BattleRewardPipeline}; as recompensas são
+ * aplicadas depois, fora da requisição.
+ * </p>
+ *
+ * @author MURILO FURTADO
+ * @version 1.0
+ * @since 1.0
+ */
+@Getter
+@RequiredArgsConstructor
+public class BattleOutcomeEvent {
+
+    /** Usuário dono da batalha */
+    private final Integer userId;
+
+    /** ID da batalha */
+    private final Long battleId;
+
+    /** Personagem usado na batalha */
+    private final Integer characterId;
+
+    /** Monstro enfrentado */
+    private final Integer monsterId;
+
+    /** Nome do monstro enfrentado, registrado no histórico */
+    private final String monsterName;
+
+    /** Resultado da batalha ({@link BattleResult#WIN} ou {@link BattleResult#LOSS}) */
+    private final BattleResult result;
+
+    /** XP concedido ao personagem */
+    private final int xpReward;
+
+    /** Indica se a vitória conta para quests de vencer batalhas e derrotar monstros */
+    private final boolean countsForQuests;
+
+    /** Indica se a vitória conta para as conquistas de vitórias */
+    private final boolean countsForAchievements;
+}
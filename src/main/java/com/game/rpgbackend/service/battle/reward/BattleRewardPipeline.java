@@ -0,0 +1,137 @@
+package com.game.rpgbackend.service.battle.reward;
+
+import com.game.rpgbackend.config.GameConfig;
+import com.game.rpgbackend.domain.BattleOutcome;
+import com.game.rpgbackend.repository.BattleOutcomeRepository;
+import com.game.rpgbackend.service.battle.BattleActionExecutor;
+import com.game.rpgbackend.service.progress.ProgressCounterFlusher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Pipeline assíncrono de recompensas pós-batalha.
+ * <p>
+ * Quando uma batalha é decidida, o {@code BattleService} publica um
+ * {@link BattleOutcomeEvent}; este componente o grava na outbox
+ * ({@link BattleOutcome}) dentro da mesma transação e a resposta HTTP volta
+ * sem esperar estatísticas, quests, conquistas e level up.
+ * </p>
+ * <p>
+ * Uma tarefa agendada lê os resultados pendentes, agrupa por usuário e
+ * enfileira um único trabalho por usuário no {@link BattleActionExecutor}.
+ * Assim as recompensas rodam em série com as ações de batalha do mesmo
+ * usuário (sem atualizações perdidas) e em paralelo entre usuários. Dentro do
+ * trabalho, os resultados de cada personagem são aplicados em lote por
+ * {@link BattleRewardService}. Um lote que falha continua na outbox e é
+ * tentado de novo até {@code game.rewards.max-attempts}.
+ * </p>
+ *
+ * @author MURILO FURTADO
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BattleRewardPipeline {
+
+    private final BattleOutcomeRepository outcomeRepository;
+    private final BattleRewardService rewardService;
+    private final BattleActionExecutor actionExecutor;
+    private final ProgressCounterFlusher counterFlusher;
+    private final GameConfig gameConfig;
+
+    /** Resultados já enfileirados no executor e ainda não concluídos */
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Grava o resultado na outbox, na transação de quem o publicou.
+     *
+     * @param event resultado da batalha
+     */
+    @EventListener
+    public void onBattleOutcome(BattleOutcomeEvent event) {
+        BattleOutcome outcome = new BattleOutcome();
+        outcome.setBattleId(event.getBattleId());
+        outcome.setUserId(event.getUserId());
+        outcome.setCharacterId(event.getCharacterId());
+        outcome.setMonsterId(event.getMonsterId());
+        outcome.setResult(event.getResult().getLabel());
+        outcome.setXpReward(event.getXpReward());
+        outcome.setCountsForQuests(event.isCountsForQuests());
+        outcome.setCountsForAchievements(event.isCountsForAchievements());
+        outcome.setCreatedAt(LocalDateTime.now());
+        outcomeRepository.save(outcome);
+    }
+
+    /**
+     * Quantidade de resultados em processamento.
+     *
+     * @return resultados enfileirados no executor
+     */
+    public int inFlight() {
+        return inFlight.size();
+    }
+
+    /**
+     * Distribui os resultados pendentes para as filas dos usuários.
+     */
+    @Scheduled(fixedDelayString = "${game.rewards.flush-millis:250}")
+    public void drain() {
+        GameConfig.Rewards config = gameConfig.getRewards();
+        List<BattleOutcome> pending;
+        try {
+            pending = outcomeRepository.findByAttemptsLessThanOrderByIdAsc(
+                config.getMaxAttempts(), PageRequest.of(0, config.getBatchSize()));
+        } catch (DataAccessException e) {
+            log.warn("Falha ao ler a outbox de recompensas: {}", e.getMessage());
+            return;
+        }
+
+        Map<Integer, List<BattleOutcome>> byUser = pending.stream()
+            .filter(outcome -> inFlight.add(outcome.getId()))
+            .collect(Collectors.groupingBy(BattleOutcome::getUserId, LinkedHashMap::new, Collectors.toList()));
+
+        byUser.forEach((userId, outcomes) -> actionExecutor.submit(userId, () -> {
+            process(userId, outcomes);
+            return null;
+        }));
+    }
+
+    private void process(Integer userId, List<BattleOutcome> outcomes) {
+        Map<Integer, List<BattleOutcome>> byCharacter = outcomes.stream()
+            .collect(Collectors.groupingBy(BattleOutcome::getCharacterId, LinkedHashMap::new, Collectors.toList()));
+
+        byCharacter.forEach((characterId, batch) -> {
+            List<Long> ids = batch.stream().map(BattleOutcome::getId).toList();
+            try {
+                rewardService.apply(userId, characterId, batch);
+            } catch (RuntimeException e) {
+                log.warn("Falha ao aplicar {} recompensa(s) do personagem {}: {}",
+                    batch.size(), characterId, e.getMessage());
+                try {
+                    outcomeRepository.incrementAttempts(ids);
+                } catch (DataAccessException retryFailure) {
+                    log.warn("Falha ao registrar tentativa de recompensa: {}", retryFailure.getMessage());
+                }
+            } finally {
+                ids.forEach(inFlight::remove);
+            }
+            counterFlusher.flushCharacter(characterId.longValue());
+        });
+        counterFlusher.flushUser(userId);
+    }
+}
@@ -0,0 +1,116 @@
+package com.game.rpgbackend.service.battle.reward;
+
+import com.game.rpgbackend.domain.BattleOutcome;
+import com.game.rpgbackend.enums.AchievementTrigger;
+import com.game.rpgbackend.repository.BattleOutcomeRepository;
+import com.game.rpgbackend.repository.CharacterRepository;
+import com.game.rpgbackend.service.achievement.AchievementService;
+import com.game.rpgbackend.service.battle.event.BattleResult;
+import com.game.rpgbackend.service.character.CharacterService;
+import com.game.rpgbackend.service.hub.QuestService;
+import com.game.rpgbackend.service.progress.ProgressCounters;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+/**
+ * Aplica as recompensas de um lote de resultados de batalha de um personagem.
+ * <p>
+ * Tudo o que antes era feito na requisição que encerrava a batalha é feito
+ * aqui, uma vez por lote: estatísticas do jogador e XP do personagem são
+ * somados e gravados uma única vez (as estatísticas pelo
+ * {@code ProgressCounterFlusher}), cada conquista de vitória recebe um único
+ * incremento com o total de vitórias e o level up é verificado uma vez ao
+ * final. Os registros da outbox são removidos na mesma transação, então cada
+ * resultado é aplicado exatamente uma vez; as estatísticas em memória só são
+ * somadas depois do commit, pelo mesmo motivo.
+ * </p>
+ *
+ * @author MURILO FURTADO
+ * @version 1.0
+ * @since 1.0
+ */
+@Service
+@RequiredArgsConstructor
+public class BattleRewardService {
+
+    private final BattleOutcomeRepository outcomeRepository;
+    private final ProgressCounters progressCounters;
+    private final CharacterRepository characterRepository;
+    private final QuestService questService;
+    private final AchievementService achievementService;
+    private final CharacterService characterService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Aplica as recompensas e remove os resultados da outbox.
+     *
+     * @param userId usuário dono do personagem
+     * @param characterId personagem recompensado
+     * @param outcomes resultados pendentes do personagem, em ordem de inserção
+     */
+    @Transactional
+    public void apply(Integer userId, Integer characterId, List<BattleOutcome> outcomes) {
+        int wins = 0;
+        int achievementWins = 0;
+        int losses = 0;
+        int xp = 0;
+        for (BattleOutcome outcome : outcomes) {
+            if (BattleResult.WIN.getLabel().equals(outcome.getResult())) {
+                wins++;
+                if (Boolean.TRUE.equals(outcome.getCountsForAchievements())) {
+                    achievementWins++;
+                }
+            } else {
+                losses++;
+            }
+            xp += outcome.getXpReward();
+        }
+
+        // 1. Estatísticas do jogador: só entram nos contadores depois do commit,
+        //    para que uma tentativa que falhe e seja repetida não as conte duas vezes
+        //    (gravadas pelo ProgressCounterFlusher ao fim do lote)
+        int statWins = wins;
+        int statLosses = losses;
+        int xpGained = xp;
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                progressCounters.addStat(userId, ProgressCounters.Stat.BATTLES_WON, statWins);
+                progressCounters.addStat(userId, ProgressCounters.Stat.BATTLES_LOST, statLosses);
+                progressCounters.addStat(userId, ProgressCounters.Stat.TOTAL_XP_EARNED, xpGained);
+            }
+        });
+
+        // 2. XP do personagem
+        if (xpGained > 0) {
+            characterRepository.findById(characterId).ifPresent(character -> {
+                character.setXp(character.getXp() + xpGained);
+                characterRepository.save(character);
+            });
+        }
+
+        // 3. Quests de derrotar monstros e vencer batalhas
+        for (BattleOutcome outcome : outcomes) {
+            if (BattleResult.WIN.getLabel().equals(outcome.getResult()) && Boolean.TRUE.equals(outcome.getCountsForQuests())) {
+                questService.updateMonsterDefeatProgress(characterId, outcome.getMonsterId());
+                questService.updateBattleWinProgress(characterId);
+            }
+        }
+
+        // 4. Conquistas de vitória
+        achievementService.recordEvent(characterId.longValue(), AchievementTrigger.BATTLE_WON, achievementWins);
+
+        // 5. Level up (também após derrotas: quests completadas durante a batalha podem ter dado XP)
+        CharacterService.LevelUpResult levelUp = characterService.checkForLevelUp(characterId);
+
+        outcomeRepository.deleteAllInBatch(outcomes);
+        eventPublisher.publishEvent(new BattleRewardsEvent(
+            userId, characterId, wins, losses, xpGained, levelUp.isLeveledUp(), levelUp.getMessage()));
+    }
+}
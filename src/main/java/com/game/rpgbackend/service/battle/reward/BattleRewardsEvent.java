@@ -0,0 +1,41 @@
+package com.game.rpgbackend.service.battle.reward;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Evento publicado quando as recompensas de batalhas de um personagem são aplicadas.
+ * <p>
+ * É repassado ao canal de eventos do usuário após o commit, e é por ele que o
+ * cliente fica sabendo de um level up causado pela batalha.
+ * </p>
+ *
+ * @author MURILO FURTADO
+ * @version 1.0
+ * @since 1.0
+ */
+@Getter
+@RequiredArgsConstructor
+public class BattleRewardsEvent {
+
+    /** Usuário dono do personagem */
+    private final Integer userId;
+
+    /** Personagem recompensado */
+    private final Integer characterId;
+
+    /** Vitórias aplicadas neste lote */
+    private final int battlesWon;
+
+    /** Derrotas aplicadas neste lote */
+    private final int battlesLost;
+
+    /** XP concedido pelas batalhas do lote */
+    private final int xpGained;
+
+    /** Indica se o personagem subiu de nível */
+    private final boolean leveledUp;
+
+    /** Mensagem de level up (ou de XP ganho) */
+    private final String message;
+}
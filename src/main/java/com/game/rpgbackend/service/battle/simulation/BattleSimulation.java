@@ -0,0 +1,153 @@
+package com.game.rpgbackend.service.battle.simulation;
+
+import com.game.rpgbackend.config.GameConfig;
+import com.game.rpgbackend.dto.response.battle.BattleStateResponse;
+import com.game.rpgbackend.enums.BattleEffectType;
+import com.game.rpgbackend.service.battle.BattleRandom;
+import com.game.rpgbackend.service.battle.CombatService;
+
+/**
+ * Executa uma batalha completa em memória usando as regras do {@link CombatService}.
+ * <p>
+ * Reproduz a orquestração do {@code BattleService} sem banco, quests ou
+ * conquistas: custos de energia, dano pendente aplicado após o turno do
+ * monstro, turno do monstro ao errar uma pergunta, atordoamento, bloqueio de
+ * habilidades e o desafio do Bardo. Perguntas são modeladas apenas pela
+ * probabilidade de acerto do jogador; a eliminação de uma opção (Mago) e a
+ * dica (Ladino) aumentam essa probabilidade na pergunta seguinte.
+ * </p>
+ * <p>
+ * Todos os sorteios, inclusive o acerto das perguntas, usam o
+ * {@link BattleRandom} da batalha, então a mesma semente produz sempre a mesma
+ * batalha.
+ * </p>
+ *
+ * @author MURILO FURTADO
+ * @version 1.0
+ * @since 1.0
+ */
+public final class BattleSimulation {
+
+    /** Dano sofrido pelo Bardo ao errar o desafio, como em {@code processAnswer} */
+    private static final int BARD_CHALLENGE_PENALTY = 30;
+
+    /** Fração dos erros evitada com uma opção eliminada (2 opções restantes em vez de 3) */
+    private static final double CLAIRVOYANCE_BONUS = 0.5;
+
+    /** Fração dos erros evitada com uma dica */
+    private static final double HINT_BONUS = 0.25;
+
+    private final CombatService combatService;
+    private final GameConfig config;
+    private final int maxTurns;
+
+    public BattleSimulation(CombatService combatService, GameConfig config, int maxTurns) {
+        this.combatService = combatService;
+        this.config = config;
+        this.maxTurns = maxTurns;
+    }
+
+    /**
+     * Simula uma batalha e registra o resultado.
+     *
+     * @param characterProfile classe do jogador
+     * @param monsterProfile monstro enfrentado
+     * @param policy estratégia do jogador
+     * @param accuracy probabilidade de acerto de cada pergunta
+     * @param seed semente da batalha
+     * @param stats estatísticas onde o resultado é acumulado
+     */
+    public void run(CombatProfiles.ClassProfile characterProfile, CombatProfiles.MonsterProfile monsterProfile,
+                    PlayerPolicy policy, double accuracy, long seed, MatchupStats stats) {
+        BattleStateResponse battle = new BattleStateResponse();
+        battle.setRngState(seed);
+        battle.setCharacter(characterProfile.toBattleInfo(config));
+        battle.setMonster(monsterProfile.toBattleInfo());
+        BattleRandom random = BattleRandom.of(battle);
+        BattleStateResponse.CharacterBattleInfo character = battle.getCharacter();
+
+        double answerAccuracy = accuracy;
+        for (int turn = 0; turn < maxTurns; turn++) {
+            stats.recordEnergy(turn, character.getEnergy());
+
+            PlayerPolicy.Action action = combatService.hasCharacterEffect(battle, BattleEffectType.STUN)
+                ? null
+                : validate(battle, policy.choose(battle, config));
+
+            if (action == null) {
+                // Atordoado: passa o turno para o monstro
+                battle.setPendingDamageToMonster(0);
+                combatService.resolveMonsterTurn(battle);
+            } else {
+                switch (action) {
+                    case ANSWER -> {
+                        boolean correct = random.nextDouble() < answerAccuracy;
+                        answerAccuracy = accuracy;
+                        combatService.processAnswerTurn(battle, correct);
+                        if (!correct) {
+                            combatService.performMonsterTurn(battle);
+                        }
+                    }
+                    case ATTACK -> {
+                        character.setEnergy(character.getEnergy() - config.getCosts().getAttack());
+                        battle.setPendingDamageToMonster(combatService.performAttack(character).getDamageDealt());
+                        combatService.resolveMonsterTurn(battle);
+                    }
+                    case DEFEND -> {
+                        character.setEnergy(character.getEnergy() - config.getCosts().getDefend());
+                        combatService.performDefense(character);
+                        battle.setPendingDamageToMonster(0);
+                        combatService.resolveMonsterTurn(battle);
+                    }
+                    case SKILL -> {
+                        character.setEnergy(character.getEnergy() - config.getCosts().getAbility());
+                        CombatService.SkillResult result = combatService.performSkill(character);
+                        BattleEffectType effect = result.getEffect() != null ? result.getEffect().getType() : null;
+                        if (effect == BattleEffectType.BARD_CHALLENGE) {
+                            // O desafio encerra a batalha com a resposta da próxima pergunta
+                            if (random.nextDouble() < answerAccuracy) {
+                                stats.recordWin(turn + 1);
+                            } else {
+                                character.setHp(character.getHp() - BARD_CHALLENGE_PENALTY);
+                                stats.recordLoss(turn + 1);
+                            }
+                            return;
+                        }
+                        if (effect == BattleEffectType.REMOVE_WRONG_ANSWER) {
+                            answerAccuracy += (1 - answerAccuracy) * CLAIRVOYANCE_BONUS;
+                        } else if (effect == BattleEffectType.PROVIDE_HINT) {
+                            answerAccuracy += (1 - answerAccuracy) * HINT_BONUS;
+                        }
+                        Integer chargeDamage = character.getChargeBaseDamage();
+                        battle.setPendingDamageToMonster(chargeDamage != null ? chargeDamage : 0);
+                        combatService.resolveMonsterTurn(battle);
+                    }
+                }
+            }
+
+            if (battle.getMonster().getHp() <= 0) {
+                stats.recordWin(turn + 1);
+                return;
+            }
+            if (character.getHp() <= 0) {
+                stats.recordLoss(turn + 1);
+                return;
+            }
+        }
+        stats.recordTimeout();
+    }
+
+    /**
+     * Troca por uma resposta as ações que o {@code BattleService} recusaria.
+     */
+    private PlayerPolicy.Action validate(BattleStateResponse battle, PlayerPolicy.Action action) {
+        int energy = battle.getCharacter().getEnergy();
+        return switch (action) {
+            case ANSWER -> action;
+            case ATTACK -> energy >= config.getCosts().getAttack() ? action : PlayerPolicy.Action.ANSWER;
+            case DEFEND -> energy >= config.getCosts().getDefend() ? action : PlayerPolicy.Action.ANSWER;
+            case SKILL -> energy >= config.getCosts().getAbility()
+                && !combatService.hasCharacterEffect(battle, BattleEffectType.DISABLE_SKILL) ? action : PlayerPolicy.Action.ANSWER;
+        };
+    }
+}
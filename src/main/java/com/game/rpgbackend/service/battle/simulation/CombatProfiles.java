@@ -0,0 +1,107 @@
+package com.game.rpgbackend.service.battle.simulation;
+
+import com.game.rpgbackend.config.GameConfig;
+import com.game.rpgbackend.dto.response.battle.BattleStateResponse;
+import com.game.rpgbackend.enums.CharacterSkillType;
+import com.game.rpgbackend.enums.MonsterSkillType;
+
+import java.util.List;
+
+/**
+ * Classes e monstros usados pela simulação, com os mesmos atributos do
+ * {@code DatabaseSeeder}, para simular sem acesso ao banco.
+ *
+ * @author MURILO FURTADO
+ * @version 1.0
+ * @since 1.0
+ */
+public final class CombatProfiles {
+
+    /** Classes jogáveis */
+    public static final List<ClassProfile> CLASSES = List.of(
+        new ClassProfile("Tank", 150, 15, 2, 20),
+        new ClassProfile("Mago", 80, 2, 25, 5),
+        new ClassProfile("Lutador", 120, 20, 2, 15),
+        new ClassProfile("Ladino", 90, 20, 9, 12),
+        new ClassProfile("Paladino", 130, 18, 5, 10),
+        new ClassProfile("Bardo", 85, 5, 15, 7)
+    );
+
+    /** Monstros, na ordem de progressão */
+    public static final List<MonsterProfile> MONSTERS = List.of(
+        new MonsterProfile("Diabrete Errôneo", 150, 10, 5),
+        new MonsterProfile("Harpia Indagada", 120, 15, 8),
+        new MonsterProfile("Zumbi Demente", 250, 8, 12),
+        new MonsterProfile("Centauro Questionador", 200, 12, 10),
+        new MonsterProfile("Esqueleto da Sintaxe", 500, 20, 15),
+        new MonsterProfile("Lexicógrafo, o Guardião do Vazio", 1500, 40, 25),
+        new MonsterProfile("Malak, O Silenciador", 5000, 100, 50)
+    );
+
+    private CombatProfiles() {
+    }
+
+    /**
+     * Atributos de combate de uma classe.
+     */
+    public record ClassProfile(String name, int hp, int strength, int intelligence, int defense) {
+
+        /**
+         * Monta o personagem em batalha com vida e energia cheias, como em {@code startBattle}.
+         */
+        BattleStateResponse.CharacterBattleInfo toBattleInfo(GameConfig config) {
+            BattleStateResponse.CharacterBattleInfo info = new BattleStateResponse.CharacterBattleInfo();
+            info.setId(0);
+            info.setHp(hp);
+            info.setMaxHp(hp);
+            info.setEnergy(config.getBattle().getMaxEnergy());
+            info.setMaxEnergy(config.getBattle().getMaxEnergy());
+            info.setClassName(name);
+            info.setStrength(strength);
+            info.setIntelligence(intelligence);
+            info.setDefense(defense);
+            info.setLevel(1);
+            info.setSkill(CharacterSkillType.getByClassName(name));
+            return info;
+        }
+    }
+
+    /**
+     * Atributos de combate de um monstro.
+     */
+    public record MonsterProfile(String name, int hp, int damage, int defense) {
+
+        BattleStateResponse.MonsterBattleInfo toBattleInfo() {
+            BattleStateResponse.MonsterBattleInfo info = new BattleStateResponse.MonsterBattleInfo();
+            info.setId(0);
+            info.setHp(hp);
+            info.setMaxHp(hp);
+            info.setDano(damage);
+            info.setDefense(defense);
+            info.setNome(name);
+            info.setSkillMask(MonsterSkillType.skillMaskByMonsterName(name));
+            return info;
+        }
+    }
+
+    /**
+     * Busca uma classe pelo nome, sem diferenciar maiúsculas.
+     */
+    public static ClassProfile findClass(String name) {
+        return CLASSES.stream()
+            .filter(c -> c.name().equalsIgnoreCase(name))
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException("Classe desconhecida: " + name));
+    }
+
+    /**
+     * Busca um monstro pelo nome ou pelo início do nome, sem diferenciar maiúsculas.
+     */
+    public static MonsterProfile findMonster(String name) {
+        String prefix = name.toLowerCase();
+        return MONSTERS.stream()
+            .filter(m -> m.name().toLowerCase().startsWith(prefix))
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException("Monstro desconhecido: " + name));
+    }
+}
@@ -0,0 +1,240 @@
+package com.game.rpgbackend.service.battle.simulation;
+
+import com.game.rpgbackend.config.GameConfig;
+import com.game.rpgbackend.service.battle.BattleRandom;
+import com.game.rpgbackend.service.battle.CombatService;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Simulador Monte-Carlo de combate, executado pela linha de comando sem Spring nem banco.
+ * <p>
+ * Para cada combinação de classe, monstro, política e taxa de acerto, simula
+ * milhares (ou milhões) de batalhas em paralelo em um {@link ForkJoinPool} e
+ * imprime taxa de vitória, turnos até o fim da batalha (média, p50 e p90) e a
+ * curva de energia média do jogador ao longo dos turnos.
+ * </p>
+ * <p>
+ * Argumentos no formato {@code chave=valor}:
+ * </p>
+ * <ul>
+ *   <li>{@code battles} - batalhas por combinação (padrão 100000)</li>
+ *   <li>{@code seed} - semente base; cada batalha deriva a sua com {@link BattleRandom#split}</li>
+ *   <li>{@code classes}, {@code monsters}, {@code policies} - listas separadas por vírgula (padrão: todos)</li>
+ *   <li>{@code accuracy} - probabilidades de acerto das perguntas (padrão 0.7)</li>
+ *   <li>{@code max-turns} - limite de turnos por batalha (padrão 500)</li>
+ *   <li>{@code parallelism} - threads do pool (padrão: núcleos disponíveis)</li>
+ *   <li>{@code game.*} - sobrescreve a configuração do jogo, como no application.properties;
+ *       vários valores separados por vírgula geram uma varredura com todas as combinações</li>
+ * </ul>
+ * <p>
+ * Exemplo:
+ * {@code java -cp <classpath> com.game.rpgbackend.service.battle.simulation.CombatSimulator
+ * monsters=diabrete,harpia accuracy=0.5,0.8 game.costs.attack=2,3}
+ * </p>
+ *
+ * @author MURILO FURTADO
+ * @version 1.0
+ * @since 1.0
+ */
+public final class CombatSimulator {
+
+    /** Batalhas simuladas por tarefa folha antes de parar de dividir */
+    private static final int LEAF_BATTLES = 2048;
+
+    /** Turnos em que a curva de energia é amostrada no relatório */
+    private static final int[] ENERGY_TURNS = {0, 1, 2, 5, 10, 20, 50};
+
+    private CombatSimulator() {
+    }
+
+    public static void main(String[] args) {
+        Map<String, String> options = new LinkedHashMap<>();
+        Map<String, List<String>> sweep = new LinkedHashMap<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (eq <= 0) {
+                throw new IllegalArgumentException("Argumento inválido (use chave=valor): " + arg);
+            }
+            String key = arg.substring(0, eq);
+            String value = arg.substring(eq + 1);
+            if (key.startsWith("game.")) {
+                sweep.put(key, split(value));
+            } else {
+                options.put(key, value);
+            }
+        }
+
+        long battles = Long.parseLong(options.getOrDefault("battles", "100000"));
+        long seed = Long.parseLong(options.getOrDefault("seed", "42"));
+        int maxTurns = Integer.parseInt(options.getOrDefault("max-turns", "500"));
+        int parallelism = Integer.parseInt(options.getOrDefault("parallelism",
+            String.valueOf(Runtime.getRuntime().availableProcessors())));
+
+        List<CombatProfiles.ClassProfile> classes = options.containsKey("classes")
+            ? split(options.get("classes")).stream().map(CombatProfiles::findClass).toList()
+            : CombatProfiles.CLASSES;
+        List<CombatProfiles.MonsterProfile> monsters = options.containsKey("monsters")
+            ? split(options.get("monsters")).stream().map(CombatProfiles::findMonster).toList()
+            : CombatProfiles.MONSTERS;
+        List<PlayerPolicy.Standard> policies = options.containsKey("policies")
+            ? split(options.get("policies")).stream()
+                .map(name -> PlayerPolicy.Standard.valueOf(name.toUpperCase(Locale.ROOT).replace('-', '_')))
+                .toList()
+            : List.of(PlayerPolicy.Standard.values());
+        List<Double> accuracies = split(options.getOrDefault("accuracy", "0.7")).stream()
+            .map(Double::parseDouble)
+            .toList();
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            for (Map<String, String> overrides : combinations(sweep)) {
+                GameConfig config = bind(overrides);
+                CombatService combatService = new CombatService(config);
+                System.out.println();
+                System.out.println("# " + (overrides.isEmpty() ? "configuração padrão" : overrides));
+                printHeader();
+
+                long started = System.nanoTime();
+                long total = 0;
+                for (PlayerPolicy.Standard policy : policies) {
+                    for (double accuracy : accuracies) {
+                        for (CombatProfiles.ClassProfile characterProfile : classes) {
+                            for (CombatProfiles.MonsterProfile monsterProfile : monsters) {
+                                Matchup matchup = new Matchup(new BattleSimulation(combatService, config, maxTurns),
+                                    characterProfile, monsterProfile, policy, accuracy, maxTurns, seed);
+                                MatchupStats stats = pool.invoke(new SimulationTask(matchup, 0, battles));
+                                printRow(matchup, stats);
+                                total += stats.getBattles();
+                            }
+                        }
+                    }
+                }
+                double seconds = (System.nanoTime() - started) / 1e9;
+                System.out.printf(Locale.ROOT, "# %d batalhas em %.1fs (%.0f batalhas/s)%n",
+                    total, seconds, total / seconds);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Cria a configuração do jogo com os valores padrão e as sobrescritas informadas,
+     * usando o mesmo binder das propriedades do Spring Boot.
+     */
+    static GameConfig bind(Map<String, String> overrides) {
+        GameConfig config = new GameConfig();
+        new Binder(new MapConfigurationPropertySource(overrides)).bind("game", Bindable.ofInstance(config));
+        return config;
+    }
+
+    /**
+     * Produto cartesiano dos valores de cada propriedade da varredura.
+     */
+    static List<Map<String, String>> combinations(Map<String, List<String>> sweep) {
+        List<Map<String, String>> result = new ArrayList<>();
+        result.add(new LinkedHashMap<>());
+        for (Map.Entry<String, List<String>> entry : sweep.entrySet()) {
+            List<Map<String, String>> next = new ArrayList<>();
+            for (Map<String, String> partial : result) {
+                for (String value : entry.getValue()) {
+                    Map<String, String> combination = new LinkedHashMap<>(partial);
+                    combination.put(entry.getKey(), value);
+                    next.add(combination);
+                }
+            }
+            result = next;
+        }
+        return result;
+    }
+
+    private static List<String> split(String value) {
+        return Arrays.stream(value.split(","))
+            .map(String::trim)
+            .filter(s -> !s.isEmpty())
+            .toList();
+    }
+
+    private static void printHeader() {
+        StringBuilder header = new StringBuilder(String.format(Locale.ROOT,
+            "%-12s %-10s %-34s %5s %7s %7s %7s %7s %5s %5s",
+            "politica", "classe", "monstro", "acerto", "vitoria", "derrota", "limite", "turnos", "p50", "p90"));
+        for (int turn : ENERGY_TURNS) {
+            header.append(String.format(Locale.ROOT, " %5s", "e" + turn));
+        }
+        System.out.println(header);
+    }
+
+    private static void printRow(Matchup matchup, MatchupStats stats) {
+        double battles = Math.max(1, stats.getBattles());
+        StringBuilder row = new StringBuilder(String.format(Locale.ROOT,
+            "%-12s %-10s %-34s %5.2f %6.1f%% %6.1f%% %6.1f%% %7.1f %5d %5d",
+            matchup.policy().name().toLowerCase(Locale.ROOT),
+            matchup.characterProfile().name(),
+            matchup.monsterProfile().name(),
+            matchup.accuracy(),
+            100 * stats.getWins() / battles,
+            100 * stats.getLosses() / battles,
+            100 * stats.getTimeouts() / battles,
+            stats.meanTurns(),
+            stats.turnsPercentile(0.5),
+            stats.turnsPercentile(0.9)));
+        for (int turn : ENERGY_TURNS) {
+            double energy = stats.meanEnergyAt(turn);
+            row.append(Double.isNaN(energy) ? "     -" : String.format(Locale.ROOT, " %5.1f", energy));
+        }
+        System.out.println(row);
+    }
+
+    /**
+     * Uma combinação simulada: classe, monstro, política e taxa de acerto.
+     */
+    private record Matchup(BattleSimulation simulation, CombatProfiles.ClassProfile characterProfile,
+                           CombatProfiles.MonsterProfile monsterProfile, PlayerPolicy.Standard policy,
+                           double accuracy, int maxTurns, long seed) {
+    }
+
+    /**
+     * Divide o intervalo de batalhas ao meio até o tamanho de uma folha e
+     * combina as estatísticas parciais.
+     */
+    private static final class SimulationTask extends RecursiveTask<MatchupStats> {
+        private final Matchup matchup;
+        private final long from;
+        private final long to;
+
+        private SimulationTask(Matchup matchup, long from, long to) {
+            this.matchup = matchup;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected MatchupStats compute() {
+            if (to - from <= LEAF_BATTLES) {
+                MatchupStats stats = new MatchupStats(matchup.maxTurns());
+                for (long i = from; i < to; i++) {
+                    matchup.simulation().run(matchup.characterProfile(), matchup.monsterProfile(),
+                        matchup.policy(), matchup.accuracy(), BattleRandom.split(matchup.seed(), i), stats);
+                }
+                return stats;
+            }
+            long middle = (from + to) >>> 1;
+            SimulationTask left = new SimulationTask(matchup, from, middle);
+            left.fork();
+            MatchupStats right = new SimulationTask(matchup, middle, to).compute();
+            return left.join().merge(right);
+        }
+    }
+}
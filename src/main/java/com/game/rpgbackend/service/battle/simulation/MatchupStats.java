@@ -0,0 +1,144 @@
+package com.game.rpgbackend.service.battle.simulation;
+
+/**
+ * Estatísticas acumuladas das batalhas simuladas de um confronto (classe x monstro).
+ * <p>
+ * Cada tarefa da simulação acumula em sua própria instância, sem sincronização,
+ * e os resultados parciais são combinados com {@link #merge}.
+ * </p>
+ *
+ * @author MURILO FURTADO
+ * @version 1.0
+ * @since 1.0
+ */
+public final class MatchupStats {
+
+    private long wins;
+    private long losses;
+    private long timeouts;
+
+    /** Quantidade de batalhas encerradas por número de turnos */
+    private final long[] turnHistogram;
+
+    /** Soma e quantidade de amostras da energia do jogador no início de cada turno */
+    private final long[] energySum;
+    private final long[] energySamples;
+
+    public MatchupStats(int maxTurns) {
+        this.turnHistogram = new long[maxTurns + 1];
+        this.energySum = new long[maxTurns];
+        this.energySamples = new long[maxTurns];
+    }
+
+    void recordEnergy(int turn, int energy) {
+        energySum[turn] += energy;
+        energySamples[turn]++;
+    }
+
+    void recordWin(int turns) {
+        wins++;
+        turnHistogram[turns]++;
+    }
+
+    void recordLoss(int turns) {
+        losses++;
+        turnHistogram[turns]++;
+    }
+
+    void recordTimeout() {
+        timeouts++;
+    }
+
+    /**
+     * Soma as estatísticas de outra instância a esta.
+     *
+     * @param other estatísticas parciais
+     * @return esta instância
+     */
+    public MatchupStats merge(MatchupStats other) {
+        wins += other.wins;
+        losses += other.losses;
+        timeouts += other.timeouts;
+        for (int i = 0; i < turnHistogram.length; i++) {
+            turnHistogram[i] += other.turnHistogram[i];
+        }
+        for (int i = 0; i < energySum.length; i++) {
+            energySum[i] += other.energySum[i];
+            energySamples[i] += other.energySamples[i];
+        }
+        return this;
+    }
+
+    public long getBattles() {
+        return wins + losses + timeouts;
+    }
+
+    public long getWins() {
+        return wins;
+    }
+
+    public long getLosses() {
+        return losses;
+    }
+
+    public long getTimeouts() {
+        return timeouts;
+    }
+
+    /**
+     * Fração das batalhas vencidas.
+     */
+    public double winRate() {
+        long battles = getBattles();
+        return battles == 0 ? 0 : (double) wins / battles;
+    }
+
+    /**
+     * Média de turnos das batalhas que terminaram (vitória ou derrota).
+     */
+    public double meanTurns() {
+        long count = 0;
+        long sum = 0;
+        for (int i = 0; i < turnHistogram.length; i++) {
+            count += turnHistogram[i];
+            sum += turnHistogram[i] * i;
+        }
+        return count == 0 ? 0 : (double) sum / count;
+    }
+
+    /**
+     * Percentil do número de turnos das batalhas que terminaram.
+     *
+     * @param fraction percentil entre 0 e 1 (ex: 0.9)
+     * @return turnos, ou -1 se nenhuma batalha terminou
+     */
+    public int turnsPercentile(double fraction) {
+        long count = wins + losses;
+        if (count == 0) {
+            return -1;
+        }
+        long target = Math.max(1, (long) Math.ceil(count * fraction));
+        long seen = 0;
+        for (int i = 0; i < turnHistogram.length; i++) {
+            seen += turnHistogram[i];
+            if (seen >= target) {
+                return i;
+            }
+        }
+        return turnHistogram.length - 1;
+    }
+
+    /**
+     * Energia média do jogador no início do turno informado, entre as batalhas
+     * que ainda não tinham terminado.
+     *
+     * @param turn índice do turno, a partir de 0
+     * @return energia média, ou NaN se nenhuma batalha chegou ao turno
+     */
+    public double meanEnergyAt(int turn) {
+        if (turn >= energySamples.length || energySamples[turn] == 0) {
+            return Double.NaN;
+        }
+        return (double) energySum[turn] / energySamples[turn];
+    }
+}
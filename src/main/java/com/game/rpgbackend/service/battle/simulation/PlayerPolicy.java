@@ -0,0 +1,84 @@
+package com.game.rpgbackend.service.battle.simulation;
+
+import com.game.rpgbackend.config.GameConfig;
+import com.game.rpgbackend.dto.response.battle.BattleStateResponse;
+
+/**
+ * Estratégia de um jogador simulado.
+ * <p>
+ * A cada turno do jogador escolhe uma ação a partir do estado da batalha. A
+ * simulação valida a escolha como o {@code BattleService} faria: sem energia
+ * suficiente ou com a habilidade bloqueada, o jogador responde a pergunta; se
+ * estiver atordoado, passa o turno.
+ * </p>
+ *
+ * @author MURILO FURTADO
+ * @version 1.0
+ * @since 1.0
+ */
+@FunctionalInterface
+public interface PlayerPolicy {
+
+    /**
+     * Ações disponíveis para o jogador no seu turno.
+     */
+    enum Action {
+        ANSWER, ATTACK, DEFEND, SKILL
+    }
+
+    /**
+     * Escolhe a próxima ação do jogador.
+     *
+     * @param battle estado atual da batalha (somente leitura)
+     * @param config configuração do jogo usada na simulação
+     * @return ação escolhida
+     */
+    Action choose(BattleStateResponse battle, GameConfig config);
+
+    /**
+     * Políticas pré-definidas, selecionáveis pelo nome na linha de comando.
+     */
+    enum Standard implements PlayerPolicy {
+
+        /** Ataca sempre que tem energia; caso contrário responde para recuperá-la */
+        AGGRESSIVE {
+            @Override
+            public Action choose(BattleStateResponse battle, GameConfig config) {
+                return energy(battle) >= config.getCosts().getAttack() ? Action.ATTACK : Action.ANSWER;
+            }
+        },
+
+        /** Usa a habilidade da classe sempre que possível e ataca com a energia que sobrar */
+        SKILL_FIRST {
+            @Override
+            public Action choose(BattleStateResponse battle, GameConfig config) {
+                if (energy(battle) >= config.getCosts().getAbility()) {
+                    return Action.SKILL;
+                }
+                return AGGRESSIVE.choose(battle, config);
+            }
+        },
+
+        /** Ataca, mas defende (ou cura, no Paladino) quando a vida está abaixo de 40% */
+        DEFENSIVE {
+            @Override
+            public Action choose(BattleStateResponse battle, GameConfig config) {
+                BattleStateResponse.CharacterBattleInfo character = battle.getCharacter();
+                if (character.getHp() * 10 < character.getMaxHp() * 4) {
+                    if ("paladino".equalsIgnoreCase(character.getClassName())
+                        && energy(battle) >= config.getCosts().getAbility()) {
+                        return Action.SKILL;
+                    }
+                    if (energy(battle) >= config.getCosts().getDefend()) {
+                        return Action.DEFEND;
+                    }
+                }
+                return AGGRESSIVE.choose(battle, config);
+            }
+        };
+
+        private static int energy(BattleStateResponse battle) {
+            return battle.getCharacter().getEnergy();
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.game.rpgbackend.service.battle.state;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.game.rpgbackend.dto.response.battle.EffectSet;
+import com.game.rpgbackend.service.battle.event.BattleEventBuffer;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Representação interna e compacta de uma batalha em andamento.
+ * <p>
+ * É o que fica em memória (e no journal) enquanto a batalha está ativa.
+ * Todos os atributos numéricos e flags são primitivos, os nomes apontam para
+ * instâncias compartilhadas do {@link BattleInterner}, a questão atual é uma
+ * {@link BattleQuestion} compartilhada e os efeitos ocupam um {@link EffectSet}
+ * alocado apenas quando existe algum efeito ativo.
+ * </p>
+ * <p>
+ * O {@code BattleStateResponse} enviado ao cliente é montado a partir desta
+ * classe pelo {@link BattleStateMapper}. Listas de quests e o texto do último
+ * turno pertencem à resposta de cada requisição e não são mantidos aqui; só o
+ * hash das últimas listas de quests enviadas fica guardado, para os deltas.
+ * </p>
+ * <p>
+ * O {@link BattleEventBuffer} é compartilhado entre os estados sucessivos da
+ * mesma batalha e acumula o log de eventos até o encerramento. Ele não vai
+ * para o journal: uma batalha recuperada após um reinício começa um log novo
+ * a partir do estado recuperado.
+ * </p>
+ *
+ * @author MURILO FURTADO
+ * @version 1.0
+ * @since 1.0
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY,
+    getterVisibility = JsonAutoDetect.Visibility.NONE,
+    isGetterVisibility = JsonAutoDetect.Visibility.NONE,
+    setterVisibility = JsonAutoDetect.Visibility.NONE)
+public class ActiveBattle {
+
+    /** Valor usado nos campos de dano quando não houve dano registrado no turno e nas habilidades não resolvidas */
+    public static final int NONE = Integer.MIN_VALUE;
+
+    private long battleId;
+    private int version;
+    private String difficulty;
+    private long rngState;
+
+    // Personagem
+    private int characterId;
+    private int characterHp;
+    private int characterMaxHp;
+    private int characterEnergy;
+    private int characterMaxEnergy;
+    private String className;
+    private int strength;
+    private int intelligence;
+    private int characterDefense;
+    private int level;
+    private int xp;
+    private int maxXpForLevel;
+    private int gold;
+    private boolean characterDefending;
+    private boolean chargeActive;
+    private int chargeBaseDamage;
+    private int characterSkill = NONE;
+
+    // Monstro
+    private int monsterId;
+    private int monsterHp;
+    private int monsterMaxHp;
+    private int monsterDamage;
+    private int monsterDefense;
+    private boolean monsterDefending;
+    private String monsterName;
+    private int monsterSkillMask = NONE;
+
+    // Turno
+    private BattleQuestion question;
+    private boolean finished;
+    private boolean bardChallengeActive;
+    private boolean waitingForMonsterTurn;
+    private boolean playerTurn = true;
+    private int characterDamageDealt = NONE;
+    private int monsterDamageDealt = NONE;
+    private String monsterAction;
+    private int pendingDamageToMonster;
+    private int monsterGuaranteedAttacks;
+
+    // Efeitos
+    private EffectSet characterEffects;
+    private EffectSet monsterEffects;
+
+    // Log de eventos
+    @JsonIgnore
+    private BattleEventBuffer events;
+
+    /**
+     * Merge patch da versão anterior para esta, calculado uma única vez no
+     * salvamento quando o canal de eventos precisa dele e reaproveitado pela
+     * resposta HTTP ({@code BattleDeltaEncoder}). Nunca vai para o journal.
+     */
+    @JsonIgnore
+    private transient ObjectNode patch;
+
+    /**
+     * Hash das listas de quests da última resposta desta batalha que as trouxe
+     * ({@link BattleStateMapper#questsHash}), ou 0 se nenhuma trouxe. Os deltas
+     * só incluem as listas quando ele muda. Não vai para o journal: uma batalha
+     * recuperada volta a enviar as listas na próxima resposta que as tiver.
+     */
+    @JsonIgnore
+    private transient int questsHash;
+}
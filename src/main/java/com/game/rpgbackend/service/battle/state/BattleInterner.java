@@ -0,0 +1,72 @@
+package com.game.rpgbackend.service.battle.state;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pool de instâncias compartilhadas entre todas as batalhas ativas.
+ * <p>
+ * Nomes de monstros e classes, dificuldades, tipos e descrições de efeitos e
+ * questões formam conjuntos pequenos e repetidos em milhares de batalhas.
+ * Guardar uma única instância de cada valor faz com que cada batalha pague
+ * apenas o custo da referência.
+ * </p>
+ * <p>
+ * Os pools têm tamanho limitado; ao atingir o limite, novos valores deixam
+ * de ser compartilhados, mas continuam funcionando normalmente.
+ * </p>
+ *
+ * @author MURILO FURTADO
+ * @version 1.0
+ * @since 1.0
+ */
+public final class BattleInterner {
+
+    private static final int MAX_NAMES = 4096;
+    private static final int MAX_QUESTIONS = 65_536;
+
+    private static final Map<String, String> NAMES = new ConcurrentHashMap<>();
+    private static final Map<BattleQuestion, BattleQuestion> QUESTIONS = new ConcurrentHashMap<>();
+
+    private BattleInterner() {
+    }
+
+    /**
+     * Retorna a instância compartilhada de um nome.
+     *
+     * @param value nome a ser compartilhado
+     * @return instância compartilhada, ou o próprio valor se o pool estiver cheio
+     */
+    public static String name(String value) {
+        if (value == null) {
+            return null;
+        }
+        String shared = NAMES.get(value);
+        if (shared != null) {
+            return shared;
+        }
+        if (NAMES.size() >= MAX_NAMES) {
+            return value;
+        }
+        shared = NAMES.putIfAbsent(value, value);
+        return shared != null ? shared : value;
+    }
+
+    /**
+     * Retorna a instância compartilhada de uma questão.
+     *
+     * @param question questão a ser compartilhada
+     * @return instância compartilhada, ou a própria questão se o pool estiver cheio
+     */
+    static BattleQuestion question(BattleQuestion question) {
+        BattleQuestion shared = QUESTIONS.get(question);
+        if (shared != null) {
+            return shared;
+        }
+        if (QUESTIONS.size() >= MAX_QUESTIONS) {
+            return question;
+        }
+        shared = QUESTIONS.putIfAbsent(question, question);
+        return shared != null ? shared : question;
+    }
+}
@@ -0,0 +1,92 @@
+package com.game.rpgbackend.service.battle.state;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Questão apresentada em uma batalha, imutável e compartilhada.
+ * <p>
+ * Instâncias são obtidas por {@link #of}, que devolve a cópia já existente
+ * no {@link BattleInterner} quando outra batalha usa a mesma questão com as
+ * mesmas opções. Uma questão com uma opção eliminada (Clarividência do Mago)
+ * é simplesmente outra instância compartilhada.
+ * </p>
+ *
+ * @author MURILO FURTADO
+ * @version 1.0
+ * @since 1.0
+ */
+@Getter
+@EqualsAndHashCode
+public final class BattleQuestion {
+
+    /** ID da questão */
+    private final Integer id;
+
+    /** Texto da pergunta */
+    private final String text;
+
+    /** Opções de resposta exibidas */
+    private final List<String> options;
+
+    /** Nível mínimo necessário para a questão */
+    private final Integer minLevel;
+
+    /** Dificuldade da questão */
+    private final String difficulty;
+
+    /** Chave da resposta correta ({@code AnswerKeys}), ou null se desconhecida */
+    private final Long answerKey;
+
+    private BattleQuestion(Integer id, String text, List<String> options, Integer minLevel, String difficulty,
+                           Long answerKey) {
+        this.id = id;
+        this.text = text;
+        this.options = options;
+        this.minLevel = minLevel;
+        this.difficulty = difficulty;
+        this.answerKey = answerKey;
+    }
+
+    /**
+     * Obtém a instância compartilhada de uma questão, sem chave de resposta.
+     *
+     * @param id ID da questão
+     * @param text texto da pergunta
+     * @param options opções de resposta
+     * @param minLevel nível mínimo (pode ser null)
+     * @param difficulty dificuldade (pode ser null)
+     * @return questão compartilhada
+     */
+    public static BattleQuestion of(Integer id, String text, List<String> options, Integer minLevel,
+                                    String difficulty) {
+        return of(id, text, options, minLevel, difficulty, null);
+    }
+
+    /**
+     * Obtém a instância compartilhada de uma questão.
+     *
+     * @param id ID da questão
+     * @param text texto da pergunta
+     * @param options opções de resposta
+     * @param minLevel nível mínimo (pode ser null)
+     * @param difficulty dificuldade (pode ser null)
+     * @param answerKey chave da resposta correta (pode ser null)
+     * @return questão compartilhada
+     */
+    @JsonCreator
+    public static BattleQuestion of(@JsonProperty("id") Integer id,
+                                    @JsonProperty("text") String text,
+                                    @JsonProperty("options") List<String> options,
+                                    @JsonProperty("minLevel") Integer minLevel,
+                                    @JsonProperty("difficulty") String difficulty,
+                                    @JsonProperty("answerKey") Long answerKey) {
+        List<String> copy = options == null ? List.of() : List.copyOf(options);
+        return BattleInterner.question(
+            new BattleQuestion(id, text, copy, minLevel, BattleInterner.name(difficulty), answerKey));
+    }
+}
@@ -0,0 +1,201 @@
+package com.game.rpgbackend.service.battle.state;
+
+import com.game.rpgbackend.dto.response.battle.BattleStateResponse;
+import com.game.rpgbackend.dto.response.battle.EffectSet;
+import com.game.rpgbackend.enums.CharacterSkillType;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+/**
+ * Converte entre o estado compacto {@link ActiveBattle} e o DTO da API.
+ * <p>
+ * O DTO é montado a cada requisição como cópia de trabalho e descartado ao
+ * final dela; apenas o {@link ActiveBattle} permanece em memória.
+ * </p>
+ *
+ * @author MURILO FURTADO
+ * @version 1.0
+ * @since 1.0
+ */
+@Component
+public class BattleStateMapper {
+
+    /**
+     * Monta o DTO de resposta a partir do estado compacto.
+     *
+     * @param battle estado compacto da batalha
+     * @return novo DTO com o estado da batalha, ou null se battle for null
+     */
+    public BattleStateResponse toResponse(ActiveBattle battle) {
+        if (battle == null) {
+            return null;
+        }
+
+        BattleStateResponse response = new BattleStateResponse();
+        response.setBattleId(battle.getBattleId());
+        response.setVersion(battle.getVersion());
+        response.setDifficulty(battle.getDifficulty());
+        response.setRngState(battle.getRngState());
+
+        BattleStateResponse.CharacterBattleInfo character = new BattleStateResponse.CharacterBattleInfo();
+        character.setId(battle.getCharacterId());
+        character.setHp(battle.getCharacterHp());
+        character.setMaxHp(battle.getCharacterMaxHp());
+        character.setEnergy(battle.getCharacterEnergy());
+        character.setMaxEnergy(battle.getCharacterMaxEnergy());
+        character.setClassName(battle.getClassName());
+        character.setStrength(battle.getStrength());
+        character.setIntelligence(battle.getIntelligence());
+        character.setDefense(battle.getCharacterDefense());
+        character.setLevel(battle.getLevel());
+        character.setXp(battle.getXp());
+        character.setMaxXpForLevel(battle.getMaxXpForLevel());
+        character.setGold(battle.getGold());
+        character.setIsDefending(battle.isCharacterDefending());
+        character.setChargeBaseDamage(battle.isChargeActive() ? battle.getChargeBaseDamage() : null);
+        character.setSkill(battle.getCharacterSkill() != ActiveBattle.NONE
+            ? CharacterSkillType.fromOrdinal(battle.getCharacterSkill())
+            : null);
+        response.setCharacter(character);
+
+        BattleStateResponse.MonsterBattleInfo monster = new BattleStateResponse.MonsterBattleInfo();
+        monster.setId(battle.getMonsterId());
+        monster.setHp(battle.getMonsterHp());
+        monster.setMaxHp(battle.getMonsterMaxHp());
+        monster.setDano(battle.getMonsterDamage());
+        monster.setDefense(battle.getMonsterDefense());
+        monster.setIsDefending(battle.isMonsterDefending());
+        monster.setNome(battle.getMonsterName());
+        monster.setSkillMask(fromNone(battle.getMonsterSkillMask()));
+        response.setMonster(monster);
+
+        BattleQuestion question = battle.getQuestion();
+        if (question != null) {
+            BattleStateResponse.QuestionInfo questionInfo = new BattleStateResponse.QuestionInfo();
+            questionInfo.setId(question.getId());
+            questionInfo.setTexto(question.getText());
+            questionInfo.setOpcoes(question.getOptions());
+            questionInfo.setNivelMinimo(question.getMinLevel());
+            questionInfo.setDifficulty(question.getDifficulty());
+            questionInfo.setAnswerKey(question.getAnswerKey());
+            response.setCurrentQuestion(questionInfo);
+        }
+
+        response.setIsFinished(battle.isFinished());
+        response.setBardChallengeActive(battle.isBardChallengeActive());
+        response.setWaitingForMonsterTurn(battle.isWaitingForMonsterTurn());
+        response.setIsPlayerTurn(battle.isPlayerTurn());
+        response.setCharacterDamageDealt(fromNone(battle.getCharacterDamageDealt()));
+        response.setMonsterDamageDealt(fromNone(battle.getMonsterDamageDealt()));
+        response.setMonsterAction(battle.getMonsterAction());
+        response.setPendingDamageToMonster(battle.getPendingDamageToMonster());
+        response.setMonsterGuaranteedAttacks(battle.getMonsterGuaranteedAttacks());
+
+        response.getCharacterEffects().copyFrom(battle.getCharacterEffects());
+        response.getMonsterEffects().copyFrom(battle.getMonsterEffects());
+        return response;
+    }
+
+    /**
+     * Cria o estado compacto a partir do DTO de trabalho de uma requisição.
+     *
+     * @param response DTO com o estado da batalha
+     * @return novo estado compacto
+     */
+    public ActiveBattle toState(BattleStateResponse response) {
+        ActiveBattle battle = new ActiveBattle();
+        battle.setBattleId(response.getBattleId() != null ? response.getBattleId() : 0L);
+        battle.setVersion(orZero(response.getVersion()));
+        battle.setDifficulty(BattleInterner.name(response.getDifficulty()));
+        battle.setRngState(response.getRngState());
+
+        BattleStateResponse.CharacterBattleInfo character = response.getCharacter();
+        if (character != null) {
+            battle.setCharacterId(orZero(character.getId()));
+            battle.setCharacterHp(orZero(character.getHp()));
+            battle.setCharacterMaxHp(orZero(character.getMaxHp()));
+            battle.setCharacterEnergy(orZero(character.getEnergy()));
+            battle.setCharacterMaxEnergy(orZero(character.getMaxEnergy()));
+            battle.setClassName(BattleInterner.name(character.getClassName()));
+            battle.setStrength(orZero(character.getStrength()));
+            battle.setIntelligence(orZero(character.getIntelligence()));
+            battle.setCharacterDefense(orZero(character.getDefense()));
+            battle.setLevel(orZero(character.getLevel()));
+            battle.setXp(orZero(character.getXp()));
+            battle.setMaxXpForLevel(orZero(character.getMaxXpForLevel()));
+            battle.setGold(orZero(character.getGold()));
+            battle.setCharacterDefending(Boolean.TRUE.equals(character.getIsDefending()));
+            if (character.getChargeBaseDamage() != null) {
+                battle.setChargeActive(true);
+                battle.setChargeBaseDamage(character.getChargeBaseDamage());
+            }
+            battle.setCharacterSkill(character.getSkill() != null ? character.getSkill().ordinal() : ActiveBattle.NONE);
+        }
+
+        BattleStateResponse.MonsterBattleInfo monster = response.getMonster();
+        if (monster != null) {
+            battle.setMonsterId(orZero(monster.getId()));
+            battle.setMonsterHp(orZero(monster.getHp()));
+            battle.setMonsterMaxHp(orZero(monster.getMaxHp()));
+            battle.setMonsterDamage(orZero(monster.getDano()));
+            battle.setMonsterDefense(orZero(monster.getDefense()));
+            battle.setMonsterDefending(Boolean.TRUE.equals(monster.getIsDefending()));
+            battle.setMonsterName(BattleInterner.name(monster.getNome()));
+            battle.setMonsterSkillMask(toNone(monster.getSkillMask()));
+        }
+
+        BattleStateResponse.QuestionInfo question = response.getCurrentQuestion();
+        if (question != null) {
+            battle.setQuestion(BattleQuestion.of(
+                question.getId(),
+                question.getTexto(),
+                question.getOpcoes(),
+                question.getNivelMinimo(),
+                question.getDifficulty(),
+                question.getAnswerKey()
+            ));
+        }
+
+        battle.setFinished(Boolean.TRUE.equals(response.getIsFinished()));
+        battle.setBardChallengeActive(Boolean.TRUE.equals(response.getBardChallengeActive()));
+        battle.setWaitingForMonsterTurn(Boolean.TRUE.equals(response.getWaitingForMonsterTurn()));
+        battle.setPlayerTurn(!Boolean.FALSE.equals(response.getIsPlayerTurn()));
+        battle.setCharacterDamageDealt(toNone(response.getCharacterDamageDealt()));
+        battle.setMonsterDamageDealt(toNone(response.getMonsterDamageDealt()));
+        battle.setMonsterAction(BattleInterner.name(response.getMonsterAction()));
+        battle.setPendingDamageToMonster(orZero(response.getPendingDamageToMonster()));
+        battle.setMonsterGuaranteedAttacks(orZero(response.getMonsterGuaranteedAttacks()));
+
+        battle.setCharacterEffects(EffectSet.copyOrNull(response.getCharacterEffects()));
+        battle.setMonsterEffects(EffectSet.copyOrNull(response.getMonsterEffects()));
+        battle.setQuestsHash(questsHash(response));
+        return battle;
+    }
+
+    /**
+     * Hash das listas de quests trazidas por uma resposta.
+     *
+     * @param response DTO com o estado da batalha
+     * @return hash das listas, diferente de 0, ou 0 se a resposta não trouxer nenhuma
+     */
+    public static int questsHash(BattleStateResponse response) {
+        if (response.getActiveQuests() == null && response.getCompletedQuests() == null) {
+            return 0;
+        }
+        int hash = Objects.hash(response.getActiveQuests(), response.getCompletedQuests());
+        return hash != 0 ? hash : 1;
+    }
+
+    private static int orZero(Integer value) {
+        return value != null ? value : 0;
+    }
+
+    private static int toNone(Integer value) {
+        return value != null ? value : ActiveBattle.NONE;
+    }
+
+    private static Integer fromNone(int value) {
+        return value != ActiveBattle.NONE ? value : null;
+    }
+}
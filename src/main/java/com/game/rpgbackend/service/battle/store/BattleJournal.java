@@ -0,0 +1,528 @@
+package com.game.rpgbackend.service.battle.store;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Log local append-only e segmentado usado pelo {@link JournaledBattleStateStore}.
+ * <p>
+ * Cada alteração de batalha é gravada como um registro
+ * {@code [tamanho][crc32][op][userId][payload]} no segmento corrente
+ * ({@code segment-N.log}). Quando o segmento atinge o tamanho configurado
+ * ele é rotacionado, e a cada {@code snapshotEveryRecords} registros o estado
+ * mais recente de cada batalha é compactado em {@code snapshot-N.snap},
+ * permitindo apagar todos os segmentos anteriores a N.
+ * </p>
+ * <p>
+ * A gravação acontece em uma única thread dedicada que consome uma fila em lotes,
+ * de forma que {@link #append} nunca faz I/O na thread da requisição.
+ * Na recuperação, o snapshot mais recente é carregado e os segmentos posteriores
+ * são reaplicados; um registro final incompleto (queda no meio da escrita)
+ * é descartado pela verificação de tamanho e CRC.
+ * </p>
+ * <p>
+ * A fila é limitada e {@link #append} nunca espera por espaço: a thread da
+ * ação de batalha não pode ficar presa atrás de um disco lento. Um erro de I/O fecha o segmento
+ * corrente e grava um snapshot em um segmento novo, com algumas tentativas;
+ * se todas falharem, ou se a fila continuar cheia, o journal é desativado
+ * ({@link #isFailedOver()}) e as batalhas seguem apenas em memória. Nesse caso,
+ * um reinício recupera o último estado que chegou ao disco.
+ * </p>
+ *
+ * @author MURILO FURTADO
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+public class BattleJournal implements AutoCloseable {
+
+    /** Registro de inserção/atualização do estado de uma batalha */
+    public static final byte OP_PUT = 1;
+
+    /** Registro de remoção de uma batalha */
+    public static final byte OP_REMOVE = 2;
+
+    /** Registro de remoção de todas as batalhas */
+    public static final byte OP_CLEAR = 3;
+
+    private static final int SNAPSHOT_MAGIC = 0x42534E50; // "BSNP"
+    private static final int MAX_BATCH = 1024;
+    private static final int MAX_REOPEN_ATTEMPTS = 3;
+    private static final long REOPEN_BACKOFF_MILLIS = 1000;
+
+    private final Path directory;
+    private final long segmentBytes;
+    private final int snapshotEveryRecords;
+    private final boolean fsync;
+
+    private final BlockingQueue<Entry> queue;
+
+    /** Último payload conhecido por usuário; usado apenas pela thread gravadora */
+    private final Map<Integer, byte[]> latest = new HashMap<>();
+
+    private long segmentSeq;
+    private FileOutputStream segmentFile;
+    private DataOutputStream segmentOut;
+    private long segmentSize;
+    private int recordsSinceSnapshot;
+
+    private volatile boolean running;
+    private Thread writer;
+
+    /** Último erro do gravador; null enquanto o journal está saudável */
+    private volatile Throwable failure;
+
+    /** Se true, o journal desistiu de gravar e {@link #append} descarta os registros */
+    private volatile boolean failedOver;
+
+    /** Registros já gravados no disco desde {@link #start()} */
+    private volatile long written;
+
+    /**
+     * Cria um journal sobre o diretório informado.
+     *
+     * @param directory diretório dos segmentos e snapshots
+     * @param segmentBytes tamanho máximo de cada segmento em bytes
+     * @param snapshotEveryRecords registros entre duas compactações
+     * @param fsync se true, força a gravação em disco ao final de cada lote
+     * @param maxQueuedRecords capacidade da fila de registros aguardando gravação
+     */
+    public BattleJournal(Path directory, long segmentBytes, int snapshotEveryRecords, boolean fsync,
+                         int maxQueuedRecords) {
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        this.snapshotEveryRecords = snapshotEveryRecords;
+        this.fsync = fsync;
+        this.queue = new ArrayBlockingQueue<>(maxQueuedRecords);
+    }
+
+    /**
+     * Recupera o estado mais recente de cada batalha a partir do disco.
+     * <p>
+     * Deve ser chamado uma única vez, antes de {@link #start()}.
+     * </p>
+     *
+     * @return payload mais recente de cada usuário com batalha ativa
+     */
+    public Map<Integer, byte[]> recover() {
+        try {
+            Files.createDirectories(directory);
+
+            long snapshotSeq = latestSeq("snapshot-", ".snap");
+            if (snapshotSeq >= 0) {
+                readSnapshot(snapshotPath(snapshotSeq));
+            }
+
+            // Segmentos anteriores ao snapshot já estão contidos nele
+            long lastSegment = Math.max(snapshotSeq, 0);
+            for (long seq : listSeqs("segment-", ".log")) {
+                if (snapshotSeq < 0 || seq >= snapshotSeq) {
+                    replaySegment(segmentPath(seq));
+                    lastSegment = Math.max(lastSegment, seq);
+                }
+            }
+
+            // Sempre começa um segmento novo para não anexar após um registro truncado
+            segmentSeq = lastSegment + 1;
+            return new HashMap<>(latest);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao recuperar o journal de batalhas", e);
+        }
+    }
+
+    /**
+     * Inicia a thread gravadora do journal.
+     */
+    public void start() {
+        try {
+            openSegment(segmentSeq);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao abrir segmento do journal", e);
+        }
+        running = true;
+        writer = new Thread(this::writeLoop, "battle-journal-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Enfileira um registro para gravação assíncrona.
+     * <p>
+     * Não bloqueia: com a fila cheia, o journal é desativado na hora, pois um
+     * registro perdido deixaria o log inconsistente com a memória.
+     * </p>
+     *
+     * @param op tipo do registro ({@link #OP_PUT}, {@link #OP_REMOVE}, {@link #OP_CLEAR})
+     * @param userId identificador do usuário
+     * @param payload estado serializado (vazio para remoções)
+     * @return false se o registro não foi aceito porque o journal está desativado
+     */
+    public boolean append(byte op, int userId, byte[] payload) {
+        if (failedOver) {
+            return false;
+        }
+        if (queue.offer(new Entry(op, userId, payload))) {
+            return true;
+        }
+        failOver(new IOException("Fila do journal cheia (" + (queue.size() + queue.remainingCapacity()) + " registros)"));
+        return false;
+    }
+
+    /**
+     * Retorna a quantidade de registros aguardando gravação.
+     *
+     * @return tamanho atual da fila do gravador
+     */
+    public int pending() {
+        return queue.size();
+    }
+
+    /**
+     * Retorna a capacidade da fila do gravador.
+     *
+     * @return máximo de registros aguardando gravação
+     */
+    public int capacity() {
+        return queue.size() + queue.remainingCapacity();
+    }
+
+    /**
+     * Retorna a quantidade de registros gravados desde {@link #start()}.
+     *
+     * @return registros gravados
+     */
+    public long written() {
+        return written;
+    }
+
+    /**
+     * Retorna o último erro do gravador.
+     *
+     * @return erro corrente, ou null se o journal está saudável
+     */
+    public Throwable failure() {
+        return failure;
+    }
+
+    /**
+     * Indica se o journal foi desativado após uma falha.
+     *
+     * @return true se os registros não estão mais sendo gravados
+     */
+    public boolean isFailedOver() {
+        return failedOver;
+    }
+
+    /**
+     * Para a thread gravadora, gravando os registros pendentes e um snapshot final.
+     */
+    @Override
+    public void close() {
+        running = false;
+        if (writer != null) {
+            try {
+                writer.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void writeLoop() {
+        List<Entry> batch = new ArrayList<>(MAX_BATCH);
+        try {
+            while (running || !queue.isEmpty()) {
+                Entry first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, MAX_BATCH - 1);
+
+                try {
+                    writeBatch(batch);
+                } catch (IOException e) {
+                    if (!reopen(batch, e)) {
+                        return;
+                    }
+                }
+                written += batch.size();
+                batch.clear();
+            }
+            compact();
+            segmentOut.close();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            log.error("Falha ao gravar o snapshot final do journal de batalhas", e);
+        }
+    }
+
+    private void writeBatch(List<Entry> batch) throws IOException {
+        for (Entry entry : batch) {
+            writeRecord(entry);
+            apply(entry.op, entry.userId, entry.payload);
+        }
+
+        segmentOut.flush();
+        if (fsync) {
+            segmentFile.getChannel().force(false);
+        }
+
+        if (recordsSinceSnapshot >= snapshotEveryRecords) {
+            compact();
+        } else if (segmentSize >= segmentBytes) {
+            openSegment(segmentSeq + 1);
+        }
+    }
+
+    /**
+     * Recupera o gravador após um erro de I/O.
+     * <p>
+     * O segmento corrente pode ter ficado com um registro incompleto, então ele
+     * é abandonado e o estado conhecido (incluindo o lote que falhou) é gravado
+     * em um snapshot sobre um segmento novo. Reaplicar o lote é seguro: cada
+     * registro carrega o estado completo da batalha.
+     * </p>
+     *
+     * @return false se todas as tentativas falharam e o journal foi desativado
+     */
+    private boolean reopen(List<Entry> batch, IOException cause) throws InterruptedException {
+        failure = cause;
+        log.error("Erro de I/O no journal de batalhas, abrindo um novo segmento", cause);
+        for (Entry entry : batch) {
+            apply(entry.op, entry.userId, entry.payload);
+        }
+
+        for (int attempt = 1; attempt <= MAX_REOPEN_ATTEMPTS; attempt++) {
+            closeSegmentQuietly();
+            try {
+                compact();
+                failure = null;
+                log.info("Journal de batalhas retomado no segmento {}", segmentSeq);
+                return true;
+            } catch (IOException e) {
+                failure = e;
+                log.warn("Tentativa {}/{} de reabrir o journal de batalhas falhou: {}",
+                    attempt, MAX_REOPEN_ATTEMPTS, e.getMessage());
+                Thread.sleep(REOPEN_BACKOFF_MILLIS * attempt);
+            }
+        }
+        closeSegmentQuietly();
+        failOver(failure);
+        return false;
+    }
+
+    /**
+     * Desativa o journal: os registros pendentes são descartados e os próximos recusados.
+     */
+    private synchronized void failOver(Throwable cause) {
+        if (failedOver) {
+            return;
+        }
+        failure = cause;
+        failedOver = true;
+        running = false;
+        queue.clear();
+        log.error("Journal de batalhas desativado; as batalhas ativas seguem apenas em memória", cause);
+    }
+
+    private void closeSegmentQuietly() {
+        if (segmentOut != null) {
+            try {
+                segmentOut.close();
+            } catch (IOException e) {
+                log.debug("Falha ao fechar o segmento {} do journal: {}", segmentSeq, e.getMessage());
+            }
+            segmentOut = null;
+        }
+    }
+
+    private void writeRecord(Entry entry) throws IOException {
+        int bodyLength = 1 + 4 + entry.payload.length;
+        CRC32 crc = new CRC32();
+        crc.update(entry.op);
+        crc.update(intBytes(entry.userId));
+        crc.update(entry.payload);
+
+        segmentOut.writeInt(bodyLength);
+        segmentOut.writeInt((int) crc.getValue());
+        segmentOut.writeByte(entry.op);
+        segmentOut.writeInt(entry.userId);
+        segmentOut.write(entry.payload);
+
+        segmentSize += 8 + bodyLength;
+        recordsSinceSnapshot++;
+    }
+
+    private void apply(byte op, int userId, byte[] payload) {
+        switch (op) {
+            case OP_PUT -> latest.put(userId, payload);
+            case OP_REMOVE -> latest.remove(userId);
+            case OP_CLEAR -> latest.clear();
+            default -> log.warn("Registro de journal desconhecido: op={}", op);
+        }
+    }
+
+    /**
+     * Grava um snapshot com o estado mais recente e apaga os arquivos anteriores a ele.
+     */
+    private void compact() throws IOException {
+        long snapshotSeq = segmentSeq + 1;
+        openSegment(snapshotSeq);
+
+        Path tmp = directory.resolve("snapshot.tmp");
+        try (FileOutputStream file = new FileOutputStream(tmp.toFile());
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file))) {
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeInt(latest.size());
+            for (Map.Entry<Integer, byte[]> entry : latest.entrySet()) {
+                out.writeInt(entry.getKey());
+                out.writeInt(entry.getValue().length);
+                out.write(entry.getValue());
+            }
+            out.flush();
+            file.getChannel().force(true);
+        }
+        Files.move(tmp, snapshotPath(snapshotSeq), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        for (long seq : listSeqs("segment-", ".log")) {
+            if (seq < snapshotSeq) {
+                Files.deleteIfExists(segmentPath(seq));
+            }
+        }
+        for (long seq : listSeqs("snapshot-", ".snap")) {
+            if (seq < snapshotSeq) {
+                Files.deleteIfExists(snapshotPath(seq));
+            }
+        }
+        recordsSinceSnapshot = 0;
+        log.debug("Journal de batalhas compactado: {} batalhas no snapshot {}", latest.size(), snapshotSeq);
+    }
+
+    private void openSegment(long seq) throws IOException {
+        if (segmentOut != null) {
+            segmentOut.close();
+        }
+        segmentSeq = seq;
+        segmentFile = new FileOutputStream(segmentPath(seq).toFile(), true);
+        segmentOut = new DataOutputStream(new BufferedOutputStream(segmentFile, 64 * 1024));
+        segmentSize = Files.size(segmentPath(seq));
+    }
+
+    private void readSnapshot(Path path) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            if (in.readInt() != SNAPSHOT_MAGIC) {
+                throw new IOException("Snapshot inválido: " + path);
+            }
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                int userId = in.readInt();
+                byte[] payload = new byte[in.readInt()];
+                in.readFully(payload);
+                latest.put(userId, payload);
+            }
+        }
+    }
+
+    private void replaySegment(Path path) throws IOException {
+        try (InputStream raw = Files.newInputStream(path);
+             DataInputStream in = new DataInputStream(new BufferedInputStream(raw))) {
+            while (true) {
+                int bodyLength;
+                try {
+                    bodyLength = in.readInt();
+                } catch (EOFException e) {
+                    return;
+                }
+                try {
+                    int expectedCrc = in.readInt();
+                    if (bodyLength < 5) {
+                        log.warn("Registro inválido em {}, descartando o restante do segmento", path.getFileName());
+                        return;
+                    }
+                    byte op = in.readByte();
+                    int userId = in.readInt();
+                    byte[] payload = new byte[bodyLength - 5];
+                    in.readFully(payload);
+
+                    CRC32 crc = new CRC32();
+                    crc.update(op);
+                    crc.update(intBytes(userId));
+                    crc.update(payload);
+                    if ((int) crc.getValue() != expectedCrc) {
+                        log.warn("CRC inválido em {}, descartando o restante do segmento", path.getFileName());
+                        return;
+                    }
+                    apply(op, userId, payload);
+                } catch (EOFException e) {
+                    log.warn("Registro incompleto no final de {}, descartado", path.getFileName());
+                    return;
+                }
+            }
+        }
+    }
+
+    private long latestSeq(String prefix, String suffix) throws IOException {
+        List<Long> seqs = listSeqs(prefix, suffix);
+        return seqs.isEmpty() ? -1 : seqs.get(seqs.size() - 1);
+    }
+
+    private List<Long> listSeqs(String prefix, String suffix) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(p -> p.getFileName().toString())
+                .filter(name -> name.startsWith(prefix) && name.endsWith(suffix))
+                .map(name -> Long.parseLong(name.substring(prefix.length(), name.length() - suffix.length())))
+                .sorted()
+                .toList();
+        }
+    }
+
+    private Path segmentPath(long seq) {
+        return directory.resolve(String.format("segment-%016d.log", seq));
+    }
+
+    private Path snapshotPath(long seq) {
+        return directory.resolve(String.format("snapshot-%016d.snap", seq));
+    }
+
+    private static byte[] intBytes(int value) {
+        return new byte[] {(byte) (value >>> 24), (byte) (value >>> 16), (byte) (value >>> 8), (byte) value};
+    }
+
+    /**
+     * Registro aguardando gravação.
+     */
+    private static final class Entry {
+        private final byte op;
+        private final int userId;
+        private final byte[] payload;
+
+        private Entry(byte op, int userId, byte[] payload) {
+            this.op = op;
+            this.userId = userId;
+            this.payload = payload;
+        }
+    }
+}
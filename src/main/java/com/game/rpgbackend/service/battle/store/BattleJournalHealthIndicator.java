@@ -0,0 +1,49 @@
+package com.game.rpgbackend.service.battle.store;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Saúde do journal de batalhas ({@code battleJournal} em {@code /actuator/health}).
+ * <p>
+ * {@code UP} enquanto os registros são gravados, {@code OUT_OF_SERVICE} enquanto
+ * o gravador tenta se recuperar de um erro de I/O e {@code DOWN} depois que o
+ * journal foi desativado e as batalhas seguem apenas em memória.
+ * </p>
+ *
+ * @author MURILO FURTADO
+ * @version 1.0
+ * @since 1.0
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "game.journal", name = "enabled", havingValue = "true")
+public class BattleJournalHealthIndicator implements HealthIndicator {
+
+    private final JournaledBattleStateStore store;
+
+    @Override
+    public Health health() {
+        BattleJournal journal = store.journal();
+        Throwable failure = journal.failure();
+
+        Health.Builder builder;
+        if (journal.isFailedOver()) {
+            builder = Health.down();
+        } else if (failure != null) {
+            builder = Health.outOfService();
+        } else {
+            builder = Health.up();
+        }
+        builder.withDetail("pending", journal.pending())
+            .withDetail("capacity", journal.capacity())
+            .withDetail("written", journal.written());
+        if (failure != null) {
+            builder.withDetail("error", String.valueOf(failure.getMessage()));
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,221 @@
+package com.game.rpgbackend.service.battle.store;
+
+import com.game.rpgbackend.dto.response.battle.EffectSet;
+import com.game.rpgbackend.enums.BattleEffectType;
+import com.game.rpgbackend.service.battle.event.BattleField;
+import com.game.rpgbackend.service.battle.state.ActiveBattle;
+import com.game.rpgbackend.service.battle.state.BattleInterner;
+import com.game.rpgbackend.service.battle.state.BattleQuestion;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Codificação binária do {@link ActiveBattle} gravada em cada registro do journal.
+ * <p>
+ * Guarda apenas o estado compacto da batalha (o log de eventos não entra),
+ * então cada registro tem algumas centenas de bytes e custa pouco na thread
+ * da requisição. Formato (inteiros em big-endian):
+ * <pre>
+ * [formato:1][battleId:8][versão:4][rng:8][characterSkill:4][monsterSkillMask:4]
+ * [n:1] + n × [campo:4]           campos de {@link BattleField}, em ordem
+ * [n:1] + n × [texto]             campos de {@link BattleField.Text}, em ordem
+ * [questão:1] + (id, texto, opções, nível, dificuldade, chave) se presente
+ * [máscara:4] + por bit ([magnitude:4][duração:4])   efeitos do personagem
+ * [máscara:4] + por bit ([magnitude:4][duração:4])   efeitos do monstro
+ * texto = [tamanho:4][bytes UTF-8], tamanho -1 indica null
+ * </pre>
+ * Campos acrescentados ao final de {@link BattleField} continuam legíveis em
+ * registros antigos, pois cada lista grava a própria quantidade.
+ * </p>
+ *
+ * @author MURILO FURTADO
+ * @version 1.0
+ * @since 1.0
+ */
+final class BattleStateCodec {
+
+    /** Primeiro byte de todo registro, para identificar a versão do formato */
+    static final byte FORMAT = 1;
+
+    private BattleStateCodec() {
+    }
+
+    /**
+     * Codifica o estado de uma batalha.
+     *
+     * @param battle estado da batalha
+     * @return registro codificado
+     */
+    static byte[] encode(ActiveBattle battle) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        DataOutputStream out = new DataOutputStream(bytes);
+        try {
+            out.writeByte(FORMAT);
+            out.writeLong(battle.getBattleId());
+            out.writeInt(battle.getVersion());
+            out.writeLong(battle.getRngState());
+            out.writeInt(battle.getCharacterSkill());
+            out.writeInt(battle.getMonsterSkillMask());
+
+            out.writeByte(BattleField.all().length);
+            for (BattleField field : BattleField.all()) {
+                out.writeInt(field.get(battle));
+            }
+            out.writeByte(BattleField.Text.all().length);
+            for (BattleField.Text field : BattleField.Text.all()) {
+                writeText(out, field.get(battle));
+            }
+
+            BattleQuestion question = battle.getQuestion();
+            out.writeBoolean(question != null);
+            if (question != null) {
+                writeNullableInt(out, question.getId());
+                writeText(out, question.getText());
+                out.writeShort(question.getOptions().size());
+                for (String option : question.getOptions()) {
+                    writeText(out, option);
+                }
+                writeNullableInt(out, question.getMinLevel());
+                writeText(out, question.getDifficulty());
+                out.writeBoolean(question.getAnswerKey() != null);
+                if (question.getAnswerKey() != null) {
+                    out.writeLong(question.getAnswerKey());
+                }
+            }
+
+            writeEffects(out, battle.getCharacterEffects());
+            writeEffects(out, battle.getMonsterEffects());
+        } catch (IOException e) {
+            // ByteArrayOutputStream não lança IOException
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decodifica um registro gerado por {@link #encode}.
+     *
+     * @param payload registro codificado
+     * @return estado da batalha
+     * @throws IOException se o registro estiver truncado ou em formato desconhecido
+     */
+    static ActiveBattle decode(byte[] payload) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+        byte format = in.readByte();
+        if (format != FORMAT) {
+            throw new IOException("Formato de registro de batalha desconhecido: " + format);
+        }
+
+        ActiveBattle battle = new ActiveBattle();
+        battle.setBattleId(in.readLong());
+        battle.setVersion(in.readInt());
+        battle.setRngState(in.readLong());
+        battle.setCharacterSkill(in.readInt());
+        battle.setMonsterSkillMask(in.readInt());
+
+        int fields = in.readUnsignedByte();
+        for (int i = 0; i < fields; i++) {
+            int value = in.readInt();
+            BattleField field = BattleField.fromId(i);
+            if (field != null) {
+                field.set(battle, value);
+            }
+        }
+        int texts = in.readUnsignedByte();
+        for (int i = 0; i < texts; i++) {
+            String value = BattleInterner.name(readText(in));
+            BattleField.Text field = BattleField.Text.fromId(i);
+            if (field != null) {
+                field.set(battle, value);
+            }
+        }
+
+        if (in.readBoolean()) {
+            Integer id = readNullableInt(in);
+            String text = readText(in);
+            int optionCount = in.readUnsignedShort();
+            List<String> options = new ArrayList<>(optionCount);
+            for (int i = 0; i < optionCount; i++) {
+                options.add(readText(in));
+            }
+            Integer minLevel = readNullableInt(in);
+            String difficulty = readText(in);
+            Long answerKey = in.readBoolean() ? in.readLong() : null;
+            battle.setQuestion(BattleQuestion.of(id, text, options, minLevel, difficulty, answerKey));
+        }
+
+        battle.setCharacterEffects(readEffects(in));
+        battle.setMonsterEffects(readEffects(in));
+        return battle;
+    }
+
+    private static void writeText(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(utf8.length);
+        out.write(utf8);
+    }
+
+    private static String readText(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        if (length > in.available()) {
+            throw new IOException("Texto truncado no registro de batalha");
+        }
+        byte[] utf8 = new byte[length];
+        in.readFully(utf8);
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+
+    private static void writeNullableInt(DataOutputStream out, Integer value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeInt(value);
+        }
+    }
+
+    private static Integer readNullableInt(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readInt() : null;
+    }
+
+    private static void writeEffects(DataOutputStream out, EffectSet effects) throws IOException {
+        int mask = effects != null ? effects.mask() : 0;
+        out.writeInt(mask);
+        for (int bits = mask; bits != 0; bits &= bits - 1) {
+            BattleEffectType type = BattleEffectType.fromOrdinal(Integer.numberOfTrailingZeros(bits));
+            out.writeInt(effects.magnitude(type));
+            out.writeInt(effects.duration(type));
+        }
+    }
+
+    private static EffectSet readEffects(DataInputStream in) throws IOException {
+        int mask = in.readInt();
+        if (mask == 0) {
+            return null;
+        }
+        if ((mask >>> BattleEffectType.COUNT) != 0) {
+            throw new IOException("Efeito de batalha desconhecido no registro");
+        }
+        EffectSet effects = new EffectSet();
+        for (int bits = mask; bits != 0; bits &= bits - 1) {
+            BattleEffectType type = BattleEffectType.fromOrdinal(Integer.numberOfTrailingZeros(bits));
+            int magnitude = in.readInt();
+            int duration = in.readInt();
+            effects.apply(type, magnitude, duration);
+        }
+        return effects;
+    }
+}
@@ -0,0 +1,72 @@
+package com.game.rpgbackend.service.battle.store;
+
+import com.game.rpgbackend.service.battle.state.ActiveBattle;
+
+import java.util.Set;
+
+/**
+ * Contrato de armazenamento das batalhas ativas.
+ * <p>
+ * O {@link com.game.rpgbackend.service.battle.BattleStateService} delega a
+ * guarda do estado das batalhas para uma implementação desta interface,
+ * permitindo trocar a estratégia de armazenamento sem alterar a lógica de combate.
+ * </p>
+ * <p>
+ * Implementações disponíveis:
+ * - {@link InMemoryBattleStateStore}: padrão, mantém tudo apenas em memória
+ * - {@link JournaledBattleStateStore}: memória + journal local durável (game.journal.enabled=true)
+ * </p>
+ * <p>
+ * As leituras devem ser sempre atendidas a partir da memória; implementações
+ * duráveis não podem bloquear a thread da requisição com I/O.
+ * </p>
+ *
+ * @author MURILO FURTADO
+ * @version 1.0
+ * @since 1.0
+ */
+public interface BattleStateStore {
+
+    /**
+     * Busca o estado da batalha ativa de um usuário.
+     *
+     * @param userId identificador do usuário
+     * @return estado da batalha ou null se não houver batalha ativa
+     */
+    ActiveBattle get(Integer userId);
+
+    /**
+     * Salva ou substitui o estado da batalha de um usuário.
+     *
+     * @param userId identificador do usuário
+     * @param battleState estado atual da batalha
+     */
+    void put(Integer userId, ActiveBattle battleState);
+
+    /**
+     * Remove a batalha ativa de um usuário.
+     *
+     * @param userId identificador do usuário
+     */
+    void remove(Integer userId);
+
+    /**
+     * Verifica se existe batalha ativa para o usuário.
+     *
+     * @param userId identificador do usuário
+     * @return true se houver batalha ativa
+     */
+    boolean contains(Integer userId);
+
+    /**
+     * Retorna os identificadores dos usuários com batalha ativa.
+     *
+     * @return visão dos usuários com batalha em andamento
+     */
+    Set<Integer> userIds();
+
+    /**
+     * Remove todas as batalhas ativas.
+     */
+    void clear();
+}
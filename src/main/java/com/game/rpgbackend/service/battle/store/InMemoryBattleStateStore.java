@@ -0,0 +1,58 @@
+package com.game.rpgbackend.service.battle.store;
+
+import com.game.rpgbackend.service.battle.state.ActiveBattle;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Armazenamento padrão das batalhas ativas, mantido apenas em memória.
+ * <p>
+ * Utiliza um ConcurrentHashMap indexado pelo ID do usuário. Todo o estado
+ * é perdido em caso de reinício do servidor.
+ * </p>
+ *
+ * @author MURILO FURTADO
+ * @version 1.0
+ * @since 1.0
+ */
+@Component
+@ConditionalOnProperty(prefix = "game.journal", name = "enabled", havingValue = "false", matchIfMissing = true)
+public class InMemoryBattleStateStore implements BattleStateStore {
+
+    /** Batalhas ativas indexadas por ID do usuário */
+    private final Map<Integer, ActiveBattle> activeBattles = new ConcurrentHashMap<>();
+
+    @Override
+    public ActiveBattle get(Integer userId) {
+        return activeBattles.get(userId);
+    }
+
+    @Override
+    public void put(Integer userId, ActiveBattle battleState) {
+        activeBattles.put(userId, battleState);
+    }
+
+    @Override
+    public void remove(Integer userId) {
+        activeBattles.remove(userId);
+    }
+
+    @Override
+    public boolean contains(Integer userId) {
+        return activeBattles.containsKey(userId);
+    }
+
+    @Override
+    public Set<Integer> userIds() {
+        return activeBattles.keySet();
+    }
+
+    @Override
+    public void clear() {
+        activeBattles.clear();
+    }
+}
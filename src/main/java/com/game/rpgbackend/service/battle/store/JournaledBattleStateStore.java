@@ -0,0 +1,144 @@
+package com.game.rpgbackend.service.battle.store;
+
+import com.game.rpgbackend.config.GameConfig;
+import com.game.rpgbackend.service.battle.state.ActiveBattle;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Armazenamento durável das batalhas ativas baseado em journal local.
+ * <p>
+ * As leituras são sempre atendidas pelo mapa em memória. Cada escrita
+ * codifica o estado compacto do turno com o {@link BattleStateCodec} e o
+ * entrega ao {@link BattleJournal}, que grava em segundo plano; a requisição
+ * nunca espera por I/O de disco. O log de eventos da batalha não é gravado,
+ * então o tamanho de cada registro não cresce com o número de turnos.
+ * </p>
+ * <p>
+ * Na inicialização, o snapshot mais recente e os segmentos seguintes são
+ * reaplicados para reconstruir todas as batalhas em andamento antes que o
+ * servidor comece a atender requisições.
+ * </p>
+ * <p>
+ * Se o journal for desativado após uma falha de disco, o store passa a operar
+ * apenas em memória e deixa de serializar os estados; a situação é exposta
+ * por {@link BattleJournalHealthIndicator}.
+ * </p>
+ * <p>
+ * Habilitado com {@code game.journal.enabled=true}.
+ * </p>
+ *
+ * @author MURILO FURTADO
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "game.journal", name = "enabled", havingValue = "true")
+public class JournaledBattleStateStore implements BattleStateStore {
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private final GameConfig gameConfig;
+
+    /** Batalhas ativas indexadas por ID do usuário */
+    private final Map<Integer, ActiveBattle> activeBattles = new ConcurrentHashMap<>();
+
+    private BattleJournal journal;
+
+    /**
+     * Recupera as batalhas gravadas no journal e inicia o gravador.
+     */
+    @PostConstruct
+    public void recover() {
+        GameConfig.Journal config = gameConfig.getJournal();
+        journal = new BattleJournal(
+            Path.of(config.getDirectory()),
+            config.getSegmentBytes(),
+            config.getSnapshotEveryRecords(),
+            config.isFsync(),
+            config.getMaxQueuedRecords()
+        );
+
+        long start = System.nanoTime();
+        Map<Integer, byte[]> recovered = journal.recover();
+        for (Map.Entry<Integer, byte[]> entry : recovered.entrySet()) {
+            try {
+                activeBattles.put(entry.getKey(), BattleStateCodec.decode(entry.getValue()));
+            } catch (IOException e) {
+                log.warn("Batalha do usuário {} não pôde ser recuperada do journal: {}", entry.getKey(), e.getMessage());
+            }
+        }
+        journal.start();
+
+        log.info("Journal de batalhas: {} batalhas ativas recuperadas em {} ms",
+            activeBattles.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Grava os registros pendentes e um snapshot final no desligamento.
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    /**
+     * Retorna o journal usado por este store.
+     *
+     * @return journal de batalhas
+     */
+    BattleJournal journal() {
+        return journal;
+    }
+
+    @Override
+    public ActiveBattle get(Integer userId) {
+        return activeBattles.get(userId);
+    }
+
+    @Override
+    public void put(Integer userId, ActiveBattle battleState) {
+        activeBattles.put(userId, battleState);
+        if (journal.isFailedOver()) {
+            return;
+        }
+        // Codifica na thread atual para capturar o estado exato deste turno
+        journal.append(BattleJournal.OP_PUT, userId, BattleStateCodec.encode(battleState));
+    }
+
+    @Override
+    public void remove(Integer userId) {
+        activeBattles.remove(userId);
+        journal.append(BattleJournal.OP_REMOVE, userId, EMPTY);
+    }
+
+    @Override
+    public boolean contains(Integer userId) {
+        return activeBattles.containsKey(userId);
+    }
+
+    @Override
+    public Set<Integer> userIds() {
+        return activeBattles.keySet();
+    }
+
+    @Override
+    public void clear() {
+        activeBattles.clear();
+        journal.append(BattleJournal.OP_CLEAR, 0, EMPTY);
+    }
+}
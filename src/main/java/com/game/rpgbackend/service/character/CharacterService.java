@@ -5,7 +5,7 @@ import com.game.rpgbackend.domain.Character;
 import com.game.rpgbackend.domain.GameClass;
 import com.game.rpgbackend.domain.Inventory;
 import com.game.rpgbackend.domain.PlayerStats;
-import com.game.rpgbackend.enums.AchievementType;
+import com.game.rpgbackend.enums.AchievementTrigger;
 import com.game.rpgbackend.exception.NotFoundException;
 import com.game.rpgbackend.repository.CharacterRepository;
 import com.game.rpgbackend.repository.ClassRepository;
@@ -181,28 +181,7 @@ public class CharacterService {
 
             // Registra conquistas de nível alcançado
             try {
-                // Verifica conquistas de nível específico
-                if (currentLevel >= 5) {
-                    achievementService.updateAchievementProgress(
-                        character.getId().longValue(),
-                        AchievementType.REACH_LEVEL_5,
-                        currentLevel
-                    );
-                }
-                if (currentLevel >= 10) {
-                    achievementService.updateAchievementProgress(
-                        character.getId().longValue(),
-                        AchievementType.REACH_LEVEL_10,
-                        currentLevel
-                    );
-                }
-                if (currentLevel >= 20) {
-                    achievementService.updateAchievementProgress(
-                        character.getId().longValue(),
-                        AchievementType.REACH_LEVEL_20,
-                        currentLevel
-                    );
-                }
+                achievementService.recordEvent(character.getId().longValue(), AchievementTrigger.LEVEL_REACHED, currentLevel);
             } catch (Exception e) {
                 System.err.println("Erro ao atualizar conquistas de nível: " + e.getMessage());
             }
@@ -322,6 +301,7 @@ public class CharacterService {
         if (!characterRepository.existsById(id)) {
             throw new NotFoundException("Personagem não encontrado");
         }
+        achievementService.deleteAchievements(id.longValue());
         characterRepository.deleteById(id);
     }
 
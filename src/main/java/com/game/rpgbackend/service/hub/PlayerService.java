@@ -1,19 +1,23 @@
 package com.game.rpgbackend.service.hub;
 
 import com.game.rpgbackend.domain.Achievement;
+import com.game.rpgbackend.domain.BattleHistory;
 import com.game.rpgbackend.domain.PlayerStats;
 import com.game.rpgbackend.domain.User;
 import com.game.rpgbackend.exception.NotFoundException;
-import com.game.rpgbackend.repository.AchievementRepository;
 import com.game.rpgbackend.repository.BattleHistoryRepository;
 import com.game.rpgbackend.repository.PlayerStatsRepository;
 import com.game.rpgbackend.repository.UserRepository;
+import com.game.rpgbackend.service.achievement.AchievementService;
+import com.game.rpgbackend.service.progress.ProgressCounterFlusher;
+import com.game.rpgbackend.service.progress.ProgressCounters;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -41,8 +45,16 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class PlayerService {
 
+    /** Tamanho padrão de uma página do histórico de batalhas */
+    public static final int DEFAULT_HISTORY_PAGE_SIZE = 10;
+
+    /** Tamanho máximo de uma página do histórico de batalhas */
+    public static final int MAX_HISTORY_PAGE_SIZE = 50;
+
     private final PlayerStatsRepository playerStatsRepository;
-    private final AchievementRepository achievementRepository;
+    private final AchievementService achievementService;
+    private final ProgressCounters progressCounters;
+    private final ProgressCounterFlusher counterFlusher;
     private final BattleHistoryRepository battleHistoryRepository;
     private final UserRepository userRepository;
 
@@ -66,6 +78,8 @@ public class PlayerService {
      */
     @Transactional
     public PlayerStats getPlayerStats(Integer userId) {
+        // Grava os contadores pendentes antes de ler a entidade
+        counterFlusher.flushUser(userId);
         return playerStatsRepository.findByUserId(userId)
             .orElseGet(() -> {
                 User user = userRepository.findById(userId)
@@ -104,31 +118,41 @@ public class PlayerService {
 
         // Buscar conquistas de todos os personagens do usuário
         return user.getCharacters().stream()
-            .flatMap(character -> achievementRepository.findByCharacterId(character.getId().longValue()).stream())
+            .flatMap(character -> achievementService.getCharacterAchievements(character.getId().longValue()).stream())
             .collect(Collectors.toList());
     }
 
     /**
-     * Retorna o histórico das últimas 10 batalhas do jogador.
+     * Retorna uma página do histórico de batalhas do jogador.
      * <p>
      * O histórico inclui informações sobre cada batalha:
-     * - Resultado (vitória, derrota)
+     * - Resultado (vitória, derrota, abandono)
      * - Nome do inimigo enfrentado
      * - Experiência ganha
      * - Data e hora da batalha
      * </p>
      * <p>
      * As batalhas são ordenadas por data decrescente (mais recentes primeiro).
+     * A paginação é por cursor: sem cursor, retorna as mais recentes; para a
+     * próxima página, informe a data e o ID do último registro recebido.
+     * Toda página custa o mesmo, independente do tamanho do histórico.
      * </p>
      *
      * @param userId identificador único do usuário
-     * @return lista das 10 últimas batalhas realizadas
+     * @param beforeDate data do último registro da página anterior, ou null para a primeira página
+     * @param beforeId ID do último registro da página anterior, ou null para a primeira página
+     * @param limit quantidade de registros (entre 1 e {@value #MAX_HISTORY_PAGE_SIZE})
+     * @return batalhas da página
      */
-    public List<BattleHistoryResponse> getBattleHistory(Integer userId) {
-        PageRequest pageRequest = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "date"));
-        return battleHistoryRepository.findByUserId(userId).stream()
-            .limit(10)
+    public List<BattleHistoryResponse> getBattleHistory(Integer userId, LocalDateTime beforeDate,
+                                                        Integer beforeId, int limit) {
+        PageRequest page = PageRequest.of(0, Math.max(1, Math.min(limit, MAX_HISTORY_PAGE_SIZE)));
+        List<BattleHistory> history = beforeDate != null && beforeId != null
+            ? battleHistoryRepository.findByUserIdBefore(userId, beforeDate, beforeId, page)
+            : battleHistoryRepository.findLatestByUserId(userId, page);
+        return history.stream()
             .map(bh -> new BattleHistoryResponse(
+                bh.getId(),
                 bh.getResult(),
                 bh.getEnemyName(),
                 bh.getXpEarned(),
@@ -165,6 +189,7 @@ public class PlayerService {
                 stats.getUser().getUsername(),
                 stats.getLevel(),
                 stats.getTotalXpEarned()
+                    + progressCounters.pendingStat(stats.getUser().getId(), ProgressCounters.Stat.TOTAL_XP_EARNED)
             ))
             .collect(Collectors.toList());
     }
@@ -195,6 +220,8 @@ public class PlayerService {
      */
     @Transactional
     public PlayerStats updatePlayerStats(Integer userId, PlayerStatsUpdate update) {
+        // Valores absolutos substituem os incrementos pendentes, que são gravados antes
+        counterFlusher.flushUser(userId);
         PlayerStats stats = playerStatsRepository.findByUserId(userId)
             .orElseThrow(() -> new NotFoundException("Estatísticas do jogador não encontradas"));
 
@@ -276,18 +303,21 @@ public class PlayerService {
      * </p>
      */
     public static class BattleHistoryResponse {
+        private Integer id;
         private String result;
         private String enemyName;
         private Integer experience;
         private java.time.LocalDateTime date;
 
-        public BattleHistoryResponse(String result, String enemyName, Integer experience, java.time.LocalDateTime date) {
+        public BattleHistoryResponse(Integer id, String result, String enemyName, Integer experience, java.time.LocalDateTime date) {
+            this.id = id;
             this.result = result;
             this.enemyName = enemyName;
             this.experience = experience;
             this.date = date;
         }
 
+        public Integer getId() { return id; }
         public String getResult() { return result; }
         public String getEnemyName() { return enemyName; }
         public Integer getExperience() { return experience; }
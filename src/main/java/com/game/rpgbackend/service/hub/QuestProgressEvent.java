@@ -0,0 +1,38 @@
+package com.game.rpgbackend.service.hub;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Evento publicado quando o progresso de uma quest de um personagem muda.
+ * <p>
+ * É repassado ao canal de eventos do usuário dono do personagem após o
+ * commit da transação que alterou o progresso.
+ * </p>
+ *
+ * @author MURILO FURTADO
+ * @version 1.0
+ * @since 1.0
+ */
+@Getter
+@RequiredArgsConstructor
+public class QuestProgressEvent {
+
+    /** Usuário dono do personagem */
+    private final Integer userId;
+
+    /** Personagem que progrediu na quest */
+    private final Integer characterId;
+
+    /** Quest alterada */
+    private final Integer questId;
+
+    /** Progresso atual */
+    private final Integer progress;
+
+    /** Valor necessário para concluir a quest */
+    private final Integer targetValue;
+
+    /** Indica se a quest foi concluída nesta alteração */
+    private final boolean completed;
+}
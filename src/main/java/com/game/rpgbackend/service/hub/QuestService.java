@@ -2,12 +2,13 @@ package com.game.rpgbackend.service.hub;
 
 import com.game.rpgbackend.domain.*;
 import com.game.rpgbackend.dto.response.hub.QuestDto;
-import com.game.rpgbackend.enums.AchievementType;
+import com.game.rpgbackend.enums.AchievementTrigger;
 import com.game.rpgbackend.enums.QuestType;
 import com.game.rpgbackend.exception.BadRequestException;
 import com.game.rpgbackend.exception.NotFoundException;
 import com.game.rpgbackend.repository.*;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -35,6 +36,7 @@ public class QuestService {
     private final com.game.rpgbackend.repository.CharacterRepository characterRepository;
     private final MonsterRepository monsterRepository;
     private final com.game.rpgbackend.service.achievement.AchievementService achievementService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Retorna todas as quests disponíveis no jogo.
@@ -304,6 +306,7 @@ public class QuestService {
         } else {
             characterQuestRepository.save(characterQuest);
         }
+        publishProgress(characterQuest);
     }
 
     /**
@@ -331,6 +334,7 @@ public class QuestService {
             } else {
                 characterQuestRepository.save(characterQuest);
             }
+            publishProgress(characterQuest);
         }
 
         // Retorna TODAS as quests ativas (atualizadas)
@@ -364,6 +368,7 @@ public class QuestService {
             } else {
                 characterQuestRepository.save(characterQuest);
             }
+            publishProgress(characterQuest);
         }
 
         // Retorna TODAS as quests ativas (atualizadas)
@@ -395,6 +400,7 @@ public class QuestService {
             } else {
                 characterQuestRepository.save(characterQuest);
             }
+            publishProgress(characterQuest);
         }
 
         // Retorna TODAS as quests ativas (atualizadas)
@@ -427,12 +433,29 @@ public class QuestService {
             } else {
                 characterQuestRepository.save(characterQuest);
             }
+            publishProgress(characterQuest);
         }
 
         // Retorna TODAS as quests ativas (atualizadas)
         return getActiveQuests(characterId);
     }
 
+    /**
+     * Publica a alteração de progresso de uma quest para o canal de eventos do usuário.
+     *
+     * @param characterQuest quest com o progresso atualizado
+     */
+    private void publishProgress(CharacterQuest characterQuest) {
+        eventPublisher.publishEvent(new QuestProgressEvent(
+            characterQuest.getCharacter().getUser().getId(),
+            characterQuest.getCharacterId(),
+            characterQuest.getQuestId(),
+            characterQuest.getProgress(),
+            characterQuest.getQuest().getTargetValue(),
+            "completed".equals(characterQuest.getStatus())
+        ));
+    }
+
     /**
      * Completa uma quest e distribui recompensas.
      *
@@ -458,21 +481,7 @@ public class QuestService {
 
         // Registra conclusão de quest nas conquistas
         try {
-            achievementService.updateAchievementProgress(
-                character.getId().longValue(),
-                AchievementType.COMPLETE_FIRST_QUEST,
-                1
-            );
-            achievementService.updateAchievementProgress(
-                character.getId().longValue(),
-                AchievementType.COMPLETE_10_QUESTS,
-                1
-            );
-            achievementService.updateAchievementProgress(
-                character.getId().longValue(),
-                AchievementType.COMPLETE_25_QUESTS,
-                1
-            );
+            achievementService.recordEvent(character.getId().longValue(), AchievementTrigger.QUEST_COMPLETED, 1);
         } catch (Exception e) {
             System.err.println("Erro ao atualizar conquistas de quest: " + e.getMessage());
         }
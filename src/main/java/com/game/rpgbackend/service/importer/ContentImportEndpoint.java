@@ -0,0 +1,39 @@
+package com.game.rpgbackend.service.importer;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Endpoint administrativo da importação de conteúdo ({@code /actuator/imports}).
+ * <p>
+ * {@code GET} mostra o resultado da última importação e {@code POST} importa
+ * os arquivos do diretório {@code game.imports.directory}. Fica disponível
+ * apenas se incluído em {@code management.endpoints.web.exposure.include}.
+ * </p>
+ *
+ * @author MURILO FURTADO
+ * @version 1.0
+ * @since 1.0
+ */
+@Component
+@Endpoint(id = "imports")
+@RequiredArgsConstructor
+public class ContentImportEndpoint {
+
+    private final ContentImporter contentImporter;
+
+    @ReadOperation
+    public List<ImportReport> lastReports() {
+        return contentImporter.lastReports();
+    }
+
+    @WriteOperation
+    public List<ImportReport> importDirectory() {
+        return contentImporter.importDirectory();
+    }
+}
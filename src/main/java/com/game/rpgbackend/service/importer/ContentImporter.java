@@ -0,0 +1,414 @@
+package com.game.rpgbackend.service.importer;
+
+import com.game.rpgbackend.config.GameConfig;
+import com.game.rpgbackend.exception.BadRequestException;
+import com.game.rpgbackend.service.question.QuestionBank;
+import com.game.rpgbackend.service.question.QuestionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Importação em lote de questões, diálogos e livros a partir de arquivos.
+ * <p>
+ * Os arquivos do diretório {@code game.imports.directory} são lidos em
+ * streaming, um registro por vez, em CSV com cabeçalho ou JSON (array de
+ * objetos ou um objeto por linha). O tipo de conteúdo vem do prefixo do nome
+ * do arquivo ({@link ImportKind}) e os campos de cada tipo são:
+ * </p>
+ * <ul>
+ *   <li>questions: questionText, optionA, optionB, optionC, correctAnswer
+ *       (texto de uma das opções), difficulty, content (nome do conteúdo),
+ *       minLevel, hint e, opcionalmente, questionContent</li>
+ *   <li>dialogs: content (nome do conteúdo), ptDialogue, enDialogue, minLevel</li>
+ *   <li>books: bookTitle, content (texto do livro), type, difficulty</li>
+ * </ul>
+ * <p>
+ * Registros que já existem (mesmo texto da questão, mesmo diálogo em
+ * português ou mesmo título de livro) são ignorados. A verificação usa um
+ * conjunto dos hashes de 64 bits dessas chaves, carregado uma vez por
+ * importação, e não lê as entidades. Os registros novos são gravados com
+ * JDBC em lotes de {@code game.imports.batch-size}. A memória usada
+ * depende do tamanho do lote e do número de registros existentes, não do
+ * tamanho do arquivo.
+ * </p>
+ * <p>
+ * Cada arquivo gera um {@link ImportReport} com as contagens e a vazão, que
+ * também é registrado no log. Quando questões são importadas, o índice do
+ * {@link QuestionBank} é recarregado.
+ * </p>
+ *
+ * @author MURILO FURTADO
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ContentImporter {
+
+    /** Registros rejeitados detalhados no log por arquivo */
+    private static final int MAX_LOGGED_REJECTIONS = 20;
+
+    private static final String QUESTION_SQL =
+        "INSERT INTO question (texto_pergunta, opcao_a, opcao_b, opcao_c, resposta_correta, difficulty, "
+            + "question_content, level_minimo, hint, content_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String DIALOG_SQL =
+        "INSERT INTO question_dialog (content_id, pt_dialogue, en_dialogue, level_minimo) VALUES (?, ?, ?, ?)";
+    private static final String BOOK_SQL =
+        "INSERT INTO book (book_title, content, type, difficulty) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final QuestionBank questionBank;
+    private final GameConfig gameConfig;
+
+    private volatile List<ImportReport> lastReports = List.of();
+
+    /**
+     * Importa o diretório configurado na subida, se habilitado.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (gameConfig.getImports().isOnStartup()) {
+            importDirectory();
+        }
+    }
+
+    /**
+     * Importa todos os arquivos reconhecidos do diretório configurado, em ordem de nome.
+     *
+     * @return resultado de cada arquivo
+     */
+    public synchronized List<ImportReport> importDirectory() {
+        Path directory = Paths.get(gameConfig.getImports().getDirectory());
+        if (!Files.isDirectory(directory)) {
+            log.info("Diretório de importação {} não encontrado; nada a importar", directory);
+            return List.of();
+        }
+
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing.filter(Files::isRegularFile).sorted().toList();
+        } catch (IOException e) {
+            throw new IllegalStateException("Falha ao listar o diretório de importação " + directory, e);
+        }
+
+        Run run = new Run();
+        List<ImportReport> reports = new ArrayList<>();
+        for (Path file : files) {
+            String name = file.getFileName().toString();
+            if (ImportKind.fromFileName(name) == null || !isSupported(name)) {
+                log.warn("Arquivo {} ignorado: nome ou formato não reconhecido", name);
+                continue;
+            }
+            try (InputStream in = Files.newInputStream(file)) {
+                reports.add(importFile(run, name, in));
+            } catch (IOException e) {
+                log.warn("Falha ao abrir {}: {}", name, e.getMessage());
+            }
+        }
+        finish(run, reports);
+        return reports;
+    }
+
+    /**
+     * Importa um único arquivo já aberto.
+     *
+     * @param fileName nome do arquivo, que define o tipo e o formato
+     * @param in conteúdo do arquivo; não é fechado por este método
+     * @return resultado da importação
+     * @throws BadRequestException se o nome do arquivo não indicar um tipo e formato conhecidos
+     */
+    public synchronized ImportReport importStream(String fileName, InputStream in) {
+        if (ImportKind.fromFileName(fileName) == null || !isSupported(fileName)) {
+            throw new BadRequestException("Arquivo de importação não reconhecido: " + fileName);
+        }
+        Run run = new Run();
+        ImportReport report = importFile(run, fileName, in);
+        finish(run, List.of(report));
+        return report;
+    }
+
+    /**
+     * Resultado da última importação.
+     *
+     * @return resultado de cada arquivo da última importação
+     */
+    public List<ImportReport> lastReports() {
+        return lastReports;
+    }
+
+    private ImportReport importFile(Run run, String fileName, InputStream in) {
+        ImportKind kind = ImportKind.fromFileName(fileName);
+        LongHashSet existing = run.existing.computeIfAbsent(kind, this::loadExistingKeys);
+        int batchSize = Math.max(1, gameConfig.getImports().getBatchSize());
+
+        long startNanos = System.nanoTime();
+        Counts counts = new Counts();
+        List<Object[]> batch = new ArrayList<>(batchSize);
+        LongHashSet pending = new LongHashSet();
+        String error = null;
+
+        try (RowReader reader = open(fileName, in)) {
+            Map<String, String> row;
+            while ((row = reader.next()) != null) {
+                counts.read++;
+                String key = naturalKey(kind, row);
+                Object[] params = key != null ? toParams(kind, row, run) : null;
+                if (params == null) {
+                    counts.rejected++;
+                    if (counts.rejected <= MAX_LOGGED_REJECTIONS) {
+                        log.warn("{}: registro {} inválido ou incompleto, ignorado", fileName, counts.read);
+                    }
+                    continue;
+                }
+                long hash = hash(key);
+                if (existing.contains(hash) || !pending.add(hash)) {
+                    counts.duplicates++;
+                    continue;
+                }
+                batch.add(params);
+                if (batch.size() >= batchSize) {
+                    write(kind, fileName, batch, pending, existing, counts);
+                }
+            }
+        } catch (IOException e) {
+            error = e.getMessage();
+            log.warn("Leitura de {} interrompida no registro {}: {}", fileName, counts.read + 1, error);
+        }
+        // Grava o que já foi lido, mesmo que a leitura tenha sido interrompida
+        write(kind, fileName, batch, pending, existing, counts);
+
+        long millis = (System.nanoTime() - startNanos) / 1_000_000;
+        ImportReport report = new ImportReport(fileName, kind, counts.read, counts.inserted,
+            counts.duplicates, counts.rejected, millis, error);
+        log.info("Importação de {}: {} lidos, {} inseridos, {} duplicados, {} rejeitados em {} ms ({} registros/s)",
+            fileName, report.getRead(), report.getInserted(), report.getDuplicates(), report.getRejected(),
+            millis, report.getRowsPerSecond());
+        if (kind == ImportKind.QUESTIONS && counts.inserted > 0) {
+            run.questionsChanged = true;
+        }
+        return report;
+    }
+
+    /**
+     * Grava o lote pendente. Se falhar, os registros do lote contam como
+     * rejeitados e seus hashes não entram no conjunto dos existentes.
+     */
+    private void write(ImportKind kind, String fileName, List<Object[]> batch, LongHashSet pending,
+                       LongHashSet existing, Counts counts) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            jdbcTemplate.batchUpdate(insertSql(kind), batch);
+            counts.inserted += batch.size();
+            existing.addAll(pending);
+        } catch (DataAccessException e) {
+            counts.rejected += batch.size();
+            log.warn("{}: falha ao gravar lote de {} registros: {}", fileName, batch.size(), e.getMessage());
+        }
+        batch.clear();
+        pending.clear();
+    }
+
+    private void finish(Run run, List<ImportReport> reports) {
+        lastReports = List.copyOf(reports);
+        if (run.questionsChanged) {
+            questionBank.reload();
+        }
+    }
+
+    private static boolean isSupported(String fileName) {
+        String name = fileName.toLowerCase(Locale.ROOT);
+        return name.endsWith(".csv") || name.endsWith(".json") || name.endsWith(".jsonl") || name.endsWith(".ndjson");
+    }
+
+    private static RowReader open(String fileName, InputStream in) throws IOException {
+        if (fileName.toLowerCase(Locale.ROOT).endsWith(".csv")) {
+            return new CsvRowReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        }
+        return new JsonRowReader(in);
+    }
+
+    /**
+     * Carrega os hashes das chaves dos registros já gravados, lendo só a coluna da chave.
+     */
+    private LongHashSet loadExistingKeys(ImportKind kind) {
+        String sql = switch (kind) {
+            case QUESTIONS -> "SELECT texto_pergunta FROM question";
+            case DIALOGS -> "SELECT pt_dialogue FROM question_dialog";
+            case BOOKS -> "SELECT book_title FROM book";
+        };
+        LongHashSet keys = new LongHashSet();
+        jdbcTemplate.query(sql, rs -> {
+            keys.add(hash(rs.getString(1).trim()));
+        });
+        log.debug("{} registros de {} carregados para deduplicação", keys.size(), kind);
+        return keys;
+    }
+
+    private static String insertSql(ImportKind kind) {
+        return switch (kind) {
+            case QUESTIONS -> QUESTION_SQL;
+            case DIALOGS -> DIALOG_SQL;
+            case BOOKS -> BOOK_SQL;
+        };
+    }
+
+    private static String naturalKey(ImportKind kind, Map<String, String> row) {
+        return switch (kind) {
+            case QUESTIONS -> text(row, "questionText");
+            case DIALOGS -> text(row, "ptDialogue");
+            case BOOKS -> text(row, "bookTitle");
+        };
+    }
+
+    /**
+     * Converte um registro nos parâmetros do INSERT, ou null se estiver inválido.
+     */
+    private Object[] toParams(ImportKind kind, Map<String, String> row, Run run) {
+        return switch (kind) {
+            case QUESTIONS -> questionParams(row, run);
+            case DIALOGS -> dialogParams(row, run);
+            case BOOKS -> bookParams(row);
+        };
+    }
+
+    private Object[] questionParams(Map<String, String> row, Run run) {
+        String optionA = text(row, "optionA");
+        String optionB = text(row, "optionB");
+        String optionC = text(row, "optionC");
+        String answer = text(row, "correctAnswer");
+        String difficulty = text(row, "difficulty");
+        String contentName = text(row, "content");
+        Integer contentId = contentName != null ? run.contents().get(contentName.toLowerCase(Locale.ROOT)) : null;
+        Integer minLevel = level(row);
+        if (optionA == null || optionB == null || optionC == null || answer == null
+            || difficulty == null || contentId == null || minLevel == null
+            || !(answer.equals(optionA) || answer.equals(optionB) || answer.equals(optionC))) {
+            return null;
+        }
+        String questionContent = text(row, "questionContent");
+        if (questionContent == null) {
+            // Mesmo formato usado pelo DatabaseSeeder
+            questionContent = contentName.toLowerCase().replace(" ", "_");
+        }
+        String hint = text(row, "hint");
+        return new Object[] {
+            text(row, "questionText"), optionA, optionB, optionC, answer,
+            QuestionService.normalizeDifficulty(difficulty), questionContent, minLevel,
+            hint != null ? hint : "", contentId
+        };
+    }
+
+    private Object[] dialogParams(Map<String, String> row, Run run) {
+        String contentName = text(row, "content");
+        Integer contentId = contentName != null ? run.contents().get(contentName.toLowerCase(Locale.ROOT)) : null;
+        String enDialogue = text(row, "enDialogue");
+        Integer minLevel = level(row);
+        if (contentId == null || enDialogue == null || minLevel == null) {
+            return null;
+        }
+        return new Object[] {contentId, text(row, "ptDialogue"), enDialogue, minLevel};
+    }
+
+    private static Object[] bookParams(Map<String, String> row) {
+        String content = text(row, "content");
+        String type = text(row, "type");
+        String difficulty = text(row, "difficulty");
+        if (content == null || type == null || difficulty == null) {
+            return null;
+        }
+        return new Object[] {text(row, "bookTitle"), content, type, difficulty};
+    }
+
+    /**
+     * Valor de um campo sem espaços nas pontas, ou null se ausente ou vazio.
+     */
+    private static String text(Map<String, String> row, String field) {
+        String value = row.get(field);
+        if (value == null) {
+            return null;
+        }
+        value = value.trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * Nível mínimo do registro (1 se ausente), ou null se não for um número positivo.
+     */
+    private static Integer level(Map<String, String> row) {
+        String value = text(row, "minLevel");
+        if (value == null) {
+            return 1;
+        }
+        try {
+            int level = Integer.parseInt(value);
+            return level > 0 ? level : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Hash FNV-1a de 64 bits com mistura final, usado como chave de deduplicação.
+     */
+    private static long hash(String key) {
+        long h = 0xCBF29CE484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            h ^= key.charAt(i);
+            h *= 0x100000001B3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    /** Dados compartilhados pelos arquivos de uma mesma importação */
+    private final class Run {
+        private final Map<ImportKind, LongHashSet> existing = new EnumMap<>(ImportKind.class);
+        private Map<String, Integer> contents;
+        private boolean questionsChanged;
+
+        /** Conteúdos pelo nome em minúsculas, carregados na primeira consulta */
+        Map<String, Integer> contents() {
+            if (contents == null) {
+                Map<String, Integer> loaded = new HashMap<>();
+                jdbcTemplate.query("SELECT id, content_name FROM content", rs -> {
+                    loaded.put(rs.getString(2).trim().toLowerCase(Locale.ROOT), rs.getInt(1));
+                });
+                contents = loaded;
+            }
+            return contents;
+        }
+    }
+
+    /** Contagens de um arquivo */
+    private static final class Counts {
+        private long read;
+        private long inserted;
+        private long duplicates;
+        private long rejected;
+    }
+}
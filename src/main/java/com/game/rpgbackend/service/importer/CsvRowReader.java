@@ -0,0 +1,120 @@
+package com.game.rpgbackend.service.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Leitor de CSV (RFC 4180) com cabeçalho.
+ * <p>
+ * A primeira linha nomeia os campos. Valores podem vir entre aspas duplas,
+ * com vírgulas, quebras de linha e aspas escapadas ({@code ""}) dentro delas.
+ * Linhas em branco são ignoradas.
+ * </p>
+ *
+ * @author MURILO FURTADO
+ * @version 1.0
+ * @since 1.0
+ */
+final class CsvRowReader implements RowReader {
+
+    private static final int BOM = '\uFEFF';
+
+    private final BufferedReader reader;
+    private final StringBuilder field = new StringBuilder();
+    private String[] header;
+    private boolean firstChar = true;
+
+    CsvRowReader(Reader reader) {
+        this.reader = new BufferedReader(reader);
+    }
+
+    @Override
+    public Map<String, String> next() throws IOException {
+        if (header == null) {
+            List<String> names = readRecord();
+            if (names == null) {
+                return null;
+            }
+            header = names.stream().map(String::trim).toArray(String[]::new);
+        }
+
+        List<String> values = readRecord();
+        if (values == null) {
+            return null;
+        }
+        Map<String, String> row = new HashMap<>(header.length * 2);
+        for (int i = 0; i < header.length && i < values.size(); i++) {
+            row.put(header[i], values.get(i));
+        }
+        return row;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * Lê o próximo registro não vazio, ou null no fim do arquivo.
+     */
+    private List<String> readRecord() throws IOException {
+        while (true) {
+            List<String> values = new ArrayList<>();
+            field.setLength(0);
+            boolean quoted = false;
+            boolean any = false;
+            int c;
+            while ((c = read()) != -1) {
+                any = true;
+                if (quoted) {
+                    if (c == '"') {
+                        reader.mark(1);
+                        if (reader.read() == '"') {
+                            field.append('"');
+                        } else {
+                            reader.reset();
+                            quoted = false;
+                        }
+                    } else {
+                        field.append((char) c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    values.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\n') {
+                    break;
+                } else if (c != '\r') {
+                    field.append((char) c);
+                }
+            }
+            if (quoted) {
+                throw new IOException("Aspas sem fechamento no fim do arquivo");
+            }
+            if (!any) {
+                return null;
+            }
+            values.add(field.toString());
+            if (values.size() > 1 || !values.get(0).isBlank()) {
+                return values;
+            }
+        }
+    }
+
+    private int read() throws IOException {
+        int c = reader.read();
+        if (firstChar) {
+            firstChar = false;
+            if (c == BOM) {
+                c = reader.read();
+            }
+        }
+        return c;
+    }
+}
@@ -0,0 +1,45 @@
+package com.game.rpgbackend.service.importer;
+
+import java.util.Locale;
+
+/**
+ * Tipos de conteúdo aceitos pela importação, identificados pelo prefixo do
+ * nome do arquivo (ex: {@code questions-ingles.csv}).
+ *
+ * @author MURILO FURTADO
+ * @version 1.0
+ * @since 1.0
+ */
+public enum ImportKind {
+
+    /** Questões das batalhas (tabela {@code question}) */
+    QUESTIONS("questions"),
+
+    /** Diálogos de estudo (tabela {@code question_dialog}) */
+    DIALOGS("dialogs"),
+
+    /** Livros da biblioteca (tabela {@code book}) */
+    BOOKS("books");
+
+    private final String prefix;
+
+    ImportKind(String prefix) {
+        this.prefix = prefix;
+    }
+
+    /**
+     * Identifica o tipo de conteúdo pelo nome do arquivo.
+     *
+     * @param fileName nome do arquivo
+     * @return tipo do conteúdo, ou null se o nome não tiver um prefixo conhecido
+     */
+    public static ImportKind fromFileName(String fileName) {
+        String name = fileName.toLowerCase(Locale.ROOT);
+        for (ImportKind kind : values()) {
+            if (name.startsWith(kind.prefix)) {
+                return kind;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,49 @@
+package com.game.rpgbackend.service.importer;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Resultado da importação de um arquivo.
+ *
+ * @author MURILO FURTADO
+ * @version 1.0
+ * @since 1.0
+ */
+@Getter
+@RequiredArgsConstructor
+public class ImportReport {
+
+    /** Nome do arquivo importado */
+    private final String file;
+
+    /** Tipo de conteúdo do arquivo */
+    private final ImportKind kind;
+
+    /** Registros lidos do arquivo */
+    private final long read;
+
+    /** Registros gravados no banco */
+    private final long inserted;
+
+    /** Registros ignorados por já existirem no banco ou no próprio arquivo */
+    private final long duplicates;
+
+    /** Registros inválidos ou que falharam ao gravar */
+    private final long rejected;
+
+    /** Duração da importação, em milissegundos */
+    private final long millis;
+
+    /** Mensagem de erro, se a leitura do arquivo foi interrompida */
+    private final String error;
+
+    /**
+     * Registros lidos por segundo.
+     *
+     * @return vazão da importação
+     */
+    public long getRowsPerSecond() {
+        return millis > 0 ? read * 1000 / millis : read;
+    }
+}
@@ -0,0 +1,66 @@
+package com.game.rpgbackend.service.importer;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Leitor de JSON em streaming.
+ * <p>
+ * Aceita um array de objetos ({@code [{...}, {...}]}) ou objetos em sequência,
+ * um por linha (JSON Lines). Só o objeto atual é montado em memória; valores
+ * numéricos e booleanos são lidos como texto e campos com objetos ou arrays
+ * são ignorados.
+ * </p>
+ *
+ * @author MURILO FURTADO
+ * @version 1.0
+ * @since 1.0
+ */
+final class JsonRowReader implements RowReader {
+
+    private static final JsonFactory FACTORY = new JsonFactory();
+
+    private final JsonParser parser;
+
+    JsonRowReader(InputStream in) throws IOException {
+        this.parser = FACTORY.createParser(in);
+    }
+
+    @Override
+    public Map<String, String> next() throws IOException {
+        // Os colchetes do array externo são apenas pulados
+        JsonToken token = parser.nextToken();
+        while (token == JsonToken.START_ARRAY || token == JsonToken.END_ARRAY) {
+            token = parser.nextToken();
+        }
+        if (token == null) {
+            return null;
+        }
+        if (token != JsonToken.START_OBJECT) {
+            throw new IOException("Esperado um objeto JSON em " + parser.currentLocation());
+        }
+
+        Map<String, String> row = new HashMap<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (value.isStructStart()) {
+                parser.skipChildren();
+            } else if (value != JsonToken.VALUE_NULL) {
+                row.put(name, parser.getValueAsString());
+            }
+        }
+        return row;
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+}
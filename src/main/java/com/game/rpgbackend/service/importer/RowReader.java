@@ -0,0 +1,27 @@
+package com.game.rpgbackend.service.importer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Leitura sequencial dos registros de um arquivo de importação.
+ * <p>
+ * Cada registro é entregue como um mapa de campo para valor em texto; só o
+ * registro atual fica em memória.
+ * </p>
+ *
+ * @author MURILO FURTADO
+ * @version 1.0
+ * @since 1.0
+ */
+interface RowReader extends Closeable {
+
+    /**
+     * Lê o próximo registro.
+     *
+     * @return campos do registro, ou null no fim do arquivo
+     * @throws IOException se o arquivo não puder ser lido ou estiver malformado
+     */
+    Map<String, String> next() throws IOException;
+}
@@ -0,0 +1,196 @@
+package com.game.rpgbackend.service.progress;
+
+import com.game.rpgbackend.service.achievement.AchievementService;
+import com.game.rpgbackend.service.battle.BattleActionExecutor;
+import com.game.rpgbackend.service.battle.reward.BattleOutcomeEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Grava no banco os contadores acumulados em {@link ProgressCounters}.
+ * <p>
+ * As estatísticas são gravadas com {@code UPDATE ... SET x = x + ?}, em lote,
+ * sem ler a linha antes, então não há atualização perdida mesmo com outras
+ * escritas na mesma linha. As conquistas de cada personagem são aplicadas
+ * com uma única leitura bloqueada e uma escrita do registro compactado,
+ * somando todos os eventos acumulados.
+ * </p>
+ * <p>
+ * A gravação acontece ao fim de cada batalha (na fila do usuário, depois da
+ * ação que encerrou a batalha), periodicamente conforme
+ * {@code game.counters.flush-millis} e no desligamento. Se uma gravação
+ * falhar, não encontrar a linha de {@code player_stats} ou fizer parte de uma
+ * transação que é desfeita, os valores voltam para o acumulador e são
+ * tentados de novo.
+ * </p>
+ *
+ * @author MURILO FURTADO
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProgressCounterFlusher {
+
+    private static final String UPDATE_STATS_SQL =
+        "UPDATE player_stats SET "
+            + "questions_right = questions_right + ?, "
+            + "questions_wrong = questions_wrong + ?, "
+            + "battles_won = battles_won + ?, "
+            + "battles_lost = battles_lost + ?, "
+            + "total_xp_ganhos = total_xp_ganhos + ? "
+            + "WHERE user_id = ?";
+
+    private final ProgressCounters counters;
+    private final AchievementService achievementService;
+    private final BattleActionExecutor actionExecutor;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Agenda a gravação dos contadores do usuário e do personagem ao fim da batalha.
+     * <p>
+     * A gravação entra na fila do usuário, então roda depois que a ação que
+     * encerrou a batalha terminar e sua transação for confirmada.
+     * </p>
+     *
+     * @param event resultado da batalha
+     */
+    @EventListener
+    public void onBattleOutcome(BattleOutcomeEvent event) {
+        actionExecutor.submit(event.getUserId(), () -> {
+            flushUser(event.getUserId());
+            flushCharacter(event.getCharacterId().longValue());
+            return null;
+        });
+    }
+
+    /**
+     * Grava todos os contadores pendentes.
+     */
+    @Scheduled(fixedDelayString = "${game.counters.flush-millis:5000}")
+    public void flush() {
+        List<Integer> users = counters.pendingUsers();
+        List<Object[]> rows = new ArrayList<>(users.size());
+        List<Integer> drainedUsers = new ArrayList<>(users.size());
+        List<int[]> drained = new ArrayList<>(users.size());
+        for (Integer userId : users) {
+            int[] pending = counters.drainStats(userId);
+            if (pending != null) {
+                rows.add(toParameters(userId, pending));
+                drainedUsers.add(userId);
+                drained.add(pending);
+            }
+        }
+        if (!rows.isEmpty()) {
+            try {
+                int[] updated = jdbcTemplate.batchUpdate(UPDATE_STATS_SQL, rows);
+                for (int i = 0; i < updated.length; i++) {
+                    if (updated[i] == 0) {
+                        counters.restoreStats(drainedUsers.get(i), drained.get(i));
+                    }
+                }
+            } catch (DataAccessException e) {
+                log.warn("Falha ao gravar estatísticas de {} usuário(s): {}", rows.size(), e.getMessage());
+                for (int i = 0; i < drainedUsers.size(); i++) {
+                    counters.restoreStats(drainedUsers.get(i), drained.get(i));
+                }
+            }
+        }
+
+        for (Long characterId : counters.pendingCharacters()) {
+            flushCharacter(characterId);
+        }
+    }
+
+    /**
+     * Grava as estatísticas pendentes de um usuário.
+     * <p>
+     * Dentro de uma transação, a gravação só vale se ela for confirmada: se for
+     * desfeita, os valores voltam para o acumulador. Se o usuário ainda não
+     * tiver linha em {@code player_stats}, os valores também voltam e são
+     * gravados depois que ela for criada.
+     * </p>
+     *
+     * @param userId usuário
+     */
+    public void flushUser(Integer userId) {
+        int[] pending = counters.drainStats(userId);
+        if (pending == null) {
+            return;
+        }
+        try {
+            if (jdbcTemplate.update(UPDATE_STATS_SQL, toParameters(userId, pending)) == 0) {
+                counters.restoreStats(userId, pending);
+                return;
+            }
+            restoreOnRollback(() -> counters.restoreStats(userId, pending));
+        } catch (DataAccessException e) {
+            log.warn("Falha ao gravar estatísticas do usuário {}: {}", userId, e.getMessage());
+            counters.restoreStats(userId, pending);
+        }
+    }
+
+    /**
+     * Aplica os eventos de conquistas pendentes de um personagem.
+     *
+     * @param characterId personagem
+     */
+    public void flushCharacter(Long characterId) {
+        int[] pending = counters.drainAchievements(characterId);
+        if (pending == null) {
+            return;
+        }
+        try {
+            achievementService.applyPending(characterId, pending);
+            restoreOnRollback(() -> counters.restoreAchievements(characterId, pending));
+        } catch (RuntimeException e) {
+            log.warn("Falha ao gravar conquistas do personagem {}: {}", characterId, e.getMessage());
+            counters.restoreAchievements(characterId, pending);
+        }
+    }
+
+    /**
+     * Grava os contadores pendentes no desligamento.
+     */
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private static void restoreOnRollback(Runnable restore) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    restore.run();
+                }
+            }
+        });
+    }
+
+    private static Object[] toParameters(Integer userId, int[] pending) {
+        return new Object[] {
+            pending[ProgressCounters.Stat.QUESTIONS_RIGHT.ordinal()],
+            pending[ProgressCounters.Stat.QUESTIONS_WRONG.ordinal()],
+            pending[ProgressCounters.Stat.BATTLES_WON.ordinal()],
+            pending[ProgressCounters.Stat.BATTLES_LOST.ordinal()],
+            pending[ProgressCounters.Stat.TOTAL_XP_EARNED.ordinal()],
+            userId
+        };
+    }
+}
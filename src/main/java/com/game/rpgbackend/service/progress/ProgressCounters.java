@@ -0,0 +1,181 @@
+package com.game.rpgbackend.service.progress;
+
+import com.game.rpgbackend.enums.AchievementTrigger;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Acumulador em memória de contadores ainda não gravados no banco.
+ * <p>
+ * Cada questão respondida e cada golpe alteravam {@code player_stats} e o
+ * registro de conquistas na hora. Agora esses incrementos são somados aqui,
+ * por usuário (estatísticas) e por personagem (conquistas), e o
+ * {@link ProgressCounterFlusher} grava os totais acumulados de uma vez.
+ * </p>
+ * <p>
+ * Os arrays de cada entrada nunca são alterados depois de publicados: cada
+ * incremento troca o array inteiro dentro de {@link ConcurrentHashMap#compute},
+ * então leituras concorrentes sempre veem um conjunto consistente.
+ * </p>
+ *
+ * @author MURILO FURTADO
+ * @version 1.0
+ * @since 1.0
+ */
+@Component
+public class ProgressCounters {
+
+    private static final AchievementTrigger[] TRIGGERS = AchievementTrigger.values();
+    private static final Stat[] STATS = Stat.values();
+
+    private final Map<Integer, int[]> stats = new ConcurrentHashMap<>();
+    private final Map<Long, int[]> achievements = new ConcurrentHashMap<>();
+
+    /**
+     * Contadores de {@code PlayerStats} acumulados em memória.
+     */
+    public enum Stat {
+        /** Questões respondidas corretamente (questions_right) */
+        QUESTIONS_RIGHT,
+
+        /** Questões respondidas incorretamente (questions_wrong) */
+        QUESTIONS_WRONG,
+
+        /** Batalhas vencidas (battles_won) */
+        BATTLES_WON,
+
+        /** Batalhas perdidas (battles_lost) */
+        BATTLES_LOST,
+
+        /** XP total ganho (total_xp_ganhos) */
+        TOTAL_XP_EARNED
+    }
+
+    /**
+     * Soma um valor a um contador de estatísticas do usuário.
+     *
+     * @param userId usuário dono das estatísticas
+     * @param stat contador
+     * @param delta valor a somar
+     */
+    public void addStat(Integer userId, Stat stat, int delta) {
+        if (delta == 0) {
+            return;
+        }
+        stats.compute(userId, (key, current) -> {
+            int[] next = current != null ? current.clone() : new int[STATS.length];
+            next[stat.ordinal()] += delta;
+            return next;
+        });
+    }
+
+    /**
+     * Acumula um evento de conquistas do personagem.
+     * <p>
+     * Gatilhos cumulativos somam o valor; os demais guardam o maior valor
+     * recebido (ex: nível alcançado).
+     * </p>
+     *
+     * @param characterId personagem
+     * @param trigger gatilho do evento
+     * @param amount valor do evento
+     */
+    public void addAchievement(Long characterId, AchievementTrigger trigger, int amount) {
+        if (amount <= 0) {
+            return;
+        }
+        achievements.compute(characterId, (key, current) -> {
+            int[] next = current != null ? current.clone() : new int[TRIGGERS.length];
+            int index = trigger.ordinal();
+            next[index] = trigger.isCumulative() ? next[index] + amount : Math.max(next[index], amount);
+            return next;
+        });
+    }
+
+    /**
+     * Valor pendente de um contador de estatísticas.
+     *
+     * @param userId usuário
+     * @param stat contador
+     * @return valor ainda não gravado
+     */
+    public int pendingStat(Integer userId, Stat stat) {
+        int[] pending = stats.get(userId);
+        return pending != null ? pending[stat.ordinal()] : 0;
+    }
+
+    /**
+     * Valores pendentes de conquistas de um personagem.
+     *
+     * @param characterId personagem
+     * @return valores indexados pelo ordinal do gatilho, ou null se não houver pendências
+     */
+    public int[] pendingAchievements(Long characterId) {
+        return achievements.get(characterId);
+    }
+
+    /**
+     * Retira os contadores pendentes de um usuário.
+     *
+     * @param userId usuário
+     * @return valores indexados pelo ordinal de {@link Stat}, ou null se não houver pendências
+     */
+    public int[] drainStats(Integer userId) {
+        return stats.remove(userId);
+    }
+
+    /**
+     * Retira os eventos de conquistas pendentes de um personagem.
+     *
+     * @param characterId personagem
+     * @return valores indexados pelo ordinal do gatilho, ou null se não houver pendências
+     */
+    public int[] drainAchievements(Long characterId) {
+        return achievements.remove(characterId);
+    }
+
+    /**
+     * Devolve contadores que não puderam ser gravados, somando-os aos novos.
+     *
+     * @param userId usuário
+     * @param pending valores retirados por {@link #drainStats(Integer)}
+     */
+    public void restoreStats(Integer userId, int[] pending) {
+        for (Stat stat : STATS) {
+            addStat(userId, stat, pending[stat.ordinal()]);
+        }
+    }
+
+    /**
+     * Devolve eventos de conquistas que não puderam ser gravados.
+     *
+     * @param characterId personagem
+     * @param pending valores retirados por {@link #drainAchievements(Long)}
+     */
+    public void restoreAchievements(Long characterId, int[] pending) {
+        for (AchievementTrigger trigger : TRIGGERS) {
+            addAchievement(characterId, trigger, pending[trigger.ordinal()]);
+        }
+    }
+
+    /**
+     * Usuários com estatísticas pendentes.
+     *
+     * @return cópia das chaves
+     */
+    public List<Integer> pendingUsers() {
+        return List.copyOf(stats.keySet());
+    }
+
+    /**
+     * Personagens com conquistas pendentes.
+     *
+     * @return cópia das chaves
+     */
+    public List<Long> pendingCharacters() {
+        return List.copyOf(achievements.keySet());
+    }
+}
@@ -0,0 +1,119 @@
+package com.game.rpgbackend.service.question;
+
+import com.game.rpgbackend.config.GameConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Chaves das respostas corretas, para conferir respostas sem ler a questão do banco.
+ * <p>
+ * A chave é um HMAC-SHA256, truncado em 64 bits, do ID da questão com a
+ * resposta normalizada (sem espaços nas pontas, sem acentos e em minúsculas).
+ * Ela é gravada no estado da batalha quando a questão é apresentada; conferir
+ * uma resposta é calcular a chave da resposta recebida e comparar dois
+ * {@code long}. A resposta correta em si não fica no estado da batalha nem no
+ * journal.
+ * </p>
+ * <p>
+ * O segredo vem de {@code game.questions.answer-secret}. Sem ele, a chave é
+ * derivada de {@code jwt.secret} como {@code HMAC-SHA256(jwt.secret, "answer-keys")},
+ * para que o segredo dos tokens nunca seja usado diretamente nas chaves de
+ * resposta, que ficam no journal e no estado da batalha. Ele precisa ser o
+ * mesmo entre reinícios: as chaves de batalhas recuperadas do journal foram
+ * calculadas com o segredo anterior. Sem nenhum dos dois a aplicação não sobe.
+ * </p>
+ *
+ * @author MURILO FURTADO
+ * @version 1.0
+ * @since 1.0
+ */
+@Component
+public class AnswerKeys {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final String DERIVATION_LABEL = "answer-keys";
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+
+    private final SecretKeySpec secret;
+    private final ThreadLocal<Mac> macs = ThreadLocal.withInitial(this::newMac);
+
+    public AnswerKeys(GameConfig gameConfig, @Value("${jwt.secret:}") String jwtSecret) {
+        String configured = gameConfig.getQuestions().getAnswerSecret();
+        if (configured != null && !configured.isBlank()) {
+            this.secret = new SecretKeySpec(configured.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+        } else if (jwtSecret != null && !jwtSecret.isBlank()) {
+            this.secret = new SecretKeySpec(derive(jwtSecret), ALGORITHM);
+        } else {
+            throw new IllegalStateException(
+                "Configure game.questions.answer-secret ou jwt.secret para as chaves de resposta");
+        }
+    }
+
+    /**
+     * Normaliza uma resposta para comparação: remove espaços nas pontas,
+     * acentos e diferenças entre maiúsculas e minúsculas.
+     *
+     * @param answer resposta
+     * @return resposta normalizada
+     */
+    public static String normalize(String answer) {
+        String decomposed = Normalizer.normalize(answer.trim(), Normalizer.Form.NFD);
+        return MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Calcula a chave de uma resposta para uma questão.
+     *
+     * @param questionId ID da questão
+     * @param answer resposta (não normalizada)
+     * @return chave da resposta, nunca 0
+     */
+    public long keyOf(Integer questionId, String answer) {
+        Mac mac = macs.get();
+        mac.update(ByteBuffer.allocate(Integer.BYTES).putInt(questionId).array());
+        byte[] digest = mac.doFinal(normalize(answer).getBytes(StandardCharsets.UTF_8));
+        long key = ByteBuffer.wrap(digest).getLong();
+        return key != 0 ? key : 1;
+    }
+
+    /**
+     * Confere uma resposta com a chave gravada ao apresentar a questão.
+     *
+     * @param expected chave da resposta correta
+     * @param questionId ID da questão
+     * @param answer resposta recebida
+     * @return true se a resposta estiver correta
+     */
+    public boolean matches(long expected, Integer questionId, String answer) {
+        return keyOf(questionId, answer) == expected;
+    }
+
+    private static byte[] derive(String jwtSecret) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(new SecretKeySpec(jwtSecret.getBytes(StandardCharsets.UTF_8), ALGORITHM));
+            return mac.doFinal(DERIVATION_LABEL.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC indisponível para as chaves de resposta", e);
+        }
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(secret);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC indisponível para as chaves de resposta", e);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.game.rpgbackend.service.question;
+
+import com.game.rpgbackend.repository.QuestionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Mantém o {@link QuestionIndex} atual do banco de questões.
+ * <p>
+ * O índice é montado uma vez na subida da aplicação, depois do
+ * {@code DatabaseSeeder}, com uma única consulta. Os sorteios leem o índice
+ * publicado sem nenhum acesso ao banco. Quando as questões mudarem,
+ * {@link #reload()} monta um índice novo e o troca atomicamente: sorteios
+ * em andamento terminam no índice antigo e os seguintes já veem o novo.
+ * </p>
+ *
+ * @author MURILO FURTADO
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QuestionBank {
+
+    private final QuestionRepository questionRepository;
+
+    private final AtomicReference<QuestionIndex> index = new AtomicReference<>(QuestionIndex.EMPTY);
+
+    /**
+     * Carrega o índice na subida da aplicação.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reload();
+    }
+
+    /**
+     * Recarrega todas as questões do banco e publica um novo índice.
+     *
+     * @return índice publicado
+     */
+    public QuestionIndex reload() {
+        QuestionIndex next = QuestionIndex.build(questionRepository.findAllWithContent());
+        index.set(next);
+        log.info("Índice de questões carregado com {} questões", next.size());
+        return next;
+    }
+
+    /**
+     * Índice atualmente publicado.
+     *
+     * @return índice imutável
+     */
+    public QuestionIndex current() {
+        return index.get();
+    }
+}
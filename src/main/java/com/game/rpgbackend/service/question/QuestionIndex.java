@@ -0,0 +1,222 @@
+package com.game.rpgbackend.service.question;
+
+import com.game.rpgbackend.domain.Question;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+/**
+ * Índice imutável do banco de questões para sorteio sem acesso ao banco.
+ * <p>
+ * As questões são agrupadas por dificuldade e, dentro de cada dificuldade,
+ * também por conteúdo. Cada grupo guarda as questões ordenadas por nível
+ * mínimo e um array de prefixos com quantas questões são acessíveis até cada
+ * nível. Assim as questões elegíveis para um jogador são sempre o início do
+ * array, e sortear uma delas é uma consulta ao prefixo mais um índice aleatório.
+ * </p>
+ * <p>
+ * O índice nunca é alterado depois de construído; quando as questões mudam,
+ * um novo índice é montado e trocado por inteiro ({@link QuestionBank}).
+ * </p>
+ *
+ * @author MURILO FURTADO
+ * @version 1.0
+ * @since 1.0
+ */
+public final class QuestionIndex {
+
+    /** Índice sem questões */
+    public static final QuestionIndex EMPTY = new QuestionIndex(Map.of(), Map.of());
+
+    private final Map<String, Difficulty> byDifficulty;
+    private final Map<Integer, Question> byId;
+
+    private QuestionIndex(Map<String, Difficulty> byDifficulty, Map<Integer, Question> byId) {
+        this.byDifficulty = byDifficulty;
+        this.byId = byId;
+    }
+
+    /**
+     * Monta o índice a partir das questões informadas.
+     *
+     * @param questions todas as questões do banco
+     * @return novo índice
+     */
+    public static QuestionIndex build(Collection<Question> questions) {
+        Map<String, List<Question>> byDifficulty = new HashMap<>();
+        Map<String, Map<Integer, List<Question>>> byContent = new HashMap<>();
+        Map<Integer, Question> byId = new HashMap<>();
+        for (Question question : questions) {
+            byId.put(question.getId(), question);
+            byDifficulty.computeIfAbsent(question.getDifficulty(), key -> new ArrayList<>()).add(question);
+            if (question.getContent() != null) {
+                byContent.computeIfAbsent(question.getDifficulty(), key -> new HashMap<>())
+                    .computeIfAbsent(question.getContent().getId(), key -> new ArrayList<>())
+                    .add(question);
+            }
+        }
+
+        Map<String, Difficulty> index = new HashMap<>();
+        byDifficulty.forEach((difficulty, list) -> {
+            Map<Integer, Bucket> contents = new HashMap<>();
+            byContent.getOrDefault(difficulty, Map.of())
+                .forEach((contentId, contentList) -> contents.put(contentId, Bucket.of(contentList)));
+            index.put(difficulty, new Difficulty(Bucket.of(list), Map.copyOf(contents)));
+        });
+        return new QuestionIndex(Map.copyOf(index), Map.copyOf(byId));
+    }
+
+    /**
+     * Quantidade total de questões indexadas.
+     *
+     * @return total de questões
+     */
+    public int size() {
+        return byId.size();
+    }
+
+    /**
+     * Busca uma questão pelo ID.
+     *
+     * @param questionId ID da questão
+     * @return questão, ou null se não estiver no índice
+     */
+    public Question find(Integer questionId) {
+        return byId.get(questionId);
+    }
+
+    /**
+     * Quantidade de questões de uma dificuldade acessíveis a um nível.
+     *
+     * @param difficulty dificuldade, como gravada no banco
+     * @param playerLevel nível do jogador
+     * @param contentId conteúdo, ou null para todos
+     * @return questões com nível mínimo menor ou igual ao nível do jogador
+     */
+    public int count(String difficulty, int playerLevel, Integer contentId) {
+        Bucket bucket = bucket(difficulty, contentId);
+        return bucket != null ? bucket.eligible(playerLevel) : 0;
+    }
+
+    /**
+     * Sorteia uma questão de uma dificuldade acessível a um nível.
+     *
+     * @param difficulty dificuldade, como gravada no banco
+     * @param playerLevel nível do jogador
+     * @param contentId conteúdo, ou null para todos
+     * @param random gerador usado no sorteio
+     * @return questão sorteada, ou null se nenhuma for elegível
+     */
+    public Question pick(String difficulty, int playerLevel, Integer contentId, RandomGenerator random) {
+        Bucket bucket = bucket(difficulty, contentId);
+        if (bucket == null) {
+            return null;
+        }
+        int eligible = bucket.eligible(playerLevel);
+        return eligible > 0 ? bucket.questions[random.nextInt(eligible)] : null;
+    }
+
+    /**
+     * Questão em uma posição do grupo, na ordem de nível mínimo.
+     * <p>
+     * As posições de 0 até {@link #count(String, int, Integer)} - 1 são
+     * exatamente as questões elegíveis para o nível consultado.
+     * </p>
+     *
+     * @param difficulty dificuldade, como gravada no banco
+     * @param contentId conteúdo, ou null para todos
+     * @param position posição no grupo
+     * @return questão na posição
+     */
+    public Question get(String difficulty, Integer contentId, int position) {
+        return bucket(difficulty, contentId).questions[position];
+    }
+
+    /**
+     * Sorteia uma questão entre várias dificuldades, com a mesma chance para
+     * cada questão elegível.
+     *
+     * @param difficulties dificuldades aceitas, como gravadas no banco
+     * @param playerLevel nível do jogador
+     * @param random gerador usado no sorteio
+     * @return questão sorteada, ou null se nenhuma for elegível
+     */
+    public Question pickAny(List<String> difficulties, int playerLevel, RandomGenerator random) {
+        int total = 0;
+        for (String difficulty : difficulties) {
+            total += count(difficulty, playerLevel, null);
+        }
+        if (total == 0) {
+            return null;
+        }
+        int skip = random.nextInt(total);
+        for (String difficulty : difficulties) {
+            Bucket bucket = bucket(difficulty, null);
+            int eligible = bucket != null ? bucket.eligible(playerLevel) : 0;
+            if (skip < eligible) {
+                return bucket.questions[skip];
+            }
+            skip -= eligible;
+        }
+        return null;
+    }
+
+    private Bucket bucket(String difficulty, Integer contentId) {
+        Difficulty entry = byDifficulty.get(difficulty);
+        if (entry == null) {
+            return null;
+        }
+        return contentId != null ? entry.byContent.get(contentId) : entry.all;
+    }
+
+    /** Questões de uma dificuldade: todas e por conteúdo */
+    private record Difficulty(Bucket all, Map<Integer, Bucket> byContent) {
+    }
+
+    /**
+     * Questões ordenadas por nível mínimo e a quantidade acessível até cada nível.
+     * {@code eligibleUpTo[n]} é a quantidade de questões com nível mínimo menor ou igual a n.
+     */
+    private static final class Bucket {
+
+        private final Question[] questions;
+        private final int[] eligibleUpTo;
+
+        private Bucket(Question[] questions, int[] eligibleUpTo) {
+            this.questions = questions;
+            this.eligibleUpTo = eligibleUpTo;
+        }
+
+        static Bucket of(List<Question> list) {
+            Question[] questions = list.stream()
+                .sorted(Comparator.comparingInt(QuestionIndex::minLevel))
+                .toArray(Question[]::new);
+            int maxLevel = questions.length > 0 ? Math.max(0, minLevel(questions[questions.length - 1])) : 0;
+            int[] eligibleUpTo = new int[maxLevel + 1];
+            int position = 0;
+            for (int level = 0; level <= maxLevel; level++) {
+                while (position < questions.length && minLevel(questions[position]) <= level) {
+                    position++;
+                }
+                eligibleUpTo[level] = position;
+            }
+            return new Bucket(questions, eligibleUpTo);
+        }
+
+        int eligible(int playerLevel) {
+            if (playerLevel < 0) {
+                return 0;
+            }
+            return playerLevel < eligibleUpTo.length ? eligibleUpTo[playerLevel] : questions.length;
+        }
+    }
+
+    private static int minLevel(Question question) {
+        return question.getMinLevel() != null ? question.getMinLevel() : 1;
+    }
+}
@@ -0,0 +1,63 @@
+package com.game.rpgbackend.service.question;
+
+import com.game.rpgbackend.domain.Question;
+import com.game.rpgbackend.repository.QuestionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Sorteio avulso de uma questão, com reposição, por dificuldade e nível.
+ * <p>
+ * Usado quando a questão não faz parte da sequência de perguntas da batalha
+ * (ex: desafio do Bardo) e não deve contar como vista pelo jogador. O sorteio
+ * é uma posição aleatória no grupo já ordenado do {@link QuestionIndex}, em
+ * O(1) qualquer que seja o tamanho do banco de questões.
+ * </p>
+ * <p>
+ * Se o índice não tiver questões elegíveis (ex: ainda não foi carregado), a
+ * questão é buscada no banco pela posição sorteada, lendo uma única linha.
+ * </p>
+ *
+ * @author MURILO FURTADO
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QuestionSampler {
+
+    private final QuestionBank questionBank;
+    private final QuestionRepository questionRepository;
+
+    /**
+     * Sorteia uma questão de uma dificuldade acessível a um nível.
+     *
+     * @param difficulty nível de dificuldade (easy, medium, hard)
+     * @param playerLevel nível do jogador
+     * @param random gerador usado no sorteio (ex: o da batalha, para manter o sorteio reproduzível)
+     * @return questão sorteada, ou null se nenhuma for elegível
+     */
+    public Question sample(String difficulty, int playerLevel, RandomGenerator random) {
+        String normalizedDifficulty = QuestionService.normalizeDifficulty(difficulty);
+        Question question = questionBank.current().pick(normalizedDifficulty, playerLevel, null, random);
+        if (question != null) {
+            return question;
+        }
+
+        long eligible = questionRepository.countByDifficultyAndMinLevelLessThanEqual(normalizedDifficulty, playerLevel);
+        if (eligible == 0) {
+            return null;
+        }
+        log.debug("Índice sem questões {} para o nível {}; sorteando no banco", normalizedDifficulty, playerLevel);
+        int position = (int) random.nextLong(eligible);
+        List<Question> page = questionRepository.findByDifficultyAndMinLevelLessThanEqualOrderByIdAsc(
+            normalizedDifficulty, playerLevel, PageRequest.of(position, 1));
+        return page.isEmpty() ? null : page.get(0);
+    }
+}
@@ -0,0 +1,266 @@
+package com.game.rpgbackend.service.question;
+
+import com.game.rpgbackend.config.GameConfig;
+import com.game.rpgbackend.domain.Question;
+import com.game.rpgbackend.repository.PlayerSeenQuestionsRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.random.RandomGenerator;
+
+/**
+ * Sorteio de questões sem repetição por jogador.
+ * <p>
+ * Cada jogador tem, em memória, um bitset dos IDs das questões que já viu e
+ * um {@link ShuffleBag} por conjunto de questões (dificuldade e conteúdo).
+ * Cada sorteio retira a próxima posição do saco e pula as questões já
+ * vistas; quando a rodada acaba, todas as questões do conjunto foram vistas,
+ * então elas são liberadas no bitset e o saco é embaralhado de novo. Nenhuma
+ * questão se repete antes de o conjunto se esgotar e o custo amortizado de
+ * cada sorteio é O(1), sem consultas.
+ * </p>
+ * <p>
+ * Se o conjunto mudar de tamanho (ex: o jogador subiu de nível ou o índice
+ * foi recarregado), o saco é recriado e o bitset continua evitando repetições.
+ * </p>
+ * <p>
+ * Questões sorteadas mas nunca apresentadas (ex: reservadas para uma batalha
+ * que terminou antes) são devolvidas com {@link #giveBack}: deixam de contar
+ * como vistas e saem antes do saco nos próximos sorteios do mesmo conjunto,
+ * então a rodada só termina depois que elas forem apresentadas.
+ * </p>
+ * <p>
+ * O bitset é lido do banco no primeiro sorteio da sessão e gravado em lote
+ * conforme {@code game.questions.seen-flush-millis} e no desligamento.
+ * Sessões sem sorteios há mais de {@code game.questions.seen-idle-seconds}
+ * saem da memória depois de gravadas.
+ * </p>
+ *
+ * @author MURILO FURTADO
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QuestionScheduler {
+
+    private static final String UPSERT_SQL =
+        "INSERT INTO player_seen_questions (user_id, seen, updated_at) VALUES (?, ?, ?) "
+            + "ON CONFLICT (user_id) DO UPDATE SET seen = EXCLUDED.seen, updated_at = EXCLUDED.updated_at";
+
+    private final QuestionBank questionBank;
+    private final PlayerSeenQuestionsRepository seenRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final GameConfig gameConfig;
+
+    private final Map<Integer, Session> sessions = new ConcurrentHashMap<>();
+
+    /**
+     * Sorteia a próxima questão ainda não vista pelo jogador.
+     *
+     * @param userId jogador
+     * @param difficulty dificuldade, como gravada no banco
+     * @param playerLevel nível do jogador
+     * @param contentId conteúdo, ou null para todos
+     * @param random gerador usado para embaralhar
+     * @return questão sorteada, ou null se nenhuma for elegível
+     */
+    public Question next(Integer userId, String difficulty, int playerLevel, Integer contentId,
+                         RandomGenerator random) {
+        QuestionIndex index = questionBank.current();
+        int eligible = index.count(difficulty, playerLevel, contentId);
+        if (eligible == 0) {
+            return null;
+        }
+
+        while (true) {
+            Session session = sessions.computeIfAbsent(userId, this::load);
+            synchronized (session) {
+                if (session.evicted) {
+                    continue;
+                }
+                session.lastUsedMillis = System.currentTimeMillis();
+                Question returned = pollReturned(session, index, poolKey(difficulty, contentId), playerLevel);
+                if (returned != null) {
+                    return returned;
+                }
+                ShuffleBag bag = session.bags.get(poolKey(difficulty, contentId));
+                if (bag == null || bag.size() != eligible) {
+                    bag = new ShuffleBag(eligible, random.nextLong());
+                    session.bags.put(poolKey(difficulty, contentId), bag);
+                }
+                while (true) {
+                    if (bag.isEmpty()) {
+                        // Conjunto esgotado: libera as questões dele e começa outra rodada
+                        for (int position = 0; position < eligible; position++) {
+                            session.seen.clear(index.get(difficulty, contentId, position).getId());
+                        }
+                        bag.refill(random.nextLong());
+                    }
+                    Question question = index.get(difficulty, contentId, bag.next());
+                    if (!session.seen.get(question.getId())) {
+                        session.seen.set(question.getId());
+                        session.dirty = true;
+                        return question;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Devolve questões sorteadas por {@link #next} que não foram apresentadas ao jogador.
+     *
+     * @param userId jogador
+     * @param difficulty dificuldade usada no sorteio, como gravada no banco
+     * @param contentId conteúdo usado no sorteio, ou null
+     * @param questions questões a devolver, na ordem em que seriam apresentadas
+     */
+    public void giveBack(Integer userId, String difficulty, Integer contentId, Collection<Question> questions) {
+        if (questions.isEmpty()) {
+            return;
+        }
+        Session session = sessions.get(userId);
+        if (session == null) {
+            return;
+        }
+        synchronized (session) {
+            if (session.evicted) {
+                return;
+            }
+            Deque<Integer> returned = session.returned.computeIfAbsent(poolKey(difficulty, contentId),
+                key -> new ArrayDeque<>());
+            for (Question question : questions) {
+                if (session.seen.get(question.getId())) {
+                    session.seen.clear(question.getId());
+                    returned.add(question.getId());
+                    session.dirty = true;
+                }
+            }
+        }
+    }
+
+    /**
+     * Quantidade de sessões de jogadores em memória.
+     *
+     * @return sessões carregadas
+     */
+    public int sessions() {
+        return sessions.size();
+    }
+
+    /**
+     * Grava as sessões alteradas e remove da memória as inativas.
+     */
+    @Scheduled(fixedDelayString = "${game.questions.seen-flush-millis:30000}")
+    public void flush() {
+        long idleBefore = System.currentTimeMillis()
+            - gameConfig.getQuestions().getSeenIdleSeconds() * 1000L;
+        List<Integer> users = new ArrayList<>();
+        List<Object[]> rows = new ArrayList<>();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        sessions.forEach((userId, session) -> {
+            synchronized (session) {
+                if (session.dirty) {
+                    rows.add(new Object[] {userId, session.seen.toByteArray(), now});
+                    users.add(userId);
+                    session.dirty = false;
+                } else if (session.lastUsedMillis < idleBefore) {
+                    session.evicted = true;
+                    sessions.remove(userId, session);
+                }
+            }
+        });
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, rows);
+        } catch (DataAccessException e) {
+            log.warn("Falha ao gravar questões vistas de {} jogador(es): {}", rows.size(), e.getMessage());
+            for (Integer userId : users) {
+                Session session = sessions.get(userId);
+                if (session != null) {
+                    synchronized (session) {
+                        session.dirty = true;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Grava as sessões alteradas no desligamento.
+     */
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private Session load(Integer userId) {
+        Session session = new Session();
+        try {
+            seenRepository.findById(userId)
+                .ifPresent(saved -> session.seen = BitSet.valueOf(saved.getSeen()));
+        } catch (DataAccessException e) {
+            log.warn("Falha ao carregar questões vistas do usuário {}: {}", userId, e.getMessage());
+        }
+        session.lastUsedMillis = System.currentTimeMillis();
+        return session;
+    }
+
+    /**
+     * Próxima questão devolvida do conjunto que ainda é elegível e não foi vista.
+     */
+    private static Question pollReturned(Session session, QuestionIndex index, String key, int playerLevel) {
+        Deque<Integer> returned = session.returned.get(key);
+        if (returned == null) {
+            return null;
+        }
+        Integer questionId;
+        while ((questionId = returned.poll()) != null) {
+            Question question = index.find(questionId);
+            if (question != null && !session.seen.get(questionId)
+                && (question.getMinLevel() == null || question.getMinLevel() <= playerLevel)) {
+                session.seen.set(questionId);
+                session.dirty = true;
+                return question;
+            }
+        }
+        session.returned.remove(key);
+        return null;
+    }
+
+    private static String poolKey(String difficulty, Integer contentId) {
+        return contentId != null ? difficulty + "#" + contentId : difficulty;
+    }
+
+    /** Estado de um jogador; acessado sempre com o lock do próprio objeto */
+    private static final class Session {
+        private BitSet seen = new BitSet();
+        private final Map<String, ShuffleBag> bags = new HashMap<>();
+        private final Map<String, Deque<Integer>> returned = new HashMap<>();
+        private boolean dirty;
+        private boolean evicted;
+        private long lastUsedMillis;
+    }
+}
@@ -4,9 +4,11 @@ import com.game.rpgbackend.domain.Question;
 import com.game.rpgbackend.exception.NotFoundException;
 import com.game.rpgbackend.repository.QuestionRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Random;
 
@@ -23,17 +25,25 @@ import java.util.Random;
  * As questões são fundamentais para o sistema de batalhas,
  * onde acertar ou errar influencia o resultado do combate.
  * </p>
+ * <p>
+ * Os sorteios usam o índice em memória do {@link QuestionBank} e não
+ * consultam o banco de dados; por isso só os métodos que usam o repositório
+ * abrem uma transação. Enquanto o índice ainda não foi carregado (ex: durante
+ * o {@code DatabaseSeeder}), os sorteios são feitos no banco.
+ * </p>
  *
  * @author MURILO FURTADO
  * @version 1.0
  * @since 1.0
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class QuestionService {
 
     private final QuestionRepository questionRepository;
+    private final QuestionBank questionBank;
+    private final QuestionScheduler questionScheduler;
     private final Random random = new Random();
 
     /**
@@ -55,45 +65,104 @@ public class QuestionService {
      * @throws NotFoundException se nenhuma questão adequada for encontrada
      */
     public Question getRandomQuestion(String difficulty, Integer playerLevel, Integer contentId) {
-        // Normaliza a dificuldade (primeira letra maiúscula)
-        String normalizedDifficulty = difficulty.substring(0, 1).toUpperCase() +
-                difficulty.substring(1).toLowerCase();
-
-        // Busca perguntas adequadas ao nível do jogador
-        List<Question> questions;
-        if (contentId != null) {
-            questions = questionRepository.findByDifficultyAndMinLevelLessThanEqualAndContentId(
-                    normalizedDifficulty, playerLevel, contentId
-            );
-        } else {
-            questions = questionRepository.findByDifficultyAndMinLevelLessThanEqual(
-                    normalizedDifficulty, playerLevel
-            );
+        String normalizedDifficulty = normalizeDifficulty(difficulty);
+
+        // Sorteia entre as perguntas adequadas ao nível do jogador, direto do índice em memória
+        Question randomQuestion = questionBank.current().pick(normalizedDifficulty, playerLevel, contentId, random);
+        if (randomQuestion == null) {
+            randomQuestion = pickFromRepository(normalizedDifficulty, playerLevel, contentId);
+        }
+        return selected(randomQuestion, normalizedDifficulty, playerLevel);
+    }
+
+    /**
+     * Busca a próxima questão para um jogador, sem repetir questões já vistas.
+     * <p>
+     * Segue os mesmos critérios de {@link #getRandomQuestion(String, Integer, Integer)},
+     * mas nenhuma questão se repete para o jogador até que todas as questões
+     * elegíveis tenham sido apresentadas (ver {@link QuestionScheduler}).
+     * </p>
+     *
+     * @param userId identificador do jogador
+     * @param difficulty nível de dificuldade (easy, medium, hard)
+     * @param playerLevel nível atual do jogador
+     * @param contentId (opcional) ID do conteúdo para filtrar questões relacionadas
+     * @return questão ainda não vista que atende aos critérios
+     * @throws NotFoundException se nenhuma questão adequada for encontrada
+     */
+    public Question getNextQuestion(Integer userId, String difficulty, Integer playerLevel, Integer contentId) {
+        String normalizedDifficulty = normalizeDifficulty(difficulty);
+        Question question = questionScheduler.next(userId, normalizedDifficulty, playerLevel, contentId, random);
+        if (question == null) {
+            question = pickFromRepository(normalizedDifficulty, playerLevel, contentId);
         }
+        return selected(question, normalizedDifficulty, playerLevel);
+    }
 
-        if (questions.isEmpty()) {
+    /**
+     * Devolve questões obtidas por {@link #getNextQuestion} que não foram apresentadas ao jogador.
+     * <p>
+     * Elas voltam a ficar disponíveis e são as primeiras dos próximos sorteios
+     * com os mesmos critérios.
+     * </p>
+     *
+     * @param userId identificador do jogador
+     * @param difficulty dificuldade usada no sorteio
+     * @param contentId conteúdo usado no sorteio, ou null
+     * @param questions questões não apresentadas
+     */
+    public void returnUnseenQuestions(Integer userId, String difficulty, Integer contentId,
+                                      Collection<Question> questions) {
+        questionScheduler.giveBack(userId, normalizeDifficulty(difficulty), contentId, questions);
+    }
+
+    /**
+     * Normaliza a dificuldade (primeira letra maiúscula), como gravada no banco.
+     *
+     * @param difficulty dificuldade informada (ex: "medio", "MEDIO")
+     * @return dificuldade normalizada (ex: "Medio")
+     */
+    public static String normalizeDifficulty(String difficulty) {
+        return difficulty.substring(0, 1).toUpperCase() + difficulty.substring(1).toLowerCase();
+    }
+
+    /**
+     * Sorteia no banco, com reposição, enquanto o índice em memória ainda não foi carregado.
+     *
+     * @return questão sorteada, ou null se o índice já estiver carregado ou nenhuma for elegível
+     */
+    private Question pickFromRepository(String normalizedDifficulty, Integer playerLevel, Integer contentId) {
+        if (questionBank.current().size() > 0) {
+            return null;
+        }
+        log.debug("Índice de questões ainda não carregado; sorteando no banco");
+        return pickOne(contentId != null
+            ? questionRepository.findByDifficultyAndMinLevelLessThanEqualAndContentId(
+                normalizedDifficulty, playerLevel, contentId)
+            : questionRepository.findByDifficultyAndMinLevelLessThanEqual(normalizedDifficulty, playerLevel));
+    }
+
+    private Question pickOne(List<Question> candidates) {
+        return candidates.isEmpty() ? null : candidates.get(random.nextInt(candidates.size()));
+    }
+
+    /**
+     * Valida e registra a questão sorteada.
+     */
+    private static Question selected(Question question, String normalizedDifficulty, Integer playerLevel) {
+        if (question == null) {
             throw new NotFoundException(
                     String.format("Nenhuma pergunta encontrada para dificuldade %s e nível %d.",
                             normalizedDifficulty, playerLevel)
             );
         }
 
-        // Seleciona uma pergunta aleatória
-        int randomIndex = random.nextInt(questions.size());
-        Question randomQuestion = questions.get(randomIndex);
-
-        // Log para debug
-        System.out.println(String.format(
-                "Pergunta selecionada: ID=%d, Dificuldade=%s, NivelMinimo=%d, PlayerLevel=%d",
-                randomQuestion.getId(),
-                randomQuestion.getDifficulty(),
-                randomQuestion.getMinLevel(),
-                playerLevel
-        ));
+        log.debug("Pergunta selecionada: ID={}, Dificuldade={}, NivelMinimo={}, PlayerLevel={}",
+                question.getId(), question.getDifficulty(), question.getMinLevel(), playerLevel);
 
         // Nota: A resposta correta NÃO deve ser enviada para o frontend.
         // Isso deve ser tratado no Controller/DTO layer
-        return randomQuestion;
+        return question;
     }
 
     /**
@@ -109,25 +178,16 @@ public class QuestionService {
      * @throws NotFoundException se nenhuma questão adequada for encontrada
      */
     public Question getQuestionByDifficultyRange(List<String> difficulties, Integer playerLevel) {
-        long questionCount = questionRepository.countByDifficultyInAndMinLevelLessThanEqual(
-                difficulties, playerLevel
-        );
-
-        if (questionCount == 0) {
-            throw new NotFoundException("Nenhuma pergunta encontrada para as dificuldades especificadas.");
+        Question question = questionBank.current().pickAny(difficulties, playerLevel, random);
+        if (question == null && questionBank.current().size() == 0) {
+            question = pickOne(questionRepository.findByDifficultyInAndMinLevelLessThanEqual(difficulties, playerLevel));
         }
 
-        int skip = random.nextInt((int) questionCount);
-
-        List<Question> questions = questionRepository.findByDifficultyInAndMinLevelLessThanEqual(
-                difficulties, playerLevel
-        );
-
-        if (questions.isEmpty() || skip >= questions.size()) {
-            throw new NotFoundException("Não foi possível buscar uma pergunta.");
+        if (question == null) {
+            throw new NotFoundException("Nenhuma pergunta encontrada para as dificuldades especificadas.");
         }
 
-        return questions.get(skip);
+        return question;
     }
 
     /**
@@ -136,6 +196,7 @@ public class QuestionService {
      * @param contentId identificador do conteúdo educacional
      * @return lista de questões do conteúdo especificado
      */
+    @Transactional(readOnly = true)
     public List<Question> getQuestionsByContent(Integer contentId) {
         return questionRepository.findByContentId(contentId);
     }
@@ -151,6 +212,7 @@ public class QuestionService {
      * @return questão completa com resposta correta
      * @throws NotFoundException se a questão não for encontrada
      */
+    @Transactional(readOnly = true)
     public Question getQuestionById(Integer questionId) {
         return questionRepository.findById(questionId)
                 .orElseThrow(() -> new NotFoundException("Questão não encontrada"));
@@ -159,7 +221,10 @@ public class QuestionService {
     /**
      * Valida se uma resposta fornecida está correta.
      * <p>
-     * A comparação é case-insensitive e ignora espaços em branco extras.
+     * A comparação ignora espaços nas pontas, acentos e diferenças entre
+     * maiúsculas e minúsculas ({@link AnswerKeys#normalize(String)}). A questão
+     * vem do índice em memória; só questões fora do índice são lidas do banco,
+     * na transação do próprio repositório.
      * </p>
      *
      * @param questionId identificador da questão
@@ -168,8 +233,11 @@ public class QuestionService {
      * @throws NotFoundException se a questão não for encontrada
      */
     public boolean checkAnswer(Integer questionId, String answer) {
-        Question question = getQuestionById(questionId);
-        return question.getCorrectAnswer().trim().equalsIgnoreCase(answer.trim());
+        Question question = questionBank.current().find(questionId);
+        if (question == null) {
+            question = getQuestionById(questionId);
+        }
+        return AnswerKeys.normalize(answer).equals(AnswerKeys.normalize(question.getCorrectAnswer()));
     }
 
     /**
@@ -189,6 +257,7 @@ public class QuestionService {
      * @return texto da dica ou null se não houver dica disponível
      * @throws NotFoundException se a questão não for encontrada
      */
+    @Transactional(readOnly = true)
     public String getHintForQuestion(Integer questionId) {
         Question question = getQuestionById(questionId); // Reutiliza o método que já busca e lança exceção
 
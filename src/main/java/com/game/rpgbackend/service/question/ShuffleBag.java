@@ -0,0 +1,99 @@
+package com.game.rpgbackend.service.question;
+
+/**
+ * Saco embaralhado de posições {@code 0..size-1} sem guardar a permutação.
+ * <p>
+ * A ordem é dada por uma permutação pseudoaleatória (rede de Feistel sobre a
+ * menor potência de 2 que cobre o tamanho, com cycle-walking), determinada
+ * pela semente. Cada posição sai exatamente uma vez por rodada, cada retirada
+ * custa O(1) e o estado ocupa só a semente, o tamanho e o cursor, qualquer
+ * que seja o tamanho do conjunto.
+ * </p>
+ *
+ * @author MURILO FURTADO
+ * @version 1.0
+ * @since 1.0
+ */
+final class ShuffleBag {
+
+    private static final int ROUNDS = 4;
+
+    private final int size;
+    private final int halfBits;
+    private long seed;
+    private int cursor;
+
+    /**
+     * Cria um saco com todas as posições disponíveis.
+     *
+     * @param size quantidade de posições (maior que zero)
+     * @param seed semente da permutação
+     */
+    ShuffleBag(int size, long seed) {
+        this.size = size;
+        int bits = Math.max(2, 32 - Integer.numberOfLeadingZeros(size - 1));
+        this.halfBits = (bits + 1) / 2;
+        this.seed = seed;
+    }
+
+    /**
+     * Quantidade de posições do saco.
+     *
+     * @return tamanho
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Indica se todas as posições desta rodada já foram retiradas.
+     *
+     * @return true se a rodada acabou
+     */
+    boolean isEmpty() {
+        return cursor >= size;
+    }
+
+    /**
+     * Retira a próxima posição da rodada.
+     *
+     * @return posição entre 0 e {@code size - 1}
+     */
+    int next() {
+        return permute(cursor++);
+    }
+
+    /**
+     * Começa uma nova rodada com outra ordem.
+     *
+     * @param nextSeed semente da nova permutação
+     */
+    void refill(long nextSeed) {
+        seed = nextSeed;
+        cursor = 0;
+    }
+
+    private int permute(int value) {
+        int mask = (1 << halfBits) - 1;
+        int x = value;
+        do {
+            int left = x >>> halfBits;
+            int right = x & mask;
+            for (int round = 0; round < ROUNDS; round++) {
+                int next = left ^ (mix(right, round) & mask);
+                left = right;
+                right = next;
+            }
+            x = (left << halfBits) | right;
+        } while (x >= size);
+        return x;
+    }
+
+    private int mix(int value, int round) {
+        long h = seed ^ (value * 0x9E3779B97F4A7C15L) ^ ((round + 1) * 0xBF58476D1CE4E5B9L);
+        h ^= h >>> 31;
+        h *= 0x94D049BB133111EBL;
+        h ^= h >>> 29;
+        return (int) h;
+    }
+}
@@ -0,0 +1,286 @@
+package com.game.rpgbackend.service.stream;
+
+import com.game.rpgbackend.config.GameConfig;
+import com.game.rpgbackend.repository.CharacterRepository;
+import com.game.rpgbackend.service.achievement.AchievementUnlockedEvent;
+import com.game.rpgbackend.service.battle.reward.BattleRewardsEvent;
+import com.game.rpgbackend.service.hub.QuestProgressEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Canal de eventos por usuário enviado ao cliente via Server-Sent Events.
+ * <p>
+ * Cada usuário autenticado mantém no máximo uma conexão; uma nova conexão
+ * encerra a anterior. Publicar um evento apenas o coloca na fila limitada da
+ * conexão e agenda o envio em um pool pequeno de threads, então quem publica
+ * (ações de batalha, quests, conquistas) nunca espera pela rede. Cada conexão
+ * é enviada por no máximo uma thread por vez, em lotes, preservando a ordem.
+ * </p>
+ * <p>
+ * Se um cliente lento acumular mais eventos que o limite configurado, a fila é
+ * descartada e substituída por um evento {@value #RESYNC}, indicando que o
+ * cliente deve recarregar o estado completo. Conexões ociosas não possuem fila
+ * alocada e custam apenas o emitter e o socket.
+ * </p>
+ * <p>
+ * Eventos enviados: {@code battle} (delta do estado da batalha),
+ * {@code quest} (progresso de quest), {@code achievement} (conquista
+ * desbloqueada), {@code rewards} (recompensas aplicadas após a batalha) e
+ * {@value #RESYNC}.
+ * </p>
+ *
+ * @author MURILO FURTADO
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Component
+public class PlayerEventStream {
+
+    /** Evento enviado quando eventos foram descartados e o cliente precisa recarregar o estado */
+    public static final String RESYNC = "resync";
+
+    /** Eventos enviados por vez antes de ceder a thread a outra conexão */
+    private static final int DRAIN_BATCH = 16;
+
+    private final CharacterRepository characterRepository;
+    private final GameConfig.Stream config;
+    private final Map<Integer, Connection> connections = new ConcurrentHashMap<>();
+    private final ExecutorService sender;
+    private final Counter dropped;
+
+    public PlayerEventStream(GameConfig gameConfig, CharacterRepository characterRepository, MeterRegistry meterRegistry) {
+        this.characterRepository = characterRepository;
+        this.config = gameConfig.getStream();
+        this.sender = Executors.newFixedThreadPool(Math.max(1, config.getSendThreads()), new ThreadFactory() {
+            private final AtomicInteger count = new AtomicInteger();
+
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "player-event-stream-" + count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        Gauge.builder("rpg.stream.connections", connections, Map::size)
+            .description("Conexões abertas no canal de eventos")
+            .register(meterRegistry);
+        this.dropped = Counter.builder("rpg.stream.resyncs")
+            .description("Filas de eventos descartadas por excederem o limite")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Abre a conexão de eventos de um usuário, encerrando a anterior se houver.
+     *
+     * @param userId identificador do usuário
+     * @return emitter a ser devolvido pelo controller
+     */
+    public SseEmitter connect(Integer userId) {
+        SseEmitter emitter = new SseEmitter(config.getTimeoutMillis());
+        Connection connection = new Connection(userId, emitter);
+        emitter.onCompletion(() -> connections.remove(userId, connection));
+        emitter.onTimeout(connection::close);
+        emitter.onError(error -> connection.close());
+
+        Connection previous = connections.put(userId, connection);
+        if (previous != null) {
+            previous.close();
+        }
+        return emitter;
+    }
+
+    /**
+     * Indica se o usuário possui uma conexão aberta.
+     * <p>
+     * Permite evitar o custo de montar eventos que ninguém vai receber.
+     * </p>
+     *
+     * @param userId identificador do usuário
+     * @return true se houver conexão
+     */
+    public boolean isConnected(Integer userId) {
+        return userId != null && connections.containsKey(userId);
+    }
+
+    /**
+     * Enfileira um evento para o usuário, se estiver conectado. Nunca bloqueia.
+     *
+     * @param userId identificador do usuário
+     * @param name nome do evento
+     * @param data conteúdo do evento, serializado como JSON
+     */
+    public void publish(Integer userId, String name, Object data) {
+        if (userId == null) {
+            return;
+        }
+        Connection connection = connections.get(userId);
+        if (connection != null) {
+            connection.offer(SseEmitter.event().name(name).data(data));
+        }
+    }
+
+    /**
+     * Repassa o progresso de quests após o commit da transação que o alterou.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onQuestProgress(QuestProgressEvent event) {
+        publish(event.getUserId(), "quest", event);
+    }
+
+    /**
+     * Repassa conquistas desbloqueadas após o commit da transação que as completou.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAchievementUnlocked(AchievementUnlockedEvent event) {
+        if (connections.isEmpty()) {
+            return;
+        }
+        characterRepository.findUserIdById(event.getCharacterId().intValue())
+            .ifPresent(userId -> publish(userId, "achievement", event));
+    }
+
+    /**
+     * Repassa as recompensas pós-batalha após o commit da transação que as aplicou.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBattleRewards(BattleRewardsEvent event) {
+        publish(event.getUserId(), "rewards", event);
+    }
+
+    /**
+     * Envia um comentário a todas as conexões para mantê-las abertas em proxies
+     * e detectar clientes que desconectaram sem avisar.
+     */
+    @Scheduled(fixedDelayString = "PT${game.stream.heartbeat-seconds:25}S")
+    public void heartbeat() {
+        for (Connection connection : connections.values()) {
+            connection.offer(SseEmitter.event().comment("ping"));
+        }
+    }
+
+    /**
+     * Quantidade de conexões abertas.
+     *
+     * @return conexões abertas
+     */
+    public int size() {
+        return connections.size();
+    }
+
+    /**
+     * Encerra as conexões e o pool de envio no desligamento.
+     */
+    @PreDestroy
+    public void shutdown() {
+        for (Connection connection : connections.values()) {
+            connection.close();
+        }
+        sender.shutdown();
+    }
+
+    /**
+     * Conexão de um usuário com sua fila de eventos pendentes.
+     */
+    private final class Connection implements Runnable {
+        private final Integer userId;
+        private final SseEmitter emitter;
+
+        /** Alocada no primeiro evento; protegida pelo monitor da conexão */
+        private ArrayDeque<SseEmitter.SseEventBuilder> queue;
+        private boolean scheduled;
+        private boolean closed;
+
+        private Connection(Integer userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+
+        private void offer(SseEmitter.SseEventBuilder event) {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                if (queue == null) {
+                    queue = new ArrayDeque<>();
+                }
+                if (queue.size() >= config.getMaxQueuedEvents()) {
+                    queue.clear();
+                    queue.add(SseEmitter.event().name(RESYNC).data(""));
+                    dropped.increment();
+                }
+                queue.add(event);
+                if (scheduled) {
+                    return;
+                }
+                scheduled = true;
+            }
+            schedule();
+        }
+
+        private void schedule() {
+            try {
+                sender.execute(this);
+            } catch (RejectedExecutionException e) {
+                close();
+            }
+        }
+
+        @Override
+        public void run() {
+            for (int i = 0; i < DRAIN_BATCH; i++) {
+                SseEmitter.SseEventBuilder event;
+                synchronized (this) {
+                    event = closed ? null : queue.poll();
+                    if (event == null) {
+                        scheduled = false;
+                        return;
+                    }
+                }
+                try {
+                    emitter.send(event);
+                } catch (IOException | IllegalStateException e) {
+                    log.debug("Conexão de eventos do usuário {} encerrada: {}", userId, e.getMessage());
+                    close();
+                    return;
+                }
+            }
+            // Cede a thread para outras conexões e continua depois
+            schedule();
+        }
+
+        private void close() {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                queue = null;
+            }
+            connections.remove(userId, this);
+            try {
+                emitter.complete();
+            } catch (IllegalStateException ignored) {
+                // Já encerrado pelo container
+            }
+        }
+    }
+}
@@ -12,6 +12,7 @@ import com.game.rpgbackend.exception.UnauthorizedException;
 import com.game.rpgbackend.repository.PlayerStatsRepository;
 import com.game.rpgbackend.repository.UserRepository;
 import com.game.rpgbackend.security.JwtUtil;
+import com.game.rpgbackend.service.progress.ProgressCounters;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -48,6 +49,7 @@ public class UserService {
     private final PlayerStatsRepository playerStatsRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final ProgressCounters progressCounters;
 
     /**
      * Registra um novo usuário no sistema.
@@ -234,16 +236,21 @@ public class UserService {
         PlayerStats stats = playerStatsRepository.findByUserId(user.getId())
             .orElseThrow(() -> new BadRequestException("Estatísticas não encontradas"));
 
+        // Soma os contadores ainda não gravados
+        Integer userId = user.getId();
+        int questionsRight = stats.getQuestionsRight() + progressCounters.pendingStat(userId, ProgressCounters.Stat.QUESTIONS_RIGHT);
+        int questionsWrong = stats.getQuestionsWrong() + progressCounters.pendingStat(userId, ProgressCounters.Stat.QUESTIONS_WRONG);
+
         UserStatsResponse response = new UserStatsResponse();
         response.setLevel(stats.getLevel());
-        response.setTotalBatalhasVencidas(stats.getBattlesWon());
-        response.setTotalBatalhasPerdidas(stats.getBattlesLost());
-        response.setTotalQuestoesCorretas(stats.getQuestionsRight());
-        response.setTotalQuestoesErradas(stats.getQuestionsWrong());
-        response.setXpTotal(stats.getTotalXpEarned());
-
-        int totalQuestoes = stats.getQuestionsRight() + stats.getQuestionsWrong();
-        response.setTaxaAcerto(totalQuestoes > 0 ? (stats.getQuestionsRight() * 100.0) / totalQuestoes : 0.0);
+        response.setTotalBatalhasVencidas(stats.getBattlesWon() + progressCounters.pendingStat(userId, ProgressCounters.Stat.BATTLES_WON));
+        response.setTotalBatalhasPerdidas(stats.getBattlesLost() + progressCounters.pendingStat(userId, ProgressCounters.Stat.BATTLES_LOST));
+        response.setTotalQuestoesCorretas(questionsRight);
+        response.setTotalQuestoesErradas(questionsWrong);
+        response.setXpTotal(stats.getTotalXpEarned() + progressCounters.pendingStat(userId, ProgressCounters.Stat.TOTAL_XP_EARNED));
+
+        int totalQuestoes = questionsRight + questionsWrong;
+        response.setTaxaAcerto(totalQuestoes > 0 ? (questionsRight * 100.0) / totalQuestoes : 0.0);
 
         return response;
     }
@@ -0,0 +1,155 @@
+package com.game.rpgbackend.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fila em memória de linhas gravadas com {@code INSERT} em lote via JDBC.
+ * <p>
+ * Quem produz as linhas apenas as enfileira com {@link #offer}; o dono da fila
+ * chama {@link #flush()} periodicamente e no desligamento, fora da thread da
+ * requisição. Se a fila passar do limite (ex: banco indisponível), novas
+ * linhas são recusadas em vez de acumular memória.
+ * </p>
+ * <p>
+ * Cada lote é gravado em uma transação. Se a gravação falhar, o lote volta
+ * para a fila e é tentado de novo nas próximas execuções, até
+ * {@link #MAX_ATTEMPTS} vezes; a execução corrente para no primeiro lote com
+ * falha, já que o banco provavelmente está indisponível.
+ * </p>
+ *
+ * @param <T> tipo da linha enfileirada
+ * @author MURILO FURTADO
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+public class BatchedJdbcWriter<T> {
+
+    /** Linhas por {@code INSERT} em lote */
+    public static final int BATCH_SIZE = 500;
+
+    /** Linhas aguardando gravação acima das quais novas linhas são recusadas */
+    public static final int MAX_PENDING = 100_000;
+
+    /** Tentativas de gravação de cada linha antes de descartá-la */
+    public static final int MAX_ATTEMPTS = 5;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final String insertSql;
+    private final ParameterizedPreparedStatementSetter<T> setter;
+    private final String description;
+
+    private final Queue<Pending<T>> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+
+    /**
+     * Cria a fila de gravação de uma tabela.
+     *
+     * @param jdbcTemplate acesso JDBC
+     * @param transactionTemplate transação de cada lote
+     * @param insertSql {@code INSERT} de uma linha
+     * @param setter preenche os parâmetros do {@code INSERT} a partir de uma linha
+     * @param description nome das linhas nas mensagens de log (ex: "logs de batalha")
+     */
+    public BatchedJdbcWriter(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                             String insertSql, ParameterizedPreparedStatementSetter<T> setter,
+                             String description) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.insertSql = insertSql;
+        this.setter = setter;
+        this.description = description;
+    }
+
+    /**
+     * Enfileira uma linha para gravação.
+     *
+     * @param row linha
+     * @return false se a fila estiver cheia e a linha foi recusada
+     */
+    public boolean offer(T row) {
+        if (pendingCount.incrementAndGet() > MAX_PENDING) {
+            pendingCount.decrementAndGet();
+            return false;
+        }
+        pending.add(new Pending<>(row, 0));
+        return true;
+    }
+
+    /**
+     * Quantidade de linhas aguardando gravação.
+     *
+     * @return tamanho da fila
+     */
+    public int pending() {
+        return pendingCount.get();
+    }
+
+    /**
+     * Grava em lote todas as linhas pendentes.
+     */
+    public void flush() {
+        // Limita a execução ao que já estava na fila, para não repetir na hora um lote devolvido
+        int remaining = pendingCount.get();
+        List<Pending<T>> batch = new ArrayList<>(BATCH_SIZE);
+        Pending<T> entry;
+        while (remaining-- > 0 && (entry = pending.poll()) != null) {
+            pendingCount.decrementAndGet();
+            batch.add(entry);
+            if (batch.size() == BATCH_SIZE) {
+                if (!write(batch)) {
+                    return;
+                }
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            write(batch);
+        }
+    }
+
+    /**
+     * Grava um lote; em caso de falha, devolve à fila as linhas que ainda têm tentativas.
+     *
+     * @return true se o lote foi gravado
+     */
+    private boolean write(List<Pending<T>> batch) {
+        try {
+            // Na mesma transação, um lote que falhou não deixa linhas que seriam duplicadas na nova tentativa
+            transactionTemplate.executeWithoutResult(status ->
+                jdbcTemplate.batchUpdate(insertSql, batch, batch.size(),
+                    (ps, pendingRow) -> setter.setValues(ps, pendingRow.row())));
+            return true;
+        } catch (DataAccessException e) {
+            int dropped = 0;
+            for (Pending<T> pendingRow : batch) {
+                if (pendingRow.attempts() + 1 < MAX_ATTEMPTS) {
+                    pendingCount.incrementAndGet();
+                    pending.add(new Pending<>(pendingRow.row(), pendingRow.attempts() + 1));
+                } else {
+                    dropped++;
+                }
+            }
+            log.warn("Falha ao gravar {} {} ({} descartados após {} tentativas): {}",
+                batch.size(), description, dropped, MAX_ATTEMPTS, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Linha aguardando gravação e quantas vezes sua gravação já falhou.
+     */
+    private record Pending<T>(T row, int attempts) {
+    }
+}
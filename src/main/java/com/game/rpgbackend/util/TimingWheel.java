@@ -0,0 +1,114 @@
+package com.game.rpgbackend.util;
+
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.ToLongFunction;
+
+/**
+ * Roda de temporização (hashed timing wheel) para expiração de chaves em massa.
+ * <p>
+ * Em vez de manter um timer por entrada, cada chave é colocada no slot
+ * correspondente ao tick do seu prazo. A cada chamada de {@link #advance},
+ * apenas os slots dos ticks decorridos são visitados, tornando o custo de
+ * agendar O(1) e o custo de expirar proporcional às chaves vencidas.
+ * </p>
+ * <p>
+ * Prazos maiores que uma volta completa da roda ficam no slot até a volta
+ * correta. O agendamento pode ser feito de qualquer thread; o avanço deve ser
+ * feito por uma única thread por vez (o método é sincronizado).
+ * </p>
+ *
+ * @param <K> tipo da chave agendada
+ * @author MURILO FURTADO
+ * @version 1.0
+ * @since 1.0
+ */
+public class TimingWheel<K> {
+
+    private final long tickNanos;
+    private final long startNanos;
+    private final int mask;
+    private final Queue<Timeout<K>>[] slots;
+
+    /** Último tick já processado */
+    private volatile long currentTick;
+
+    /**
+     * Cria uma roda com a resolução e a quantidade de slots informadas.
+     *
+     * @param tickNanos duração de cada tick em nanossegundos
+     * @param slotCount quantidade de slots (arredondada para a próxima potência de 2)
+     * @param startNanos instante de referência ({@link System#nanoTime()})
+     */
+    @SuppressWarnings("unchecked")
+    public TimingWheel(long tickNanos, int slotCount, long startNanos) {
+        int size = Integer.highestOneBit(Math.max(2, slotCount - 1)) << 1;
+        this.tickNanos = tickNanos;
+        this.startNanos = startNanos;
+        this.mask = size - 1;
+        this.slots = new Queue[size];
+        for (int i = 0; i < size; i++) {
+            slots[i] = new ConcurrentLinkedQueue<>();
+        }
+    }
+
+    /**
+     * Agenda uma chave para ser avaliada no prazo informado.
+     *
+     * @param key chave a ser agendada
+     * @param deadlineNanos prazo em {@link System#nanoTime()}
+     */
+    public void schedule(K key, long deadlineNanos) {
+        long tick = Math.max(tickOf(deadlineNanos), currentTick + 1);
+        slots[(int) (tick & mask)].add(new Timeout<>(key, tick));
+    }
+
+    /**
+     * Processa todos os ticks decorridos até o instante informado.
+     * <p>
+     * Para cada chave vencida, {@code onDue} é chamado e deve retornar o novo
+     * prazo (em nanos) caso a chave deva continuar agendada, ou um valor
+     * menor ou igual a zero para descartá-la.
+     * </p>
+     *
+     * @param nowNanos instante atual em {@link System#nanoTime()}
+     * @param onDue callback de avaliação das chaves vencidas
+     */
+    public synchronized void advance(long nowNanos, ToLongFunction<K> onDue) {
+        long target = tickOf(nowNanos);
+        while (currentTick < target) {
+            long tick = currentTick + 1;
+            Iterator<Timeout<K>> it = slots[(int) (tick & mask)].iterator();
+            while (it.hasNext()) {
+                Timeout<K> timeout = it.next();
+                if (timeout.tick <= tick) {
+                    it.remove();
+                    long next = onDue.applyAsLong(timeout.key);
+                    if (next > 0) {
+                        long nextTick = Math.max(tickOf(next), tick + 1);
+                        slots[(int) (nextTick & mask)].add(new Timeout<>(timeout.key, nextTick));
+                    }
+                }
+            }
+            currentTick = tick;
+        }
+    }
+
+    private long tickOf(long nanos) {
+        return Math.max(0, (nanos - startNanos) / tickNanos);
+    }
+
+    /**
+     * Chave agendada para um tick específico.
+     */
+    private static final class Timeout<K> {
+        private final K key;
+        private final long tick;
+
+        private Timeout(K key, long tick) {
+            this.key = key;
+            this.tick = tick;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.game.rpgbackend.service.battle.store;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BattleJournalTest {
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void replaysSegmentsAfterCrash() throws Exception {
+		BattleJournal crashed = open();
+		crashed.recover();
+		crashed.start();
+		put(crashed, 1, "a");
+		put(crashed, 2, "b");
+		put(crashed, 1, "c");
+		crashed.append(BattleJournal.OP_REMOVE, 2, new byte[0]);
+		put(crashed, 3, "d");
+		awaitWritten(crashed, 5);
+		// Sem close(): nenhum snapshot final, só os segmentos
+
+		BattleJournal restarted = open();
+		Map<Integer, byte[]> recovered = restarted.recover();
+		assertEquals(Map.of(1, "c", 3, "d"), decode(recovered));
+
+		restarted.start();
+		put(restarted, 4, "e");
+		awaitWritten(restarted, 1);
+
+		Map<Integer, byte[]> again = open().recover();
+		assertEquals(Map.of(1, "c", 3, "d", 4, "e"), decode(again));
+
+		crashed.close();
+		restarted.close();
+	}
+
+	@Test
+	void discardsTornTailRecord() throws Exception {
+		Path segment = writeThreeRecords();
+		try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+			file.setLength(file.length() - 3);
+		}
+
+		assertEquals(Map.of(1, "a", 2, "b"), decode(open().recover()));
+	}
+
+	@Test
+	void discardsTailRecordWithCrcMismatch() throws Exception {
+		Path segment = writeThreeRecords();
+		try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+			file.seek(file.length() - 1);
+			int last = file.read();
+			file.seek(file.length() - 1);
+			file.write(last ^ 0xFF);
+		}
+
+		assertEquals(Map.of(1, "a", 2, "b"), decode(open().recover()));
+	}
+
+	@Test
+	void startsNewSegmentAfterTornTail() throws Exception {
+		Path segment = writeThreeRecords();
+		try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+			file.seek(file.length());
+			file.writeInt(64);
+		}
+
+		BattleJournal restarted = open();
+		restarted.recover();
+		restarted.start();
+		put(restarted, 4, "d");
+		awaitWritten(restarted, 1);
+
+		assertEquals(Map.of(1, "a", 2, "b", 3, "c", 4, "d"), decode(open().recover()));
+		assertFalse(restarted.isFailedOver());
+		restarted.close();
+	}
+
+	@Test
+	void closeWritesSnapshotAndDropsOldSegments() throws Exception {
+		BattleJournal journal = open();
+		journal.recover();
+		journal.start();
+		put(journal, 1, "a");
+		put(journal, 2, "b");
+		journal.close();
+
+		List<String> files = files();
+		assertTrue(files.stream().anyMatch(name -> name.endsWith(".snap")));
+		assertEquals(Map.of(1, "a", 2, "b"), decode(open().recover()));
+	}
+
+	@Test
+	void failsOverWithoutWaitingWhenQueueIsFull() {
+		// Sem start(): nada consome a fila
+		BattleJournal journal = new BattleJournal(directory, 1024 * 1024, 10_000, false, 2);
+		journal.recover();
+		put(journal, 1, "a");
+		put(journal, 2, "b");
+
+		long start = System.nanoTime();
+		assertFalse(journal.append(BattleJournal.OP_PUT, 3, new byte[]{'c'}));
+		assertTrue(System.nanoTime() - start < 100_000_000L, "append esperou por espaço na fila");
+		assertTrue(journal.isFailedOver());
+		assertFalse(journal.append(BattleJournal.OP_PUT, 4, new byte[]{'d'}));
+	}
+
+	private Path writeThreeRecords() throws Exception {
+		BattleJournal journal = open();
+		journal.recover();
+		journal.start();
+		put(journal, 1, "a");
+		put(journal, 2, "b");
+		put(journal, 3, "c");
+		awaitWritten(journal, 3);
+
+		List<String> segments = files().stream().filter(name -> name.endsWith(".log")).toList();
+		assertEquals(1, segments.size());
+		return directory.resolve(segments.get(0));
+	}
+
+	private BattleJournal open() {
+		return new BattleJournal(directory, 1024 * 1024, 10_000, false, 1024);
+	}
+
+	private static void put(BattleJournal journal, int userId, String state) {
+		assertTrue(journal.append(BattleJournal.OP_PUT, userId, state.getBytes(StandardCharsets.UTF_8)));
+	}
+
+	private static void awaitWritten(BattleJournal journal, long records) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 5000;
+		while (journal.written() < records) {
+			assertTrue(System.currentTimeMillis() < deadline, "journal não gravou os registros a tempo");
+			Thread.sleep(10);
+		}
+	}
+
+	private List<String> files() throws IOException {
+		try (Stream<Path> files = Files.list(directory)) {
+			return files.map(path -> path.getFileName().toString()).sorted().toList();
+		}
+	}
+
+	private static Map<Integer, String> decode(Map<Integer, byte[]> payloads) {
+		return payloads.entrySet().stream()
+			.collect(Collectors.toMap(Map.Entry::getKey,
+				entry -> new String(entry.getValue(), StandardCharsets.UTF_8)));
+	}
+}
@@ -0,0 +1,115 @@
+package com.game.rpgbackend.service.importer;
+
+import com.game.rpgbackend.config.GameConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.io.ByteArrayInputStream;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ContentImporterTest {
+
+	private static final String BOOKS = """
+		bookTitle,content,type,difficulty
+		Livro Antigo,texto,history,Facil
+		Livro Novo,texto,history,Facil
+		" Livro Novo ",outro texto,history,Facil
+		Outro Livro,texto,history,Facil
+		Livro Antigo ,texto,history,Facil
+		Outro Livro,texto,history,Facil
+		""";
+
+	@Test
+	void skipsDuplicatesInFileAndAgainstExistingRows() {
+		assertDeduplicated(1000);
+	}
+
+	@Test
+	void skipsDuplicatesAcrossBatches() {
+		assertDeduplicated(1);
+	}
+
+	@Test
+	void keepsDuplicatesAcrossImportsOut() {
+		FakeJdbcTemplate jdbc = new FakeJdbcTemplate(List.of("Livro Antigo"));
+		ContentImporter importer = new ContentImporter(jdbc, null, new GameConfig());
+		importer.importStream("books.csv", csv(BOOKS));
+		jdbc.existing.addAll(jdbc.inserted);
+		jdbc.inserted.clear();
+
+		ImportReport again = importer.importStream("books.csv", csv(BOOKS));
+
+		assertEquals(0, again.getInserted());
+		assertEquals(6, again.getDuplicates());
+	}
+
+	private static void assertDeduplicated(int batchSize) {
+		GameConfig config = new GameConfig();
+		config.getImports().setBatchSize(batchSize);
+		FakeJdbcTemplate jdbc = new FakeJdbcTemplate(List.of("Livro Antigo"));
+		ContentImporter importer = new ContentImporter(jdbc, null, config);
+
+		ImportReport report = importer.importStream("books.csv", csv(BOOKS));
+
+		assertEquals(6, report.getRead());
+		assertEquals(2, report.getInserted());
+		assertEquals(4, report.getDuplicates());
+		assertEquals(0, report.getRejected());
+		assertNull(report.getError());
+		assertEquals(List.of("Livro Novo", "Outro Livro"), jdbc.inserted);
+	}
+
+	private static ByteArrayInputStream csv(String content) {
+		return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/** Tabela de livros em memória: responde à leitura das chaves e guarda os títulos inseridos */
+	private static final class FakeJdbcTemplate extends JdbcTemplate {
+
+		private final List<String> existing;
+		private final List<String> inserted = new ArrayList<>();
+
+		private FakeJdbcTemplate(List<String> existing) {
+			this.existing = new ArrayList<>(existing);
+		}
+
+		@Override
+		public void query(String sql, RowCallbackHandler handler) {
+			assertEquals("SELECT book_title FROM book", sql);
+			for (String title : existing) {
+				try {
+					handler.processRow(row(title));
+				} catch (SQLException e) {
+					throw new IllegalStateException(e);
+				}
+			}
+		}
+
+		@Override
+		public int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+			for (Object[] args : batchArgs) {
+				inserted.add((String) args[0]);
+			}
+			return new int[batchArgs.size()];
+		}
+
+		private static ResultSet row(String value) {
+			return (ResultSet) Proxy.newProxyInstance(
+				ResultSet.class.getClassLoader(),
+				new Class<?>[]{ResultSet.class},
+				(proxy, method, args) -> switch (method.getName()) {
+					case "getString" -> value;
+					default -> throw new UnsupportedOperationException(method.getName());
+				});
+		}
+	}
+}
@@ -0,0 +1,90 @@
+package com.game.rpgbackend.service.importer;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CsvRowReaderTest {
+
+	@Test
+	void readsQuotedCommaAndNewline() throws IOException {
+		List<Map<String, String>> rows = read("title,text\r\n\"A, B\",\"linha 1\nlinha 2\"\r\n");
+
+		assertEquals(1, rows.size());
+		assertEquals("A, B", rows.get(0).get("title"));
+		assertEquals("linha 1\nlinha 2", rows.get(0).get("text"));
+	}
+
+	@Test
+	void unescapesDoubledQuotes() throws IOException {
+		List<Map<String, String>> rows = read("title\n\"Ele disse \"\"olá\"\"\"\n");
+
+		assertEquals("Ele disse \"olá\"", rows.get(0).get("title"));
+	}
+
+	@Test
+	void skipsBlankLines() throws IOException {
+		List<Map<String, String>> rows = read("\n\ntitle,level\n\na,1\n   \n\r\nb,2\n\n");
+
+		assertEquals(2, rows.size());
+		assertEquals("a", rows.get(0).get("title"));
+		assertEquals("b", rows.get(1).get("title"));
+	}
+
+	@Test
+	void leavesMissingTrailingFieldsOut() throws IOException {
+		List<Map<String, String>> rows = read("title,level,hint\na,1\nb\n");
+
+		assertEquals("1", rows.get(0).get("level"));
+		assertFalse(rows.get(0).containsKey("hint"));
+		assertEquals("b", rows.get(1).get("title"));
+		assertNull(rows.get(1).get("level"));
+	}
+
+	@Test
+	void readsLastRecordWithoutTrailingNewline() throws IOException {
+		List<Map<String, String>> rows = read("title,level\na,1");
+
+		assertEquals(1, rows.size());
+		assertEquals("1", rows.get(0).get("level"));
+	}
+
+	@Test
+	void stripsByteOrderMarkAndTrimsHeader() throws IOException {
+		List<Map<String, String>> rows = read("\uFEFF title , level\na,1\n");
+
+		assertEquals("a", rows.get(0).get("title"));
+		assertEquals("1", rows.get(0).get("level"));
+	}
+
+	@Test
+	void rejectsUnterminatedQuote() {
+		assertThrows(IOException.class, () -> read("title,text\na,\"sem fechamento\n"));
+	}
+
+	@Test
+	void returnsNothingForEmptyInput() throws IOException {
+		assertEquals(List.of(), read(""));
+		assertEquals(List.of(), read("title,level\n"));
+	}
+
+	private static List<Map<String, String>> read(String csv) throws IOException {
+		List<Map<String, String>> rows = new ArrayList<>();
+		try (CsvRowReader reader = new CsvRowReader(new StringReader(csv))) {
+			Map<String, String> row;
+			while ((row = reader.next()) != null) {
+				rows.add(row);
+			}
+		}
+		return rows;
+	}
+}
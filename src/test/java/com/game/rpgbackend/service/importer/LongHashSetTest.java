@@ -0,0 +1,58 @@
+package com.game.rpgbackend.service.importer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LongHashSetTest {
+
+	@Test
+	void keepsEveryValueAcrossGrowth() {
+		LongHashSet set = new LongHashSet();
+		SplittableRandom random = new SplittableRandom(7);
+		long[] values = new long[10_000];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = random.nextLong();
+			assertTrue(set.add(values[i]));
+		}
+
+		assertEquals(values.length, set.size());
+		for (long value : values) {
+			assertTrue(set.contains(value));
+			assertFalse(set.add(value));
+		}
+		assertFalse(set.contains(random.nextLong()));
+	}
+
+	@Test
+	void storesZeroAsOne() {
+		LongHashSet set = new LongHashSet();
+
+		assertTrue(set.add(0));
+		assertTrue(set.contains(0));
+		assertTrue(set.contains(1));
+		assertFalse(set.add(1));
+	}
+
+	@Test
+	void addAllAndClear() {
+		LongHashSet pending = new LongHashSet();
+		pending.add(10);
+		pending.add(20);
+		LongHashSet existing = new LongHashSet();
+		existing.add(20);
+
+		existing.addAll(pending);
+		pending.clear();
+
+		assertEquals(2, existing.size());
+		assertTrue(existing.contains(10));
+		assertEquals(0, pending.size());
+		assertFalse(pending.contains(10));
+		assertTrue(pending.add(10));
+	}
+}
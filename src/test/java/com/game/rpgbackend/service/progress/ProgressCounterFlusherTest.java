@@ -0,0 +1,110 @@
+package com.game.rpgbackend.service.progress;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ProgressCounterFlusherTest {
+
+	private static final int USER_ID = 7;
+
+	private ProgressCounters counters;
+	private FakeJdbcTemplate jdbc;
+	private ProgressCounterFlusher flusher;
+
+	@BeforeEach
+	void setUp() {
+		counters = new ProgressCounters();
+		jdbc = new FakeJdbcTemplate();
+		flusher = new ProgressCounterFlusher(counters, null, null, jdbc);
+		counters.addStat(USER_ID, ProgressCounters.Stat.QUESTIONS_RIGHT, 3);
+	}
+
+	@Test
+	void writesPendingStats() {
+		jdbc.rows.add(USER_ID);
+
+		flusher.flushUser(USER_ID);
+
+		assertEquals(1, jdbc.updates.size());
+		assertEquals(3, jdbc.updates.get(0)[0]);
+		assertEquals(0, counters.pendingStat(USER_ID, ProgressCounters.Stat.QUESTIONS_RIGHT));
+	}
+
+	@Test
+	void keepsStatsWhenRowDoesNotExist() {
+		flusher.flushUser(USER_ID);
+
+		assertEquals(3, counters.pendingStat(USER_ID, ProgressCounters.Stat.QUESTIONS_RIGHT));
+
+		jdbc.rows.add(USER_ID);
+		flusher.flush();
+
+		assertEquals(0, counters.pendingStat(USER_ID, ProgressCounters.Stat.QUESTIONS_RIGHT));
+	}
+
+	@Test
+	void keepsStatsWhenBatchFindsNoRow() {
+		flusher.flush();
+
+		assertEquals(3, counters.pendingStat(USER_ID, ProgressCounters.Stat.QUESTIONS_RIGHT));
+	}
+
+	@Test
+	void restoresStatsWhenTransactionRollsBack() {
+		jdbc.rows.add(USER_ID);
+		assertEquals(0, complete(TransactionSynchronization.STATUS_COMMITTED));
+
+		counters.addStat(USER_ID, ProgressCounters.Stat.QUESTIONS_RIGHT, 3);
+		assertEquals(3, complete(TransactionSynchronization.STATUS_ROLLED_BACK));
+	}
+
+	/** Grava dentro de uma transação simulada e devolve o que ficou pendente depois dela */
+	private int complete(int status) {
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			flusher.flushUser(USER_ID);
+			assertEquals(0, counters.pendingStat(USER_ID, ProgressCounters.Stat.QUESTIONS_RIGHT));
+			for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+				synchronization.afterCompletion(status);
+			}
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+		return counters.pendingStat(USER_ID, ProgressCounters.Stat.QUESTIONS_RIGHT);
+	}
+
+	/** Tabela player_stats em memória: só atualiza usuários que já têm linha */
+	private static final class FakeJdbcTemplate extends JdbcTemplate {
+
+		private final Set<Integer> rows = new HashSet<>();
+		private final List<Object[]> updates = new ArrayList<>();
+
+		@Override
+		public int update(String sql, Object... args) {
+			if (!rows.contains((Integer) args[args.length - 1])) {
+				return 0;
+			}
+			updates.add(args);
+			return 1;
+		}
+
+		@Override
+		public int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+			int[] updated = new int[batchArgs.size()];
+			for (int i = 0; i < updated.length; i++) {
+				updated[i] = update(sql, batchArgs.get(i));
+			}
+			return updated;
+		}
+	}
+}
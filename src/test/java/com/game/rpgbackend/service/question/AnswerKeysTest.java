@@ -0,0 +1,53 @@
+package com.game.rpgbackend.service.question;
+
+import com.game.rpgbackend.config.GameConfig;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AnswerKeysTest {
+
+	private static final String JWT_SECRET = "segredo-dos-tokens-com-pelo-menos-32-caracteres";
+
+	@Test
+	void matchesNormalizedAnswer() {
+		AnswerKeys keys = new AnswerKeys(config("segredo-das-respostas"), JWT_SECRET);
+		long expected = keys.keyOf(5, "Ação");
+
+		assertTrue(keys.matches(expected, 5, "  acao "));
+		assertFalse(keys.matches(expected, 6, "Ação"));
+		assertFalse(keys.matches(expected, 5, "reação"));
+	}
+
+	@Test
+	void derivesKeyFromJwtSecretInsteadOfUsingIt() {
+		AnswerKeys derived = new AnswerKeys(config(""), JWT_SECRET);
+		AnswerKeys sharedSecret = new AnswerKeys(config(JWT_SECRET), "");
+
+		assertEquals(derived.keyOf(1, "A"), new AnswerKeys(config(""), JWT_SECRET).keyOf(1, "A"));
+		assertNotEquals(sharedSecret.keyOf(1, "A"), derived.keyOf(1, "A"));
+	}
+
+	@Test
+	void configuredSecretWins() {
+		AnswerKeys configured = new AnswerKeys(config("segredo-das-respostas"), JWT_SECRET);
+		AnswerKeys withoutJwt = new AnswerKeys(config("segredo-das-respostas"), "");
+
+		assertEquals(withoutJwt.keyOf(1, "A"), configured.keyOf(1, "A"));
+	}
+
+	@Test
+	void requiresSomeSecret() {
+		assertThrows(IllegalStateException.class, () -> new AnswerKeys(config(""), ""));
+	}
+
+	private static GameConfig config(String answerSecret) {
+		GameConfig config = new GameConfig();
+		config.getQuestions().setAnswerSecret(answerSecret);
+		return config;
+	}
+}
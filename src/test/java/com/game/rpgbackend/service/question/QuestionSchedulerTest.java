@@ -0,0 +1,133 @@
+package com.game.rpgbackend.service.question;
+
+import com.game.rpgbackend.config.GameConfig;
+import com.game.rpgbackend.domain.Question;
+import com.game.rpgbackend.repository.PlayerSeenQuestionsRepository;
+import com.game.rpgbackend.repository.QuestionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class QuestionSchedulerTest {
+
+	private static final String DIFFICULTY = "Medio";
+	private static final int POOL_SIZE = 30;
+	private static final int USER_ID = 1;
+
+	private QuestionScheduler scheduler;
+	private SplittableRandom random;
+
+	@BeforeEach
+	void setUp() {
+		List<Question> questions = new ArrayList<>();
+		for (int id = 1; id <= POOL_SIZE; id++) {
+			questions.add(question(id, 1));
+		}
+		// Fora do alcance do jogador de nível 1
+		questions.add(question(POOL_SIZE + 1, 10));
+
+		QuestionBank questionBank = new QuestionBank(questionRepository(questions));
+		questionBank.reload();
+		scheduler = new QuestionScheduler(questionBank, emptySeenRepository(), null, new GameConfig());
+		random = new SplittableRandom(42);
+	}
+
+	@Test
+	void neverRepeatsBeforePoolIsExhausted() {
+		for (int round = 0; round < 3; round++) {
+			Set<Integer> drawn = new HashSet<>();
+			for (int i = 0; i < POOL_SIZE; i++) {
+				int id = next().getId();
+				assertTrue(drawn.add(id), "questão repetida antes de esgotar o conjunto: " + id);
+				assertTrue(id <= POOL_SIZE, "questão acima do nível do jogador: " + id);
+			}
+			assertEquals(POOL_SIZE, drawn.size());
+		}
+	}
+
+	@Test
+	void returnedQuestionsComeOutFirst() {
+		List<Question> drawn = new ArrayList<>();
+		for (int i = 0; i < 6; i++) {
+			drawn.add(next());
+		}
+
+		scheduler.giveBack(USER_ID, DIFFICULTY, null, List.of(drawn.get(4), drawn.get(1)));
+
+		assertEquals(drawn.get(4).getId(), next().getId());
+		assertEquals(drawn.get(1).getId(), next().getId());
+
+		// A rodada termina só depois de apresentar as demais questões do conjunto
+		Set<Integer> presented = new HashSet<>();
+		drawn.forEach(question -> presented.add(question.getId()));
+		for (int i = 6; i < POOL_SIZE; i++) {
+			int id = next().getId();
+			assertTrue(presented.add(id), "questão repetida antes de esgotar o conjunto: " + id);
+		}
+		assertEquals(POOL_SIZE, presented.size());
+	}
+
+	@Test
+	void givingBackUnseenQuestionDoesNotQueueIt() {
+		Question first = next();
+		Question unseen = question(first.getId() == 1 ? 2 : 1, 1);
+
+		scheduler.giveBack(USER_ID, DIFFICULTY, null, List.of(unseen));
+
+		Set<Integer> drawn = new HashSet<>(Set.of(first.getId()));
+		for (int i = 1; i < POOL_SIZE; i++) {
+			int id = next().getId();
+			assertTrue(drawn.add(id), "questão repetida antes de esgotar o conjunto: " + id);
+		}
+		assertFalse(drawn.contains(POOL_SIZE + 1));
+	}
+
+	private Question next() {
+		return scheduler.next(USER_ID, DIFFICULTY, 1, null, random);
+	}
+
+	private static Question question(int id, int minLevel) {
+		Question question = new Question();
+		question.setId(id);
+		question.setQuestionText("Pergunta " + id);
+		question.setCorrectAnswer("A");
+		question.setDifficulty(DIFFICULTY);
+		question.setMinLevel(minLevel);
+		return question;
+	}
+
+	private static QuestionRepository questionRepository(List<Question> questions) {
+		return (QuestionRepository) Proxy.newProxyInstance(
+			QuestionRepository.class.getClassLoader(),
+			new Class<?>[]{QuestionRepository.class},
+			(proxy, method, args) -> switch (method.getName()) {
+				case "findAllWithContent" -> questions;
+				case "hashCode" -> System.identityHashCode(proxy);
+				case "equals" -> proxy == args[0];
+				default -> throw new UnsupportedOperationException(method.getName());
+			});
+	}
+
+	private static PlayerSeenQuestionsRepository emptySeenRepository() {
+		return (PlayerSeenQuestionsRepository) Proxy.newProxyInstance(
+			PlayerSeenQuestionsRepository.class.getClassLoader(),
+			new Class<?>[]{PlayerSeenQuestionsRepository.class},
+			(proxy, method, args) -> switch (method.getName()) {
+				case "findById" -> Optional.empty();
+				case "hashCode" -> System.identityHashCode(proxy);
+				case "equals" -> proxy == args[0];
+				default -> throw new UnsupportedOperationException(method.getName());
+			});
+	}
+}
@@ -0,0 +1,57 @@
+package com.game.rpgbackend.service.question;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ShuffleBagTest {
+
+	private static final int[] SIZES = {1, 2, 3, 4, 5, 7, 16, 17, 100, 1000, 4097};
+
+	@Test
+	void returnsEveryPositionOncePerRound() {
+		for (int size : SIZES) {
+			for (long seed = 0; seed < 20; seed++) {
+				assertFullRound(new ShuffleBag(size, seed * 0x9E3779B97F4A7C15L), size);
+			}
+		}
+	}
+
+	@Test
+	void refillStartsAnotherFullRound() {
+		ShuffleBag bag = new ShuffleBag(100, 1);
+		for (int round = 0; round < 5; round++) {
+			assertFullRound(bag, 100);
+			bag.refill(round + 2);
+		}
+	}
+
+	@Test
+	void orderDependsOnSeed() {
+		assertNotEquals(order(new ShuffleBag(100, 1)), order(new ShuffleBag(100, 2)));
+		assertEquals(order(new ShuffleBag(100, 7)), order(new ShuffleBag(100, 7)));
+	}
+
+	private static void assertFullRound(ShuffleBag bag, int size) {
+		boolean[] drawn = new boolean[size];
+		for (int i = 0; i < size; i++) {
+			assertFalse(bag.isEmpty());
+			int position = bag.next();
+			assertTrue(position >= 0 && position < size, "posição fora do saco: " + position);
+			assertFalse(drawn[position], "posição repetida na rodada: " + position);
+			drawn[position] = true;
+		}
+		assertTrue(bag.isEmpty());
+	}
+
+	private static String order(ShuffleBag bag) {
+		StringBuilder order = new StringBuilder();
+		while (!bag.isEmpty()) {
+			order.append(bag.next()).append(',');
+		}
+		return order.toString();
+	}
+}
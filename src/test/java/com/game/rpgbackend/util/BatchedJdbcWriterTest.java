@@ -0,0 +1,129 @@
+package com.game.rpgbackend.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BatchedJdbcWriterTest {
+
+	private FakeJdbcTemplate jdbc;
+	private BatchedJdbcWriter<Integer> writer;
+
+	@BeforeEach
+	void setUp() {
+		jdbc = new FakeJdbcTemplate();
+		writer = new BatchedJdbcWriter<>(jdbc, new DirectTransactionTemplate(), "INSERT", (ps, row) -> ps.setInt(1, row),
+			"linhas de teste");
+	}
+
+	@Test
+	void writesPendingRowsInBatches() {
+		for (int i = 0; i < BatchedJdbcWriter.BATCH_SIZE + 3; i++) {
+			assertTrue(writer.offer(i));
+		}
+
+		writer.flush();
+
+		assertEquals(List.of(BatchedJdbcWriter.BATCH_SIZE, 3), jdbc.batchSizes);
+		assertEquals(BatchedJdbcWriter.BATCH_SIZE + 3, jdbc.written.size());
+		assertEquals(0, writer.pending());
+	}
+
+	@Test
+	void requeuesFailedBatchUntilMaxAttempts() {
+		writer.offer(1);
+		jdbc.failures = BatchedJdbcWriter.MAX_ATTEMPTS - 1;
+
+		for (int attempt = 1; attempt < BatchedJdbcWriter.MAX_ATTEMPTS; attempt++) {
+			writer.flush();
+			assertEquals(1, writer.pending());
+		}
+		writer.flush();
+
+		assertEquals(List.of(1), jdbc.written);
+		assertEquals(0, writer.pending());
+	}
+
+	@Test
+	void dropsRowAfterMaxAttempts() {
+		writer.offer(1);
+		jdbc.failures = BatchedJdbcWriter.MAX_ATTEMPTS;
+
+		for (int attempt = 0; attempt < BatchedJdbcWriter.MAX_ATTEMPTS; attempt++) {
+			writer.flush();
+		}
+
+		assertEquals(0, writer.pending());
+		assertEquals(List.of(), jdbc.written);
+	}
+
+	@Test
+	void refusesRowsAboveLimit() {
+		for (int i = 0; i < BatchedJdbcWriter.MAX_PENDING; i++) {
+			writer.offer(i);
+		}
+
+		assertFalse(writer.offer(-1));
+		assertEquals(BatchedJdbcWriter.MAX_PENDING, writer.pending());
+	}
+
+	/** Executa o callback direto, sem gerenciador de transações */
+	private static final class DirectTransactionTemplate extends TransactionTemplate {
+
+		@Override
+		public <T> T execute(TransactionCallback<T> action) {
+			return action.doInTransaction(null);
+		}
+	}
+
+	/** Grava os valores do primeiro parâmetro de cada linha; falha as primeiras {@code failures} chamadas */
+	private static final class FakeJdbcTemplate extends JdbcTemplate {
+
+		private final List<Integer> written = new ArrayList<>();
+		private final List<Integer> batchSizes = new ArrayList<>();
+		private int failures;
+
+		@Override
+		public <T> int[][] batchUpdate(String sql, Collection<T> batchArgs, int batchSize,
+									   ParameterizedPreparedStatementSetter<T> pss) {
+			if (failures > 0) {
+				failures--;
+				throw new DataAccessResourceFailureException("banco indisponível");
+			}
+			batchSizes.add(batchArgs.size());
+			PreparedStatement ps = (PreparedStatement) Proxy.newProxyInstance(
+				PreparedStatement.class.getClassLoader(),
+				new Class<?>[]{PreparedStatement.class},
+				(proxy, method, args) -> {
+					if (method.getName().equals("setInt")) {
+						written.add((Integer) args[1]);
+						return null;
+					}
+					throw new UnsupportedOperationException(method.getName());
+				});
+			for (T row : batchArgs) {
+				try {
+					pss.setValues(ps, row);
+				} catch (SQLException e) {
+					throw new IllegalStateException(e);
+				}
+			}
+			return new int[][]{new int[batchArgs.size()]};
+		}
+	}
+}